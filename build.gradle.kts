@@ -39,6 +39,9 @@ dependencies {
     implementation("me.paulschwarz:spring-dotenv:4.0.0")
     implementation("jakarta.servlet:jakarta.servlet-api:6.0.0")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-jcache")
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
@@ -65,6 +68,7 @@ tasks.register<Test>("unittest") {
     
     filter {
         excludeTestsMatching("*FunctionalTest")
+        excludeTestsMatching("*Benchmark")
     }
 }
 
@@ -77,6 +81,17 @@ tasks.register<Test>("functionalTest") {
     }
 }
 
+tasks.register<Test>("benchmark") {
+    description = "Runs query benchmarks against large in-memory datasets."
+    group = "verification"
+    maxHeapSize = "2g"
+    testLogging.showStandardStreams = true
+
+    filter {
+        includeTestsMatching("*Benchmark")
+    }
+}
+
 tasks.withType<Test>().configureEach {
     useJUnitPlatform()
 }
@@ -84,6 +99,7 @@ tasks.withType<Test>().configureEach {
 tasks.test {
     filter {
         excludeTestsMatching("*IntegrationTest")
+        excludeTestsMatching("*Benchmark")
     }
 
     finalizedBy(tasks.jacocoTestReport)
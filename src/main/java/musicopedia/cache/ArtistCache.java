@@ -0,0 +1,166 @@
+package musicopedia.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import musicopedia.dto.response.CacheStatsDTO;
+import musicopedia.model.Artist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of artists by id and by spotifyId.
+ *
+ * Backed by Caffeine, whose W-TinyLFU admission only lets a new entry
+ * displace an old one when it has been requested more often, so a burst of
+ * one-off lookups cannot flush the popular artists. Entries are weighed by
+ * their approximate size in bytes and expire after a fixed TTL.
+ *
+ * The spotifyId side only maps to an id; the artist itself is stored once.
+ * Callers always get their own copy, so mutating a returned artist (as the
+ * update endpoints do before saving) never changes what is cached.
+ */
+@Component
+public class ArtistCache {
+
+    private final Cache<UUID, Artist> byId;
+    private final Cache<String, UUID> idBySpotifyId;
+
+    // Counted here rather than by Caffeine so a spotifyId lookup counts once, not once per cache it touches
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ArtistCache(@Value("${app.cache.artist.max-weight-bytes:67108864}") long maxWeightBytes,
+                       @Value("${app.cache.artist.ttl:10m}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((UUID id, Artist artist) -> estimateSize(artist))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idBySpotifyId = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxWeightBytes / 256))
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<Artist> findById(UUID artistId, Function<UUID, Optional<Artist>> loader) {
+        Artist cached = byId.getIfPresent(artistId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(copyOf(cached));
+        }
+        misses.increment();
+        Optional<Artist> loaded = loader.apply(artistId);
+        loaded.ifPresent(this::put);
+        return loaded.map(ArtistCache::copyOf);
+    }
+
+    public Optional<Artist> findBySpotifyId(String spotifyId, Supplier<Optional<Artist>> loader) {
+        UUID artistId = idBySpotifyId.getIfPresent(spotifyId);
+        if (artistId != null) {
+            Artist cached = byId.getIfPresent(artistId);
+            // The id mapping can outlive the artist entry or point at an artist whose spotifyId changed
+            if (cached != null && spotifyId.equals(cached.getSpotifyId())) {
+                hits.increment();
+                return Optional.of(copyOf(cached));
+            }
+        }
+        misses.increment();
+        Optional<Artist> loaded = loader.get();
+        loaded.ifPresent(this::put);
+        return loaded.map(ArtistCache::copyOf);
+    }
+
+    /**
+     * Drops the artist under its id and every spotifyId it is known by.
+     * Either argument may be null.
+     */
+    public void invalidate(UUID artistId, String spotifyId) {
+        if (artistId != null) {
+            Artist cached = byId.getIfPresent(artistId);
+            byId.invalidate(artistId);
+            if (cached != null && cached.getSpotifyId() != null) {
+                idBySpotifyId.invalidate(cached.getSpotifyId());
+            }
+        }
+        if (spotifyId != null) {
+            idBySpotifyId.invalidate(spotifyId);
+        }
+    }
+
+    /**
+     * Invalidates now and again once the surrounding transaction commits, so a
+     * reader that reloads the old row in between cannot leave it cached.
+     */
+    public void invalidateOnCommit(UUID artistId, String spotifyId) {
+        invalidate(artistId, spotifyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(artistId, spotifyId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        idBySpotifyId.invalidateAll();
+    }
+
+    public CacheStatsDTO stats() {
+        byId.cleanUp();
+        return CacheStatsDTO.of(hits.sum(), misses.sum(), byId.stats().evictionCount(), byId.estimatedSize());
+    }
+
+    private void put(Artist artist) {
+        byId.put(artist.getArtistId(), copyOf(artist));
+        if (artist.getSpotifyId() != null) {
+            idBySpotifyId.put(artist.getSpotifyId(), artist.getArtistId());
+        }
+    }
+
+    static Artist copyOf(Artist artist) {
+        Artist copy = new Artist();
+        copy.setArtistId(artist.getArtistId());
+        copy.setSpotifyId(artist.getSpotifyId());
+        copy.setArtistName(artist.getArtistName());
+        copy.setDescription(artist.getDescription());
+        copy.setImage(artist.getImage());
+        copy.setType(artist.getType());
+        copy.setPrimaryLanguage(artist.getPrimaryLanguage());
+        copy.setGenre(artist.getGenre());
+        copy.setOriginCountry(artist.getOriginCountry());
+        copy.setVersion(artist.getVersion());
+        copy.setUpdatedAt(artist.getUpdatedAt());
+        return copy;
+    }
+
+    /**
+     * Rough heap footprint: object headers and fields plus two bytes per character.
+     */
+    static int estimateSize(Artist artist) {
+        return 184
+                + 2 * (length(artist.getSpotifyId())
+                + length(artist.getArtistName())
+                + length(artist.getDescription())
+                + length(artist.getImage())
+                + length(artist.getPrimaryLanguage())
+                + length(artist.getGenre())
+                + length(artist.getOriginCountry()));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
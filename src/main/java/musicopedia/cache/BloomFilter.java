@@ -0,0 +1,100 @@
+package musicopedia.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. Adds and lookups are lock-free and
+ * may run concurrently; an add is visible to every lookup that starts after
+ * it returns.
+ *
+ * The k probe positions are derived from two seeded 64-bit hashes as
+ * h1 + i * h2 (Kirsch-Mitzenmacher double hashing), so each operation hashes
+ * the key twice however many probes it makes.
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Sizes the filter for the expected number of keys at the target false
+     * positive rate, using fewer bits when that would exceed {@code maxBytes}.
+     */
+    static BloomFilter create(long expectedKeys, double falsePositiveRate, long maxBytes) {
+        long keys = Math.max(1, expectedKeys);
+        long optimalBits = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long bits = Math.max(64, Math.min(optimalBits, maxBytes * 8));
+        int hashFunctions = (int) Math.max(1, Math.round((double) bits / keys * LN2));
+        return new BloomFilter(bits, hashFunctions);
+    }
+
+    void add(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long before = words.getAndAccumulate(index, mask, (word, m) -> word | m);
+            if ((before & mask) == 0) {
+                bitCount.incrementAndGet();
+            }
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    long sizeBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    /** Chance that an absent key passes, given the fraction of bits now set. */
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    /** Seeded 64-bit hash of the UTF-8 bytes: a multiply-xorshift mix finished with murmur3's fmix64. */
+    private static long hash(String key, long seed) {
+        long h = seed ^ key.length();
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+            h ^= h >>> 29;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
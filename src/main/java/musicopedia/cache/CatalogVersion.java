@@ -0,0 +1,44 @@
+package musicopedia.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A counter that every write to artists, groups, soloists or members moves
+ * forward. Anything derived from those tables can be cached under the version
+ * it was read at: after a write the version no longer matches, so the stale
+ * entry is simply never looked up again and ages out of its cache.
+ *
+ * One global counter rather than one per table, because a group or soloist
+ * response embeds its artist and the group and solo services write artist rows
+ * themselves.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Advances now and again once the surrounding transaction commits, so a
+     * reader that reads the old rows in between cannot cache them under the
+     * new version.
+     */
+    public void bump() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package musicopedia.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import musicopedia.dto.response.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches list responses as the JSON bytes that go on the wire, so a hit does
+ * no query, no mapping and no Jackson work.
+ *
+ * Entries are keyed by endpoint, parameters and the {@link CatalogVersion}
+ * they were read at; a catalog write makes every key unreachable instead of
+ * deleting anything. Concurrent misses for the same key share one load.
+ * Bodies at or above the gzip threshold are also kept compressed and sent as
+ * such to clients that accept gzip.
+ *
+ * Loaders must read through {@link musicopedia.config.datasource.PrimaryReads}:
+ * a replica that has not caught up with the write that bumped the version
+ * would file the pre-write body under the new one until the next write.
+ */
+@Component
+public class ResponseCache {
+
+    private final AsyncCache<String, CachedResponse> cache;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+
+    public ResponseCache(ObjectMapper objectMapper,
+                         CatalogVersion catalogVersion,
+                         @Value("${app.cache.response.max-weight-bytes:33554432}") long maxWeightBytes,
+                         @Value("${app.cache.response.ttl:1h}") Duration ttl,
+                         @Value("${app.cache.response.gzip:true}") boolean gzipEnabled,
+                         @Value("${app.cache.response.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Serves {@code key} from the cache, loading and serializing the body with
+     * {@code loader} on a miss.
+     *
+     * @param acceptEncoding the request's Accept-Encoding header, may be null
+     */
+    public CompletableFuture<ResponseEntity<byte[]>> serve(String key, String acceptEncoding,
+                                                           Supplier<? extends CompletableFuture<?>> loader) {
+        // Read before loading: data loaded after a concurrent write must not be filed under the newer version
+        String versionedKey = catalogVersion.current() + ":" + key;
+        boolean acceptsGzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        return cache.get(versionedKey, (k, executor) -> loader.get().thenApply(this::serialize))
+                .thenApply(response -> response.toResponseEntity(acceptsGzip));
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStatsDTO stats() {
+        cache.synchronous().cleanUp();
+        CacheStats stats = cache.synchronous().stats();
+        return CacheStatsDTO.of(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                cache.synchronous().estimatedSize());
+    }
+
+    private CachedResponse serialize(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] gzipped = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+        return new CachedResponse(json, gzipped);
+    }
+
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    record CachedResponse(byte[] json, byte[] gzipped) {
+
+        int weight() {
+            return 64 + json.length + (gzipped != null ? gzipped.length : 0);
+        }
+
+        ResponseEntity<byte[]> toResponseEntity(boolean acceptsGzip) {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip && gzipped != null) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+            }
+            return builder.body(json);
+        }
+    }
+}
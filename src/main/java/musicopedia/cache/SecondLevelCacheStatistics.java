@@ -0,0 +1,45 @@
+package musicopedia.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import musicopedia.dto.response.CacheRegionStatsDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads Hibernate's per-region second-level cache statistics. Counters stay
+ * at zero unless {@code hibernate.generate_statistics} is enabled.
+ */
+@Component
+public class SecondLevelCacheStatistics {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public List<CacheRegionStatsDTO> regions() {
+        Statistics statistics = sessionFactory.getStatistics();
+        String[] names = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(names);
+        List<CacheRegionStatsDTO> regions = new ArrayList<>(names.length);
+        for (String name : names) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                regions.add(CacheRegionStatsDTO.of(name, region.getHitCount(), region.getMissCount(),
+                        region.getPutCount(), region.getElementCountInMemory()));
+            }
+        }
+        return regions;
+    }
+
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+}
@@ -0,0 +1,179 @@
+package musicopedia.cache;
+
+import musicopedia.dto.response.SpotifyIdFilterStatsDTO;
+import musicopedia.repository.ArtistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over every artist spotifyId, so lookups for ids that were
+ * never stored are answered without a query. A negative is definite; a
+ * positive still has to be confirmed against the table.
+ *
+ * The filter is built by streaming the column at startup and rebuilt on a
+ * fixed delay, since deleted ids cannot be removed and would otherwise keep
+ * passing. Writers call {@link #add} before inserting, inside their
+ * transaction, so no id is ever stored without being in the filter. Until the
+ * first build completes every lookup passes.
+ */
+@Component
+public class SpotifyIdFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SpotifyIdFilter.class);
+
+    private final ArtistRepository artistRepository;
+    // Not read-only, so the stream runs on the primary and sees every committed row
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+    private final long expectedInsertions;
+    private final long maxBytes;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    // Ids added by transactions that have not completed yet; a rebuild copies them in
+    // because its snapshot may have been taken before they commit
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile Instant lastRebuiltAt;
+    private volatile long lastRebuildMillis;
+
+    public SpotifyIdFilter(ArtistRepository artistRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.spotify-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                           @Value("${app.spotify-filter.expected-insertions:100000}") long expectedInsertions,
+                           @Value("${app.spotify-filter.max-bytes:16777216}") long maxBytes) {
+        this.artistRepository = artistRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.falsePositiveRate = falsePositiveRate;
+        this.expectedInsertions = expectedInsertions;
+        this.maxBytes = maxBytes;
+    }
+
+    /** False only when no artist has this spotifyId. */
+    public boolean mightContain(String spotifyId) {
+        BloomFilter filter = current;
+        if (filter == null || filter.mightContain(spotifyId)) {
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    /** Records that an id which passed the filter was not found in the table. */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /** Call before inserting an artist or changing its spotifyId. */
+    public void add(String spotifyId) {
+        if (spotifyId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive() && pending.add(spotifyId)) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    pending.remove(spotifyId);
+                }
+            });
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.add(spotifyId);
+        }
+        // Read after publishing to pending: a rebuild sets building before copying
+        // pending, so it either sees this id there or this call sees the new filter
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(spotifyId);
+        }
+        insertions.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${app.spotify-filter.rebuild-interval:PT6H}",
+            fixedDelayString = "${app.spotify-filter.rebuild-interval:PT6H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Streams the column into a new filter sized for twice the current row
+     * count, then swaps it in. On failure the previous filter stays in use.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        try {
+            long rows = artistRepository.countBySpotifyIdIsNotNull();
+            BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, rows * 2), falsePositiveRate, maxBytes);
+            building = next;
+            pending.forEach(next::add);
+            LongAdder loaded = new LongAdder();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> spotifyIds = artistRepository.streamSpotifyIds()) {
+                    spotifyIds.forEach(spotifyId -> {
+                        next.add(spotifyId);
+                        loaded.increment();
+                    });
+                }
+            });
+            current = next;
+            insertions.reset();
+            insertions.add(loaded.sum());
+            negatives.reset();
+            falsePositives.reset();
+            lastRebuiltAt = Instant.now();
+            lastRebuildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            log.warn("Rebuilding the spotifyId filter failed; keeping the previous one", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    public SpotifyIdFilterStatsDTO stats() {
+        BloomFilter filter = current;
+        SpotifyIdFilterStatsDTO dto = new SpotifyIdFilterStatsDTO();
+        dto.setReady(filter != null);
+        dto.setTargetFalsePositiveRate(falsePositiveRate);
+        if (filter != null) {
+            dto.setBitSize(filter.bitSize());
+            dto.setSizeBytes(filter.sizeBytes());
+            dto.setHashFunctions(filter.hashFunctions());
+            dto.setExpectedFalsePositiveRate(filter.expectedFalsePositiveRate());
+        }
+        dto.setInsertions(insertions.sum());
+        long definiteNegatives = negatives.sum();
+        long passedButAbsent = falsePositives.sum();
+        dto.setNegatives(definiteNegatives);
+        dto.setFalsePositives(passedButAbsent);
+        long absentLookups = definiteNegatives + passedButAbsent;
+        dto.setObservedFalsePositiveRate(absentLookups == 0 ? 0.0 : (double) passedButAbsent / absentLookups);
+        dto.setLastRebuiltAt(lastRebuiltAt);
+        dto.setLastRebuildMillis(lastRebuildMillis);
+        return dto;
+    }
+}
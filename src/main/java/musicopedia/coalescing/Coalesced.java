@@ -0,0 +1,22 @@
+package musicopedia.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read method whose concurrent calls with equal arguments may share
+ * one invocation. The method must return a {@code CompletableFuture}, its
+ * arguments must implement {@code equals}/{@code hashCode}, and callers must
+ * treat the result as read-only since every joined caller gets the same value.
+ *
+ * Coalescing happens in front of {@code @Async} and {@code @Transactional},
+ * so a joined call takes no executor thread and no connection.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+}
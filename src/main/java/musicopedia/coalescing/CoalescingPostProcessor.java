@@ -0,0 +1,105 @@
+package musicopedia.coalescing;
+
+import musicopedia.config.datasource.PrimaryStickiness;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopInfrastructureBean;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puts a {@link SingleFlight} in front of every {@link Coalesced} method.
+ *
+ * The advisor has to run before the {@code @Async} and {@code @Transactional}
+ * interceptors, otherwise each joined call would still take an executor thread
+ * and a connection. {@code @Async} inserts its own advisor at the head of an
+ * existing proxy's chain, so this post-processor deliberately does not
+ * implement {@code Ordered}: unordered post-processors run after all ordered
+ * ones, and inserting at the head afterwards leaves this advisor first.
+ */
+public class CoalescingPostProcessor implements BeanPostProcessor {
+
+    private final Advisor advisor;
+
+    public CoalescingPostProcessor(SingleFlight singleFlight, ObjectProvider<PrimaryStickiness> primaryStickiness) {
+        this.advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(null, Coalesced.class, true),
+                new CoalescingInterceptor(singleFlight, primaryStickiness));
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof AopInfrastructureBean) {
+            return bean;
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (!AopUtils.canApply(advisor, targetClass)) {
+            return bean;
+        }
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvisor(0, advisor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(advisor);
+        return proxyFactory.getProxy(targetClass.getClassLoader());
+    }
+
+    private static final class CoalescingInterceptor implements MethodInterceptor {
+
+        private final SingleFlight singleFlight;
+        private final ObjectProvider<PrimaryStickiness> primaryStickiness;
+
+        CoalescingInterceptor(SingleFlight singleFlight, ObjectProvider<PrimaryStickiness> primaryStickiness) {
+            this.singleFlight = singleFlight;
+            this.primaryStickiness = primaryStickiness;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (!CompletableFuture.class.isAssignableFrom(method.getReturnType()) || mustReadOwnWrites()) {
+                return invocation.proceed();
+            }
+            String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            CallKey key = new CallKey(method, Arrays.asList(invocation.getArguments()));
+            return singleFlight.execute(name, key, () -> proceed(invocation));
+        }
+
+        /**
+         * A client inside its read-your-writes window must not join a call that may
+         * have started on a replica before its write.
+         */
+        private boolean mustReadOwnWrites() {
+            PrimaryStickiness stickiness = primaryStickiness.getIfAvailable();
+            return stickiness != null && stickiness.isSticky();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static CompletableFuture<Object> proceed(MethodInvocation invocation) {
+            try {
+                return (CompletableFuture<Object>) invocation.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    private record CallKey(Method method, List<Object> arguments) {
+    }
+}
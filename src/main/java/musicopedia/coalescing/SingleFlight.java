@@ -0,0 +1,99 @@
+package musicopedia.coalescing;
+
+import musicopedia.dto.response.CoalescingStatsDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one call per key at a time. A caller that arrives while a call
+ * for its key is in flight gets that call's outcome instead of starting its
+ * own; once the call completes the key is released and the next caller starts
+ * a fresh one, so nothing is cached beyond the lifetime of a single call.
+ */
+public class SingleFlight {
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> collapsed = new ConcurrentHashMap<>();
+
+    /**
+     * @param name groups the metrics, e.g. the method name
+     * @param key  identifies calls that may share a result
+     * @param call started only when no call for {@code key} is in flight
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String name, Object key, Supplier<CompletableFuture<T>> call) {
+        counter(calls, name).increment();
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            counter(collapsed, name).increment();
+            return (CompletableFuture<T>) follow(existing);
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+            throw e;
+        }
+        if (result == null) {
+            inFlight.remove(key, leader);
+            leader.complete(null);
+            return null;
+        }
+        result.whenComplete((value, error) -> {
+            // Release the key before completing so a late joiner cannot miss the outcome
+            inFlight.remove(key, leader);
+            if (error != null) {
+                leader.completeExceptionally(error);
+            } else {
+                leader.complete(value);
+            }
+        });
+        return (CompletableFuture<T>) follow(leader);
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    public List<CoalescingStatsDTO> stats() {
+        List<CoalescingStatsDTO> stats = new ArrayList<>();
+        calls.forEach((name, count) -> {
+            LongAdder joined = collapsed.get(name);
+            stats.add(CoalescingStatsDTO.of(name, count.sum(), joined != null ? joined.sum() : 0));
+        });
+        stats.sort((a, b) -> a.getMethod().compareTo(b.getMethod()));
+        return stats;
+    }
+
+    /**
+     * A separate future per caller, so one caller cancelling or completing its
+     * future cannot affect the others. Errors are passed on unwrapped, as the
+     * caller would have seen them from its own call.
+     */
+    private static CompletableFuture<Object> follow(CompletableFuture<Object> source) {
+        CompletableFuture<Object> follower = new CompletableFuture<>();
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                follower.completeExceptionally(error);
+            } else {
+                follower.complete(value);
+            }
+        });
+        return follower;
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String name) {
+        return counters.computeIfAbsent(name, n -> new LongAdder());
+    }
+}
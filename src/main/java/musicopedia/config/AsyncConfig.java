@@ -1,7 +1,9 @@
 package musicopedia.config;
 
+import musicopedia.config.datasource.ClientContextTaskDecorator;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -22,6 +24,7 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Musicopedia-Async-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ClientContextTaskDecorator());
         executor.initialize();
         return executor;
     }
@@ -34,6 +37,7 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("Artist-Processing-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ClientContextTaskDecorator());
         executor.initialize();
         return executor;
     }
@@ -46,6 +50,21 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("Member-Processing-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ClientContextTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    // One thread per concurrently committing chunk, so keep this below the connection pool size
+    @Bean(name = "artistIngestionExecutor")
+    public Executor artistIngestionExecutor(@Value("${app.ingestion.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("Artist-Ingestion-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ClientContextTaskDecorator());
         executor.initialize();
         return executor;
     }
@@ -0,0 +1,24 @@
+package musicopedia.config;
+
+import musicopedia.coalescing.CoalescingPostProcessor;
+import musicopedia.coalescing.SingleFlight;
+import musicopedia.config.datasource.PrimaryStickiness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CoalescingConfig {
+
+    // Static so the post-processor is registered without initialising this configuration early
+    @Bean
+    public static SingleFlight singleFlight() {
+        return new SingleFlight();
+    }
+
+    @Bean
+    public static CoalescingPostProcessor coalescingPostProcessor(SingleFlight singleFlight,
+                                                                  ObjectProvider<PrimaryStickiness> primaryStickiness) {
+        return new CoalescingPostProcessor(singleFlight, primaryStickiness);
+    }
+}
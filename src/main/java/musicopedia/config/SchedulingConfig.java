@@ -0,0 +1,15 @@
+package musicopedia.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} rebuilds and refreshes on Boot's scheduler,
+ * whose pool is sized by {@code spring.task.scheduling.pool.size}; with the
+ * default single thread, an hour-scale rebuild would stall the second-scale
+ * refreshes behind it.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,80 @@
+package musicopedia.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import musicopedia.model.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hands Hibernate's JCache region factory a Caffeine cache manager whose
+ * regions are created up front with the sizes from {@code app.cache.l2}.
+ * Hibernate only ever sees regions by name, so sizing them here is what lets
+ * the bounds live in application properties rather than a provider file.
+ *
+ * Whether the cache is used at all is still decided by the
+ * {@code hibernate.cache.*} properties, except that the query cache is
+ * turned off while reads are routed to replicas.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    static final List<String> BOUNDED_REGIONS = List.of(
+            CacheRegions.ARTIST,
+            CacheRegions.GROUPS,
+            CacheRegions.SOLO,
+            CacheRegions.MEMBER,
+            CacheRegions.MEMBER_SOLO_IDENTITIES,
+            CacheRegions.SUBUNIT,
+            CacheRegions.ARTIST_QUERIES);
+
+    @Bean
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        // Shared per class loader; regions created by an earlier context are reused as they are
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        OptionalLong ttl = OptionalLong.of(properties.getTtl().toNanos());
+        for (String region : BOUNDED_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(properties.maxEntries(region)));
+            configuration.setExpireAfterWrite(ttl);
+            createIfAbsent(cacheManager, region, configuration);
+        }
+        // A stale or evicted timestamp would let the query cache serve results older than
+        // the last write, so this region is neither bounded nor expired.
+        createIfAbsent(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${app.datasource.routing.enabled:false}") boolean routingEnabled) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Cacheable queries run in read-only transactions; routed to a replica still behind
+            // the last write, their results would be filed as newer than that write
+            if (routingEnabled) {
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            }
+        };
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String region,
+                                       CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package musicopedia.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache.l2")
+public class SecondLevelCacheProperties {
+
+    // Entries per region when the region has no size of its own
+    private long defaultMaxEntries = 10_000;
+
+    // Safety net against rows changed behind Hibernate's back; writes through JPA evict immediately
+    private Duration ttl = Duration.ofHours(1);
+
+    // Region name (see CacheRegions) to maximum number of entries
+    private Map<String, Long> regions = new HashMap<>();
+
+    public long maxEntries(String region) {
+        return regions.getOrDefault(region, defaultMaxEntries);
+    }
+}
@@ -0,0 +1,34 @@
+package musicopedia.config.datasource;
+
+/**
+ * Identifies the client the current thread is working for, so a client's
+ * reads can follow its own writes to the primary. Set per request by
+ * {@link ClientContextFilter} and carried onto async executors by
+ * {@link ClientContextTaskDecorator}.
+ */
+public final class ClientContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ClientContext() {
+    }
+
+    /**
+     * The current client key, or null outside a request (e.g. startup or scheduled work).
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void set(String clientKey) {
+        if (clientKey == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(clientKey);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,56 @@
+package musicopedia.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * Keys each request by the {@code X-Client-Id} header when the caller sends
+ * one, otherwise by its authenticated principal or existing session. Requests
+ * with none of these get no key and never stick to the primary: behind a load
+ * balancer or CDN every client shares one remote address, so keying on it
+ * would pin all readers to the primary after any write.
+ *
+ * Must run after Spring Security so the principal is visible.
+ */
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ClientContext.set(clientKey(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientContext.clear();
+        }
+    }
+
+    // Prefixed so a header value cannot collide with a principal or session id
+    static String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (clientId != null && !clientId.isBlank()) {
+            return "client:" + clientId;
+        }
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        HttpSession session = request.getSession(false);
+        return session != null ? "session:" + session.getId() : null;
+    }
+
+    // The async dispatch that writes a CompletableFuture result runs on a new container thread
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package musicopedia.config.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Copies the submitting thread's client key onto the worker thread, since the
+ * services do their database work on the async executors.
+ */
+public class ClientContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String clientKey = ClientContext.current();
+        return () -> {
+            String previous = ClientContext.current();
+            ClientContext.set(clientKey);
+            try {
+                runnable.run();
+            } finally {
+                ClientContext.set(previous);
+            }
+        };
+    }
+}
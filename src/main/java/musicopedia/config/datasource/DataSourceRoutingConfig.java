@@ -0,0 +1,81 @@
+package musicopedia.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool, one pool per
+ * replica and a routing DataSource in front of them. Only active when
+ * {@code app.datasource.routing.enabled=true}; the primary keeps reading the
+ * usual {@code spring.datasource.*} and {@code spring.datasource.hikari.*} settings.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public PrimaryStickiness primaryStickiness(DataSourceRoutingProperties routing) {
+        return new PrimaryStickiness(routing.getStickyWindow());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                       DataSourceProperties properties,
+                                                       DataSourceRoutingProperties routing,
+                                                       PrimaryStickiness primaryStickiness) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            replicas.add(replicaDataSource(i, routing.getReplicas().get(i), properties));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, primaryStickiness);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClientContextFilter> clientContextFilter() {
+        FilterRegistrationBean<ClientContextFilter> registration = new FilterRegistrationBean<>(new ClientContextFilter());
+        // After Spring Security, so the filter can key clients by their principal
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    private static HikariDataSource replicaDataSource(int index, DataSourceRoutingProperties.Replica replica,
+                                                      DataSourceProperties primary) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
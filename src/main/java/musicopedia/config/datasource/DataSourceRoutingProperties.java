@@ -0,0 +1,32 @@
+package musicopedia.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    // How long a client's reads stay on the primary after it writes
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        // Default to the primary's credentials when not set
+        private String username;
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,36 @@
+package musicopedia.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the reads made inside {@link #call} to the primary without starting a
+ * stickiness window, for results that are kept and reused: a replica still
+ * behind a write would otherwise have its older data filed under the version
+ * that write produced.
+ *
+ * The connection is picked at the transaction's first statement, so the
+ * reads must be the first the transaction makes.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    public static <T> T call(Supplier<T> reads) {
+        if (isActive()) {
+            return reads.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+}
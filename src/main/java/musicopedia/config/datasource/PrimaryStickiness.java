@@ -0,0 +1,57 @@
+package musicopedia.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers which clients wrote recently. Replicas lag the primary, so for a
+ * short window after a write that client's reads also go to the primary and
+ * it always sees its own changes.
+ */
+public class PrimaryStickiness {
+
+    // Expired entries are swept once the map grows past this many clients
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final Map<String, Long> lastWriteByClient = new ConcurrentHashMap<>();
+
+    public PrimaryStickiness(Duration window) {
+        this(window, System::currentTimeMillis);
+    }
+
+    PrimaryStickiness(Duration window, LongSupplier clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Starts (or restarts) the window for the current client. No-op outside a request.
+     */
+    public void recordWrite() {
+        String clientKey = ClientContext.current();
+        if (clientKey == null || windowMillis <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        lastWriteByClient.put(clientKey, now);
+        if (lastWriteByClient.size() > SWEEP_THRESHOLD) {
+            lastWriteByClient.values().removeIf(writtenAt -> now - writtenAt >= windowMillis);
+        }
+    }
+
+    /**
+     * Whether the current client wrote within the window.
+     */
+    public boolean isSticky() {
+        String clientKey = ClientContext.current();
+        if (clientKey == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteByClient.get(clientKey);
+        return writtenAt != null && clock.getAsLong() - writtenAt < windowMillis;
+    }
+}
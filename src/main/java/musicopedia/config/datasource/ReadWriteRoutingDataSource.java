@@ -0,0 +1,79 @@
+package musicopedia.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas, round robin, and everything
+ * else to the primary. A client that wrote within the stickiness window
+ * reads from the primary too, as do reads inside {@link PrimaryReads#call}.
+ *
+ * The read-only flag is only visible once the transaction has begun, which
+ * is after the transaction manager asks for a connection, so this must sit
+ * behind a LazyConnectionDataSourceProxy that defers the lookup to the first
+ * statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final List<DataSource> replicas;
+    private final PrimaryStickiness stickiness;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, PrimaryStickiness stickiness) {
+        this.replicas = List.copyOf(replicas);
+        this.stickiness = stickiness;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickiness.recordWrite();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                // Restart the window at commit so it covers replication of what was just written
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        stickiness.recordWrite();
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (replicas.isEmpty() || stickiness.isSticky() || PrimaryReads.isActive()) {
+            return PRIMARY;
+        }
+        return REPLICA_PREFIX + Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    }
+
+    /**
+     * Closes the replica pools; the primary pool is a bean of its own.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -1,51 +1,150 @@
 package musicopedia.controller;
 
+import musicopedia.cache.ResponseCache;
 import musicopedia.model.Artist;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.search.ArtistFacet;
+import musicopedia.service.ArtistIngestionService;
 import musicopedia.service.ArtistService;
+import musicopedia.service.VersionStampService;
 import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.request.ArtistSearchRequestDTO;
+import musicopedia.dto.response.ArtistBatchResultDTO;
+import musicopedia.dto.response.ArtistFacetSearchDTO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/artists")
 public class ArtistController {
 
     private final ArtistService artistService;
+    private final ArtistIngestionService artistIngestionService;
+    private final ResponseCache responseCache;
+    private final VersionStampService versionStampService;
 
-    public ArtistController(ArtistService artistService) {
+    public ArtistController(ArtistService artistService, ArtistIngestionService artistIngestionService,
+                            ResponseCache responseCache, VersionStampService versionStampService) {
         this.artistService = artistService;
+        this.artistIngestionService = artistIngestionService;
+        this.responseCache = responseCache;
+        this.versionStampService = versionStampService;
     }
 
     @GetMapping
-    public CompletableFuture<ResponseEntity<List<Artist>>> getAllArtists() {
-        return artistService.findAllAsync()
+    public CompletableFuture<ResponseEntity<byte[]>> getAllArtists(@RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.list(headers, versionStampService.forArtists(),
+                () -> responseCache.serve("artists", headers.getFirst(HttpHeaders.ACCEPT_ENCODING), artistService::findAllAsync));
+    }
+
+    @GetMapping("/page")
+    public CompletableFuture<ResponseEntity<CursorPage<Artist>>> getArtistPage(
+            @RequestParam(value = "cursor", required = false) KeysetCursor cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return artistService.findPageAsync(cursor, CursorPage.clampLimit(limit))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/summaries")
+    public CompletableFuture<ResponseEntity<List<ArtistSummary>>> getArtistSummaries() {
+        return artistService.findAllSummariesAsync()
                 .thenApply(ResponseEntity::ok);
     }
 
+    @GetMapping("/summaries/search")
+    public CompletableFuture<ResponseEntity<List<ArtistSummary>>> searchArtistSummariesByName(
+            @RequestParam("name") String name,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        int clamped = CursorPage.clampLimit(limit);
+        CompletableFuture<List<ArtistSummary>> summaries = fuzzy
+                ? artistService.findSummariesByNameFuzzyAsync(name, clamped)
+                : artistService.findSummariesByNameContainingAsync(name, clamped);
+        return summaries.thenApply(ResponseEntity::ok);
+    }
+
     @GetMapping("/{id}")
-    public CompletableFuture<ResponseEntity<Artist>> getArtistById(@PathVariable("id") UUID artistId) {
-        return artistService.findByIdAsync(artistId)
-                .thenApply(artist -> artist.map(ResponseEntity::ok)
-                        .orElse(ResponseEntity.notFound().build()));
+    public CompletableFuture<ResponseEntity<Artist>> getArtistById(@PathVariable("id") UUID artistId,
+                                                                   @RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.resource(headers, versionStampService.forArtist(artistId),
+                () -> artistService.findByIdAsync(artistId)
+                        .thenApply(artist -> artist.map(ResponseEntity::ok)
+                                .orElse(ResponseEntity.notFound().build())));
     }
 
     @GetMapping("/search")
-    public CompletableFuture<ResponseEntity<List<Artist>>> searchArtistsByName(@RequestParam("name") String name) {
-        return artistService.findByNameContainingAsync(name)
+    public CompletableFuture<ResponseEntity<List<Artist>>> searchArtistsByName(
+            @RequestParam("name") String name,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        int clamped = CursorPage.clampLimit(limit);
+        CompletableFuture<List<Artist>> artists = fuzzy
+                ? artistService.findByNameFuzzyAsync(name, clamped)
+                : artistService.findByNameContainingAsync(name, clamped);
+        return artists.thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/filter")
+    public CompletableFuture<ResponseEntity<List<Artist>>> filterArtists(ArtistSearchRequestDTO criteria) {
+        if (!criteria.hasValidFormationRange()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return artistService.searchAsync(criteria)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Artists with any of the given values for each facet parameter, repeated
+     * or comma-separated, and the count of every facet value alongside.
+     */
+    @GetMapping("/facets")
+    public CompletableFuture<ResponseEntity<ArtistFacetSearchDTO>> browseByFacets(
+            @RequestParam MultiValueMap<String, String> params,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return artistService.browseByFacetsAsync(facetFilters(params), CursorPage.clampLimit(limit))
+                .thenApply(result -> result.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build()));
+    }
+
+    /** How many artists carry each genre tag, most first. */
+    @GetMapping("/genres")
+    public CompletableFuture<ResponseEntity<Map<String, Integer>>> countByGenre() {
+        return artistService.countByGenreAsync()
+                .thenApply(counts -> counts.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build()));
+    }
+
+    /** Artists tagged with exactly this genre, so "rock" does not list "pop rock" artists. */
+    @GetMapping("/genre/{genre}")
+    public CompletableFuture<ResponseEntity<List<ArtistSummary>>> getArtistsByGenre(
+            @PathVariable("genre") String genre,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return artistService.findSummariesByGenreAsync(genre, CursorPage.clampLimit(limit))
                 .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/spotify/{spotifyId}")
-    public CompletableFuture<ResponseEntity<Artist>> getArtistBySpotifyId(@PathVariable("spotifyId") String spotifyId) {
-        return artistService.findBySpotifyIdAsync(spotifyId)
-                .thenApply(artist -> artist.map(ResponseEntity::ok)
-                        .orElse(ResponseEntity.notFound().build()));
+    public CompletableFuture<ResponseEntity<Artist>> getArtistBySpotifyId(@PathVariable("spotifyId") String spotifyId,
+                                                                          @RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.resource(headers, versionStampService.forArtistBySpotifyId(spotifyId),
+                () -> artistService.findBySpotifyIdAsync(spotifyId)
+                        .thenApply(artist -> artist.map(ResponseEntity::ok)
+                                .orElse(ResponseEntity.notFound().build())));
     }
 
     @GetMapping("/type/{type}")
@@ -68,6 +167,19 @@ public class ArtistController {
                 .thenApply(savedArtist -> ResponseEntity.status(HttpStatus.CREATED).body(savedArtist));
     }
 
+    private static Map<ArtistFacet, Set<String>> facetFilters(MultiValueMap<String, String> params) {
+        Map<ArtistFacet, Set<String>> filters = new EnumMap<>(ArtistFacet.class);
+        for (ArtistFacet facet : ArtistFacet.values()) {
+            List<String> values = params.get(facet.getParam());
+            if (values != null) {
+                filters.put(facet, values.stream()
+                        .flatMap(value -> Arrays.stream(value.split(",")))
+                        .collect(Collectors.toSet()));
+            }
+        }
+        return filters;
+    }
+
     @DeleteMapping("/{id}")
     public CompletableFuture<ResponseEntity<Void>> deleteArtist(@PathVariable("id") UUID artistId) {
         return artistService.existsByIdAsync(artistId)
@@ -81,9 +193,14 @@ public class ArtistController {
     }
 
     @PostMapping("/batch")
-    public CompletableFuture<ResponseEntity<List<Artist>>> createArtistsBatch(@RequestBody List<ArtistRequestDTO> requests) {
-        return artistService.processBatchAsync(requests)
-                .thenApply(savedArtists -> ResponseEntity.status(HttpStatus.CREATED).body(savedArtists))
-                .exceptionally(throwable -> ResponseEntity.badRequest().build());
+    public CompletableFuture<ResponseEntity<ArtistBatchResultDTO>> createArtistsBatch(@RequestBody List<ArtistRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        // 201 when every item was inserted, 207 when some were rejected or failed
+        return artistIngestionService.ingestAsync(requests)
+                .thenApply(result -> ResponseEntity
+                        .status(result.getCreated() == requests.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                        .body(result));
     }
 }
@@ -0,0 +1,85 @@
+package musicopedia.controller;
+
+import musicopedia.cache.ArtistCache;
+import musicopedia.cache.ResponseCache;
+import musicopedia.cache.SecondLevelCacheStatistics;
+import musicopedia.cache.SpotifyIdFilter;
+import musicopedia.coalescing.SingleFlight;
+import musicopedia.dto.response.CacheRegionStatsDTO;
+import musicopedia.dto.response.CacheStatsDTO;
+import musicopedia.dto.response.CoalescingStatsDTO;
+import musicopedia.dto.response.SpotifyIdFilterStatsDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+public class CacheController {
+
+    private final ArtistCache artistCache;
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+    private final SingleFlight singleFlight;
+    private final ResponseCache responseCache;
+    private final SpotifyIdFilter spotifyIdFilter;
+
+    public CacheController(ArtistCache artistCache, SecondLevelCacheStatistics secondLevelCacheStatistics,
+                           SingleFlight singleFlight, ResponseCache responseCache, SpotifyIdFilter spotifyIdFilter) {
+        this.artistCache = artistCache;
+        this.secondLevelCacheStatistics = secondLevelCacheStatistics;
+        this.singleFlight = singleFlight;
+        this.responseCache = responseCache;
+        this.spotifyIdFilter = spotifyIdFilter;
+    }
+
+    @GetMapping("/artists")
+    public ResponseEntity<CacheStatsDTO> getArtistCacheStats() {
+        return ResponseEntity.ok(artistCache.stats());
+    }
+
+    @DeleteMapping("/artists")
+    public ResponseEntity<Void> clearArtistCache() {
+        artistCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/regions")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getRegionStats() {
+        return ResponseEntity.ok(secondLevelCacheStatistics.regions());
+    }
+
+    @DeleteMapping("/regions")
+    public ResponseEntity<Void> clearRegions() {
+        secondLevelCacheStatistics.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/responses")
+    public ResponseEntity<CacheStatsDTO> getResponseCacheStats() {
+        return ResponseEntity.ok(responseCache.stats());
+    }
+
+    @DeleteMapping("/responses")
+    public ResponseEntity<Void> clearResponseCache() {
+        responseCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/coalescing")
+    public ResponseEntity<List<CoalescingStatsDTO>> getCoalescingStats() {
+        return ResponseEntity.ok(singleFlight.stats());
+    }
+
+    @GetMapping("/spotify-filter")
+    public ResponseEntity<SpotifyIdFilterStatsDTO> getSpotifyIdFilterStats() {
+        return ResponseEntity.ok(spotifyIdFilter.stats());
+    }
+
+    // Rebuilds on the request thread, so the response reports the new filter
+    @PostMapping("/spotify-filter/rebuild")
+    public ResponseEntity<SpotifyIdFilterStatsDTO> rebuildSpotifyIdFilter() {
+        spotifyIdFilter.rebuild();
+        return ResponseEntity.ok(spotifyIdFilter.stats());
+    }
+}
@@ -0,0 +1,135 @@
+package musicopedia.controller;
+
+import musicopedia.repository.projection.VersionStamp;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET on top of VersionStamp. The stamp is read first and the
+ * body only when the client's copy is out of date, so a 304 costs one
+ * aggregate query and no entity loading or mapping. Reading the stamp before
+ * the body also means a concurrent write can only pair an older tag with a
+ * newer body, which costs the next request a 200 but never yields a wrong 304.
+ *
+ * Lists carry only an ETag: deleting a row leaves no newer updatedAt behind,
+ * so Last-Modified alone could not tell that a list shrank.
+ */
+final class ConditionalRequests {
+
+    // Gzipped bodies from ResponseCache are a different representation and need their own strong tag
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private ConditionalRequests() {
+    }
+
+    /** Answers 404 for an EMPTY stamp, 304 when the client is current, otherwise loads the body. */
+    static <T> CompletableFuture<ResponseEntity<T>> resource(HttpHeaders request,
+                                                             CompletableFuture<VersionStamp> stamp,
+                                                             Supplier<? extends CompletableFuture<ResponseEntity<T>>> loader) {
+        return stamp.thenCompose(current -> current.isEmpty()
+                ? CompletableFuture.completedFuture(ResponseEntity.notFound().<T>build())
+                : serve(request, current, true, loader));
+    }
+
+    static <T> CompletableFuture<ResponseEntity<T>> list(HttpHeaders request,
+                                                         CompletableFuture<VersionStamp> stamp,
+                                                         Supplier<? extends CompletableFuture<ResponseEntity<T>>> loader) {
+        return stamp.thenCompose(current -> serve(request, current, false, loader));
+    }
+
+    /** Maps an optimistic lock failure on a replacing PUT to 409; anything else still fails the request. */
+    static <T> ResponseEntity<T> conflictOnStaleVersion(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause instanceof OptimisticLockingFailureException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        throw throwable instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
+
+    static String etag(VersionStamp stamp) {
+        Instant lastModified = stamp.getLastModified();
+        long micros = lastModified == null ? 0 : lastModified.getEpochSecond() * 1_000_000 + lastModified.getNano() / 1_000;
+        return Long.toHexString(stamp.getRows()) + "-" + Long.toHexString(stamp.getVersionSum()) + "-" + Long.toHexString(micros);
+    }
+
+    private static <T> CompletableFuture<ResponseEntity<T>> serve(HttpHeaders request, VersionStamp stamp,
+                                                                  boolean withLastModified,
+                                                                  Supplier<? extends CompletableFuture<ResponseEntity<T>>> loader) {
+        String etag = etag(stamp);
+        long lastModified = withLastModified && stamp.getLastModified() != null
+                ? stamp.getLastModified().toEpochMilli()
+                : -1;
+
+        String matched = matchingTag(request, etag, lastModified);
+        if (matched != null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(headers -> validators(headers, matched, lastModified))
+                    .<T>build());
+        }
+
+        return loader.get().thenApply(response -> {
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                return response;
+            }
+            boolean gzipped = "gzip".equals(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(headers -> {
+                        headers.putAll(response.getHeaders());
+                        validators(headers, quote(gzipped ? etag + GZIP_SUFFIX : etag), lastModified);
+                    })
+                    .body(response.getBody());
+        });
+    }
+
+    /**
+     * The client's tag that still matches, or null when the body must be sent.
+     * If-Modified-Since is only consulted without If-None-Match, as RFC 9110 requires.
+     */
+    private static String matchingTag(HttpHeaders request, String etag, long lastModified) {
+        List<String> ifNoneMatch = request.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            for (String candidate : ifNoneMatch) {
+                if ("*".equals(candidate)) {
+                    return quote(etag);
+                }
+                // Weak comparison: the W/ prefix is ignored for If-None-Match
+                String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+                String opaque = tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")
+                        ? tag.substring(1, tag.length() - 1)
+                        : tag;
+                if (opaque.equals(etag) || opaque.equals(etag + GZIP_SUFFIX)) {
+                    return quote(opaque);
+                }
+            }
+            return null;
+        }
+        long ifModifiedSince = request.getIfModifiedSince();
+        // HTTP dates have whole-second precision
+        if (lastModified >= 0 && ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000) {
+            return quote(etag);
+        }
+        return null;
+    }
+
+    private static void validators(HttpHeaders headers, String etag, long lastModified) {
+        headers.setETag(etag);
+        if (lastModified >= 0) {
+            headers.setLastModified(lastModified);
+        }
+        // Stored copies may be reused only after revalidating, which the tag makes cheap
+        headers.setCacheControl(CacheControl.noCache());
+    }
+
+    private static String quote(String etag) {
+        return "\"" + etag + "\"";
+    }
+}
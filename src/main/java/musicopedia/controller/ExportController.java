@@ -0,0 +1,54 @@
+package musicopedia.controller;
+
+import musicopedia.export.ExportFormat;
+import musicopedia.service.CatalogExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/export")
+public class ExportController {
+
+    private final CatalogExportService catalogExportService;
+
+    public ExportController(CatalogExportService catalogExportService) {
+        this.catalogExportService = catalogExportService;
+    }
+
+    @GetMapping("/artists")
+    public ResponseEntity<StreamingResponseBody> exportArtists(
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return stream("artists", format, out -> catalogExportService.exportArtists(format, out));
+    }
+
+    @GetMapping("/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return stream("members", format, out -> catalogExportService.exportMembers(format, out));
+    }
+
+    @GetMapping("/group-memberships")
+    public ResponseEntity<StreamingResponseBody> exportGroupMemberships(
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return stream("group-memberships", format, out -> catalogExportService.exportGroupMemberships(format, out));
+    }
+
+    @GetMapping("/subunit-memberships")
+    public ResponseEntity<StreamingResponseBody> exportSubunitMemberships(
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format) {
+        return stream("subunit-memberships", format, out -> catalogExportService.exportSubunitMemberships(format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
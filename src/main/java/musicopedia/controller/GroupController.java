@@ -1,10 +1,15 @@
 package musicopedia.controller;
 
+import musicopedia.cache.ResponseCache;
 import musicopedia.model.Artist;
 import musicopedia.model.Groups;
 import musicopedia.model.enums.ArtistGender;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.service.GroupService;
+import musicopedia.service.VersionStampService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,22 +24,38 @@ import java.util.concurrent.CompletableFuture;
 public class GroupController {
 
     private final GroupService groupService;
+    private final ResponseCache responseCache;
+    private final VersionStampService versionStampService;
 
-    public GroupController(GroupService groupService) {
+    public GroupController(GroupService groupService, ResponseCache responseCache,
+                           VersionStampService versionStampService) {
         this.groupService = groupService;
+        this.responseCache = responseCache;
+        this.versionStampService = versionStampService;
     }
 
     @GetMapping
-    public CompletableFuture<ResponseEntity<List<Groups>>> getAllGroups() {
-        return groupService.findAll()
+    public CompletableFuture<ResponseEntity<List<Groups>>> getAllGroups(@RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.list(headers, versionStampService.forGroups(),
+                () -> groupService.findAll()
+                        .thenApply(ResponseEntity::ok));
+    }
+
+    @GetMapping("/page")
+    public CompletableFuture<ResponseEntity<CursorPage<Groups>>> getGroupPage(
+            @RequestParam(value = "cursor", required = false) KeysetCursor cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return groupService.findPage(cursor, CursorPage.clampLimit(limit))
                 .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/{id}")
-    public CompletableFuture<ResponseEntity<Groups>> getGroupById(@PathVariable("id") UUID groupId) {
-        return groupService.findById(groupId)
-                .thenApply(group -> group.map(ResponseEntity::ok)
-                        .orElse(ResponseEntity.notFound().build()));
+    public CompletableFuture<ResponseEntity<Groups>> getGroupById(@PathVariable("id") UUID groupId,
+                                                                  @RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.resource(headers, versionStampService.forGroup(groupId),
+                () -> groupService.findById(groupId)
+                        .thenApply(group -> group.map(ResponseEntity::ok)
+                                .orElse(ResponseEntity.notFound().build())));
     }
 
     @GetMapping("/formation-date")
@@ -46,9 +67,10 @@ public class GroupController {
     }
 
     @GetMapping("/active")
-    public CompletableFuture<ResponseEntity<List<Groups>>> getActiveGroups() {
-        return groupService.findActiveGroups()
-                .thenApply(ResponseEntity::ok);
+    public CompletableFuture<ResponseEntity<byte[]>> getActiveGroups(@RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.list(headers, versionStampService.forGroups(),
+                () -> responseCache.serve("groups/active", headers.getFirst(HttpHeaders.ACCEPT_ENCODING),
+                        groupService::findActiveGroups));
     }
 
     @GetMapping("/disbanded")
@@ -86,7 +108,8 @@ public class GroupController {
                         return ResponseEntity.notFound().<Groups>build();
                     }
                     return ResponseEntity.ok(updatedGroup);
-                });
+                })
+                .exceptionally(ConditionalRequests::conflictOnStaleVersion);
     }
 
     @DeleteMapping("/{id}")
@@ -2,6 +2,8 @@ package musicopedia.controller;
 
 import musicopedia.model.enums.MembershipStatus;
 import musicopedia.model.membership.GroupMembership;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.service.GroupMembershipService;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -35,6 +37,24 @@ public class GroupMembershipController {
                 .thenApply(ResponseEntity::ok);
     }
 
+    @GetMapping("/group/{groupId}/page")
+    public CompletableFuture<ResponseEntity<CursorPage<GroupMembership>>> getMembershipPageByGroupId(
+            @PathVariable("groupId") UUID groupId,
+            @RequestParam(value = "cursor", required = false) KeysetCursor cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return groupMembershipService.findPageByGroupId(groupId, cursor, CursorPage.clampLimit(limit))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/member/{memberId}/page")
+    public CompletableFuture<ResponseEntity<CursorPage<GroupMembership>>> getMembershipPageByMemberId(
+            @PathVariable("memberId") UUID memberId,
+            @RequestParam(value = "cursor", required = false) KeysetCursor cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return groupMembershipService.findPageByMemberId(memberId, cursor, CursorPage.clampLimit(limit))
+                .thenApply(ResponseEntity::ok);
+    }
+
     @GetMapping("/group/{groupId}/status/{status}")
     public CompletableFuture<ResponseEntity<List<GroupMembership>>> getMembershipsByGroupIdAndStatus(
             @PathVariable("groupId") UUID groupId,
@@ -1,12 +1,18 @@
 package musicopedia.controller;
 
+import musicopedia.cache.ResponseCache;
 import musicopedia.dto.request.MemberRequestDTO;
 import musicopedia.dto.response.MemberResponseDTO;
 
 import musicopedia.mapper.MemberMapper;
 import musicopedia.model.Member;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
+import musicopedia.repository.projection.MemberSummary;
 import musicopedia.service.MemberService;
+import musicopedia.service.VersionStampService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,37 +28,59 @@ public class MemberController {
 
     private final MemberService memberService;
     private final MemberMapper memberMapper;
+    private final ResponseCache responseCache;
+    private final VersionStampService versionStampService;
 
-    public MemberController(MemberService memberService, MemberMapper memberMapper) {
+    public MemberController(MemberService memberService, MemberMapper memberMapper, ResponseCache responseCache,
+                            VersionStampService versionStampService) {
         this.memberService = memberService;
         this.memberMapper = memberMapper;
+        this.responseCache = responseCache;
+        this.versionStampService = versionStampService;
     }
 
     @GetMapping
-    public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> getAllMembers() {
-        return memberService.findAll()
-                .thenApply(members -> ResponseEntity.ok(memberMapper.toSummaryDTOList(members)));
+    public CompletableFuture<ResponseEntity<byte[]>> getAllMembers(@RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.list(headers, versionStampService.forMembers(),
+                () -> responseCache.serve("members", headers.getFirst(HttpHeaders.ACCEPT_ENCODING),
+                        () -> memberService.findAllSummaries().thenApply(memberMapper::fromSummaries)));
+    }
+
+    @GetMapping("/page")
+    public CompletableFuture<ResponseEntity<CursorPage<MemberResponseDTO>>> getMemberPage(
+            @RequestParam(value = "cursor", required = false) KeysetCursor cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return memberService.findSummaryPage(cursor, CursorPage.clampLimit(limit))
+                .thenApply(page -> ResponseEntity.ok(page.map(memberMapper::toSummaryDTO)));
     }
 
     @GetMapping("/{id}")
-    public CompletableFuture<ResponseEntity<MemberResponseDTO>> getMemberById(@PathVariable("id") UUID memberId) {
-        return memberService.findById(memberId)
-                .thenApply(member -> member.map(m -> ResponseEntity.ok(memberMapper.toResponseDTO(m)))
-                        .orElse(ResponseEntity.notFound().build()));
+    public CompletableFuture<ResponseEntity<MemberResponseDTO>> getMemberById(@PathVariable("id") UUID memberId,
+                                                                              @RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.resource(headers, versionStampService.forMember(memberId),
+                () -> memberService.findById(memberId)
+                        .thenApply(member -> member.map(m -> ResponseEntity.ok(memberMapper.toResponseDTO(m)))
+                                .orElse(ResponseEntity.notFound().build())));
     }
 
     @GetMapping("/search")
-    public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> searchMembersByName(@RequestParam("name") String name) {
-        return memberService.findByNameContaining(name)
-                .thenApply(members -> ResponseEntity.ok(memberMapper.toSummaryDTOList(members)));
+    public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> searchMembersByName(
+            @RequestParam("name") String name,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        int clamped = CursorPage.clampLimit(limit);
+        CompletableFuture<List<MemberSummary>> summaries = fuzzy
+                ? memberService.findSummariesByNameFuzzy(name, clamped)
+                : memberService.findSummariesByNameContaining(name, clamped);
+        return summaries.thenApply(found -> ResponseEntity.ok(memberMapper.fromSummaries(found)));
     }
 
     @GetMapping("/birthdate")
     public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> getMembersByBirthDateRange(
             @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return memberService.findByBirthDateBetween(startDate, endDate)
-                .thenApply(members -> ResponseEntity.ok(memberMapper.toSummaryDTOList(members)));
+        return memberService.findSummariesByBirthDateBetween(startDate, endDate)
+                .thenApply(summaries -> ResponseEntity.ok(memberMapper.fromSummaries(summaries)));
     }
 
     @PostMapping
@@ -94,20 +122,26 @@ public class MemberController {
     }
 
     @GetMapping("/search/realname")
-    public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> searchMembersByRealName(@RequestParam("realName") String realName) {
-        return memberService.findByRealNameContaining(realName)
-                .thenApply(members -> ResponseEntity.ok(memberMapper.toSummaryDTOList(members)));
+    public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> searchMembersByRealName(
+            @RequestParam("realName") String realName,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        int clamped = CursorPage.clampLimit(limit);
+        CompletableFuture<List<MemberSummary>> summaries = fuzzy
+                ? memberService.findSummariesByRealNameFuzzy(realName, clamped)
+                : memberService.findSummariesByRealNameContaining(realName, clamped);
+        return summaries.thenApply(found -> ResponseEntity.ok(memberMapper.fromSummaries(found)));
     }
 
     @GetMapping("/search/nationality")
     public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> searchMembersByNationality(@RequestParam("nationality") String nationality) {
-        return memberService.findByNationality(nationality)
-                .thenApply(members -> ResponseEntity.ok(memberMapper.toSummaryDTOList(members)));
+        return memberService.findSummariesByNationality(nationality)
+                .thenApply(summaries -> ResponseEntity.ok(memberMapper.fromSummaries(summaries)));
     }
 
     @GetMapping("/with-solo-career")
     public CompletableFuture<ResponseEntity<List<MemberResponseDTO>>> getMembersWithSoloCareer() {
-        return memberService.findWithSoloIdentities()
-                .thenApply(members -> ResponseEntity.ok(memberMapper.toSummaryDTOList(members)));
+        return memberService.findSummariesWithSoloIdentities()
+                .thenApply(summaries -> ResponseEntity.ok(memberMapper.fromSummaries(summaries)));
     }
 }
@@ -0,0 +1,53 @@
+package musicopedia.controller;
+
+import musicopedia.dto.response.DescriptionHitDTO;
+import musicopedia.dto.response.SearchResultsDTO;
+import musicopedia.pagination.CursorPage;
+import musicopedia.search.DescriptionIndex;
+import musicopedia.search.SuggestionType;
+import musicopedia.service.SearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final DescriptionIndex descriptionIndex;
+
+    public SearchController(SearchService searchService, DescriptionIndex descriptionIndex) {
+        this.searchService = searchService;
+        this.descriptionIndex = descriptionIndex;
+    }
+
+    /**
+     * Artists, members and subunits matching {@code q} by any of their names,
+     * best first; backends that miss the search deadline are reported as
+     * missing rather than failing the request.
+     */
+    @GetMapping
+    public CompletableFuture<ResponseEntity<SearchResultsDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return searchService.searchAsync(query, CursorPage.clampLimit(limit))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    // Answered on the request thread from memory, like /api/suggest
+    @GetMapping("/descriptions")
+    public ResponseEntity<List<DescriptionHitDTO>> searchDescriptions(
+            @RequestParam("q") String query,
+            @RequestParam(value = "type", required = false) Set<SuggestionType> types,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(descriptionIndex.search(query, types == null ? Set.of() : types,
+                CursorPage.clampLimit(limit)));
+    }
+}
@@ -1,10 +1,15 @@
 package musicopedia.controller;
 
+import musicopedia.cache.ResponseCache;
 import musicopedia.model.Artist;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistGender;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.service.SoloService;
+import musicopedia.service.VersionStampService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,22 +24,37 @@ import java.util.concurrent.CompletableFuture;
 public class SoloController {
 
     private final SoloService soloService;
+    private final ResponseCache responseCache;
+    private final VersionStampService versionStampService;
 
-    public SoloController(SoloService soloService) {
+    public SoloController(SoloService soloService, ResponseCache responseCache,
+                          VersionStampService versionStampService) {
         this.soloService = soloService;
+        this.responseCache = responseCache;
+        this.versionStampService = versionStampService;
     }
 
     @GetMapping
-    public CompletableFuture<ResponseEntity<List<Solo>>> getAllSoloists() {
-        return soloService.findAll()
+    public CompletableFuture<ResponseEntity<byte[]>> getAllSoloists(@RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.list(headers, versionStampService.forSoloists(),
+                () -> responseCache.serve("soloists", headers.getFirst(HttpHeaders.ACCEPT_ENCODING), soloService::findAll));
+    }
+
+    @GetMapping("/page")
+    public CompletableFuture<ResponseEntity<CursorPage<Solo>>> getSoloistPage(
+            @RequestParam(value = "cursor", required = false) KeysetCursor cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return soloService.findPage(cursor, CursorPage.clampLimit(limit))
                 .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/{id}")
-    public CompletableFuture<ResponseEntity<Solo>> getSoloistById(@PathVariable("id") UUID soloId) {
-        return soloService.findById(soloId)
-                .thenApply(solo -> solo.map(ResponseEntity::ok)
-                        .orElse(ResponseEntity.notFound().build()));
+    public CompletableFuture<ResponseEntity<Solo>> getSoloistById(@PathVariable("id") UUID soloId,
+                                                                  @RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.resource(headers, versionStampService.forSoloist(soloId),
+                () -> soloService.findById(soloId)
+                        .thenApply(solo -> solo.map(ResponseEntity::ok)
+                                .orElse(ResponseEntity.notFound().build())));
     }
 
     @GetMapping("/birthdate")
@@ -86,7 +106,8 @@ public class SoloController {
                         return ResponseEntity.notFound().<Solo>build();
                     }
                     return ResponseEntity.ok(updatedSolo);
-                });
+                })
+                .exceptionally(ConditionalRequests::conflictOnStaleVersion);
     }
 
     @DeleteMapping("/{id}")
@@ -96,8 +117,10 @@ public class SoloController {
     }
 
     @GetMapping("/search/realname")
-    public CompletableFuture<ResponseEntity<List<Solo>>> searchSoloistsByRealName(@RequestParam("realName") String realName) {
-        return soloService.findByRealNameContaining(realName)
+    public CompletableFuture<ResponseEntity<List<Solo>>> searchSoloistsByRealName(
+            @RequestParam("realName") String realName,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return soloService.findByRealNameContaining(realName, CursorPage.clampLimit(limit))
                 .thenApply(ResponseEntity::ok);
     }
 
@@ -2,7 +2,11 @@ package musicopedia.controller;
 
 import musicopedia.dto.request.SubunitRequestDTO;
 import musicopedia.dto.response.SubunitResponseDTO;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.service.SubunitService;
+import musicopedia.service.VersionStampService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -13,21 +17,34 @@ import java.util.concurrent.CompletableFuture;
 @RequestMapping("/api/subunits")
 public class SubunitController {
     private final SubunitService subunitService;
+    private final VersionStampService versionStampService;
 
-    public SubunitController(SubunitService subunitService) {
+    public SubunitController(SubunitService subunitService, VersionStampService versionStampService) {
         this.subunitService = subunitService;
+        this.versionStampService = versionStampService;
     }
 
     @GetMapping
-    public CompletableFuture<ResponseEntity<List<SubunitResponseDTO>>> getAllSubunits() {
-        return subunitService.findAll()
+    public CompletableFuture<ResponseEntity<List<SubunitResponseDTO>>> getAllSubunits(@RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.list(headers, versionStampService.forSubunits(),
+                () -> subunitService.findAll()
+                        .thenApply(ResponseEntity::ok));
+    }
+
+    @GetMapping("/page")
+    public CompletableFuture<ResponseEntity<CursorPage<SubunitResponseDTO>>> getSubunitPage(
+            @RequestParam(value = "cursor", required = false) KeysetCursor cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return subunitService.findPage(cursor, CursorPage.clampLimit(limit))
                 .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/{id}")
-    public CompletableFuture<ResponseEntity<SubunitResponseDTO>> getSubunitById(@PathVariable("id") UUID subunitId) {
-        return subunitService.findById(subunitId)
-                .thenApply(opt -> opt.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
+    public CompletableFuture<ResponseEntity<SubunitResponseDTO>> getSubunitById(@PathVariable("id") UUID subunitId,
+                                                                                @RequestHeader HttpHeaders headers) {
+        return ConditionalRequests.resource(headers, versionStampService.forSubunit(subunitId),
+                () -> subunitService.findById(subunitId)
+                        .thenApply(opt -> opt.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build())));
     }
 
     @PostMapping
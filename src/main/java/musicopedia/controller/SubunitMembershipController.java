@@ -1,6 +1,8 @@
 package musicopedia.controller;
 
 import musicopedia.model.membership.SubunitMembership;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.service.SubunitMembershipService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +29,22 @@ public class SubunitMembershipController {
         return service.findByMemberId(memberId).thenApply(ResponseEntity::ok);
     }
 
+    @GetMapping("/subunit/{subunitId}/page")
+    public CompletableFuture<ResponseEntity<CursorPage<SubunitMembership>>> getPageBySubunit(
+            @PathVariable UUID subunitId,
+            @RequestParam(required = false) KeysetCursor cursor,
+            @RequestParam(required = false) Integer limit) {
+        return service.findPageBySubunitId(subunitId, cursor, CursorPage.clampLimit(limit)).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/member/{memberId}/page")
+    public CompletableFuture<ResponseEntity<CursorPage<SubunitMembership>>> getPageByMember(
+            @PathVariable UUID memberId,
+            @RequestParam(required = false) KeysetCursor cursor,
+            @RequestParam(required = false) Integer limit) {
+        return service.findPageByMemberId(memberId, cursor, CursorPage.clampLimit(limit)).thenApply(ResponseEntity::ok);
+    }
+
     @DeleteMapping("/subunit/{subunitId}")
     public CompletableFuture<ResponseEntity<Void>> deleteBySubunit(@PathVariable UUID subunitId) {
         return service.deleteBySubunitId(subunitId).thenApply(v -> ResponseEntity.noContent().build());
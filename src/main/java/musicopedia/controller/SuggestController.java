@@ -0,0 +1,38 @@
+package musicopedia.controller;
+
+import musicopedia.dto.response.SuggestionDTO;
+import musicopedia.pagination.CursorPage;
+import musicopedia.search.ChosungIndex;
+import musicopedia.search.SuggestIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+public class SuggestController {
+
+    private final SuggestIndex suggestIndex;
+    private final ChosungIndex chosungIndex;
+
+    public SuggestController(SuggestIndex suggestIndex, ChosungIndex chosungIndex) {
+        this.suggestIndex = suggestIndex;
+        this.chosungIndex = chosungIndex;
+    }
+
+    // Answered on the request thread: a lookup is a few binary searches over memory.
+    // Hangul initial consonants such as "ㅂㅌ" match no name as typed and go to the chosung index
+    @GetMapping
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int clamped = CursorPage.clampLimit(limit);
+        return ResponseEntity.ok(ChosungIndex.isInitialsQuery(query)
+                ? chosungIndex.search(query, clamped)
+                : suggestIndex.suggest(query, clamped));
+    }
+}
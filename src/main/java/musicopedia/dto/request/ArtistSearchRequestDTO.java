@@ -0,0 +1,54 @@
+package musicopedia.dto.request;
+
+import lombok.Data;
+import musicopedia.model.enums.ArtistType;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Query parameters for the multi-criteria artist search.
+ * Every filter is optional; the ones that are set are combined with AND.
+ */
+@Data
+public class ArtistSearchRequestDTO {
+
+    public enum SortField {
+        NAME("artistName"),
+        TYPE("type"),
+        GENRE("genre"),
+        COUNTRY("originCountry"),
+        LANGUAGE("primaryLanguage");
+
+        private final String property;
+
+        SortField(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+    }
+
+    private ArtistType type;
+    private String name;
+    private String genre;
+    private String country;
+    private String language;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate formedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate formedTo;
+
+    private SortField sort = SortField.NAME;
+    private Sort.Direction direction = Sort.Direction.ASC;
+    private Integer limit;
+
+    public boolean hasValidFormationRange() {
+        return formedFrom == null || formedTo == null || !formedFrom.isAfter(formedTo);
+    }
+}
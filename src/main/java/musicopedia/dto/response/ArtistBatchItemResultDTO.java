@@ -0,0 +1,31 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class ArtistBatchItemResultDTO {
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE,
+        FAILED
+    }
+
+    private int index;
+    private Status status;
+    private UUID artistId;
+    private String spotifyId;
+    private String message;
+
+    public static ArtistBatchItemResultDTO of(int index, Status status, String spotifyId, String message) {
+        ArtistBatchItemResultDTO result = new ArtistBatchItemResultDTO();
+        result.setIndex(index);
+        result.setStatus(status);
+        result.setSpotifyId(spotifyId);
+        result.setMessage(message);
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ArtistBatchResultDTO {
+
+    private int created;
+    private int rejected;
+    private int failed;
+
+    // One entry per request item, in request order
+    private List<ArtistBatchItemResultDTO> results;
+
+    public static ArtistBatchResultDTO of(List<ArtistBatchItemResultDTO> results) {
+        ArtistBatchResultDTO dto = new ArtistBatchResultDTO();
+        dto.setResults(results);
+        for (ArtistBatchItemResultDTO result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> dto.created++;
+                case INVALID, DUPLICATE -> dto.rejected++;
+                case FAILED -> dto.failed++;
+            }
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,25 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+import musicopedia.repository.projection.ArtistSummary;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class ArtistFacetSearchDTO {
+
+    private int total;
+    private List<ArtistSummary> artists;
+    // Keyed by the facet's request parameter, then by value, most common first
+    private Map<String, Map<String, Integer>> facets;
+
+    public static ArtistFacetSearchDTO of(int total, List<ArtistSummary> artists,
+                                          Map<String, Map<String, Integer>> facets) {
+        ArtistFacetSearchDTO dto = new ArtistFacetSearchDTO();
+        dto.setTotal(total);
+        dto.setArtists(artists);
+        dto.setFacets(facets);
+        return dto;
+    }
+}
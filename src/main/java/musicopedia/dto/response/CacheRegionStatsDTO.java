@@ -0,0 +1,27 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+
+@Data
+public class CacheRegionStatsDTO {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    // -1 when the provider cannot report it
+    private long size;
+    private double hitRate;
+
+    public static CacheRegionStatsDTO of(String region, long hits, long misses, long puts, long size) {
+        CacheRegionStatsDTO dto = new CacheRegionStatsDTO();
+        dto.setRegion(region);
+        dto.setHits(hits);
+        dto.setMisses(misses);
+        dto.setPuts(puts);
+        dto.setSize(size < 0 ? -1 : size);
+        long requests = hits + misses;
+        dto.setHitRate(requests == 0 ? 0.0 : (double) hits / requests);
+        return dto;
+    }
+}
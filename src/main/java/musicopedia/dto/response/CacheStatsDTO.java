@@ -0,0 +1,24 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+
+@Data
+public class CacheStatsDTO {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long size;
+    private double hitRate;
+
+    public static CacheStatsDTO of(long hits, long misses, long evictions, long size) {
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setHits(hits);
+        dto.setMisses(misses);
+        dto.setEvictions(evictions);
+        dto.setSize(size);
+        long requests = hits + misses;
+        dto.setHitRate(requests == 0 ? 0.0 : (double) hits / requests);
+        return dto;
+    }
+}
@@ -0,0 +1,22 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+
+@Data
+public class CoalescingStatsDTO {
+
+    private String method;
+    private long calls;
+    // Calls that joined one already in flight instead of running their own
+    private long collapsed;
+    private double collapseRate;
+
+    public static CoalescingStatsDTO of(String method, long calls, long collapsed) {
+        CoalescingStatsDTO dto = new CoalescingStatsDTO();
+        dto.setMethod(method);
+        dto.setCalls(calls);
+        dto.setCollapsed(collapsed);
+        dto.setCollapseRate(calls == 0 ? 0.0 : (double) collapsed / calls);
+        return dto;
+    }
+}
@@ -0,0 +1,27 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+import musicopedia.search.SuggestionType;
+
+import java.util.UUID;
+
+@Data
+public class DescriptionHitDTO {
+
+    private SuggestionType type;
+    private UUID id;
+    private String name;
+    private double score;
+    // The best-matching passage, HTML-escaped, with matched terms in <em>
+    private String snippet;
+
+    public static DescriptionHitDTO of(SuggestionType type, UUID id, String name, double score, String snippet) {
+        DescriptionHitDTO dto = new DescriptionHitDTO();
+        dto.setType(type);
+        dto.setId(id);
+        dto.setName(name);
+        dto.setScore(score);
+        dto.setSnippet(snippet);
+        return dto;
+    }
+}
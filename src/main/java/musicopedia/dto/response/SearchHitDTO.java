@@ -0,0 +1,28 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+import musicopedia.search.SuggestionType;
+
+import java.util.UUID;
+
+@Data
+public class SearchHitDTO {
+
+    private SuggestionType type;
+    private UUID id;
+    private String name;
+    // The name the query matched: the display name, or a real name
+    private String matchedName;
+    // Between 0 and 1, comparable across entity types
+    private double score;
+
+    public static SearchHitDTO of(SuggestionType type, UUID id, String name, String matchedName, double score) {
+        SearchHitDTO dto = new SearchHitDTO();
+        dto.setType(type);
+        dto.setId(id);
+        dto.setName(name);
+        dto.setMatchedName(matchedName);
+        dto.setScore(score);
+        return dto;
+    }
+}
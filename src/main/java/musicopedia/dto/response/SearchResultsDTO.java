@@ -0,0 +1,24 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+import musicopedia.search.SearchSource;
+
+import java.util.List;
+
+@Data
+public class SearchResultsDTO {
+
+    private List<SearchHitDTO> results;
+    // Whether some backends are missing from the results
+    private boolean partial;
+    // Backends that missed the deadline or failed
+    private List<SearchSource> missing;
+
+    public static SearchResultsDTO of(List<SearchHitDTO> results, List<SearchSource> missing) {
+        SearchResultsDTO dto = new SearchResultsDTO();
+        dto.setResults(results);
+        dto.setPartial(!missing.isEmpty());
+        dto.setMissing(missing);
+        return dto;
+    }
+}
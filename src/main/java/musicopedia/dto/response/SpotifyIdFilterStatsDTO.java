@@ -0,0 +1,26 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class SpotifyIdFilterStatsDTO {
+
+    // False until the first build completes; lookups all pass until then
+    private boolean ready;
+    private long insertions;
+    private long bitSize;
+    private long sizeBytes;
+    private int hashFunctions;
+    private double targetFalsePositiveRate;
+    // Estimated from the fraction of bits set, so it rises as ids are added between rebuilds
+    private double expectedFalsePositiveRate;
+    // Lookups answered without a query
+    private long negatives;
+    // Lookups that passed the filter but found no artist
+    private long falsePositives;
+    private double observedFalsePositiveRate;
+    private Instant lastRebuiltAt;
+    private long lastRebuildMillis;
+}
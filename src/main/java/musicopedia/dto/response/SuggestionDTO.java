@@ -0,0 +1,25 @@
+package musicopedia.dto.response;
+
+import lombok.Data;
+import musicopedia.search.SuggestionType;
+
+import java.util.UUID;
+
+@Data
+public class SuggestionDTO {
+
+    private SuggestionType type;
+    private UUID id;
+    private String name;
+    // The name the prefix matched: the display name, or a member's real name
+    private String matchedName;
+
+    public static SuggestionDTO of(SuggestionType type, UUID id, String name, String matchedName) {
+        SuggestionDTO dto = new SuggestionDTO();
+        dto.setType(type);
+        dto.setId(id);
+        dto.setName(name);
+        dto.setMatchedName(matchedName);
+        return dto;
+    }
+}
@@ -0,0 +1,24 @@
+package musicopedia.export;
+
+import lombok.Getter;
+import musicopedia.model.Artist;
+import musicopedia.model.Groups;
+import musicopedia.model.Solo;
+
+/**
+ * An artist together with its solo or group details, whichever exists.
+ * Built by a JPQL constructor expression so one query yields both sides.
+ */
+@Getter
+public class ArtistExportRow {
+
+    private final Artist artist;
+    private final Solo solo;
+    private final Groups group;
+
+    public ArtistExportRow(Artist artist, Solo solo, Groups group) {
+        this.artist = artist;
+        this.solo = solo;
+        this.group = group;
+    }
+}
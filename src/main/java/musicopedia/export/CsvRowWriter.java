@@ -0,0 +1,70 @@
+package musicopedia.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV with a header row. Fields containing a delimiter, quote or
+ * line break are quoted; null values are written as empty fields.
+ */
+public class CsvRowWriter<T> implements ExportRowWriter<T> {
+
+    private final List<ExportColumn<T>> columns;
+    private final Writer writer;
+
+    public CsvRowWriter(List<ExportColumn<T>> columns, OutputStream out) throws IOException {
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeHeader();
+    }
+
+    private void writeHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(columns.get(i).getName());
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(columns.get(i).valueOf(row));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flush only: the response stream is owned by the servlet container
+        writer.flush();
+    }
+}
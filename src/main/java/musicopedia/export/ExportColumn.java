@@ -0,0 +1,33 @@
+package musicopedia.export;
+
+import lombok.Getter;
+
+import java.util.function.Function;
+
+/**
+ * A named column of an export, extracting one value from a row.
+ * Values are written as text; null values stay null (JSON) or empty (CSV).
+ */
+@Getter
+public final class ExportColumn<T> {
+
+    private final String name;
+    private final Function<T, ?> extractor;
+
+    private ExportColumn(String name, Function<T, ?> extractor) {
+        this.name = name;
+        this.extractor = extractor;
+    }
+
+    public static <T> ExportColumn<T> of(String name, Function<T, ?> extractor) {
+        return new ExportColumn<>(name, extractor);
+    }
+
+    public String valueOf(T row) {
+        Object value = extractor.apply(row);
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Enum<?> e ? e.name() : value.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package musicopedia.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes export rows one at a time to an output stream.
+ * Closing the writer flushes it but leaves the underlying stream open.
+ */
+public interface ExportRowWriter<T> extends Closeable {
+
+    void write(T row) throws IOException;
+
+    void flush() throws IOException;
+
+    static <T> ExportRowWriter<T> create(ExportFormat format, List<ExportColumn<T>> columns,
+                                         JsonFactory jsonFactory, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonRowWriter<>(columns, jsonFactory, out);
+            case CSV -> new CsvRowWriter<>(columns, out);
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package musicopedia.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Newline-delimited JSON: one object per row, written straight to the stream.
+ */
+public class NdjsonRowWriter<T> implements ExportRowWriter<T> {
+
+    private final List<ExportColumn<T>> columns;
+    private final JsonGenerator generator;
+
+    public NdjsonRowWriter(List<ExportColumn<T>> columns, JsonFactory jsonFactory, OutputStream out) throws IOException {
+        this.columns = columns;
+        this.generator = jsonFactory.createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        generator.writeStartObject();
+        for (ExportColumn<T> column : columns) {
+            String value = column.valueOf(row);
+            if (value == null) {
+                generator.writeNullField(column.getName());
+            } else {
+                generator.writeStringField(column.getName(), value);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
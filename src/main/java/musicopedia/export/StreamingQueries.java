@@ -0,0 +1,14 @@
+package musicopedia.export;
+
+/**
+ * Query hint values shared by the {@code Stream}-returning repository methods.
+ * With a fetch size set inside a transaction the PostgreSQL driver reads the
+ * result through a server-side cursor instead of buffering every row.
+ */
+public final class StreamingQueries {
+
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingQueries() {
+    }
+}
@@ -9,6 +9,7 @@ import musicopedia.model.Artist;
 import musicopedia.model.Member;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.MemberSummary;
 import musicopedia.service.ArtistService;
 import org.springframework.stereotype.Component;
 
@@ -112,6 +113,17 @@ public class MemberMapper {
         return dto;
     }
 
+    public MemberResponseDTO toSummaryDTO(MemberSummary summary) {
+        MemberResponseDTO dto = new MemberResponseDTO();
+        dto.setMemberId(summary.getMemberId());
+        dto.setMemberName(summary.getMemberName());
+        dto.setImage(summary.getImage());
+        dto.setRealName(summary.getRealName());
+        dto.setHasOfficialSoloDebut(summary.getSoloArtistName() != null);
+        dto.setSoloArtistName(summary.getSoloArtistName());
+        return dto;
+    }
+
     public List<MemberResponseDTO> toResponseDTOList(List<Member> members) {
         return members.stream()
                 .map(this::toResponseDTO)
@@ -124,6 +136,12 @@ public class MemberMapper {
                 .toList();
     }
 
+    public List<MemberResponseDTO> fromSummaries(List<MemberSummary> summaries) {
+        return summaries.stream()
+                .map(this::toSummaryDTO)
+                .toList();
+    }
+
     public Member createMemberFromDto(MemberRequestDTO dto, Artist soloArtist) {
         Member member = new MemberBuilder()
             .setMemberName(dto.getMemberName())
@@ -1,17 +1,37 @@
 package musicopedia.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Setter;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.model.id.UuidV7;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
+import java.util.Locale;
 import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "artists")
+@Table(name = "artists", indexes = {
+        @Index(name = "idx_artists_name_id", columnList = "artistName, artistId"),
+        @Index(name = "idx_artists_type", columnList = "type"),
+        @Index(name = "idx_artists_origin_country", columnList = "originCountry"),
+        @Index(name = "idx_artists_primary_language_key", columnList = "primaryLanguageKey")
+})
+@BatchSize(size = 50)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ARTIST)
 public class Artist {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID artistId;
 
     @Column(unique = true, length = 22)
@@ -31,8 +51,44 @@ public class Artist {
     private ArtistType type;
 
     private String primaryLanguage;
+
+    // primaryLanguage lower-cased, so case-insensitive language queries compare an indexed column
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private String primaryLanguageKey;
+
     private String genre;
 
     @Column(length = 2)
     private String originCountry;
+
+    // Validators for HTTP caching; the default backfills rows written before the column existed
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // Set when a request body names the version, so replacing PUTs check it only then
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private boolean versionSent;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+
+    public void setVersion(long version) {
+        this.version = version;
+        this.versionSent = true;
+    }
+
+    public void setPrimaryLanguage(String primaryLanguage) {
+        this.primaryLanguage = primaryLanguage;
+        this.primaryLanguageKey = languageKey(primaryLanguage);
+    }
+
+    /** The value {@code primaryLanguageKey} holds for {@code language}. */
+    public static String languageKey(String language) {
+        return language == null ? null : language.toLowerCase(Locale.ROOT);
+    }
 }
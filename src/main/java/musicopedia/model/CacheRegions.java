@@ -0,0 +1,25 @@
+package musicopedia.model;
+
+/**
+ * Second-level cache region names. Each entity and cached collection gets its
+ * own region so they can be sized and evicted independently; sizes come from
+ * {@code app.cache.l2.regions.<name>}.
+ */
+public final class CacheRegions {
+
+    public static final String ARTIST = "artist";
+    public static final String GROUPS = "groups";
+    public static final String SOLO = "solo";
+    public static final String MEMBER = "member";
+    public static final String MEMBER_SOLO_IDENTITIES = "member.soloIdentities";
+    public static final String SUBUNIT = "subunit";
+
+    /** Results of the cacheable ArtistRepository queries (ids only; the rows come from ARTIST). */
+    public static final String ARTIST_QUERIES = "artist-queries";
+
+    /** Hibernate's own region recording when each table last changed; must never evict. */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
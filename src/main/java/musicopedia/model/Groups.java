@@ -4,12 +4,25 @@ import jakarta.persistence.*;
 import lombok.Data;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.GroupActivityStatus;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "groups")
+@Table(name = "groups", indexes = {
+        @Index(name = "idx_groups_formation_date", columnList = "formationDate"),
+        @Index(name = "idx_groups_disband_date", columnList = "disbandDate"),
+        @Index(name = "idx_groups_group_gender", columnList = "groupGender")
+})
+@BatchSize(size = 50)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.GROUPS)
 public class Groups {
 
     @Id
@@ -28,4 +41,12 @@ public class Groups {
 
     @Enumerated(EnumType.STRING)
     private GroupActivityStatus activityStatus;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
 }
\ No newline at end of file
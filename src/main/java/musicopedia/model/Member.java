@@ -2,20 +2,40 @@ package musicopedia.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import musicopedia.model.id.UuidV7;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        @Index(name = "idx_members_name_id", columnList = "memberName, memberId")
+})
+@NamedEntityGraph(
+        name = Member.WITH_SOLO_ARTISTS,
+        attributeNodes = @NamedAttributeNode(value = "soloIdentities", subgraph = "soloArtist"),
+        subgraphs = @NamedSubgraph(name = "soloArtist", attributeNodes = @NamedAttributeNode("artist"))
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MEMBER)
 @SuppressWarnings("java:S7027") // Suppress Sonar warning for circular dependency with Solo (JPA bidirectional mapping is intentional)
 public class Member {
 
+    /** Loads solo identities and their artists with the member, as read by MemberMapper. */
+    public static final String WITH_SOLO_ARTISTS = "Member.withSoloArtists";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID memberId;
 
-    @Column(nullable = false, name = "member_name")
+    // Left to the naming strategy (member_name in production) so the index can name it like every other column
+    @Column(nullable = false)
     private String memberName;
 
     private String realName;
@@ -31,11 +51,21 @@ public class Member {
     private LocalDate deathDate;
 
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MEMBER_SOLO_IDENTITIES)
     private java.util.List<Solo> soloIdentities = new java.util.ArrayList<>();
 
     @Column(length = 2)
     private String nationality;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+
     public boolean isDeceased() {
         return this.deathDate != null;
     }
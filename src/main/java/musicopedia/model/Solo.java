@@ -1,15 +1,28 @@
 package musicopedia.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.GroupAffiliationStatus;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "solo")
+@Table(name = "solo", indexes = {
+        @Index(name = "idx_solo_birth_date", columnList = "birthDate"),
+        @Index(name = "idx_solo_death_date", columnList = "deathDate"),
+        @Index(name = "idx_solo_debut_date", columnList = "debutDate"),
+        @Index(name = "idx_solo_gender", columnList = "gender")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SOLO)
 public class Solo {
 
     @Id
@@ -37,6 +50,19 @@ public class Solo {
     @JoinColumn(name = "member_id", nullable = true)
     private Member member;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // Set when a request body names the version, so replacing PUTs check it only then
+    @Transient
+    @JsonIgnore
+    private boolean versionSent;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+
     public Solo() {}
 
     public Solo(Artist artist, Member member) {
@@ -59,4 +85,9 @@ public class Solo {
     public int hashCode() {
         return java.util.Objects.hash(artistId, realName, artist);
     }
-}
\ No newline at end of file
+
+    public void setVersion(long version) {
+        this.version = version;
+        this.versionSent = true;
+    }
+}
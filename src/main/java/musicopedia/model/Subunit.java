@@ -4,15 +4,36 @@ import jakarta.persistence.*;
 import lombok.Data;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.GroupActivityStatus;
+import musicopedia.model.id.UuidV7;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "subunit")
+@Table(name = "subunit", indexes = {
+        @Index(name = "idx_subunit_name_id", columnList = "subunitName, subunitId")
+})
+@NamedEntityGraph(
+        name = Subunit.WITH_GROUPS,
+        attributeNodes = {
+                @NamedAttributeNode(value = "mainGroup", subgraph = "groupArtist"),
+                @NamedAttributeNode(value = "groupSubunit", subgraph = "groupArtist")
+        },
+        subgraphs = @NamedSubgraph(name = "groupArtist", attributeNodes = @NamedAttributeNode("artist"))
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUBUNIT)
 public class Subunit {
+    /** Loads both group references and their artists, as read by SubunitMapper. */
+    public static final String WITH_GROUPS = "Subunit.withGroups";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID subunitId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,4 +63,12 @@ public class Subunit {
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "group_subunit_id")
     private Groups groupSubunit;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
 }
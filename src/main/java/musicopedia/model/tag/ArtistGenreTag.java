@@ -0,0 +1,65 @@
+package musicopedia.model.tag;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import musicopedia.model.Artist;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Links an artist to one tag of its genre. Rows go when their artist does,
+ * through the foreign key, so no delete path has to clear them.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "artist_genre_tags", indexes = {
+        @Index(name = "idx_artist_genre_tags_tag", columnList = "tag_id, artist_id")
+})
+public class ArtistGenreTag implements Persistable<ArtistGenreTagId> {
+
+    @EmbeddedId
+    private ArtistGenreTagId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("artistId")
+    @JoinColumn(name = "artist_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Artist artist;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("tagId")
+    @JoinColumn(name = "tag_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private GenreTag tag;
+
+    // Rows are only ever inserted or deleted, so saving one should not SELECT it first
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+
+    public ArtistGenreTag(Artist artist, GenreTag tag) {
+        this.id = new ArtistGenreTagId(artist.getArtistId(), tag.getTagId());
+        this.artist = artist;
+        this.tag = tag;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,18 @@
+package musicopedia.model.tag;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ArtistGenreTagId implements Serializable {
+    private UUID artistId;
+    private Integer tagId;
+}
@@ -0,0 +1,53 @@
+package musicopedia.model.tag;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One entry of the genre dictionary. Artists keep their free-form
+ * {@code genre} string; each genre named in it becomes a tag, trimmed and
+ * lower-cased, so "K-Pop, Ballad" and "k-pop" share the "k-pop" tag.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "genre_tags")
+public class GenreTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tag_id")
+    private Integer tagId;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    public GenreTag(String name) {
+        this.name = name;
+    }
+
+    /** The tag spelling of one genre, or null if it is blank. */
+    public static String normalize(String genre) {
+        if (genre == null || genre.isBlank()) {
+            return null;
+        }
+        return genre.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** The distinct tags of a genre column, which may list several genres separated by commas, slashes or semicolons. */
+    public static List<String> namesOf(String genre) {
+        if (genre == null) {
+            return List.of();
+        }
+        return Arrays.stream(genre.split("[,/;]"))
+                .map(GenreTag::normalize)
+                .filter(name -> name != null)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package musicopedia.pagination;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ * {@code next} is null when there are no further rows.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final List<T> items;
+    private final String next;
+    private final int limit;
+
+    public CursorPage(List<T> items, String next, int limit) {
+        this.items = items;
+        this.next = next;
+        this.limit = limit;
+    }
+
+    /**
+     * Builds a page from a slice fetched with {@link #request(int)}, deriving
+     * the next token from the last row when the slice reports more rows.
+     */
+    public static <T> CursorPage<T> of(Slice<T> slice, int limit, Function<T, KeysetCursor> cursorOf) {
+        List<T> items = slice.getContent();
+        String next = slice.hasNext() && !items.isEmpty()
+                ? cursorOf.apply(items.get(items.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(items, next, limit);
+    }
+
+    /**
+     * First-page request for a seek query; ordering is defined by the query itself.
+     */
+    public static Pageable request(int limit) {
+        return PageRequest.ofSize(limit);
+    }
+
+    /**
+     * Applies the default when no limit was given and caps it at {@link #MAX_LIMIT}.
+     */
+    public static int clampLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, next, limit);
+    }
+}
@@ -0,0 +1,69 @@
+package musicopedia.pagination;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row returned by a keyset (seek) query.
+ * The sort key and the UUID tie-breaker are encoded into an opaque,
+ * URL-safe token that clients pass back to fetch the next page.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class KeysetCursor {
+
+    private static final int UUID_LENGTH = 36;
+
+    private final String key;
+    private final UUID id;
+
+    private KeysetCursor(String key, UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id cannot be null");
+        }
+        this.key = key != null ? key : "";
+        this.id = id;
+    }
+
+    /**
+     * Cursor for queries ordered by a sort key with the id as tie-breaker.
+     */
+    public static KeysetCursor of(String key, UUID id) {
+        return new KeysetCursor(key, id);
+    }
+
+    /**
+     * Cursor for queries ordered by id only.
+     */
+    public static KeysetCursor of(UUID id) {
+        return new KeysetCursor("", id);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * Also used by Spring to bind {@code cursor} request parameters.
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor valueOf(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor cannot be empty");
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        if (decoded.length() < UUID_LENGTH) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        UUID id = UUID.fromString(decoded.substring(0, UUID_LENGTH));
+        return new KeysetCursor(decoded.substring(UUID_LENGTH), id);
+    }
+
+    public String encode() {
+        String raw = id.toString() + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
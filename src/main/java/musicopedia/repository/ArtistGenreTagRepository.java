@@ -0,0 +1,51 @@
+package musicopedia.repository;
+
+import jakarta.persistence.QueryHint;
+import musicopedia.export.StreamingQueries;
+import musicopedia.model.tag.ArtistGenreTag;
+import musicopedia.model.tag.ArtistGenreTagId;
+import musicopedia.repository.projection.GenreRow;
+import musicopedia.repository.projection.GenreTagRow;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArtistGenreTagRepository extends JpaRepository<ArtistGenreTag, ArtistGenreTagId> {
+
+    /**
+     * Ids of the artists tagged with exactly {@code :genre}, trimmed and
+     * lower-cased like a tag name; for use as an IN subquery.
+     */
+    String TAGGED_ARTIST_IDS = "SELECT t.id.artistId FROM ArtistGenreTag t WHERE t.tag.name = LOWER(TRIM(:genre))";
+
+    @Query("SELECT t.id FROM ArtistGenreTag t WHERE t.id.artistId IN :artistIds")
+    List<ArtistGenreTagId> findIdsByArtistIds(@Param("artistIds") Collection<UUID> artistIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.GenreTagRow(a.artistId, a.artistName, t.id.tagId) "
+            + "FROM ArtistGenreTag t JOIN t.artist a")
+    Stream<GenreTagRow> streamTags();
+
+    String UNTAGGED_SELECT = "SELECT new musicopedia.repository.projection.GenreRow(a.artistId, a.genre) "
+            + "FROM Artist a WHERE a.genre IS NOT NULL "
+            + "AND NOT EXISTS (SELECT t.id FROM ArtistGenreTag t WHERE t.id.artistId = a.artistId) ";
+
+    @Query(UNTAGGED_SELECT + "ORDER BY a.artistId")
+    List<GenreRow> findFirstUntagged(Pageable pageable);
+
+    @Query(UNTAGGED_SELECT + "AND a.artistId > :after ORDER BY a.artistId")
+    List<GenreRow> findUntaggedAfter(@Param("after") UUID after, Pageable pageable);
+}
@@ -1,22 +1,170 @@
 package musicopedia.repository;
 
+import jakarta.persistence.QueryHint;
+import musicopedia.export.ArtistExportRow;
+import musicopedia.export.StreamingQueries;
 import musicopedia.model.Artist;
+import musicopedia.model.CacheRegions;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.repository.projection.DescriptionRow;
+import musicopedia.repository.projection.FacetRow;
+import musicopedia.repository.projection.NameRow;
+import musicopedia.repository.projection.VersionStamp;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ArtistRepository extends JpaRepository<Artist, UUID> {
+public interface ArtistRepository extends JpaRepository<Artist, UUID>, JpaSpecificationExecutor<Artist> {
     List<Artist> findByArtistNameContainingIgnoreCase(String name);
+
+    @Query("SELECT a FROM Artist a WHERE a.artistId IN (" + ArtistGenreTagRepository.TAGGED_ARTIST_IDS + ")")
+    List<Artist> findByGenreTag(@Param("genre") String genre);
+
+    // Filters over a handful of distinct values, so their results are worth keeping in the
+    // query cache; Hibernate drops them whenever the artists table changes.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ARTIST_QUERIES)
+    })
     List<Artist> findByType(ArtistType type);
-    List<Artist> findByGenreContainingIgnoreCase(String genre);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ARTIST_QUERIES)
+    })
     List<Artist> findByOriginCountry(String countryCode);
-    List<Artist> findByPrimaryLanguageIgnoreCase(String language);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ARTIST_QUERIES)
+    })
+    @Query("SELECT a FROM Artist a WHERE a.primaryLanguageKey = LOWER(:language)")
+    List<Artist> findByPrimaryLanguageIgnoreCase(@Param("language") String language);
+
+    // Rows written before primaryLanguageKey existed; a bulk update, so it also clears the artist caches
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artist a SET a.primaryLanguageKey = LOWER(a.primaryLanguage) "
+            + "WHERE a.primaryLanguageKey IS NULL AND a.primaryLanguage IS NOT NULL")
+    int backfillPrimaryLanguageKeys();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ARTIST_QUERIES)
+    })
     long countByType(ArtistType type);
+
     boolean existsBySpotifyId(String spotifyId);
     Optional<Artist> findBySpotifyId(String spotifyId);
-}
\ No newline at end of file
+
+    @Query("SELECT a.spotifyId FROM Artist a WHERE a.spotifyId IN :spotifyIds")
+    List<String> findExistingSpotifyIds(@Param("spotifyIds") Collection<String> spotifyIds);
+
+    long countBySpotifyIdIsNotNull();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.spotifyId FROM Artist a WHERE a.spotifyId IS NOT NULL")
+    Stream<String> streamSpotifyIds();
+
+    Slice<Artist> findAllByOrderByArtistNameAscArtistIdAsc(Pageable pageable);
+
+    @Query("SELECT a FROM Artist a WHERE a.artistName > :name OR (a.artistName = :name AND a.artistId > :id) "
+            + "ORDER BY a.artistName, a.artistId")
+    Slice<Artist> findPageAfter(@Param("name") String name, @Param("id") UUID id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.export.ArtistExportRow(a, s, g) FROM Artist a "
+            + "LEFT JOIN Solo s ON s.artistId = a.artistId "
+            + "LEFT JOIN Groups g ON g.artistId = a.artistId "
+            + "ORDER BY a.artistId")
+    Stream<ArtistExportRow> streamAllWithDetails();
+
+    String SUMMARY_SELECT = "SELECT new musicopedia.repository.projection.ArtistSummary("
+            + "a.artistId, a.artistName, a.type, a.image, a.genre, a.originCountry) "
+            + "FROM Artist a ";
+
+    @Query(SUMMARY_SELECT)
+    List<ArtistSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE LOWER(a.artistName) LIKE LOWER(CONCAT('%', :name, '%'))")
+    List<ArtistSummary> findSummariesByArtistNameContaining(@Param("name") String name);
+
+    @Query(SUMMARY_SELECT + "WHERE a.artistId IN :ids")
+    List<ArtistSummary> findSummariesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE a.artistId IN (" + ArtistGenreTagRepository.TAGGED_ARTIST_IDS + ") "
+            + "ORDER BY a.artistName, a.artistId")
+    List<ArtistSummary> findSummariesByGenreTag(@Param("genre") String genre, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.NameRow(a.artistId, a.artistName, a.type) FROM Artist a")
+    Stream<NameRow> streamNames();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.DescriptionRow(a.artistId, a.artistName, a.description) "
+            + "FROM Artist a WHERE a.description IS NOT NULL")
+    Stream<DescriptionRow> streamDescriptions();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.FacetRow(a.artistId, a.artistName, a.type, a.originCountry, "
+            + "a.primaryLanguage, a.genre, g.groupGender, g.activityStatus, g.formationDate, s.gender, s.debutDate) "
+            + "FROM Artist a LEFT JOIN Groups g ON g.artistId = a.artistId LEFT JOIN Solo s ON s.artistId = a.artistId")
+    Stream<FacetRow> streamFacets();
+
+    String STAMP_SELECT = "SELECT new musicopedia.repository.projection.VersionStamp("
+            + "COUNT(a), SUM(a.version), MAX(a.updatedAt)) "
+            + "FROM Artist a ";
+
+    @Query(STAMP_SELECT)
+    VersionStamp findStamp();
+
+    @Query(STAMP_SELECT + "WHERE a.type = :type")
+    VersionStamp findStampByType(@Param("type") ArtistType type);
+
+    @Query(STAMP_SELECT + "WHERE a.artistId = :id")
+    VersionStamp findStampById(@Param("id") UUID id);
+
+    @Query(STAMP_SELECT + "WHERE a.artistId = :id AND a.type = :type")
+    VersionStamp findStampByIdAndType(@Param("id") UUID id, @Param("type") ArtistType type);
+
+    @Query(STAMP_SELECT + "WHERE a.spotifyId = :spotifyId")
+    VersionStamp findStampBySpotifyId(@Param("spotifyId") String spotifyId);
+
+    @Query(STAMP_SELECT + "WHERE a.artistId IN (SELECT s.artistId FROM Solo s WHERE s.member.memberId = :memberId)")
+    VersionStamp findStampBySoloMemberId(@Param("memberId") UUID memberId);
+
+    @Query(STAMP_SELECT + "WHERE a.artistId IN (SELECT s.mainGroup.artistId FROM Subunit s WHERE s.subunitId = :subunitId) "
+            + "OR a.artistId IN (SELECT s.groupSubunit.artistId FROM Subunit s WHERE s.subunitId = :subunitId)")
+    VersionStamp findStampBySubunitId(@Param("subunitId") UUID subunitId);
+}
@@ -0,0 +1,27 @@
+package musicopedia.repository;
+
+import jakarta.persistence.QueryHint;
+import musicopedia.model.tag.GenreTag;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GenreTagRepository extends JpaRepository<GenreTag, Integer> {
+
+    List<GenreTag> findByNameIn(Collection<String> names);
+
+    // The name is the only unique column besides the generated id, so no conflict target is needed.
+    // Naming the table keeps Hibernate from evicting every second-level cache region on each insert.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "genre_tags"))
+    @Query(value = "INSERT INTO genre_tags (name) VALUES (:name) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
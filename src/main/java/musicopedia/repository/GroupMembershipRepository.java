@@ -1,18 +1,26 @@
 package musicopedia.repository;
 
+import jakarta.persistence.QueryHint;
+import musicopedia.export.StreamingQueries;
 import musicopedia.model.Artist;
 import musicopedia.model.Member;
 import musicopedia.model.enums.MembershipStatus;
 import musicopedia.model.membership.GroupMembership;
 import musicopedia.model.membership.GroupMembershipId;
+import musicopedia.repository.projection.IdCount;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface GroupMembershipRepository extends JpaRepository<GroupMembership, GroupMembershipId> {
@@ -65,4 +73,47 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
 
     @Query("SELECT m FROM GroupMembership m WHERE m.id.memberId = :memberId")
     List<GroupMembership> findGroupsForMember(@Param("memberId") UUID memberId);
+
+    @Query("SELECT m FROM GroupMembership m WHERE m.id.groupId = :groupId ORDER BY m.id.memberId")
+    Slice<GroupMembership> findFirstPageByGroupId(@Param("groupId") UUID groupId, Pageable pageable);
+
+    @Query("SELECT m FROM GroupMembership m WHERE m.id.groupId = :groupId AND m.id.memberId > :memberId "
+            + "ORDER BY m.id.memberId")
+    Slice<GroupMembership> findPageByGroupIdAfter(
+            @Param("groupId") UUID groupId,
+            @Param("memberId") UUID memberId,
+            Pageable pageable);
+
+    @Query("SELECT m FROM GroupMembership m WHERE m.id.memberId = :memberId ORDER BY m.id.groupId")
+    Slice<GroupMembership> findFirstPageByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
+
+    @Query("SELECT m FROM GroupMembership m WHERE m.id.memberId = :memberId AND m.id.groupId > :groupId "
+            + "ORDER BY m.id.groupId")
+    Slice<GroupMembership> findPageByMemberIdAfter(
+            @Param("memberId") UUID memberId,
+            @Param("groupId") UUID groupId,
+            Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM GroupMembership m ORDER BY m.id.groupId, m.id.memberId")
+    Stream<GroupMembership> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.IdCount(m.id.groupId, COUNT(m)) "
+            + "FROM GroupMembership m GROUP BY m.id.groupId")
+    Stream<IdCount> streamMemberCountsByGroup();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.IdCount(m.id.memberId, COUNT(m)) "
+            + "FROM GroupMembership m GROUP BY m.id.memberId")
+    Stream<IdCount> streamGroupCountsByMember();
 }
@@ -1,12 +1,18 @@
 package musicopedia.repository;
 
 import musicopedia.model.Artist;
+import musicopedia.model.Groups;
+import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.VersionStamp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,7 +21,7 @@ public interface GroupRepository extends JpaRepository<Artist, UUID> {
     
     List<Artist> findByType(ArtistType type);
     
-    @Query("SELECT a FROM Artist a WHERE a.type = :type AND LOWER(a.genre) LIKE LOWER(CONCAT('%', :genre, '%'))")
+    @Query("SELECT a FROM Artist a WHERE a.type = :type AND a.artistId IN (" + ArtistGenreTagRepository.TAGGED_ARTIST_IDS + ")")
     List<Artist> findGroupsByGenre(@Param("type") ArtistType type, @Param("genre") String genre);
     
     @Query("SELECT a FROM Artist a WHERE a.type = :type AND a.originCountry = :countryCode")
@@ -24,7 +30,7 @@ public interface GroupRepository extends JpaRepository<Artist, UUID> {
     @Query("SELECT a FROM Artist a WHERE a.type = :type AND LOWER(a.artistName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Artist> findGroupsByNameContaining(@Param("type") ArtistType type, @Param("name") String name);
     
-    @Query("SELECT COUNT(a) FROM Artist a WHERE a.type = :type AND LOWER(a.primaryLanguage) = LOWER(:language)")
+    @Query("SELECT COUNT(a) FROM Artist a WHERE a.type = :type AND a.primaryLanguageKey = LOWER(:language)")
     long countGroupsByLanguage(@Param("type") ArtistType type, @Param("language") String language);
 
     @Query("SELECT a FROM Artist a JOIN Groups g ON a.artistId = g.artistId WHERE a.type = :type AND g.formationDate = :formationDate")
@@ -32,4 +38,42 @@ public interface GroupRepository extends JpaRepository<Artist, UUID> {
 
     @Query("SELECT a FROM Artist a JOIN Groups g ON a.artistId = g.artistId WHERE a.type = :type AND g.disbandDate = :disbandDate")
     List<Artist> findGroupsByDisbandDate(@Param("type") ArtistType type, @Param("disbandDate") String disbandDate);
+
+    @Query("SELECT g FROM Groups g JOIN FETCH g.artist a WHERE a.type = :type AND g.formationDate BETWEEN :startDate AND :endDate")
+    List<Groups> findGroupsByFormationDateBetween(
+            @Param("type") ArtistType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT g FROM Groups g JOIN FETCH g.artist a WHERE a.type = :type AND g.disbandDate IS NULL")
+    List<Groups> findActiveGroups(@Param("type") ArtistType type);
+
+    @Query("SELECT g FROM Groups g JOIN FETCH g.artist a WHERE a.type = :type AND g.disbandDate IS NOT NULL")
+    List<Groups> findDisbandedGroups(@Param("type") ArtistType type);
+
+    @Query("SELECT g FROM Groups g JOIN FETCH g.artist a WHERE a.type = :type AND g.groupGender = :gender")
+    List<Groups> findGroupsByGender(@Param("type") ArtistType type, @Param("gender") ArtistGender gender);
+
+    @Query("SELECT a FROM Artist a WHERE a.type = :type ORDER BY a.artistName, a.artistId")
+    Slice<Artist> findFirstGroupPage(@Param("type") ArtistType type, Pageable pageable);
+
+    @Query("SELECT a FROM Artist a WHERE a.type = :type "
+            + "AND (a.artistName > :name OR (a.artistName = :name AND a.artistId > :id)) "
+            + "ORDER BY a.artistName, a.artistId")
+    Slice<Artist> findGroupPageAfter(
+            @Param("type") ArtistType type,
+            @Param("name") String name,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    // Over the groups rows rather than their artists, for responses built from formation and disband dates
+    String STAMP_SELECT = "SELECT new musicopedia.repository.projection.VersionStamp("
+            + "COUNT(g), SUM(g.version), MAX(g.updatedAt)) "
+            + "FROM Groups g ";
+
+    @Query(STAMP_SELECT)
+    VersionStamp findGroupsStamp();
+
+    @Query(STAMP_SELECT + "WHERE g.artistId = :id")
+    VersionStamp findGroupsStampById(@Param("id") UUID id);
 }
@@ -1,17 +1,41 @@
 package musicopedia.repository;
 
+import jakarta.persistence.QueryHint;
+import musicopedia.export.StreamingQueries;
 import musicopedia.model.Member;
+import musicopedia.repository.projection.DescriptionRow;
+import musicopedia.repository.projection.MemberSummary;
+import musicopedia.repository.projection.NameRow;
+import musicopedia.repository.projection.VersionStamp;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, UUID> {
+
+    @Override
+    @EntityGraph(Member.WITH_SOLO_ARTISTS)
+    List<Member> findAll();
+
+    @Override
+    @EntityGraph(Member.WITH_SOLO_ARTISTS)
+    Optional<Member> findById(UUID memberId);
     
+    @EntityGraph(Member.WITH_SOLO_ARTISTS)
     List<Member> findByMemberNameContainingIgnoreCase(String memberName);
     
     Optional<Member> findByMemberName(String memberName);
@@ -24,7 +48,85 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     
     boolean existsByMemberName(String memberName);
 
+    @EntityGraph(Member.WITH_SOLO_ARTISTS)
     List<Member> findByRealNameContainingIgnoreCase(String realName);
 
+    @EntityGraph(Member.WITH_SOLO_ARTISTS)
     List<Member> findByNationality(String nationality);
+
+    @EntityGraph(Member.WITH_SOLO_ARTISTS)
+    List<Member> findByMemberIdIn(Collection<UUID> memberIds);
+
+    Slice<Member> findAllByOrderByMemberNameAscMemberIdAsc(Pageable pageable);
+
+    @Query("SELECT m FROM Member m WHERE m.memberName > :name OR (m.memberName = :name AND m.memberId > :id) "
+            + "ORDER BY m.memberName, m.memberId")
+    Slice<Member> findPageAfter(@Param("name") String name, @Param("id") UUID id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Member m ORDER BY m.memberId")
+    Stream<Member> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.NameRow(m.memberId, m.memberName, m.realName) FROM Member m")
+    Stream<NameRow> streamNames();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.DescriptionRow(m.memberId, m.memberName, m.description) "
+            + "FROM Member m WHERE m.description IS NOT NULL")
+    Stream<DescriptionRow> streamDescriptions();
+
+    String SUMMARY_SELECT = "SELECT new musicopedia.repository.projection.MemberSummary("
+            + "m.memberId, m.memberName, m.realName, m.image, "
+            + "(SELECT MIN(a.artistName) FROM Solo s JOIN s.artist a WHERE s.member = m)) "
+            + "FROM Member m ";
+
+    @Query(SUMMARY_SELECT)
+    List<MemberSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE LOWER(m.memberName) LIKE LOWER(CONCAT('%', :name, '%'))")
+    List<MemberSummary> findSummariesByMemberNameContaining(@Param("name") String name);
+
+    @Query(SUMMARY_SELECT + "WHERE LOWER(m.realName) LIKE LOWER(CONCAT('%', :realName, '%'))")
+    List<MemberSummary> findSummariesByRealNameContaining(@Param("realName") String realName);
+
+    @Query(SUMMARY_SELECT + "WHERE m.memberId IN :ids")
+    List<MemberSummary> findSummariesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE m.birthDate BETWEEN :startDate AND :endDate")
+    List<MemberSummary> findSummariesByBirthDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query(SUMMARY_SELECT + "WHERE m.nationality = :nationality")
+    List<MemberSummary> findSummariesByNationality(@Param("nationality") String nationality);
+
+    @Query(SUMMARY_SELECT + "WHERE EXISTS (SELECT 1 FROM Solo s WHERE s.member = m)")
+    List<MemberSummary> findSummariesWithSoloIdentities();
+
+    @Query(SUMMARY_SELECT + "ORDER BY m.memberName, m.memberId")
+    Slice<MemberSummary> findFirstSummaryPage(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE m.memberName > :name OR (m.memberName = :name AND m.memberId > :id) "
+            + "ORDER BY m.memberName, m.memberId")
+    Slice<MemberSummary> findSummaryPageAfter(@Param("name") String name, @Param("id") UUID id, Pageable pageable);
+
+    String STAMP_SELECT = "SELECT new musicopedia.repository.projection.VersionStamp("
+            + "COUNT(m), SUM(m.version), MAX(m.updatedAt)) "
+            + "FROM Member m ";
+
+    @Query(STAMP_SELECT)
+    VersionStamp findStamp();
+
+    @Query(STAMP_SELECT + "WHERE m.memberId = :id")
+    VersionStamp findStampById(@Param("id") UUID id);
 }
@@ -1,22 +1,33 @@
 package musicopedia.repository;
 
+import jakarta.persistence.QueryHint;
+import musicopedia.export.StreamingQueries;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.NameRow;
+import musicopedia.repository.projection.VersionStamp;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface SoloRepository extends JpaRepository<Solo, UUID> {
+public interface SoloRepository extends JpaRepository<Solo, UUID>, JpaSpecificationExecutor<Solo> {
     
     List<Solo> findByArtist_Type(ArtistType type);
     
-    @Query("SELECT s FROM Solo s WHERE s.artist.type = :type AND LOWER(s.artist.genre) LIKE LOWER(CONCAT('%', :genre, '%'))")
+    @Query("SELECT s FROM Solo s WHERE s.artist.type = :type AND s.artistId IN (" + ArtistGenreTagRepository.TAGGED_ARTIST_IDS + ")")
     List<Solo> findSoloArtistsByGenre(@Param("type") ArtistType type, @Param("genre") String genre);
     
     @Query("SELECT s FROM Solo s WHERE s.artist.type = :type AND s.artist.originCountry = :countryCode")
@@ -25,7 +36,7 @@ public interface SoloRepository extends JpaRepository<Solo, UUID> {
     @Query("SELECT s FROM Solo s WHERE s.artist.type = :type AND LOWER(s.artist.artistName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Solo> findSoloArtistsByNameContaining(@Param("type") ArtistType type, @Param("name") String name);
     
-    @Query("SELECT COUNT(s) FROM Solo s WHERE s.artist.type = :type AND LOWER(s.artist.primaryLanguage) = LOWER(:language)")
+    @Query("SELECT COUNT(s) FROM Solo s WHERE s.artist.type = :type AND s.artist.primaryLanguageKey = LOWER(:language)")
     long countSoloArtistsByLanguage(@Param("type") ArtistType type, @Param("language") String language);
 
     @Query("SELECT s FROM Solo s WHERE s.birthDate = :birthDate")
@@ -40,12 +51,43 @@ public interface SoloRepository extends JpaRepository<Solo, UUID> {
     @Query("SELECT s FROM Solo s WHERE s.deathDate IS NOT NULL AND s.deathDate <= CURRENT_DATE")
     List<Solo> findDeceasedArtists();
 
-    @Query("SELECT s FROM Solo s WHERE LOWER(s.realName) LIKE LOWER(CONCAT('%', :realName, '%'))")
+    @Query("SELECT s FROM Solo s JOIN FETCH s.artist WHERE LOWER(s.realName) LIKE LOWER(CONCAT('%', :realName, '%'))")
     List<Solo> findBySoloRealNameContaining(@Param("realName") String realName);
 
+    @Query("SELECT s FROM Solo s JOIN FETCH s.artist WHERE s.artistId IN :ids")
+    List<Solo> findWithArtistByIds(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.NameRow(s.artistId, s.realName) FROM Solo s WHERE s.realName IS NOT NULL")
+    Stream<NameRow> streamRealNames();
+
     @Query("SELECT s FROM Solo s WHERE s.debutDate = :debutDate")
     List<Solo> findByDebutDate(@Param("debutDate") LocalDate debutDate);
 
     @Query("SELECT s FROM Solo s WHERE s.debutDate BETWEEN :startDate AND :endDate")
     List<Solo> findByDebutDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT s FROM Solo s JOIN FETCH s.artist a ORDER BY a.artistName, s.artistId")
+    Slice<Solo> findFirstPage(Pageable pageable);
+
+    @Query("SELECT s FROM Solo s JOIN FETCH s.artist a "
+            + "WHERE a.artistName > :name OR (a.artistName = :name AND s.artistId > :id) "
+            + "ORDER BY a.artistName, s.artistId")
+    Slice<Solo> findPageAfter(@Param("name") String name, @Param("id") UUID id, Pageable pageable);
+
+    String STAMP_SELECT = "SELECT new musicopedia.repository.projection.VersionStamp("
+            + "COUNT(s), SUM(s.version), MAX(s.updatedAt)) "
+            + "FROM Solo s ";
+
+    @Query(STAMP_SELECT)
+    VersionStamp findStamp();
+
+    @Query(STAMP_SELECT + "WHERE s.artistId = :id")
+    VersionStamp findStampById(@Param("id") UUID id);
+
+    @Query(STAMP_SELECT + "WHERE s.member.memberId = :memberId")
+    VersionStamp findStampByMemberId(@Param("memberId") UUID memberId);
 }
@@ -1,10 +1,20 @@
 package musicopedia.repository;
 
+import jakarta.persistence.QueryHint;
+import musicopedia.export.StreamingQueries;
 import musicopedia.model.membership.SubunitMembership;
+import musicopedia.repository.projection.IdCount;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface SubunitMembershipRepository extends JpaRepository<SubunitMembership, SubunitMembership.SubunitMembershipId> {
@@ -13,4 +23,39 @@ public interface SubunitMembershipRepository extends JpaRepository<SubunitMember
     void deleteBySubunit_SubunitId(UUID subunitId);
     void deleteByMember_MemberId(UUID memberId);
     boolean existsBySubunit_SubunitIdAndMember_MemberId(UUID subunitId, UUID memberId);
+
+    @Query("SELECT s FROM SubunitMembership s WHERE s.id.subunitId = :subunitId ORDER BY s.id.memberId")
+    Slice<SubunitMembership> findFirstPageBySubunitId(@Param("subunitId") UUID subunitId, Pageable pageable);
+
+    @Query("SELECT s FROM SubunitMembership s WHERE s.id.subunitId = :subunitId AND s.id.memberId > :memberId "
+            + "ORDER BY s.id.memberId")
+    Slice<SubunitMembership> findPageBySubunitIdAfter(
+            @Param("subunitId") UUID subunitId,
+            @Param("memberId") UUID memberId,
+            Pageable pageable);
+
+    @Query("SELECT s FROM SubunitMembership s WHERE s.id.memberId = :memberId ORDER BY s.id.subunitId")
+    Slice<SubunitMembership> findFirstPageByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
+
+    @Query("SELECT s FROM SubunitMembership s WHERE s.id.memberId = :memberId AND s.id.subunitId > :subunitId "
+            + "ORDER BY s.id.subunitId")
+    Slice<SubunitMembership> findPageByMemberIdAfter(
+            @Param("memberId") UUID memberId,
+            @Param("subunitId") UUID subunitId,
+            Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT sm FROM SubunitMembership sm ORDER BY sm.id.subunitId, sm.id.memberId")
+    Stream<SubunitMembership> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.IdCount(sm.id.subunitId, COUNT(sm)) "
+            + "FROM SubunitMembership sm GROUP BY sm.id.subunitId")
+    Stream<IdCount> streamMemberCountsBySubunit();
 }
@@ -1,11 +1,76 @@
 package musicopedia.repository;
 
+import jakarta.persistence.QueryHint;
+import musicopedia.export.StreamingQueries;
 import musicopedia.model.Subunit;
+import musicopedia.repository.projection.DescriptionRow;
+import musicopedia.repository.projection.NameRow;
+import musicopedia.repository.projection.VersionStamp;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface SubunitRepository extends JpaRepository<Subunit, UUID> {
-    // Custom queries can be added here
+
+    @Override
+    @EntityGraph(Subunit.WITH_GROUPS)
+    List<Subunit> findAll();
+
+    @Override
+    @EntityGraph(Subunit.WITH_GROUPS)
+    Optional<Subunit> findById(UUID subunitId);
+
+    @EntityGraph(Subunit.WITH_GROUPS)
+    Slice<Subunit> findAllByOrderBySubunitNameAscSubunitIdAsc(Pageable pageable);
+
+    @EntityGraph(Subunit.WITH_GROUPS)
+    @Query("SELECT s FROM Subunit s WHERE s.subunitName > :name OR (s.subunitName = :name AND s.subunitId > :id) "
+            + "ORDER BY s.subunitName, s.subunitId")
+    Slice<Subunit> findPageAfter(@Param("name") String name, @Param("id") UUID id, Pageable pageable);
+
+    String NAME_SELECT = "SELECT new musicopedia.repository.projection.NameRow(s.subunitId, s.subunitName) "
+            + "FROM Subunit s ";
+
+    @Query(NAME_SELECT + "WHERE LOWER(s.subunitName) LIKE LOWER(CONCAT('%', :name, '%'))")
+    List<NameRow> findNamesBySubunitNameContaining(@Param("name") String name);
+
+    @Query(NAME_SELECT + "WHERE s.subunitId IN :ids")
+    List<NameRow> findNamesByIds(@Param("ids") Collection<UUID> ids);
+
+    String STAMP_SELECT = "SELECT new musicopedia.repository.projection.VersionStamp("
+            + "COUNT(s), SUM(s.version), MAX(s.updatedAt)) "
+            + "FROM Subunit s ";
+
+    @Query(STAMP_SELECT)
+    VersionStamp findStamp();
+
+    @Query(STAMP_SELECT + "WHERE s.subunitId = :id")
+    VersionStamp findStampById(@Param("id") UUID id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.NameRow(s.subunitId, s.subunitName) FROM Subunit s")
+    Stream<NameRow> streamNames();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new musicopedia.repository.projection.DescriptionRow(s.subunitId, s.subunitName, s.description) "
+            + "FROM Subunit s WHERE s.description IS NOT NULL")
+    Stream<DescriptionRow> streamDescriptions();
 }
@@ -0,0 +1,34 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import musicopedia.model.enums.ArtistType;
+
+import java.util.UUID;
+
+/**
+ * The columns an artist list view needs, selected with a JPQL constructor
+ * expression so the TEXT description is never read.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class ArtistSummary {
+
+    private final UUID artistId;
+    private final String artistName;
+    private final ArtistType type;
+    private final String image;
+    private final String genre;
+    private final String originCountry;
+
+    public ArtistSummary(UUID artistId, String artistName, ArtistType type, String image, String genre, String originCountry) {
+        this.artistId = artistId;
+        this.artistName = artistName;
+        this.type = type;
+        this.image = image;
+        this.genre = genre;
+        this.originCountry = originCountry;
+    }
+}
@@ -0,0 +1,24 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/** Id, display name and description streamed to build the full-text description index. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class DescriptionRow {
+
+    private final UUID id;
+    private final String name;
+    private final String description;
+
+    public DescriptionRow(UUID id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+}
@@ -0,0 +1,50 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import musicopedia.model.enums.ArtistGender;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.model.enums.GroupActivityStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * An artist's facet columns, with those of its group or soloist row, streamed
+ * to build the facet index. The group and soloist columns are null when the
+ * artist has no such row.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class FacetRow {
+
+    private final UUID artistId;
+    private final String artistName;
+    private final ArtistType type;
+    private final String originCountry;
+    private final String primaryLanguage;
+    private final String genre;
+    private final ArtistGender groupGender;
+    private final GroupActivityStatus activityStatus;
+    private final LocalDate formationDate;
+    private final ArtistGender soloGender;
+    private final LocalDate debutDate;
+
+    public FacetRow(UUID artistId, String artistName, ArtistType type, String originCountry, String primaryLanguage,
+                    String genre, ArtistGender groupGender, GroupActivityStatus activityStatus, LocalDate formationDate,
+                    ArtistGender soloGender, LocalDate debutDate) {
+        this.artistId = artistId;
+        this.artistName = artistName;
+        this.type = type;
+        this.originCountry = originCountry;
+        this.primaryLanguage = primaryLanguage;
+        this.genre = genre;
+        this.groupGender = groupGender;
+        this.activityStatus = activityStatus;
+        this.formationDate = formationDate;
+        this.soloGender = soloGender;
+        this.debutDate = debutDate;
+    }
+}
@@ -0,0 +1,22 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/** An artist's free-form genre column, read to parse it into genre tags. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class GenreRow {
+
+    private final UUID artistId;
+    private final String genre;
+
+    public GenreRow(UUID artistId, String genre) {
+        this.artistId = artistId;
+        this.genre = genre;
+    }
+}
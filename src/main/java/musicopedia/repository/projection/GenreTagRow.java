@@ -0,0 +1,24 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/** One artist-to-tag link with the artist's name, streamed to build the genre index. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class GenreTagRow {
+
+    private final UUID artistId;
+    private final String artistName;
+    private final int tagId;
+
+    public GenreTagRow(UUID artistId, String artistName, Integer tagId) {
+        this.artistId = artistId;
+        this.artistName = artistName;
+        this.tagId = tagId;
+    }
+}
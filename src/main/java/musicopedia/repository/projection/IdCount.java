@@ -0,0 +1,22 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/** One row of a per-id {@code COUNT(...) GROUP BY}, such as the members of each group. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class IdCount {
+
+    private final UUID id;
+    private final long count;
+
+    public IdCount(UUID id, Long count) {
+        this.id = id;
+        this.count = count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,32 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * The columns a member list view needs, selected with a JPQL constructor
+ * expression so the TEXT description is never read.
+ * {@code soloArtistName} is null when the member has no solo identity.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class MemberSummary {
+
+    private final UUID memberId;
+    private final String memberName;
+    private final String realName;
+    private final String image;
+    private final String soloArtistName;
+
+    public MemberSummary(UUID memberId, String memberName, String realName, String image, String soloArtistName) {
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.realName = realName;
+        this.image = image;
+        this.soloArtistName = soloArtistName;
+    }
+}
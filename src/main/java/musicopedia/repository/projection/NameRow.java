@@ -0,0 +1,44 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import musicopedia.model.enums.ArtistType;
+
+import java.util.UUID;
+
+/**
+ * Id and name columns streamed to build the in-memory search indexes. Which
+ * of the optional fields are set depends on the query that selects it.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class NameRow {
+
+    private final UUID id;
+    private final String name;
+    // Member real name
+    private final String realName;
+    // Artist type
+    private final ArtistType type;
+
+    public NameRow(UUID id, String name) {
+        this(id, name, null, null);
+    }
+
+    public NameRow(UUID id, String name, ArtistType type) {
+        this(id, name, null, type);
+    }
+
+    public NameRow(UUID id, String name, String realName) {
+        this(id, name, realName, null);
+    }
+
+    private NameRow(UUID id, String name, String realName, ArtistType type) {
+        this.id = id;
+        this.name = name;
+        this.realName = realName;
+        this.type = type;
+    }
+}
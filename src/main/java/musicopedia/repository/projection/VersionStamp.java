@@ -0,0 +1,44 @@
+package musicopedia.repository.projection;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Row count, summed @Version and latest updatedAt over the rows a response is
+ * built from, selected as one aggregate so nothing but those columns is read.
+ * Any insert or update moves the version sum or the timestamp and any delete
+ * lowers the count, so the triple changes whenever the response would.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class VersionStamp {
+
+    public static final VersionStamp EMPTY = new VersionStamp(0L, 0L, null);
+
+    private final long rows;
+    private final long versionSum;
+    private final Instant lastModified;
+
+    // SUM and MAX are null over an empty set
+    public VersionStamp(Long rows, Long versionSum, Instant lastModified) {
+        this.rows = rows == null ? 0 : rows;
+        this.versionSum = versionSum == null ? 0 : versionSum;
+        this.lastModified = lastModified;
+    }
+
+    public boolean isEmpty() {
+        return rows == 0;
+    }
+
+    /** Stamp over the union of both row sets, for responses that read more than one table. */
+    public VersionStamp and(VersionStamp other) {
+        Instant latest = lastModified == null || (other.lastModified != null && other.lastModified.isAfter(lastModified))
+                ? other.lastModified
+                : lastModified;
+        return new VersionStamp(rows + other.rows, versionSum + other.versionSum, latest);
+    }
+}
@@ -0,0 +1,105 @@
+package musicopedia.repository.specification;
+
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import musicopedia.model.Artist;
+import musicopedia.model.Groups;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.model.tag.ArtistGenreTag;
+import musicopedia.model.tag.GenreTag;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Composable query predicates for {@link Artist} search.
+ * Any combination of these is translated into a single statement,
+ * with type, country, language and genre tags backed by declared indexes.
+ */
+public final class ArtistSpecifications {
+
+    private static final String ARTIST_ID = "artistId";
+    private static final String ARTIST_NAME = "artistName";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String TAG = "tag";
+    private static final String NAME = "name";
+    private static final String ORIGIN_COUNTRY = "originCountry";
+    private static final String PRIMARY_LANGUAGE_KEY = "primaryLanguageKey";
+    private static final String FORMATION_DATE = "formationDate";
+
+    private ArtistSpecifications() {
+    }
+
+    public static Specification<Artist> hasType(ArtistType type) {
+        return (root, query, cb) -> cb.equal(root.get(TYPE), type);
+    }
+
+    /**
+     * Case-insensitive substring match on the artist name.
+     */
+    public static Specification<Artist> nameContains(String name) {
+        return (root, query, cb) -> cb.like(
+                cb.lower(root.get(ARTIST_NAME)),
+                "%" + SoloSpecifications.escapeLike(name.toLowerCase()) + "%",
+                '\\');
+    }
+
+    /**
+     * Artists tagged with exactly this genre, compared as a {@link GenreTag}
+     * name, so "rock" does not match "pop rock". Evaluated as an IN over the
+     * tag join table's index.
+     */
+    public static Specification<Artist> hasGenreTag(String genre) {
+        return (root, query, cb) -> {
+            Subquery<UUID> tagged = query.subquery(UUID.class);
+            Root<ArtistGenreTag> link = tagged.from(ArtistGenreTag.class);
+            tagged.select(link.get(ID).get(ARTIST_ID))
+                    .where(cb.equal(link.get(TAG).get(NAME), GenreTag.normalize(genre)));
+            return root.get(ARTIST_ID).in(tagged);
+        };
+    }
+
+    /**
+     * Exact match on the stored ISO code, case included; wrapping the column
+     * in a function would keep {@code idx_artists_origin_country} from being
+     * used.
+     */
+    public static Specification<Artist> hasOriginCountry(String countryCode) {
+        return (root, query, cb) -> cb.equal(root.get(ORIGIN_COUNTRY), countryCode);
+    }
+
+    /**
+     * Case-insensitive match, like the other language queries. Compares the
+     * lower-cased copy of the column kept on write, so
+     * {@code idx_artists_primary_language_key} can serve it.
+     */
+    public static Specification<Artist> hasPrimaryLanguage(String language) {
+        return (root, query, cb) -> cb.equal(root.get(PRIMARY_LANGUAGE_KEY), Artist.languageKey(language));
+    }
+
+    /**
+     * Artists with a group row formed within the given range. Either bound
+     * may be null for an open range. Evaluated as a correlated EXISTS so the
+     * group row is never loaded.
+     */
+    public static Specification<Artist> formedBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            Subquery<UUID> groups = query.subquery(UUID.class);
+            Root<Groups> group = groups.from(Groups.class);
+            Predicate sameArtist = cb.equal(group.get(ARTIST_ID), root.get(ARTIST_ID));
+            Predicate range;
+            if (from != null && to != null) {
+                range = cb.between(group.get(FORMATION_DATE), from, to);
+            } else if (from != null) {
+                range = cb.greaterThanOrEqualTo(group.get(FORMATION_DATE), from);
+            } else {
+                range = cb.lessThanOrEqualTo(group.get(FORMATION_DATE), to);
+            }
+            groups.select(group.get(ARTIST_ID)).where(sameArtist, range);
+            return cb.exists(groups);
+        };
+    }
+}
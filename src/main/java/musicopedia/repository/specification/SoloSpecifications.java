@@ -0,0 +1,93 @@
+package musicopedia.repository.specification;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import musicopedia.model.Artist;
+import musicopedia.model.Solo;
+import musicopedia.model.enums.ArtistGender;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Composable query predicates for {@link Solo} lookups.
+ * Each specification maps to a single indexed column on the solo table,
+ * so combinations are evaluated by the database instead of in memory.
+ */
+public final class SoloSpecifications {
+
+    private static final String ARTIST = "artist";
+    private static final String BIRTH_DATE = "birthDate";
+    private static final String DEATH_DATE = "deathDate";
+    private static final String DEBUT_DATE = "debutDate";
+    private static final String GENDER = "gender";
+
+    private SoloSpecifications() {
+    }
+
+    /**
+     * Fetches the associated artist in the same statement so that results
+     * are not followed by one lazy load per row. Skipped for count queries.
+     */
+    public static Specification<Solo> fetchArtist() {
+        return (root, query, cb) -> {
+            if (query != null && !isCountQuery(query.getResultType())) {
+                root.fetch(ARTIST, JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Solo> birthDateBetween(LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> cb.between(root.get(BIRTH_DATE), startDate, endDate);
+    }
+
+    public static Specification<Solo> debutDateBetween(LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> cb.between(root.get(DEBUT_DATE), startDate, endDate);
+    }
+
+    public static Specification<Solo> hasGender(ArtistGender gender) {
+        return (root, query, cb) -> cb.equal(root.get(GENDER), gender);
+    }
+
+    public static Specification<Solo> isAlive() {
+        return (root, query, cb) -> cb.isNull(root.get(DEATH_DATE));
+    }
+
+    public static Specification<Solo> isDeceased() {
+        return (root, query, cb) -> cb.isNotNull(root.get(DEATH_DATE));
+    }
+
+    /**
+     * Case-sensitive substring match on the artist name.
+     * The artist is fetched by the same join, so do not combine this
+     * with {@link #fetchArtist()}.
+     */
+    public static Specification<Solo> artistNameContains(String name) {
+        return (root, query, cb) -> cb.like(
+                artistJoin(root, query).get("artistName"),
+                "%" + escapeLike(name) + "%",
+                '\\');
+    }
+
+    static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Join<Solo, Artist> artistJoin(Root<Solo> root, CriteriaQuery<?> query) {
+        if (query != null && !isCountQuery(query.getResultType())) {
+            return (Join<Solo, Artist>) root.fetch(ARTIST, JoinType.INNER);
+        }
+        return root.join(ARTIST, JoinType.INNER);
+    }
+
+    private static boolean isCountQuery(Class<?> resultType) {
+        return Long.class.equals(resultType) || long.class.equals(resultType);
+    }
+}
@@ -0,0 +1,63 @@
+package musicopedia.search;
+
+import musicopedia.model.tag.GenreTag;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Attributes artists can be browsed and counted by, with the request
+ * parameter each is filtered by and how its values are spelled in the index.
+ */
+public enum ArtistFacet {
+    TYPE("type"),
+    ORIGIN_COUNTRY("originCountry"),
+    PRIMARY_LANGUAGE("primaryLanguage"),
+    GENRE("genre"),
+    GENDER("gender"),
+    ACTIVITY_STATUS("activityStatus"),
+    FORMATION_DECADE("decade");
+
+    private final String param;
+
+    ArtistFacet(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * The indexed spelling of {@code value}: enum names and country codes in
+     * upper case, languages in lower case, genres as {@link GenreTag} names
+     * and decades as "2010s".
+     * Null if the value is blank or, for a decade, not a year.
+     */
+    public String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return switch (this) {
+            case TYPE, ORIGIN_COUNTRY, GENDER, ACTIVITY_STATUS -> trimmed.toUpperCase(Locale.ROOT);
+            case PRIMARY_LANGUAGE -> trimmed.toLowerCase(Locale.ROOT);
+            case GENRE -> GenreTag.normalize(trimmed);
+            case FORMATION_DECADE -> decade(trimmed);
+        };
+    }
+
+    /** The decade {@code date} falls in, or null. */
+    static String decadeOf(LocalDate date) {
+        return date == null ? null : date.getYear() / 10 * 10 + "s";
+    }
+
+    private static String decade(String value) {
+        String digits = value.endsWith("s") ? value.substring(0, value.length() - 1) : value;
+        try {
+            return Integer.parseInt(digits) / 10 * 10 + "s";
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
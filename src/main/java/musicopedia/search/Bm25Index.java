@@ -0,0 +1,210 @@
+package musicopedia.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Inverted index scored with Okapi BM25. Each term maps to the documents
+ * containing it, sorted by document ordinal, with the term's frequency in
+ * each; a query walks the postings of its terms side by side, scores one
+ * document at a time and keeps the best {@code limit} in a bounded heap, so
+ * no score array the size of the collection is needed.
+ *
+ * Documents are replaced in place: their old terms are unposted and their
+ * ordinal reused. Not thread-safe; DescriptionIndex guards it with a
+ * read-write lock.
+ */
+final class Bm25Index {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private final Map<DocKey, Integer> ordinals = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Deque<Integer> free = new ArrayDeque<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private int count;
+    private long totalLength;
+
+    int size() {
+        return count;
+    }
+
+    /** Indexes {@code text} as the document of {@code type} and {@code id}, replacing any before; blank text removes it. */
+    void put(SuggestionType type, UUID id, String name, String text) {
+        DocKey key = new DocKey(type, id);
+        remove(key);
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        List<TextTokenizer.Token> tokens = TextTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        int ordinal = free.isEmpty() ? documents.size() : free.pop();
+        Document document = new Document(type, id, name, text, tokens.size());
+        if (ordinal == documents.size()) {
+            documents.add(document);
+        } else {
+            documents.set(ordinal, document);
+        }
+        ordinals.put(key, ordinal);
+        count++;
+        totalLength += tokens.size();
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokens.forEach(token -> frequencies.merge(token.term(), 1, Integer::sum));
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new Postings()).put(ordinal, frequency));
+    }
+
+    void remove(SuggestionType type, UUID id) {
+        remove(new DocKey(type, id));
+    }
+
+    /**
+     * The best {@code limit} documents for {@code query} among those whose
+     * type {@code include} accepts, highest score first.
+     */
+    List<Hit> search(String query, Predicate<SuggestionType> include, int limit) {
+        Set<String> terms = termsOf(query);
+        List<Postings> lists = new ArrayList<>();
+        List<Double> idfs = new ArrayList<>();
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                lists.add(list);
+                idfs.add(idf(list.size));
+            }
+        }
+        if (lists.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        double averageLength = (double) totalLength / count;
+        Comparator<Hit> worstFirst = Comparator.comparingDouble(Hit::score)
+                .thenComparing(hit -> hit.document().id(), Comparator.reverseOrder());
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, worstFirst);
+        int[] cursors = new int[lists.size()];
+        while (true) {
+            int ordinal = Integer.MAX_VALUE;
+            for (int t = 0; t < lists.size(); t++) {
+                if (cursors[t] < lists.get(t).size) {
+                    ordinal = Math.min(ordinal, lists.get(t).docs[cursors[t]]);
+                }
+            }
+            if (ordinal == Integer.MAX_VALUE) {
+                break;
+            }
+            Document document = documents.get(ordinal);
+            double score = 0;
+            for (int t = 0; t < lists.size(); t++) {
+                Postings list = lists.get(t);
+                if (cursors[t] < list.size && list.docs[cursors[t]] == ordinal) {
+                    double frequency = list.freqs[cursors[t]++];
+                    double norm = K1 * (1 - B + B * document.length() / averageLength);
+                    score += idfs.get(t) * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+            if (!include.test(document.type())) {
+                continue;
+            }
+            Hit hit = new Hit(document, score);
+            if (best.size() < limit) {
+                best.add(hit);
+            } else if (worstFirst.compare(hit, best.peek()) > 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(worstFirst.reversed());
+        return hits;
+    }
+
+    /** The distinct terms of {@code query}, in order. */
+    static Set<String> termsOf(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        TextTokenizer.tokenize(query).forEach(token -> terms.add(token.term()));
+        return terms;
+    }
+
+    // BM25's idf, kept positive for terms in more than half the documents
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (count - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void remove(DocKey key) {
+        Integer ordinal = ordinals.remove(key);
+        if (ordinal == null) {
+            return;
+        }
+        Document document = documents.get(ordinal);
+        for (TextTokenizer.Token token : TextTokenizer.tokenize(document.text())) {
+            Postings list = postings.get(token.term());
+            if (list != null && list.remove(ordinal) && list.size == 0) {
+                postings.remove(token.term());
+            }
+        }
+        documents.set(ordinal, null);
+        free.push(ordinal);
+        count--;
+        totalLength -= document.length();
+    }
+
+    private record DocKey(SuggestionType type, UUID id) {
+    }
+
+    /** An indexed description, with its length in terms. */
+    record Document(SuggestionType type, UUID id, String name, String text, int length) {
+    }
+
+    record Hit(Document document, double score) {
+    }
+
+    /** Document ordinals in ascending order and the term's frequency in each. */
+    private static final class Postings {
+
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int size;
+
+        void put(int doc, int freq) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at >= 0) {
+                freqs[at] = freq;
+                return;
+            }
+            at = -at - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            System.arraycopy(docs, at, docs, at + 1, size - at);
+            System.arraycopy(freqs, at, freqs, at + 1, size - at);
+            docs[at] = doc;
+            freqs[at] = freq;
+            size++;
+        }
+
+        boolean remove(int doc) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+            System.arraycopy(freqs, at + 1, freqs, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+}
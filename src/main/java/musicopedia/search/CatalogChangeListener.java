@@ -0,0 +1,39 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.model.Subunit;
+
+import java.util.UUID;
+
+/**
+ * Receives committed catalog writes through {@link SearchIndexer}. Entities
+ * arrive detached, so only their own columns may be read.
+ */
+public interface CatalogChangeListener {
+
+    default void artistSaved(Artist artist) {
+    }
+
+    default void artistDeleted(UUID artistId) {
+    }
+
+    default void memberSaved(Member member) {
+    }
+
+    default void memberDeleted(UUID memberId) {
+    }
+
+    default void soloSaved(Solo solo) {
+    }
+
+    default void soloDeleted(UUID soloId) {
+    }
+
+    default void subunitSaved(Subunit subunit) {
+    }
+
+    default void subunitDeleted(UUID subunitId) {
+    }
+}
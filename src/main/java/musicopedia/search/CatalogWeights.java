@@ -0,0 +1,49 @@
+package musicopedia.search;
+
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.repository.projection.IdCount;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Popularity weights for ranking search results. The catalog has no
+ * popularity figure of its own, so an entity weighs as much as it is
+ * connected: the members of a group or subunit, or the groups of a member.
+ * Entities without memberships weigh nothing. Each method streams one
+ * aggregate and must run inside a transaction.
+ */
+final class CatalogWeights {
+
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final SubunitMembershipRepository subunitMembershipRepository;
+
+    CatalogWeights(GroupMembershipRepository groupMembershipRepository,
+                   SubunitMembershipRepository subunitMembershipRepository) {
+        this.groupMembershipRepository = groupMembershipRepository;
+        this.subunitMembershipRepository = subunitMembershipRepository;
+    }
+
+    Map<UUID, Integer> artists() {
+        return collect(groupMembershipRepository.streamMemberCountsByGroup());
+    }
+
+    Map<UUID, Integer> members() {
+        return collect(groupMembershipRepository.streamGroupCountsByMember());
+    }
+
+    Map<UUID, Integer> subunits() {
+        return collect(subunitMembershipRepository.streamMemberCountsBySubunit());
+    }
+
+    private static Map<UUID, Integer> collect(Stream<IdCount> counts) {
+        Map<UUID, Integer> weights = new HashMap<>();
+        try (counts) {
+            counts.forEach(count -> weights.put(count.getId(), (int) Math.min(count.getCount(), Integer.MAX_VALUE)));
+        }
+        return weights;
+    }
+}
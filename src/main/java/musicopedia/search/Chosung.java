@@ -0,0 +1,107 @@
+package musicopedia.search;
+
+/**
+ * Hangul initial consonants (chosung). A name is reduced to its Hangul
+ * letters, syllables and lone consonants alike, and each syllable to the
+ * consonant it starts with: 방탄소년단 becomes ㅂㅌㅅㄴㄷ. Queries mix the
+ * two freely, so "방ㅌ" and "ㅂㅌ" both find 방탄소년단.
+ */
+final class Chosung {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 588;
+    private static final int FINALS_PER_MEDIAL = 28;
+    // Conjoining initials U+1100 to U+1112 come in the same order as INITIALS
+    private static final char CONJOINING_FIRST = 'ᄀ';
+    private static final char CONJOINING_LAST = 'ᄒ';
+
+    // Compatibility jamo, in the order syllables are numbered by
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private Chosung() {
+    }
+
+    /**
+     * Whether {@code query} is for this index: Hangul and spaces only, with
+     * at least one lone initial consonant that a name search could not match.
+     */
+    static boolean isQuery(String query) {
+        if (query == null) {
+            return false;
+        }
+        boolean hasInitial = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (isInitial(c)) {
+                hasInitial = true;
+            } else if (!isSyllable(c) && !Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasInitial;
+    }
+
+    /** The Hangul syllables and initial consonants of {@code text}, in order, with everything else dropped. */
+    static String hangulOf(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= CONJOINING_FIRST && c <= CONJOINING_LAST) {
+                out.append(INITIALS.charAt(c - CONJOINING_FIRST));
+            } else if (isSyllable(c) || isInitial(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /** {@code hangul} with every syllable replaced by its initial consonant. */
+    static String initialsOf(String hangul) {
+        char[] initials = new char[hangul.length()];
+        for (int i = 0; i < initials.length; i++) {
+            initials[i] = initialOf(hangul.charAt(i));
+        }
+        return new String(initials);
+    }
+
+    /**
+     * Whether {@code query}, whose initials are already known to occur in
+     * {@code hangul} at {@code at}, also matches there syllable by syllable.
+     * A lone consonant matches any syllable starting with it; a syllable
+     * matches itself, or, as the last one typed, any syllable that only adds
+     * a final consonant to it, since 탄 is typed as 타 first.
+     */
+    static boolean matchesAt(String hangul, int at, String query) {
+        int last = query.length() - 1;
+        for (int k = 0; k <= last; k++) {
+            char expected = query.charAt(k);
+            char actual = hangul.charAt(at + k);
+            if (isInitial(expected) || expected == actual) {
+                continue;
+            }
+            boolean typing = k == last && isSyllable(actual)
+                    && (expected - SYLLABLE_FIRST) % FINALS_PER_MEDIAL == 0
+                    && (expected - SYLLABLE_FIRST) / FINALS_PER_MEDIAL == (actual - SYLLABLE_FIRST) / FINALS_PER_MEDIAL;
+            if (!typing) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char initialOf(char c) {
+        return isSyllable(c) ? INITIALS.charAt((c - SYLLABLE_FIRST) / SYLLABLES_PER_INITIAL) : c;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isInitial(char c) {
+        return INITIALS.indexOf(c) >= 0;
+    }
+}
@@ -0,0 +1,254 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.SuggestionDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable suffix array over the {@linkplain Chosung initials} of a set of
+ * names. Every position of every initials string is a key, packed into a
+ * long as (name ordinal, offset) and sorted by the initials from there on, so
+ * the names containing a query's initials anywhere form one contiguous range
+ * found by two binary searches. A segment tree over the key ranks gives the
+ * best key of any range, prefix matches and shorter names first, and the top
+ * k come from splitting ranges around it as in {@link PrefixSuggester}.
+ *
+ * Safe to share between threads once built; ChosungIndex builds a new one
+ * from time to time and serves the writes since then separately.
+ */
+final class ChosungArray {
+
+    static final ChosungArray EMPTY = build(List.of());
+
+    private final Suggestable[] entries;
+    // Hangul, initials and original text per name ordinal, and the entry it belongs to
+    private final String[] hangul;
+    private final String[] initials;
+    private final String[] originals;
+    private final int[] entryOf;
+    // (name ordinal << 32 | offset), sorted by the initials each points at
+    private final long[] keys;
+    private final int[] ranks;
+    // tree[1] is the best-ranked key overall; leaves start at keys.length
+    private final int[] tree;
+
+    private ChosungArray(Suggestable[] entries, String[] hangul, String[] initials, String[] originals,
+                         int[] entryOf, long[] keys) {
+        this.entries = entries;
+        this.hangul = hangul;
+        this.initials = initials;
+        this.originals = originals;
+        this.entryOf = entryOf;
+        this.keys = keys;
+        this.ranks = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            ranks[i] = rank(offsetOf(keys[i]), hangul[nameOf(keys[i])].length());
+        }
+        int n = keys.length;
+        this.tree = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    static ChosungArray build(Collection<Suggestable> source) {
+        Suggestable[] entries = source.toArray(new Suggestable[0]);
+        List<String> hangulList = new ArrayList<>();
+        List<String> originalList = new ArrayList<>();
+        List<Integer> entryList = new ArrayList<>();
+        for (int e = 0; e < entries.length; e++) {
+            String name = Chosung.hangulOf(entries[e].name());
+            String altName = Chosung.hangulOf(entries[e].altName());
+            if (!name.isEmpty()) {
+                hangulList.add(name);
+                originalList.add(entries[e].name());
+                entryList.add(e);
+            }
+            if (!altName.isEmpty() && !altName.equals(name)) {
+                hangulList.add(altName);
+                originalList.add(entries[e].altName());
+                entryList.add(e);
+            }
+        }
+        String[] hangul = hangulList.toArray(new String[0]);
+        String[] initials = new String[hangul.length];
+        List<Long> keyList = new ArrayList<>();
+        for (int t = 0; t < hangul.length; t++) {
+            initials[t] = Chosung.initialsOf(hangul[t]);
+            for (int at = 0; at < initials[t].length(); at++) {
+                keyList.add(((long) t << 32) | at);
+            }
+        }
+        keyList.sort((left, right) -> compareSuffixes(initials, left, right));
+        long[] keys = keyList.stream().mapToLong(Long::longValue).toArray();
+        return new ChosungArray(entries, hangul, initials, originalList.toArray(new String[0]),
+                entryList.stream().mapToInt(Integer::intValue).toArray(), keys);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * At most {@code limit} distinct entities with a name matching
+     * {@code query} (already reduced with {@link Chosung#hangulOf}), best
+     * first, skipping those {@code include} rejects.
+     */
+    List<Match> search(String query, int limit, Predicate<Suggestable> include) {
+        if (query.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        String queryInitials = Chosung.initialsOf(query);
+        int from = bound(queryInitials, false);
+        int to = bound(queryInitials, true);
+        if (from >= to) {
+            return List.of();
+        }
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((left, right) -> better(left[2], right[2]) == left[2] ? -1 : 1);
+        ranges.add(new int[] {from, to, best(from, to)});
+        Set<Integer> seen = new HashSet<>();
+        List<Match> matches = new ArrayList<>();
+        while (!ranges.isEmpty() && matches.size() < limit) {
+            int[] range = ranges.poll();
+            int key = range[2];
+            int name = nameOf(keys[key]);
+            int entry = entryOf[name];
+            if (!seen.contains(entry) && include.test(entries[entry])
+                    && Chosung.matchesAt(hangul[name], offsetOf(keys[key]), query)) {
+                seen.add(entry);
+                matches.add(new Match(ranks[key], entries[entry], originals[name]));
+            }
+            if (range[0] < key) {
+                ranges.add(new int[] {range[0], key, best(range[0], key)});
+            }
+            if (key + 1 < range[1]) {
+                ranges.add(new int[] {key + 1, range[1], best(key + 1, range[1])});
+            }
+        }
+        return matches;
+    }
+
+    /** The best match of {@code query} among the names of one entity, or null; for entities not in an array. */
+    static Match match(Suggestable entry, String query) {
+        String queryInitials = Chosung.initialsOf(query);
+        Match best = null;
+        for (String original : new String[] {entry.name(), entry.altName()}) {
+            String text = Chosung.hangulOf(original);
+            String textInitials = Chosung.initialsOf(text);
+            for (int at = textInitials.indexOf(queryInitials); at >= 0; at = textInitials.indexOf(queryInitials, at + 1)) {
+                if (Chosung.matchesAt(text, at, query)) {
+                    Match match = new Match(rank(at, text.length()), entry, original);
+                    if (best == null || match.rank() < best.rank()) {
+                        best = match;
+                    }
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Earlier matches first, so prefix matches lead; then shorter names
+    private static int rank(int offset, int length) {
+        return Math.min(offset, 1023) << 20 | Math.min(length, (1 << 20) - 1);
+    }
+
+    /** First key whose initials, cut to the query's length, are at least (or, if strict, after) the query. */
+    private int bound(String query, boolean strict) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparePrefix(keys[mid], query);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int comparePrefix(long key, String query) {
+        String text = initials[nameOf(key)];
+        int offset = offsetOf(key);
+        for (int i = 0; i < query.length(); i++) {
+            if (offset + i >= text.length()) {
+                return -1;
+            }
+            int diff = text.charAt(offset + i) - query.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    private int best(int from, int to) {
+        int best = -1;
+        int n = keys.length;
+        for (int low = from + n, high = to + n; low < high; low >>= 1, high >>= 1) {
+            if ((low & 1) == 1) {
+                best = better(best, tree[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = better(best, tree[--high]);
+            }
+        }
+        return best;
+    }
+
+    // Lower rank wins; on a tie the earlier key
+    private int better(int left, int right) {
+        if (left < 0) {
+            return right;
+        }
+        if (right < 0) {
+            return left;
+        }
+        if (ranks[left] != ranks[right]) {
+            return ranks[left] < ranks[right] ? left : right;
+        }
+        return Math.min(left, right);
+    }
+
+    private static int compareSuffixes(String[] texts, long left, long right) {
+        String a = texts[nameOf(left)];
+        String b = texts[nameOf(right)];
+        int i = offsetOf(left);
+        int j = offsetOf(right);
+        while (i < a.length() && j < b.length()) {
+            int diff = a.charAt(i++) - b.charAt(j++);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        int cmp = Integer.compare(a.length() - i, b.length() - j);
+        return cmp != 0 ? cmp : Long.compare(left, right);
+    }
+
+    private static int nameOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int offsetOf(long key) {
+        return (int) key;
+    }
+
+    /** One entity found, with the rank it was found at and the name that matched. */
+    record Match(int rank, Suggestable entry, String matchedName) {
+
+        SuggestionDTO toSuggestion() {
+            return SuggestionDTO.of(entry.type(), entry.id(), entry.name(), matchedName);
+        }
+    }
+}
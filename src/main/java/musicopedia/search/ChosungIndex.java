@@ -0,0 +1,261 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.SuggestionDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Subunit;
+import musicopedia.repository.projection.NameRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search by Hangul initial consonants over artist names, member stage and
+ * real names and subunit names: "ㅂㅌㅅ" finds 방탄소년단, as a prefix or
+ * anywhere in the name.
+ *
+ * Names are loaded as described in {@link ReplayingIndex} and served from an
+ * immutable {@link ChosungArray} plus the writes committed since it was
+ * built, which are visible at once: a written entity is looked up in the
+ * recent writes instead of the array. A background task folds the recent
+ * writes into a new array once there are enough of them, or once the last
+ * array is old enough, so a steady stream of writes does not rebuild the
+ * array every few seconds. Names without Hangul are not kept.
+ */
+@Component
+public class ChosungIndex extends NameSourcedIndex<ChosungIndex.Names> {
+
+    private static final Logger log = LoggerFactory.getLogger(ChosungIndex.class);
+
+    private final int compactThreshold;
+    private final long compactIntervalNanos;
+    private volatile long lastCompacted = System.nanoTime();
+
+    public ChosungIndex(NameStream names, PlatformTransactionManager transactionManager,
+                        @Value("${app.chosung.compact-threshold:512}") int compactThreshold,
+                        @Value("${app.chosung.compact-interval:PT1M}") Duration compactInterval) {
+        super("initial-consonant names", names, transactionManager);
+        this.compactThreshold = compactThreshold;
+        this.compactIntervalNanos = compactInterval.toNanos();
+    }
+
+    /** Whether {@code query} is an initial-consonant query, which only this index can answer. */
+    public static boolean isInitialsQuery(String query) {
+        return Chosung.isQuery(query);
+    }
+
+    /**
+     * Entities with a name matching {@code query}, prefix matches first and
+     * then shorter names; empty until the names are loaded.
+     */
+    public List<SuggestionDTO> search(String query, int limit) {
+        String hangul = Chosung.hangulOf(query);
+        if (hangul.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        List<ChosungArray.Match> matches = read(names -> names == null ? List.of() : names.search(hangul, limit));
+        return matches.stream()
+                .sorted(Comparator.comparingInt(ChosungArray.Match::rank)
+                        .thenComparing(ChosungArray.Match::matchedName))
+                .limit(limit)
+                .map(ChosungArray.Match::toSuggestion)
+                .toList();
+    }
+
+    @Override
+    public void artistSaved(Artist artist) {
+        write(SuggestionType.ARTIST, artist.getArtistId(), artist.getArtistName(), null);
+    }
+
+    @Override
+    public void artistDeleted(UUID artistId) {
+        write(SuggestionType.ARTIST, artistId, null, null);
+    }
+
+    @Override
+    public void memberSaved(Member member) {
+        write(SuggestionType.MEMBER, member.getMemberId(), member.getMemberName(), member.getRealName());
+    }
+
+    @Override
+    public void memberDeleted(UUID memberId) {
+        write(SuggestionType.MEMBER, memberId, null, null);
+    }
+
+    @Override
+    public void subunitSaved(Subunit subunit) {
+        write(SuggestionType.SUBUNIT, subunit.getSubunitId(), subunit.getSubunitName(), null);
+    }
+
+    @Override
+    public void subunitDeleted(UUID subunitId) {
+        write(SuggestionType.SUBUNIT, subunitId, null, null);
+    }
+
+    /**
+     * Folds the writes since the last build into a new array once there are
+     * {@code app.chosung.compact-threshold} of them, or once
+     * {@code app.chosung.compact-interval} has passed since the last build.
+     */
+    @Scheduled(fixedDelayString = "${app.chosung.compact-delay:PT5S}")
+    public void scheduledCompact() {
+        int pending = pendingWrites();
+        if (pending >= compactThreshold
+                || pending > 0 && System.nanoTime() - lastCompacted >= compactIntervalNanos) {
+            compact();
+        }
+    }
+
+    /**
+     * Loads every Hangul name from the primary, replays the writes that
+     * committed meanwhile and builds an array from them. On failure the
+     * previous names stay in use.
+     */
+    public void reload() {
+        rebuild();
+    }
+
+    /**
+     * Builds an array from the current names outside the lock and swaps it
+     * in. Writes made during the build stay in the recent writes.
+     */
+    public synchronized void compact() {
+        Snapshot snapshot = read(names -> names == null ? null : names.snapshot());
+        if (snapshot == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        ChosungArray next = ChosungArray.build(snapshot.entries());
+        // A reload that swapped in other names meanwhile compacts them itself
+        update(names -> {
+            if (names == snapshot.names()) {
+                names.compacted(next, snapshot.builtUpTo());
+            }
+        });
+        lastCompacted = System.nanoTime();
+        log.debug("Initial-consonant index built over {} names in {} ms", next.size(),
+                TimeUnit.NANOSECONDS.toMillis(lastCompacted - start));
+    }
+
+    int pendingWrites() {
+        return read(names -> names == null ? 0 : names.recent.size());
+    }
+
+    // The loaded names start empty but keep serving the current array and recent writes until compacted
+    @Override
+    protected Names empty() {
+        return read(names -> names == null ? new Names(ChosungArray.EMPTY, Map.of(), 0) : names.carriedOver());
+    }
+
+    @Override
+    protected NameStream.Sink sinkFor(Names next) {
+        return new NameStream.Sink() {
+            @Override
+            public void artist(NameRow row, int weight) {
+                next.put(SuggestionType.ARTIST, row.getId(), row.getName(), null);
+            }
+
+            @Override
+            public void member(NameRow row, int weight) {
+                next.put(SuggestionType.MEMBER, row.getId(), row.getName(), row.getRealName());
+            }
+
+            @Override
+            public void subunit(NameRow row, int weight) {
+                next.put(SuggestionType.SUBUNIT, row.getId(), row.getName(), null);
+            }
+        };
+    }
+
+    @Override
+    protected String summary(Names built) {
+        return built.entries.size() + " names";
+    }
+
+    @Override
+    protected void published(Names built) {
+        compact();
+    }
+
+    // Null names remove the entity
+    private void write(SuggestionType type, UUID id, String name, String altName) {
+        apply(names -> names.write(type, id, name, altName));
+    }
+
+    static final class Names {
+
+        private final Map<EntityKey, Suggestable> entries = new HashMap<>();
+        private ChosungArray array;
+        // Entities written since the array was built, with the sequence number of their last write
+        private final Map<EntityKey, Long> recent;
+        private long sequence;
+
+        private Names(ChosungArray array, Map<EntityKey, Long> recent, long sequence) {
+            this.array = array;
+            this.recent = new HashMap<>(recent);
+            this.sequence = sequence;
+        }
+
+        Names carriedOver() {
+            return new Names(array, recent, sequence);
+        }
+
+        List<ChosungArray.Match> search(String hangul, int limit) {
+            List<ChosungArray.Match> matches = new ArrayList<>(
+                    array.search(hangul, limit, entry -> !recent.containsKey(EntityKey.of(entry))));
+            for (EntityKey key : recent.keySet()) {
+                Suggestable entry = entries.get(key);
+                ChosungArray.Match match = entry == null ? null : ChosungArray.match(entry, hangul);
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+            return matches;
+        }
+
+        void put(SuggestionType type, UUID id, String name, String altName) {
+            EntityKey key = new EntityKey(type, id);
+            if (Chosung.hangulOf(name).isEmpty() && Chosung.hangulOf(altName).isEmpty()) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new Suggestable(type, id, name, altName, 0));
+            }
+        }
+
+        void write(SuggestionType type, UUID id, String name, String altName) {
+            put(type, id, name, altName);
+            recent.put(new EntityKey(type, id), ++sequence);
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(this, new ArrayList<>(entries.values()), sequence);
+        }
+
+        void compacted(ChosungArray next, long builtUpTo) {
+            array = next;
+            recent.values().removeIf(written -> written <= builtUpTo);
+        }
+    }
+
+    private record Snapshot(Names names, List<Suggestable> entries, long builtUpTo) {
+    }
+
+    private record EntityKey(SuggestionType type, UUID id) {
+
+        static EntityKey of(Suggestable entry) {
+            return new EntityKey(entry.type(), entry.id());
+        }
+    }
+}
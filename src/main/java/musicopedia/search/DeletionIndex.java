@@ -0,0 +1,279 @@
+package musicopedia.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Typo-tolerant index over one name field, after SymSpell: every indexed term
+ * is stored under each string obtained by deleting up to
+ * {@link #MAX_DISTANCE} of its characters. Two strings within that edit
+ * distance always share such a deletion, so a query only looks up its own
+ * deletions and verifies the few names found there, instead of comparing
+ * itself with every name.
+ *
+ * Terms are the whole name and each of its words, so "swfit" finds Taylor
+ * Swift. Only the first {@link #PREFIX_LENGTH} characters of a term are
+ * expanded, which bounds the deletions per term; the verification compares
+ * whole terms. Deletions are keyed by a 64-bit hash rather than stored, and a
+ * collision only adds a candidate that verification rejects.
+ *
+ * Not thread-safe; FuzzyIndex guards it with a read-write lock.
+ */
+final class DeletionIndex {
+
+    static final int MAX_DISTANCE = 2;
+    static final int PREFIX_LENGTH = 7;
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    // Normalized name per ordinal, null once the document is removed
+    private final List<String> texts = new ArrayList<>();
+    private final List<String[]> terms = new ArrayList<>();
+    private final List<Integer> weights = new ArrayList<>();
+    private final Map<Long, IntPostingList> postings = new HashMap<>();
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /** Weight the document was indexed with, or 0 if it is not indexed. */
+    int weightOf(UUID id) {
+        Integer doc = ordinals.get(id);
+        return doc == null || texts.get(doc) == null ? 0 : weights.get(doc);
+    }
+
+    /** Adds or replaces the name indexed under {@code id}; a null name removes it. */
+    void put(UUID id, String name, int weight) {
+        String text = SearchText.normalize(name);
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            weights.set(existing, weight);
+            String previous = texts.get(existing);
+            if (previous != null && previous.equals(text)) {
+                return;
+            }
+            unindex(existing);
+        }
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        int doc;
+        if (existing != null) {
+            doc = existing;
+        } else {
+            doc = ids.size();
+            ordinals.put(id, doc);
+            ids.add(id);
+            texts.add(null);
+            terms.add(null);
+            weights.add(weight);
+        }
+        String[] docTerms = termsOf(text);
+        texts.set(doc, text);
+        terms.set(doc, docTerms);
+        size++;
+        for (long key : deletionKeys(docTerms, MAX_DISTANCE)) {
+            postings.computeIfAbsent(key, k -> new IntPostingList()).add(doc);
+        }
+    }
+
+    void remove(UUID id) {
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            unindex(existing);
+        }
+    }
+
+    /**
+     * Ids whose name, or a word of it, is within the allowed edit distance of
+     * {@code query}: closest first, then heaviest, then shortest. Adjacent
+     * transpositions count as one edit. The distance allowed grows with the
+     * query: none up to two characters, one up to five, two beyond.
+     */
+    List<UUID> search(String query, int limit) {
+        String normalized = SearchText.normalize(query);
+        if (normalized == null || normalized.isBlank() || limit < 1) {
+            return List.of();
+        }
+        int allowed = allowedDistance(normalized.length());
+        PriorityQueue<Match> best = new PriorityQueue<>(Match.ORDER.reversed());
+        BitSet seen = new BitSet(texts.size());
+        for (long key : deletionKeys(new String[] {normalized}, allowed)) {
+            IntPostingList docs = postings.get(key);
+            if (docs == null) {
+                continue;
+            }
+            for (int i = 0; i < docs.size(); i++) {
+                int doc = docs.get(i);
+                if (seen.get(doc)) {
+                    continue;
+                }
+                seen.set(doc);
+                int distance = distance(normalized, terms.get(doc), allowed);
+                if (distance <= allowed) {
+                    offer(best, new Match(doc, distance, weights.get(doc), texts.get(doc)), limit);
+                }
+            }
+        }
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(Match.ORDER);
+        return ranked.stream().map(match -> ids.get(match.doc())).toList();
+    }
+
+    static int allowedDistance(int queryLength) {
+        if (queryLength <= 2) {
+            return 0;
+        }
+        return queryLength <= 5 ? 1 : MAX_DISTANCE;
+    }
+
+    /**
+     * Optimal string alignment distance between {@code a} and {@code b}, or
+     * {@code max + 1} as soon as it is known to exceed {@code max}.
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] twoBack = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            row[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(row[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, twoBack[j - 2] + 1);
+                }
+                row[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = twoBack;
+            twoBack = previous;
+            previous = row;
+            row = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static int distance(String query, String[] docTerms, int max) {
+        int best = max + 1;
+        for (String term : docTerms) {
+            best = Math.min(best, distance(query, term, max));
+            if (best == 0) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    private static void offer(PriorityQueue<Match> best, Match match, int limit) {
+        if (best.size() < limit) {
+            best.add(match);
+        } else if (Match.ORDER.compare(match, best.peek()) < 0) {
+            best.poll();
+            best.add(match);
+        }
+    }
+
+    private void unindex(int doc) {
+        String[] docTerms = terms.get(doc);
+        if (docTerms == null) {
+            return;
+        }
+        for (long key : deletionKeys(docTerms, MAX_DISTANCE)) {
+            IntPostingList list = postings.get(key);
+            if (list != null) {
+                list.remove(doc);
+                if (list.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+        texts.set(doc, null);
+        terms.set(doc, null);
+        size--;
+    }
+
+    /** The whole name and each of its words, without repeats. */
+    private static String[] termsOf(String text) {
+        Set<String> termSet = new LinkedHashSet<>();
+        termSet.add(text);
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                termSet.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return termSet.toArray(new String[0]);
+    }
+
+    /** Hashes of every string reachable by deleting up to {@code distance} characters from a term's prefix. */
+    private static Set<Long> deletionKeys(String[] termArray, int distance) {
+        Set<String> deletions = new HashSet<>();
+        for (String term : termArray) {
+            String prefix = term.length() > PREFIX_LENGTH ? term.substring(0, PREFIX_LENGTH) : term;
+            List<String> frontier = List.of(prefix);
+            deletions.add(prefix);
+            for (int round = 0; round < distance; round++) {
+                List<String> next = new ArrayList<>();
+                for (String candidate : frontier) {
+                    for (int i = 0; i < candidate.length(); i++) {
+                        String deleted = candidate.substring(0, i) + candidate.substring(i + 1);
+                        if (deletions.add(deleted)) {
+                            next.add(deleted);
+                        }
+                    }
+                }
+                frontier = next;
+            }
+        }
+        Set<Long> keys = new HashSet<>();
+        for (String deletion : deletions) {
+            keys.add(hash(deletion));
+        }
+        return keys;
+    }
+
+    // FNV-1a over the UTF-16 units, finished with murmur3's fmix64
+    private static long hash(String text) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            h = (h ^ text.charAt(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Match(int doc, int distance, int weight, String text) {
+
+        static final Comparator<Match> ORDER = Comparator.comparingInt(Match::distance)
+                .thenComparing(Comparator.comparingInt(Match::weight).reversed())
+                .thenComparingInt(match -> match.text().length())
+                .thenComparing(Match::text);
+    }
+}
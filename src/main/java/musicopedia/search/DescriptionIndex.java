@@ -0,0 +1,124 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.DescriptionHitDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Subunit;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.DescriptionRow;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over artist, member and subunit descriptions, ranked by
+ * BM25 and returned with a highlighted snippet. Text is split by
+ * {@link TextTokenizer}, so Korean, Japanese and Chinese passages match
+ * without a word segmenter.
+ *
+ * Built and kept current from committed writes as described in
+ * {@link ReplayingIndex}.
+ */
+@Component
+public class DescriptionIndex extends ReplayingIndex<Bm25Index> {
+
+    private final ArtistRepository artistRepository;
+    private final MemberRepository memberRepository;
+    private final SubunitRepository subunitRepository;
+
+    public DescriptionIndex(ArtistRepository artistRepository, MemberRepository memberRepository,
+                            SubunitRepository subunitRepository, PlatformTransactionManager transactionManager) {
+        super("description index", transactionManager);
+        this.artistRepository = artistRepository;
+        this.memberRepository = memberRepository;
+        this.subunitRepository = subunitRepository;
+    }
+
+    /**
+     * The best {@code limit} descriptions for {@code query}, of any type in
+     * {@code types} or of every type if it is empty; empty until the index is
+     * built.
+     */
+    public List<DescriptionHitDTO> search(String query, Set<SuggestionType> types, int limit) {
+        List<Bm25Index.Hit> hits = read(index -> index == null
+                ? List.of()
+                : index.search(query, type -> types.isEmpty() || types.contains(type), limit));
+        // Documents are immutable, so snippets are cut outside the lock
+        Set<String> terms = Bm25Index.termsOf(query);
+        return hits.stream()
+                .map(hit -> DescriptionHitDTO.of(hit.document().type(), hit.document().id(), hit.document().name(),
+                        hit.score(), Snippets.highlight(hit.document().text(), terms, Snippets.DEFAULT_LENGTH)))
+                .toList();
+    }
+
+    @Override
+    public void artistSaved(Artist artist) {
+        put(SuggestionType.ARTIST, artist.getArtistId(), artist.getArtistName(), artist.getDescription());
+    }
+
+    @Override
+    public void artistDeleted(UUID artistId) {
+        put(SuggestionType.ARTIST, artistId, null, null);
+    }
+
+    @Override
+    public void memberSaved(Member member) {
+        put(SuggestionType.MEMBER, member.getMemberId(), member.getMemberName(), member.getDescription());
+    }
+
+    @Override
+    public void memberDeleted(UUID memberId) {
+        put(SuggestionType.MEMBER, memberId, null, null);
+    }
+
+    @Override
+    public void subunitSaved(Subunit subunit) {
+        put(SuggestionType.SUBUNIT, subunit.getSubunitId(), subunit.getSubunitName(), subunit.getDescription());
+    }
+
+    @Override
+    public void subunitDeleted(UUID subunitId) {
+        put(SuggestionType.SUBUNIT, subunitId, null, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Override
+    protected Bm25Index empty() {
+        return new Bm25Index();
+    }
+
+    @Override
+    protected void load(Bm25Index next) {
+        try (Stream<DescriptionRow> artists = artistRepository.streamDescriptions()) {
+            artists.forEach(row -> next.put(SuggestionType.ARTIST, row.getId(), row.getName(), row.getDescription()));
+        }
+        try (Stream<DescriptionRow> members = memberRepository.streamDescriptions()) {
+            members.forEach(row -> next.put(SuggestionType.MEMBER, row.getId(), row.getName(), row.getDescription()));
+        }
+        try (Stream<DescriptionRow> subunits = subunitRepository.streamDescriptions()) {
+            subunits.forEach(row -> next.put(SuggestionType.SUBUNIT, row.getId(), row.getName(), row.getDescription()));
+        }
+    }
+
+    @Override
+    protected String summary(Bm25Index built) {
+        return built.size() + " documents";
+    }
+
+    // A null description removes the document
+    private void put(SuggestionType type, UUID id, String name, String description) {
+        apply(index -> index.put(type, id, name, description));
+    }
+}
@@ -0,0 +1,328 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Solo;
+import musicopedia.model.enums.ArtistGender;
+import musicopedia.model.tag.GenreTag;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.projection.FacetRow;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Faceted browsing over artists: filter by any mix of {@link ArtistFacet}
+ * values and get the matching artists together with how many artists each
+ * facet value would match, in one pass over compressed bitmaps instead of a
+ * GROUP BY per facet.
+ *
+ * Every artist holds a dense ordinal, reused after deletes so the bitmaps
+ * stay compact, and every facet value a {@link OrdinalBitmap} of the
+ * ordinals that have it. Values selected within one facet are ORed and
+ * facets are ANDed. A facet's counts ignore its own selection, so picking a
+ * second genre shows how many that would add rather than zeros.
+ *
+ * Built and kept current as described in {@link ReplayingIndex}. Artist and
+ * soloist writes apply at once. Group rows are only written by imports, so
+ * group gender, status and formation decade catch up on the periodic reload.
+ */
+@Component
+public class FacetIndex extends ReplayingIndex<FacetIndex.Facets> {
+
+    private final ArtistRepository artistRepository;
+
+    public FacetIndex(ArtistRepository artistRepository, PlatformTransactionManager transactionManager) {
+        super("facet index", transactionManager);
+        this.artistRepository = artistRepository;
+    }
+
+    /**
+     * The first {@code limit} artists by name matching {@code filters}, with
+     * the total and the per-facet counts; null until the index is built.
+     * Values are matched in their {@linkplain ArtistFacet#normalize normal}
+     * spelling, and facets with no usable values do not filter.
+     */
+    public FacetResult search(Map<ArtistFacet, Set<String>> filters, int limit) {
+        return read(facets -> facets == null ? null : facets.search(filters, limit));
+    }
+
+    @Override
+    public void artistSaved(Artist artist) {
+        UUID id = artist.getArtistId();
+        String name = artist.getArtistName();
+        String type = artist.getType() == null ? null : artist.getType().name();
+        String country = artist.getOriginCountry();
+        String language = artist.getPrimaryLanguage();
+        String genre = artist.getGenre();
+        apply(facets -> facets.putArtist(id, name, type, country, language, genre));
+    }
+
+    @Override
+    public void artistDeleted(UUID artistId) {
+        apply(facets -> facets.remove(artistId));
+    }
+
+    @Override
+    public void soloSaved(Solo solo) {
+        UUID id = solo.getArtistId();
+        String gender = solo.getGender() == null ? null : solo.getGender().name();
+        String decade = ArtistFacet.decadeOf(solo.getDebutDate());
+        apply(facets -> facets.putDetails(id, gender, null, decade));
+    }
+
+    @Override
+    public void soloDeleted(UUID soloId) {
+        apply(facets -> facets.putDetails(soloId, null, null, null));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /** Picks up group rows, which no write path reports. */
+    @Scheduled(initialDelayString = "${app.facets.reload-interval:PT1H}",
+            fixedDelayString = "${app.facets.reload-interval:PT1H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    protected Facets empty() {
+        return new Facets();
+    }
+
+    // Every artist with its group or soloist row
+    @Override
+    protected void load(Facets next) {
+        try (Stream<FacetRow> rows = artistRepository.streamFacets()) {
+            rows.forEach(next::put);
+        }
+    }
+
+    @Override
+    protected String summary(Facets built) {
+        return built.artists.cardinality() + " artists";
+    }
+
+    static final class Facets {
+
+        private static final ArtistFacet[] FACETS = ArtistFacet.values();
+        private static final OrdinalBitmap NONE = new OrdinalBitmap();
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+        // Lower-cased names, the order results come in
+        private final List<String> names = new ArrayList<>();
+        // Per ordinal, the values it is posted under for each facet
+        private final List<List<String>[]> values = new ArrayList<>();
+        private final Deque<Integer> free = new ArrayDeque<>();
+        // Ordinals of artists, as opposed to soloist rows seen before their artist
+        private final OrdinalBitmap artists = new OrdinalBitmap();
+        private final Map<ArtistFacet, Map<String, OrdinalBitmap>> postings = new EnumMap<>(ArtistFacet.class);
+
+        Facets() {
+            for (ArtistFacet facet : FACETS) {
+                postings.put(facet, new HashMap<>());
+            }
+        }
+
+        void put(FacetRow row) {
+            putArtist(row.getArtistId(), row.getArtistName(), row.getType() == null ? null : row.getType().name(),
+                    row.getOriginCountry(), row.getPrimaryLanguage(), row.getGenre());
+            ArtistGender gender = row.getGroupGender() != null ? row.getGroupGender() : row.getSoloGender();
+            putDetails(row.getArtistId(), gender == null ? null : gender.name(),
+                    row.getActivityStatus() == null ? null : row.getActivityStatus().name(),
+                    ArtistFacet.decadeOf(row.getFormationDate() != null ? row.getFormationDate() : row.getDebutDate()));
+        }
+
+        void putArtist(UUID id, String name, String type, String country, String language, String genre) {
+            int ordinal = ordinalOf(id);
+            names.set(ordinal, name == null ? "" : name.toLowerCase(Locale.ROOT));
+            artists.add(ordinal);
+            set(ordinal, ArtistFacet.TYPE, single(ArtistFacet.TYPE, type));
+            set(ordinal, ArtistFacet.ORIGIN_COUNTRY, single(ArtistFacet.ORIGIN_COUNTRY, country));
+            set(ordinal, ArtistFacet.PRIMARY_LANGUAGE, single(ArtistFacet.PRIMARY_LANGUAGE, language));
+            set(ordinal, ArtistFacet.GENRE, GenreTag.namesOf(genre));
+        }
+
+        // The facets that come from the group or soloist row
+        void putDetails(UUID id, String gender, String status, String decade) {
+            if (!ordinals.containsKey(id) && gender == null && status == null && decade == null) {
+                return;
+            }
+            int ordinal = ordinalOf(id);
+            set(ordinal, ArtistFacet.GENDER, single(ArtistFacet.GENDER, gender));
+            set(ordinal, ArtistFacet.ACTIVITY_STATUS, single(ArtistFacet.ACTIVITY_STATUS, status));
+            set(ordinal, ArtistFacet.FORMATION_DECADE, single(ArtistFacet.FORMATION_DECADE, decade));
+        }
+
+        void remove(UUID id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            for (ArtistFacet facet : FACETS) {
+                set(ordinal, facet, List.of());
+            }
+            artists.remove(ordinal);
+            ids.set(ordinal, null);
+            names.set(ordinal, null);
+            free.push(ordinal);
+        }
+
+        FacetResult search(Map<ArtistFacet, Set<String>> filters, int limit) {
+            Map<ArtistFacet, OrdinalBitmap> selected = new EnumMap<>(ArtistFacet.class);
+            filters.forEach((facet, requested) -> {
+                OrdinalBitmap union = null;
+                for (String value : requested) {
+                    OrdinalBitmap posting = postings.get(facet).get(facet.normalize(value));
+                    if (posting != null) {
+                        union = union == null ? posting : OrdinalBitmap.or(union, posting);
+                    }
+                }
+                boolean usable = requested.stream().map(facet::normalize).anyMatch(Objects::nonNull);
+                if (usable) {
+                    selected.put(facet, union == null ? NONE : union);
+                }
+            });
+
+            OrdinalBitmap matching = intersect(selected, null);
+            Map<ArtistFacet, Map<String, Integer>> counts = new EnumMap<>(ArtistFacet.class);
+            for (ArtistFacet facet : FACETS) {
+                OrdinalBitmap base = selected.containsKey(facet) ? intersect(selected, facet) : matching;
+                counts.put(facet, count(base, postings.get(facet)));
+            }
+            return new FacetResult(matching.cardinality(), firstByName(matching, limit), counts);
+        }
+
+        // Smallest first, so each AND has the least to walk
+        private OrdinalBitmap intersect(Map<ArtistFacet, OrdinalBitmap> selected, ArtistFacet except) {
+            List<OrdinalBitmap> parts = new ArrayList<>();
+            selected.forEach((facet, bitmap) -> {
+                if (facet != except) {
+                    parts.add(bitmap);
+                }
+            });
+            parts.sort(Comparator.comparingInt(OrdinalBitmap::cardinality));
+            OrdinalBitmap result = artists;
+            for (OrdinalBitmap part : parts) {
+                result = OrdinalBitmap.and(result, part);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private static Map<String, Integer> count(OrdinalBitmap base, Map<String, OrdinalBitmap> facetPostings) {
+            List<Map.Entry<String, Integer>> counted = new ArrayList<>();
+            if (!base.isEmpty()) {
+                facetPostings.forEach((value, posting) -> {
+                    int count = base.andCardinality(posting);
+                    if (count > 0) {
+                        counted.add(Map.entry(value, count));
+                    }
+                });
+            }
+            counted.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+            Map<String, Integer> result = new LinkedHashMap<>();
+            counted.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+            return result;
+        }
+
+        // Keeps the best limit ordinals in a max-heap on the way through
+        private List<UUID> firstByName(OrdinalBitmap matching, int limit) {
+            if (limit < 1) {
+                return List.of();
+            }
+            Comparator<Integer> byName = Comparator.comparing((Integer ordinal) -> names.get(ordinal))
+                    .thenComparing(ordinal -> ids.get(ordinal));
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, byName.reversed());
+            matching.forEach(ordinal -> {
+                if (heap.size() < limit) {
+                    heap.add(ordinal);
+                } else if (byName.compare(ordinal, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(ordinal);
+                }
+            });
+            List<Integer> first = new ArrayList<>(heap);
+            first.sort(byName);
+            return first.stream().map(ids::get).toList();
+        }
+
+        private int ordinalOf(UUID id) {
+            Integer known = ordinals.get(id);
+            if (known != null) {
+                return known;
+            }
+            int ordinal;
+            if (free.isEmpty()) {
+                ordinal = ids.size();
+                ids.add(id);
+                names.add("");
+                values.add(emptyValues());
+            } else {
+                ordinal = free.pop();
+                ids.set(ordinal, id);
+                names.set(ordinal, "");
+            }
+            ordinals.put(id, ordinal);
+            return ordinal;
+        }
+
+        private void set(int ordinal, ArtistFacet facet, Collection<String> updated) {
+            List<String>[] posted = values.get(ordinal);
+            List<String> previous = posted[facet.ordinal()];
+            if (previous.equals(updated)) {
+                return;
+            }
+            Map<String, OrdinalBitmap> facetPostings = postings.get(facet);
+            for (String value : previous) {
+                OrdinalBitmap posting = facetPostings.get(value);
+                posting.remove(ordinal);
+                if (posting.isEmpty()) {
+                    facetPostings.remove(value);
+                }
+            }
+            for (String value : updated) {
+                facetPostings.computeIfAbsent(value, v -> new OrdinalBitmap()).add(ordinal);
+            }
+            posted[facet.ordinal()] = List.copyOf(updated);
+        }
+
+        private static List<String> single(ArtistFacet facet, String value) {
+            String normalized = facet.normalize(value);
+            return normalized == null ? List.of() : List.of(normalized);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<String>[] emptyValues() {
+            List<String>[] empty = new List[FACETS.length];
+            Arrays.fill(empty, List.of());
+            return empty;
+        }
+    }
+}
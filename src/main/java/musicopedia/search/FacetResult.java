@@ -0,0 +1,13 @@
+package musicopedia.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One page of artists matching a facet filter, how many match in all, and
+ * for each facet how many would match with each of its values selected
+ * instead of the current selection, most common first.
+ */
+public record FacetResult(int total, List<UUID> artistIds, Map<ArtistFacet, Map<String, Integer>> counts) {
+}
@@ -0,0 +1,114 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.repository.projection.NameRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Typo-tolerant search over artist names and member stage and real names,
+ * so "Blakpink" still finds BLACKPINK. Matches are ranked by edit distance,
+ * then by {@link CatalogWeights}.
+ *
+ * Built from the name columns at startup and kept current from committed
+ * writes, as described in {@link ReplayingIndex}. A name written after the
+ * build keeps the weight it was built with, or none if it is new. Callers
+ * fall back to substring search until {@link #isReady()}.
+ */
+@Component
+public class FuzzyIndex extends NameSourcedIndex<Map<NameField, DeletionIndex>> {
+
+    public FuzzyIndex(NameStream names, PlatformTransactionManager transactionManager) {
+        super("fuzzy name index", names, transactionManager);
+    }
+
+    /**
+     * Ids whose {@code field}, or a word of it, is within a small edit
+     * distance of {@code query}, closest and heaviest first; empty until the
+     * index is ready. Only ARTIST_NAME, MEMBER_NAME and MEMBER_REAL_NAME are
+     * indexed.
+     */
+    public List<UUID> search(NameField field, String query, int limit) {
+        return read(fields -> fields == null || !fields.containsKey(field)
+                ? List.of()
+                : fields.get(field).search(query, limit));
+    }
+
+    @Override
+    public void artistSaved(Artist artist) {
+        UUID id = artist.getArtistId();
+        String name = artist.getArtistName();
+        apply(fields -> put(fields.get(NameField.ARTIST_NAME), id, name));
+    }
+
+    @Override
+    public void artistDeleted(UUID artistId) {
+        apply(fields -> fields.get(NameField.ARTIST_NAME).remove(artistId));
+    }
+
+    @Override
+    public void memberSaved(Member member) {
+        UUID id = member.getMemberId();
+        String name = member.getMemberName();
+        String realName = member.getRealName();
+        apply(fields -> {
+            put(fields.get(NameField.MEMBER_NAME), id, name);
+            put(fields.get(NameField.MEMBER_REAL_NAME), id, realName);
+        });
+    }
+
+    @Override
+    public void memberDeleted(UUID memberId) {
+        apply(fields -> {
+            fields.get(NameField.MEMBER_NAME).remove(memberId);
+            fields.get(NameField.MEMBER_REAL_NAME).remove(memberId);
+        });
+    }
+
+    @Override
+    protected Map<NameField, DeletionIndex> empty() {
+        Map<NameField, DeletionIndex> fields = new EnumMap<>(NameField.class);
+        fields.put(NameField.ARTIST_NAME, new DeletionIndex());
+        fields.put(NameField.MEMBER_NAME, new DeletionIndex());
+        fields.put(NameField.MEMBER_REAL_NAME, new DeletionIndex());
+        return fields;
+    }
+
+    @Override
+    protected NameStream.Sink sinkFor(Map<NameField, DeletionIndex> next) {
+        return new NameStream.Sink() {
+            @Override
+            public boolean weighted() {
+                return true;
+            }
+
+            @Override
+            public void artist(NameRow row, int weight) {
+                next.get(NameField.ARTIST_NAME).put(row.getId(), row.getName(), weight);
+            }
+
+            @Override
+            public void member(NameRow row, int weight) {
+                next.get(NameField.MEMBER_NAME).put(row.getId(), row.getName(), weight);
+                next.get(NameField.MEMBER_REAL_NAME).put(row.getId(), row.getRealName(), weight);
+            }
+        };
+    }
+
+    @Override
+    protected String summary(Map<NameField, DeletionIndex> built) {
+        return built.get(NameField.ARTIST_NAME).size() + " artists, "
+                + built.get(NameField.MEMBER_NAME).size() + " members";
+    }
+
+    // A write keeps the weight the entity was built with; it is recomputed on the next build
+    private static void put(DeletionIndex index, UUID id, String name) {
+        index.put(id, name, index.weightOf(id));
+    }
+}
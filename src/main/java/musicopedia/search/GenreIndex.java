@@ -0,0 +1,242 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.tag.GenreTag;
+import musicopedia.repository.ArtistGenreTagRepository;
+import musicopedia.repository.GenreTagRepository;
+import musicopedia.repository.projection.GenreTagRow;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Exact genre browsing and counting from memory. Every genre tag, by its
+ * integer id from the genre_tags dictionary, has a sorted posting list of the
+ * ordinals of the artists carrying it, so the artists of a genre are one map
+ * lookup and its count the list's size; "k-pop" never matches "k-pop ballad".
+ *
+ * The index is streamed from the tag join table at startup and updated after
+ * every committed artist write, parsing the artist's genre the way
+ * GenreTagService does, as described in {@link ReplayingIndex}.
+ */
+@Component
+public class GenreIndex extends ReplayingIndex<GenreIndex.Postings> {
+
+    private final GenreTagRepository genreTagRepository;
+    private final ArtistGenreTagRepository artistGenreTagRepository;
+
+    // The dictionary only grows, so it outlives rebuilds
+    private final Map<String, Integer> tagIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> tagNames = new ConcurrentHashMap<>();
+
+    public GenreIndex(GenreTagRepository genreTagRepository, ArtistGenreTagRepository artistGenreTagRepository,
+                      PlatformTransactionManager transactionManager) {
+        super("genre index", transactionManager);
+        this.genreTagRepository = genreTagRepository;
+        this.artistGenreTagRepository = artistGenreTagRepository;
+    }
+
+    /**
+     * The first {@code limit} artists by name tagged with exactly
+     * {@code genre}, spelled in any case; null until the index is built.
+     */
+    public List<UUID> artistIds(String genre, int limit) {
+        String name = GenreTag.normalize(genre);
+        Integer tagId = name == null ? null : tagIds.get(name);
+        return read(postings -> {
+            if (postings == null) {
+                return null;
+            }
+            return tagId == null ? List.of() : postings.firstByName(tagId, limit);
+        });
+    }
+
+    /** How many artists carry each tag, most first; null until the index is built. */
+    public Map<String, Integer> counts() {
+        List<Map.Entry<String, Integer>> counted = read(postings -> {
+            if (postings == null) {
+                return null;
+            }
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+            postings.postings.forEach((tagId, posting) -> entries.add(Map.entry(tagNames.get(tagId), posting.size())));
+            return entries;
+        });
+        if (counted == null) {
+            return null;
+        }
+        counted.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counted.forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+        return counts;
+    }
+
+    @Override
+    public void artistSaved(Artist artist) {
+        UUID id = artist.getArtistId();
+        String name = artist.getArtistName();
+        int[] tags = tagIdsOf(GenreTag.namesOf(artist.getGenre()));
+        apply(postings -> postings.put(id, name, tags));
+    }
+
+    @Override
+    public void artistDeleted(UUID artistId) {
+        apply(postings -> postings.remove(artistId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Override
+    protected Postings empty() {
+        return new Postings();
+    }
+
+    // Reloads the dictionary, then every artist-to-tag link
+    @Override
+    protected void load(Postings next) {
+        genreTagRepository.findAll().forEach(this::define);
+        try (Stream<GenreTagRow> rows = artistGenreTagRepository.streamTags()) {
+            rows.forEach(row -> next.add(row.getArtistId(), row.getArtistName(), row.getTagId()));
+        }
+    }
+
+    @Override
+    protected String summary(Postings built) {
+        return built.postings.size() + " tags, " + built.ordinals.size() + " artists";
+    }
+
+    // Tags added since the dictionary was loaded are read from the table; they committed before this write did
+    private int[] tagIdsOf(List<String> names) {
+        List<String> unknown = names.stream().filter(name -> !tagIds.containsKey(name)).toList();
+        if (!unknown.isEmpty()) {
+            genreTagRepository.findByNameIn(unknown).forEach(this::define);
+        }
+        return names.stream()
+                .map(tagIds::get)
+                .filter(tagId -> tagId != null)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private void define(GenreTag tag) {
+        tagIds.put(tag.getName(), tag.getTagId());
+        tagNames.put(tag.getTagId(), tag.getName());
+    }
+
+    static final class Postings {
+
+        private static final int[] NO_TAGS = new int[0];
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+        // Lower-cased names, the order artists are listed in
+        private final List<String> names = new ArrayList<>();
+        // Per ordinal, the tag ids it is posted under
+        private final List<int[]> tags = new ArrayList<>();
+        private final Deque<Integer> free = new ArrayDeque<>();
+        private final Map<Integer, IntPostingList> postings = new HashMap<>();
+
+        // One row of the build, which lists an artist once per tag
+        void add(UUID id, String name, int tagId) {
+            int ordinal = ordinalOf(id, name);
+            int[] posted = tags.get(ordinal);
+            int[] grown = Arrays.copyOf(posted, posted.length + 1);
+            grown[posted.length] = tagId;
+            tags.set(ordinal, grown);
+            postings.computeIfAbsent(tagId, t -> new IntPostingList()).add(ordinal);
+        }
+
+        void put(UUID id, String name, int[] tagIds) {
+            remove(id);
+            if (tagIds.length == 0) {
+                return;
+            }
+            int ordinal = ordinalOf(id, name);
+            tags.set(ordinal, tagIds);
+            for (int tagId : tagIds) {
+                postings.computeIfAbsent(tagId, t -> new IntPostingList()).add(ordinal);
+            }
+        }
+
+        void remove(UUID id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            for (int tagId : tags.get(ordinal)) {
+                IntPostingList posting = postings.get(tagId);
+                posting.remove(ordinal);
+                if (posting.isEmpty()) {
+                    postings.remove(tagId);
+                }
+            }
+            ids.set(ordinal, null);
+            names.set(ordinal, null);
+            tags.set(ordinal, NO_TAGS);
+            free.push(ordinal);
+        }
+
+        // Keeps the best limit ordinals in a max-heap on the way through the posting list
+        List<UUID> firstByName(int tagId, int limit) {
+            IntPostingList posting = postings.get(tagId);
+            if (posting == null || limit < 1) {
+                return List.of();
+            }
+            Comparator<Integer> byName = Comparator.comparing((Integer ordinal) -> names.get(ordinal))
+                    .thenComparing(ordinal -> ids.get(ordinal));
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, byName.reversed());
+            for (int i = 0; i < posting.size(); i++) {
+                int ordinal = posting.get(i);
+                if (heap.size() < limit) {
+                    heap.add(ordinal);
+                } else if (byName.compare(ordinal, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(ordinal);
+                }
+            }
+            List<Integer> first = new ArrayList<>(heap);
+            first.sort(byName);
+            return first.stream().map(ids::get).toList();
+        }
+
+        private int ordinalOf(UUID id, String name) {
+            Integer known = ordinals.get(id);
+            if (known != null) {
+                return known;
+            }
+            String sortName = name == null ? "" : name.toLowerCase(Locale.ROOT);
+            int ordinal;
+            if (free.isEmpty()) {
+                ordinal = ids.size();
+                ids.add(id);
+                names.add(sortName);
+                tags.add(NO_TAGS);
+            } else {
+                ordinal = free.pop();
+                ids.set(ordinal, id);
+                names.set(ordinal, sortName);
+            }
+            ordinals.put(id, ordinal);
+            return ordinal;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package musicopedia.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free list of document ordinals backed by a primitive
+ * array. Ordinals are handed out in increasing order, so adds almost always
+ * append.
+ */
+final class IntPostingList {
+
+    private int[] docs = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int get(int index) {
+        return docs[index];
+    }
+
+    boolean contains(int doc) {
+        return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+    }
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] < doc) {
+            ensureCapacity();
+            docs[size++] = doc;
+            return;
+        }
+        int at = Arrays.binarySearch(docs, 0, size, doc);
+        if (at >= 0) {
+            return;
+        }
+        int insertAt = -at - 1;
+        ensureCapacity();
+        System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+        docs[insertAt] = doc;
+        size++;
+    }
+
+    void remove(int doc) {
+        int at = Arrays.binarySearch(docs, 0, size, doc);
+        if (at < 0) {
+            return;
+        }
+        System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+        size--;
+    }
+
+    private void ensureCapacity() {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, docs.length * 2);
+        }
+    }
+}
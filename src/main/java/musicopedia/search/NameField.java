@@ -0,0 +1,10 @@
+package musicopedia.search;
+
+/** Name columns served by {@link NameIndex}, each indexed under its own entity id. */
+public enum NameField {
+    ARTIST_NAME,
+    MEMBER_NAME,
+    MEMBER_REAL_NAME,
+    SOLO_REAL_NAME,
+    SUBUNIT_NAME
+}
@@ -0,0 +1,213 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.model.Subunit;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.NameRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * In-memory substring search over artist names, member stage and real names,
+ * soloist real names and subunit names, answering the queries that would otherwise be
+ * {@code LOWER(name) LIKE '%q%'} table scans. Names whose
+ * {@linkplain SearchText#key script-independent key} equals the query's
+ * follow the substring matches, so "제니" also finds Jennie.
+ *
+ * Built from the name columns at startup and kept current from committed
+ * writes via {@link SearchIndexer}, as described in {@link ReplayingIndex}.
+ * Callers fall back to the database until {@link #isReady()}.
+ */
+@Component
+public class NameIndex extends NameSourcedIndex<NameIndex.Fields> {
+
+    public NameIndex(NameStream names, PlatformTransactionManager transactionManager) {
+        super("name index", names, transactionManager);
+    }
+
+    /**
+     * Ids whose {@code field} contains {@code query}, best matches first, then
+     * those matching it across scripts; empty until the index is ready.
+     */
+    public List<UUID> search(NameField field, String query, int limit) {
+        return read(fields -> fields == null ? List.of() : fields.search(field, query, limit, id -> true));
+    }
+
+    /** Artist ids of the given type whose name contains {@code query}, best matches first. */
+    public List<UUID> searchArtists(String query, ArtistType type, int limit) {
+        return read(fields -> {
+            if (fields == null) {
+                return List.of();
+            }
+            Map<UUID, ArtistType> types = fields.artistTypes;
+            return fields.search(NameField.ARTIST_NAME, query, limit, id -> types.get(id) == type);
+        });
+    }
+
+    @Override
+    public void artistSaved(Artist artist) {
+        UUID id = artist.getArtistId();
+        String name = artist.getArtistName();
+        ArtistType type = artist.getType();
+        apply(fields -> fields.putArtist(id, name, type));
+    }
+
+    @Override
+    public void artistDeleted(UUID artistId) {
+        // A soloist shares its artist's id and goes with it
+        apply(fields -> {
+            fields.removeArtist(artistId);
+            fields.remove(NameField.SOLO_REAL_NAME, artistId);
+        });
+    }
+
+    @Override
+    public void memberSaved(Member member) {
+        UUID id = member.getMemberId();
+        String name = member.getMemberName();
+        String realName = member.getRealName();
+        apply(fields -> {
+            fields.put(NameField.MEMBER_NAME, id, name);
+            fields.put(NameField.MEMBER_REAL_NAME, id, realName);
+        });
+    }
+
+    @Override
+    public void memberDeleted(UUID memberId) {
+        apply(fields -> {
+            fields.remove(NameField.MEMBER_NAME, memberId);
+            fields.remove(NameField.MEMBER_REAL_NAME, memberId);
+        });
+    }
+
+    @Override
+    public void soloSaved(Solo solo) {
+        UUID id = solo.getArtistId();
+        String realName = solo.getRealName();
+        apply(fields -> fields.put(NameField.SOLO_REAL_NAME, id, realName));
+    }
+
+    @Override
+    public void soloDeleted(UUID soloId) {
+        apply(fields -> fields.remove(NameField.SOLO_REAL_NAME, soloId));
+    }
+
+    @Override
+    public void subunitSaved(Subunit subunit) {
+        UUID id = subunit.getSubunitId();
+        String name = subunit.getSubunitName();
+        apply(fields -> fields.put(NameField.SUBUNIT_NAME, id, name));
+    }
+
+    @Override
+    public void subunitDeleted(UUID subunitId) {
+        apply(fields -> fields.remove(NameField.SUBUNIT_NAME, subunitId));
+    }
+
+    @Override
+    protected Fields empty() {
+        return new Fields();
+    }
+
+    @Override
+    protected NameStream.Sink sinkFor(Fields next) {
+        return new NameStream.Sink() {
+            @Override
+            public boolean soloNames() {
+                return true;
+            }
+
+            @Override
+            public void artist(NameRow row, int weight) {
+                next.putArtist(row.getId(), row.getName(), row.getType());
+            }
+
+            @Override
+            public void member(NameRow row, int weight) {
+                next.put(NameField.MEMBER_NAME, row.getId(), row.getName());
+                next.put(NameField.MEMBER_REAL_NAME, row.getId(), row.getRealName());
+            }
+
+            @Override
+            public void solo(NameRow row) {
+                next.put(NameField.SOLO_REAL_NAME, row.getId(), row.getName());
+            }
+
+            @Override
+            public void subunit(NameRow row, int weight) {
+                next.put(NameField.SUBUNIT_NAME, row.getId(), row.getName());
+            }
+        };
+    }
+
+    @Override
+    protected String summary(Fields built) {
+        return built.sizes().toString();
+    }
+
+    static final class Fields {
+
+        private final Map<NameField, TrigramIndex> indexes = new EnumMap<>(NameField.class);
+        private final Map<NameField, ScriptKeyIndex> scriptKeys = new EnumMap<>(NameField.class);
+        private final Map<UUID, ArtistType> artistTypes = new HashMap<>();
+
+        Fields() {
+            for (NameField field : NameField.values()) {
+                indexes.put(field, new TrigramIndex());
+                scriptKeys.put(field, new ScriptKeyIndex());
+            }
+        }
+
+        List<UUID> search(NameField field, String query, int limit, Predicate<UUID> filter) {
+            List<UUID> substrings = indexes.get(field).search(query, limit, filter);
+            if (substrings.size() == limit) {
+                return substrings;
+            }
+            Set<UUID> ids = new LinkedHashSet<>(substrings);
+            for (UUID id : scriptKeys.get(field).search(query, limit, filter)) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(id);
+            }
+            return List.copyOf(ids);
+        }
+
+        void put(NameField field, UUID id, String name) {
+            indexes.get(field).put(id, name);
+            scriptKeys.get(field).put(id, name);
+        }
+
+        void remove(NameField field, UUID id) {
+            indexes.get(field).remove(id);
+            scriptKeys.get(field).remove(id);
+        }
+
+        void putArtist(UUID id, String name, ArtistType type) {
+            put(NameField.ARTIST_NAME, id, name);
+            artistTypes.put(id, type);
+        }
+
+        void removeArtist(UUID id) {
+            remove(NameField.ARTIST_NAME, id);
+            artistTypes.remove(id);
+        }
+
+        Map<NameField, Integer> sizes() {
+            Map<NameField, Integer> sizes = new EnumMap<>(NameField.class);
+            indexes.forEach((field, index) -> sizes.put(field, index.size()));
+            return sizes;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package musicopedia.search;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Orders substring matches: exact names first, then names starting with the
+ * query, then names with a word starting with it, then any other match.
+ * Within a tier earlier matches and shorter names come first.
+ */
+public final class NameRanking {
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int WORD_START = 2;
+    private static final int INFIX = 3;
+    // The database's LOWER() and Java's lower-casing can disagree on a few characters
+    private static final int NO_MATCH = 4;
+
+    private NameRanking() {
+    }
+
+    /** The best {@code limit} of the rows a LIKE query matched, in ranked order. */
+    public static <T> List<T> top(List<T> rows, String query, Function<? super T, String> name, int limit) {
+        return rows.stream()
+                .sorted(by(query, name))
+                .limit(limit)
+                .toList();
+    }
+
+    /** Rows reordered to follow {@code rankedIds}; ids without a row are dropped. */
+    public static <T> List<T> inOrderOf(List<UUID> rankedIds, List<T> rows, Function<? super T, UUID> id) {
+        Map<UUID, T> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(id.apply(row), row));
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Comparator over items whose name contains {@code query}; both sides are
+     * normalized with {@link SearchText#normalize} before comparing.
+     */
+    public static <T> Comparator<T> by(String query, Function<? super T, String> name) {
+        String normalizedQuery = SearchText.normalize(query);
+        return (left, right) -> compare(Objects.toString(SearchText.normalize(name.apply(left)), ""),
+                Objects.toString(SearchText.normalize(name.apply(right)), ""), normalizedQuery);
+    }
+
+    /**
+     * How well {@code name} matches {@code query} from 0 to 1, whichever
+     * search found it: 1 for an exact match, then prefix, word-start and
+     * other substring matches in bands of 0.2, each favouring names the query
+     * covers more of. Names matched only across scripts or despite typos fall
+     * in the lowest band.
+     */
+    public static double score(String name, String query) {
+        String normalizedName = Objects.toString(SearchText.normalize(name), "");
+        String normalizedQuery = Objects.toString(SearchText.normalize(query), "");
+        if (normalizedName.isEmpty() || normalizedQuery.isEmpty()) {
+            return 0;
+        }
+        int tier = tier(normalizedName, normalizedQuery, normalizedName.indexOf(normalizedQuery));
+        double coverage = Math.min(1.0, (double) normalizedQuery.length() / normalizedName.length());
+        return (NO_MATCH - tier + coverage) / (NO_MATCH + 1);
+    }
+
+    /** Compares two normalized names by how well they match the normalized query. */
+    static int compare(String left, String right, String query) {
+        int leftAt = left.indexOf(query);
+        int rightAt = right.indexOf(query);
+        int byTier = Integer.compare(tier(left, query, leftAt), tier(right, query, rightAt));
+        if (byTier != 0) {
+            return byTier;
+        }
+        int byPosition = Integer.compare(leftAt, rightAt);
+        if (byPosition != 0) {
+            return byPosition;
+        }
+        int byLength = Integer.compare(left.length(), right.length());
+        return byLength != 0 ? byLength : left.compareTo(right);
+    }
+
+    private static int tier(String text, String query, int at) {
+        if (at < 0) {
+            return NO_MATCH;
+        }
+        if (at == 0) {
+            return text.length() == query.length() ? EXACT : PREFIX;
+        }
+        return Character.isLetterOrDigit(text.charAt(at - 1)) ? INFIX : WORD_START;
+    }
+}
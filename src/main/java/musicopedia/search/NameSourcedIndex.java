@@ -0,0 +1,36 @@
+package musicopedia.search;
+
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * A {@link ReplayingIndex} loaded from the name columns, which
+ * {@link NameStream} streams once for all such indexes at startup.
+ */
+abstract class NameSourcedIndex<T> extends ReplayingIndex<T> {
+
+    private final NameStream names;
+
+    protected NameSourcedIndex(String description, NameStream names, PlatformTransactionManager transactionManager) {
+        super(description, transactionManager);
+        this.names = names;
+    }
+
+    /** The sink that puts streamed rows into {@code next}. */
+    protected abstract NameStream.Sink sinkFor(T next);
+
+    @Override
+    protected final void load(T next) {
+        names.streamInto(List.of(sinkFor(next)));
+    }
+
+    final SharedBuild startSharedBuild() {
+        Build<T> build = startBuild();
+        return new SharedBuild(build, sinkFor(build.next()));
+    }
+
+    /** A build fed from a pass shared with other indexes. */
+    record SharedBuild(Build<?> build, NameStream.Sink sink) {
+    }
+}
@@ -0,0 +1,134 @@
+package musicopedia.search;
+
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.NameRow;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams the artist, member, soloist and subunit name columns for the
+ * {@link NameSourcedIndex name indexes}. At startup they are all built from
+ * one pass over the columns instead of each streaming them on its own; later
+ * rebuilds of a single index stream them for that index alone.
+ */
+@Component
+public class NameStream {
+
+    private final ArtistRepository artistRepository;
+    private final MemberRepository memberRepository;
+    private final SoloRepository soloRepository;
+    private final SubunitRepository subunitRepository;
+    private final CatalogWeights weights;
+    private final TransactionTemplate transactionTemplate;
+
+    public NameStream(ArtistRepository artistRepository, MemberRepository memberRepository,
+                      SoloRepository soloRepository, SubunitRepository subunitRepository,
+                      GroupMembershipRepository groupMembershipRepository,
+                      SubunitMembershipRepository subunitMembershipRepository,
+                      PlatformTransactionManager transactionManager) {
+        this.artistRepository = artistRepository;
+        this.memberRepository = memberRepository;
+        this.soloRepository = soloRepository;
+        this.subunitRepository = subunitRepository;
+        this.weights = new CatalogWeights(groupMembershipRepository, subunitMembershipRepository);
+        this.transactionTemplate = ReplayingIndex.primaryReadTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup(ApplicationReadyEvent event) {
+        List<NameSourcedIndex<?>> indexes = new ArrayList<>();
+        event.getApplicationContext().getBeanProvider(NameSourcedIndex.class).orderedStream()
+                .forEach(index -> indexes.add(index));
+        rebuild(indexes);
+    }
+
+    /**
+     * Builds every index in {@code indexes} from a single pass over the name
+     * columns. If the pass fails, each keeps its previous state.
+     */
+    void rebuild(List<NameSourcedIndex<?>> indexes) {
+        List<NameSourcedIndex.SharedBuild> builds = new ArrayList<>();
+        try {
+            indexes.forEach(index -> builds.add(index.startSharedBuild()));
+            ReplayingIndex.readPrimary(transactionTemplate,
+                    () -> streamInto(builds.stream().map(NameSourcedIndex.SharedBuild::sink).toList()));
+        } catch (RuntimeException e) {
+            builds.forEach(build -> build.build().fail(e));
+            return;
+        }
+        builds.forEach(build -> build.build().publish());
+    }
+
+    /** Streams every name column once into all {@code sinks}; must run inside a transaction. */
+    void streamInto(List<Sink> sinks) {
+        boolean weighted = sinks.stream().anyMatch(Sink::weighted);
+        Map<UUID, Integer> artistWeights = weighted ? weights.artists() : Map.of();
+        try (Stream<NameRow> artists = artistRepository.streamNames()) {
+            artists.forEach(row -> {
+                int weight = artistWeights.getOrDefault(row.getId(), 0);
+                sinks.forEach(sink -> sink.artist(row, weight));
+            });
+        }
+        Map<UUID, Integer> memberWeights = weighted ? weights.members() : Map.of();
+        try (Stream<NameRow> members = memberRepository.streamNames()) {
+            members.forEach(row -> {
+                int weight = memberWeights.getOrDefault(row.getId(), 0);
+                sinks.forEach(sink -> sink.member(row, weight));
+            });
+        }
+        if (sinks.stream().anyMatch(Sink::soloNames)) {
+            try (Stream<NameRow> solos = soloRepository.streamRealNames()) {
+                solos.forEach(row -> sinks.forEach(sink -> sink.solo(row)));
+            }
+        }
+        Map<UUID, Integer> subunitWeights = weighted ? weights.subunits() : Map.of();
+        try (Stream<NameRow> subunits = subunitRepository.streamNames()) {
+            subunits.forEach(row -> {
+                int weight = subunitWeights.getOrDefault(row.getId(), 0);
+                sinks.forEach(sink -> sink.subunit(row, weight));
+            });
+        }
+    }
+
+    /**
+     * Takes the rows of one pass into the state an index is building. Weights
+     * are {@link CatalogWeights}, or 0 unless some sink in the pass is
+     * {@link #weighted()}.
+     */
+    interface Sink {
+
+        default boolean weighted() {
+            return false;
+        }
+
+        default boolean soloNames() {
+            return false;
+        }
+
+        default void artist(NameRow row, int weight) {
+        }
+
+        default void member(NameRow row, int weight) {
+        }
+
+        default void solo(NameRow row) {
+        }
+
+        default void subunit(NameRow row, int weight) {
+        }
+    }
+}
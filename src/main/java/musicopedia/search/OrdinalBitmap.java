@@ -0,0 +1,356 @@
+package musicopedia.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative ints, after Roaring: values are grouped by
+ * their high 16 bits, and each group of up to 65536 low halves is a sorted
+ * char array while it holds at most 4096 of them, or a 65536-bit bitmap once
+ * that is smaller. Intersections and their cardinalities then run container
+ * by container, word by word where both sides are dense.
+ *
+ * Not thread-safe; FacetIndex guards it with a read-write lock. The static
+ * operations never change their arguments.
+ */
+final class OrdinalBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    // High halves in ascending order, and the container of low halves for each
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+
+    void add(int value) {
+        char high = (char) (value >>> 16);
+        int at = Arrays.binarySearch(keys, high);
+        if (at < 0) {
+            at = -at - 1;
+            keys = insert(keys, at, high);
+            Container[] grown = new Container[containers.length + 1];
+            System.arraycopy(containers, 0, grown, 0, at);
+            System.arraycopy(containers, at, grown, at + 1, containers.length - at);
+            grown[at] = new Container(new char[4], 0, null);
+            containers = grown;
+        }
+        containers[at].add((char) value);
+    }
+
+    void remove(int value) {
+        int at = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (at < 0) {
+            return;
+        }
+        containers[at].remove((char) value);
+        if (containers[at].cardinality == 0) {
+            keys = delete(keys, at);
+            Container[] shrunk = new Container[containers.length - 1];
+            System.arraycopy(containers, 0, shrunk, 0, at);
+            System.arraycopy(containers, at + 1, shrunk, at, shrunk.length - at);
+            containers = shrunk;
+        }
+    }
+
+    boolean contains(int value) {
+        int at = Arrays.binarySearch(keys, (char) (value >>> 16));
+        return at >= 0 && containers[at].contains((char) value);
+    }
+
+    boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    int cardinality() {
+        int cardinality = 0;
+        for (Container container : containers) {
+            cardinality += container.cardinality;
+        }
+        return cardinality;
+    }
+
+    /** Visits the values in ascending order. */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /** The size of the intersection, without building it. */
+    int andCardinality(OrdinalBitmap other) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                cardinality += containers[i++].andCardinality(other.containers[j++]);
+            }
+        }
+        return cardinality;
+    }
+
+    static OrdinalBitmap and(OrdinalBitmap left, OrdinalBitmap right) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int n = Math.min(left.keys.length, right.keys.length);
+        char[] keys = new char[n];
+        Container[] containers = new Container[n];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.keys.length && j < right.keys.length) {
+            if (left.keys[i] < right.keys[j]) {
+                i++;
+            } else if (left.keys[i] > right.keys[j]) {
+                j++;
+            } else {
+                Container container = left.containers[i].and(right.containers[j]);
+                if (container.cardinality > 0) {
+                    keys[size] = left.keys[i];
+                    containers[size++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        result.keys = Arrays.copyOf(keys, size);
+        result.containers = Arrays.copyOf(containers, size);
+        return result;
+    }
+
+    static OrdinalBitmap or(OrdinalBitmap left, OrdinalBitmap right) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        char[] keys = new char[left.keys.length + right.keys.length];
+        Container[] containers = new Container[keys.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.keys.length || j < right.keys.length) {
+            if (j == right.keys.length || (i < left.keys.length && left.keys[i] < right.keys[j])) {
+                keys[size] = left.keys[i];
+                containers[size++] = left.containers[i++].copy();
+            } else if (i == left.keys.length || left.keys[i] > right.keys[j]) {
+                keys[size] = right.keys[j];
+                containers[size++] = right.containers[j++].copy();
+            } else {
+                keys[size] = left.keys[i];
+                containers[size++] = left.containers[i++].or(right.containers[j++]);
+            }
+        }
+        result.keys = Arrays.copyOf(keys, size);
+        result.containers = Arrays.copyOf(containers, size);
+        return result;
+    }
+
+    private static char[] insert(char[] array, int at, char value) {
+        char[] grown = new char[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, at);
+        System.arraycopy(array, at, grown, at + 1, array.length - at);
+        grown[at] = value;
+        return grown;
+    }
+
+    private static char[] delete(char[] array, int at) {
+        char[] shrunk = new char[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, at);
+        System.arraycopy(array, at + 1, shrunk, at, shrunk.length - at);
+        return shrunk;
+    }
+
+    /** The low halves sharing one high half: a sorted array, or a bitmap when {@code bits} is set. */
+    private static final class Container {
+
+        private char[] values;
+        private long[] bits;
+        private int cardinality;
+
+        Container(char[] values, int cardinality, long[] bits) {
+            this.values = values;
+            this.cardinality = cardinality;
+            this.bits = bits;
+        }
+
+        boolean contains(char low) {
+            if (bits != null) {
+                return (bits[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        void add(char low) {
+            if (bits != null) {
+                long word = bits[low >>> 6];
+                long updated = word | (1L << low);
+                if (updated != word) {
+                    bits[low >>> 6] = updated;
+                    cardinality++;
+                }
+                return;
+            }
+            int at = Arrays.binarySearch(values, 0, cardinality, low);
+            if (at >= 0) {
+                return;
+            }
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                add(low);
+                return;
+            }
+            at = -at - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, at, values, at + 1, cardinality - at);
+            values[at] = low;
+            cardinality++;
+        }
+
+        void remove(char low) {
+            if (bits != null) {
+                long word = bits[low >>> 6];
+                long updated = word & ~(1L << low);
+                if (updated != word) {
+                    bits[low >>> 6] = updated;
+                    cardinality--;
+                    if (cardinality <= ARRAY_MAX) {
+                        toArray();
+                    }
+                }
+                return;
+            }
+            int at = Arrays.binarySearch(values, 0, cardinality, low);
+            if (at >= 0) {
+                System.arraycopy(values, at + 1, values, at, cardinality - at - 1);
+                cardinality--;
+            }
+        }
+
+        void forEach(int high, IntConsumer action) {
+            if (bits == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(high | values[i]);
+                }
+                return;
+            }
+            for (int w = 0; w < WORDS; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    action.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        int andCardinality(Container other) {
+            if (bits != null && other.bits != null) {
+                int cardinality = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    cardinality += Long.bitCount(bits[w] & other.bits[w]);
+                }
+                return cardinality;
+            }
+            if (bits != null || other.bits != null) {
+                Container array = bits == null ? this : other;
+                Container bitmap = bits == null ? other : this;
+                int cardinality = 0;
+                for (int i = 0; i < array.cardinality; i++) {
+                    if (bitmap.contains(array.values[i])) {
+                        cardinality++;
+                    }
+                }
+                return cardinality;
+            }
+            int cardinality = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality && j < other.cardinality) {
+                if (values[i] < other.values[j]) {
+                    i++;
+                } else if (values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    cardinality++;
+                    i++;
+                    j++;
+                }
+            }
+            return cardinality;
+        }
+
+        Container and(Container other) {
+            if (bits != null && other.bits != null) {
+                long[] words = new long[WORDS];
+                int cardinality = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    words[w] = bits[w] & other.bits[w];
+                    cardinality += Long.bitCount(words[w]);
+                }
+                Container result = new Container(null, cardinality, words);
+                if (cardinality <= ARRAY_MAX) {
+                    result.toArray();
+                }
+                return result;
+            }
+            Container array = bits == null ? this : other;
+            Container probe = bits == null ? other : this;
+            char[] matched = new char[Math.min(array.cardinality, probe.cardinality)];
+            int size = 0;
+            for (int i = 0; i < array.cardinality && size < matched.length; i++) {
+                if (probe.contains(array.values[i])) {
+                    matched[size++] = array.values[i];
+                }
+            }
+            return new Container(matched, size, null);
+        }
+
+        Container or(Container other) {
+            if (bits != null && other.bits != null) {
+                long[] words = new long[WORDS];
+                int cardinality = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    words[w] = bits[w] | other.bits[w];
+                    cardinality += Long.bitCount(words[w]);
+                }
+                return new Container(null, cardinality, words);
+            }
+            // Copy the bitmap side, if any, and add the other side's values to it
+            boolean fromOther = bits == null && other.bits != null;
+            Container result = fromOther ? other.copy() : copy();
+            Container rest = fromOther ? this : other;
+            rest.forEach(0, value -> result.add((char) value));
+            return result;
+        }
+
+        Container copy() {
+            return bits != null
+                    ? new Container(null, cardinality, bits.clone())
+                    : new Container(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality, null);
+        }
+
+        private void toBitmap() {
+            long[] words = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            bits = words;
+            values = null;
+        }
+
+        private void toArray() {
+            char[] array = new char[Math.max(cardinality, 4)];
+            int size = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    array[size++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = array;
+            bits = null;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.SuggestionDTO;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Immutable prefix index answering "the k heaviest names starting with q".
+ *
+ * Every name is indexed from its start and from the start of each later
+ * word, so "swift" finds Taylor Swift. A key is packed into a long as
+ * (name ordinal, offset) instead of a substring copy, and the keys are
+ * sorted by the text they point at, so the keys matching a prefix form one
+ * contiguous range found by two binary searches. A segment tree over the key
+ * weights gives the heaviest key of any range in O(log n); the top k come
+ * from repeatedly taking the heaviest key of a range and splitting the range
+ * around it, so a query costs O(k log n) however many names share the
+ * prefix.
+ *
+ * Safe to share between threads once built; SuggestIndex swaps in a new one
+ * instead of changing it.
+ */
+final class PrefixSuggester {
+
+    static final PrefixSuggester EMPTY = build(List.of());
+
+    private final Suggestable[] entries;
+    // Normalized and original text per name ordinal, and the entry it belongs to
+    private final String[] texts;
+    private final String[] originals;
+    private final int[] entryOf;
+    // (name ordinal << 32 | offset), sorted by the suffix each points at
+    private final long[] keys;
+    private final int[] weights;
+    // tree[1] is the heaviest key overall; leaves start at keys.length
+    private final int[] tree;
+
+    private PrefixSuggester(Suggestable[] entries, String[] texts, String[] originals, int[] entryOf, long[] keys) {
+        this.entries = entries;
+        this.texts = texts;
+        this.originals = originals;
+        this.entryOf = entryOf;
+        this.keys = keys;
+        this.weights = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            weights[i] = entries[entryOf[nameOf(keys[i])]].weight();
+        }
+        int n = keys.length;
+        this.tree = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = heavier(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    static PrefixSuggester build(List<Suggestable> source) {
+        Suggestable[] entries = source.toArray(new Suggestable[0]);
+        List<String> texts = new ArrayList<>();
+        List<String> originals = new ArrayList<>();
+        List<Integer> entryOf = new ArrayList<>();
+        for (int e = 0; e < entries.length; e++) {
+            String name = SearchText.normalize(entries[e].name());
+            String altName = SearchText.normalize(entries[e].altName());
+            if (name != null && !name.isBlank()) {
+                texts.add(name);
+                originals.add(entries[e].name());
+                entryOf.add(e);
+            }
+            if (altName != null && !altName.isBlank() && !altName.equals(name)) {
+                texts.add(altName);
+                originals.add(entries[e].altName());
+                entryOf.add(e);
+            }
+        }
+        String[] textArray = texts.toArray(new String[0]);
+        List<Long> keyList = new ArrayList<>();
+        for (int t = 0; t < textArray.length; t++) {
+            String text = textArray[t];
+            for (int at = 0; at < text.length(); at++) {
+                boolean wordStart = Character.isLetterOrDigit(text.charAt(at))
+                        && (at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1)));
+                if (wordStart) {
+                    keyList.add(((long) t << 32) | at);
+                }
+            }
+        }
+        keyList.sort((left, right) -> compareSuffixes(textArray, left, right));
+        long[] keys = keyList.stream().mapToLong(Long::longValue).toArray();
+        return new PrefixSuggester(entries, textArray, originals.toArray(new String[0]),
+                entryOf.stream().mapToInt(Integer::intValue).toArray(), keys);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /** At most {@code limit} distinct entities with a name or word starting with {@code prefix}, heaviest first. */
+    List<SuggestionDTO> suggest(String prefix, int limit) {
+        String query = SearchText.normalize(prefix);
+        if (query == null || query.isBlank() || limit < 1) {
+            return List.of();
+        }
+        int from = bound(query, false);
+        int to = bound(query, true);
+        if (from >= to) {
+            return List.of();
+        }
+        // Each range carries its heaviest key; the heaviest range is split around it
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((left, right) -> heavier(left[2], right[2]) == left[2] ? -1 : 1);
+        ranges.add(new int[] {from, to, heaviest(from, to)});
+        Set<Integer> seen = new HashSet<>();
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        while (!ranges.isEmpty() && suggestions.size() < limit) {
+            int[] range = ranges.poll();
+            int key = range[2];
+            int name = nameOf(keys[key]);
+            int entry = entryOf[name];
+            // An entity can match through several of its words or both its names
+            if (seen.add(entry)) {
+                Suggestable suggestable = entries[entry];
+                suggestions.add(SuggestionDTO.of(suggestable.type(), suggestable.id(), suggestable.name(), originals[name]));
+            }
+            if (range[0] < key) {
+                ranges.add(new int[] {range[0], key, heaviest(range[0], key)});
+            }
+            if (key + 1 < range[1]) {
+                ranges.add(new int[] {key + 1, range[1], heaviest(key + 1, range[1])});
+            }
+        }
+        return suggestions;
+    }
+
+    /** First key whose suffix, cut to the query's length, is at least (or, if strict, after) the query. */
+    private int bound(String query, boolean strict) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparePrefix(keys[mid], query);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int comparePrefix(long key, String query) {
+        String text = texts[nameOf(key)];
+        int offset = offsetOf(key);
+        for (int i = 0; i < query.length(); i++) {
+            if (offset + i >= text.length()) {
+                return -1;
+            }
+            int diff = text.charAt(offset + i) - query.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    private int heaviest(int from, int to) {
+        int best = -1;
+        int n = keys.length;
+        for (int low = from + n, high = to + n; low < high; low >>= 1, high >>= 1) {
+            if ((low & 1) == 1) {
+                best = heavier(best, tree[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = heavier(best, tree[--high]);
+            }
+        }
+        return best;
+    }
+
+    // Heavier weight wins; on a tie the earlier key, i.e. the shorter or alphabetically first suffix
+    private int heavier(int left, int right) {
+        if (left < 0) {
+            return right;
+        }
+        if (right < 0) {
+            return left;
+        }
+        if (weights[left] != weights[right]) {
+            return weights[left] > weights[right] ? left : right;
+        }
+        return Math.min(left, right);
+    }
+
+    private static int compareSuffixes(String[] texts, long left, long right) {
+        String a = texts[nameOf(left)];
+        String b = texts[nameOf(right)];
+        int i = offsetOf(left);
+        int j = offsetOf(right);
+        while (i < a.length() && j < b.length()) {
+            int diff = a.charAt(i++) - b.charAt(j++);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        int cmp = Integer.compare(a.length() - i, b.length() - j);
+        return cmp != 0 ? cmp : Long.compare(left, right);
+    }
+
+    private static int nameOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int offsetOf(long key) {
+        return (int) key;
+    }
+}
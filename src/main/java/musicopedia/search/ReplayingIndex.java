@@ -0,0 +1,196 @@
+package musicopedia.search;
+
+import musicopedia.config.datasource.PrimaryReads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lifecycle shared by the in-memory search indexes. A build loads a fresh
+ * state from the primary, replays onto it the writes that committed while it
+ * was loading, and swaps it in whole, so queries see either the previous
+ * state or the complete new one and no write is lost to the load's snapshot.
+ * On failure the previous state stays in use.
+ *
+ * Loads run in a read-only transaction pinned to the primary: a replica
+ * behind the last write would leave that write out with nothing to replay it.
+ *
+ * @param <T> the mutable state queries read and writes change, guarded by
+ *            this class's lock
+ */
+abstract class ReplayingIndex<T> implements CatalogChangeListener {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final String description;
+    private final TransactionTemplate transactionTemplate;
+
+    // Held for the whole of a build, so two builds never share the replay list
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private T current;
+    private List<Consumer<T>> replay;
+
+    protected ReplayingIndex(String description, PlatformTransactionManager transactionManager) {
+        this.description = description;
+        this.transactionTemplate = primaryReadTemplate(transactionManager);
+    }
+
+    public boolean isReady() {
+        return read(Objects::nonNull);
+    }
+
+    /** Loads a new state and swaps it in; false, with the previous state kept, if the load failed. */
+    public boolean rebuild() {
+        Build<T> build = startBuild();
+        try {
+            readPrimary(transactionTemplate, () -> load(build.next()));
+        } catch (RuntimeException e) {
+            build.fail(e);
+            return false;
+        }
+        build.publish();
+        return true;
+    }
+
+    /** A state with nothing loaded yet. */
+    protected abstract T empty();
+
+    /** Streams the rows into {@code next}; runs inside the build's transaction. */
+    protected abstract void load(T next);
+
+    /** What a built state holds, for the build's log line. */
+    protected abstract String summary(T built);
+
+    /** Called after a build has been swapped in, outside the lock. */
+    protected void published(T built) {
+    }
+
+    /** Applies {@code change} to the current state and to the one being built, if any. */
+    protected final void apply(Consumer<T> change) {
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                change.accept(current);
+            }
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Changes the current state only, for data derived from it that a build recomputes anyway. */
+    protected final void update(Consumer<T> change) {
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                change.accept(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Runs {@code query} under the read lock against the current state, which is null until the first build. */
+    protected final <R> R read(Function<? super T, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Opens a build: from here on every write is also recorded for replay onto its state. */
+    final Build<T> startBuild() {
+        buildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                replay = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return new Build<>(this, empty());
+        } catch (RuntimeException e) {
+            finish(null);
+            throw e;
+        }
+    }
+
+    static TransactionTemplate primaryReadTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    static void readPrimary(TransactionTemplate template, Runnable load) {
+        PrimaryReads.call(() -> {
+            template.executeWithoutResult(status -> load.run());
+            return null;
+        });
+    }
+
+    // A null state drops the replayed writes and keeps the current one; returns the new state's summary
+    private String finish(T next) {
+        try {
+            lock.writeLock().lock();
+            try {
+                List<Consumer<T>> changes = replay;
+                replay = null;
+                if (next == null) {
+                    return null;
+                }
+                changes.forEach(change -> change.accept(next));
+                current = next;
+                return summary(next);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /** A state being loaded, to be either published or failed by the thread that started it. */
+    static final class Build<T> {
+
+        private final ReplayingIndex<T> index;
+        private final T next;
+        private final long start = System.nanoTime();
+
+        private Build(ReplayingIndex<T> index, T next) {
+            this.index = index;
+            this.next = next;
+        }
+
+        T next() {
+            return next;
+        }
+
+        void publish() {
+            String summary = index.finish(next);
+            index.log.info("Built the {} in {} ms: {}", index.description,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), summary);
+            index.published(next);
+        }
+
+        void fail(RuntimeException e) {
+            index.finish(null);
+            index.log.warn("Building the {} failed; keeping the previous one", index.description, e);
+        }
+    }
+}
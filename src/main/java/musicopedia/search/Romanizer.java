@@ -0,0 +1,115 @@
+package musicopedia.search;
+
+/**
+ * Spells Hangul syllables and kana in Latin letters, leaving every other
+ * character as it is. Hangul follows the Revised Romanization one syllable at
+ * a time, without the sound changes between syllables; kana follows Hepburn.
+ * Chinese characters would need a reading dictionary and are left alone.
+ */
+final class Romanizer {
+
+    private static final int HANGUL_FIRST = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int HIRAGANA_FIRST = 0x3041;
+    private static final int HIRAGANA_LAST = 0x3094;
+    private static final int KATAKANA_OFFSET = 0x60;
+    private static final char SMALL_TSU = 'っ';
+    private static final char LONG_VOWEL_MARK = 'ー';
+    private static final char MIDDLE_DOT = '・';
+
+    private static final String[] INITIALS = {
+            "g", "kk", "n", "d", "tt", "r", "m", "b", "pp", "s", "ss", "", "j", "jj", "ch", "k", "t", "p", "h"};
+    private static final String[] VOWELS = {
+            "a", "ae", "ya", "yae", "eo", "e", "yeo", "ye", "o", "wa", "wae", "oe", "yo", "u", "wo", "we", "wi",
+            "yu", "eu", "ui", "i"};
+    private static final String[] FINALS = {
+            "", "k", "k", "k", "n", "n", "n", "t", "l", "k", "m", "l", "l", "l", "p", "l", "m", "p", "p", "t", "t",
+            "ng", "t", "t", "k", "t", "p", "t"};
+
+    // Hiragana from U+3041 to U+3094; small kana are marked with a leading '_'
+    private static final String[] KANA = {
+            "_a", "a", "_i", "i", "_u", "u", "_e", "e", "_o", "o",
+            "ka", "ga", "ki", "gi", "ku", "gu", "ke", "ge", "ko", "go",
+            "sa", "za", "shi", "ji", "su", "zu", "se", "ze", "so", "zo",
+            "ta", "da", "chi", "ji", "", "tsu", "zu", "te", "de", "to", "do",
+            "na", "ni", "nu", "ne", "no",
+            "ha", "ba", "pa", "hi", "bi", "pi", "fu", "bu", "pu", "he", "be", "pe", "ho", "bo", "po",
+            "ma", "mi", "mu", "me", "mo",
+            "_ya", "ya", "_yu", "yu", "_yo", "yo",
+            "ra", "ri", "ru", "re", "ro",
+            "_wa", "wa", "i", "e", "o", "n", "vu"};
+
+    private Romanizer() {
+    }
+
+    static String romanize(String text) {
+        StringBuilder out = new StringBuilder(text.length() * 2);
+        boolean doubleNext = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                int syllable = c - HANGUL_FIRST;
+                out.append(INITIALS[syllable / 588]).append(VOWELS[syllable % 588 / 28]).append(FINALS[syllable % 28]);
+                continue;
+            }
+            String kana = kana(c);
+            if (kana == null) {
+                if (c == MIDDLE_DOT) {
+                    out.append(' ');
+                } else if (c != LONG_VOWEL_MARK) {
+                    out.append(c);
+                }
+                doubleNext = false;
+                continue;
+            }
+            if (c == SMALL_TSU || c == SMALL_TSU + KATAKANA_OFFSET) {
+                doubleNext = true;
+                continue;
+            }
+            if (kana.startsWith("_")) {
+                appendSmall(out, kana.substring(1));
+            } else {
+                // A small tsu doubles the next consonant; Hepburn writes "tch" rather than "cch"
+                if (doubleNext && !kana.isEmpty() && !isVowel(kana.charAt(0))) {
+                    out.append(kana.startsWith("ch") ? 't' : kana.charAt(0));
+                }
+                out.append(kana);
+            }
+            doubleNext = false;
+        }
+        return out.toString();
+    }
+
+    private static String kana(char c) {
+        if (c >= HIRAGANA_FIRST && c <= HIRAGANA_LAST) {
+            return KANA[c - HIRAGANA_FIRST];
+        }
+        if (c >= HIRAGANA_FIRST + KATAKANA_OFFSET && c <= HIRAGANA_LAST + KATAKANA_OFFSET) {
+            return KANA[c - HIRAGANA_FIRST - KATAKANA_OFFSET];
+        }
+        return null;
+    }
+
+    /**
+     * Small kana change the sound before them: きゃ is "kya" and しゃ "sha";
+     * ファ is "fa". Standing alone they read as their full-size form.
+     */
+    private static void appendSmall(StringBuilder out, String small) {
+        int last = out.length() - 1;
+        boolean afterVowel = last >= 0 && isVowel(out.charAt(last));
+        if (small.startsWith("y") && afterVowel && out.charAt(last) == 'i') {
+            out.setLength(last);
+            String stem = out.toString();
+            boolean palatal = stem.endsWith("sh") || stem.endsWith("ch") || stem.endsWith("j");
+            out.append(palatal ? small.substring(1) : small);
+        } else if (!small.startsWith("y") && afterVowel && last > 0 && !isVowel(out.charAt(last - 1))) {
+            out.setCharAt(last, small.charAt(small.length() - 1));
+        } else {
+            out.append(small);
+        }
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+}
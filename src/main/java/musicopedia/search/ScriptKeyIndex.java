@@ -0,0 +1,116 @@
+package musicopedia.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Exact-key index over one name field, keyed by {@link SearchText#key}, so a
+ * name written in Hangul, kana or Latin letters is found by a query in any of
+ * them with a single hash lookup. The whole name and each of its words are
+ * keys, so "제니" finds "Jennie Kim".
+ *
+ * Not thread-safe; NameIndex guards it with a read-write lock.
+ */
+final class ScriptKeyIndex {
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    // Keys per ordinal, the whole name's first; null once the document is removed
+    private final List<String[]> keys = new ArrayList<>();
+    private final Map<String, IntPostingList> postings = new HashMap<>();
+
+    /** Adds or replaces the name indexed under {@code id}; a null name removes it. */
+    void put(UUID id, String name) {
+        String[] nameKeys = keysOf(name);
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            unindex(existing);
+        }
+        if (nameKeys.length == 0) {
+            return;
+        }
+        int doc;
+        if (existing != null) {
+            doc = existing;
+        } else {
+            doc = ids.size();
+            ordinals.put(id, doc);
+            ids.add(id);
+            keys.add(null);
+        }
+        keys.set(doc, nameKeys);
+        for (String key : nameKeys) {
+            postings.computeIfAbsent(key, k -> new IntPostingList()).add(doc);
+        }
+    }
+
+    void remove(UUID id) {
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            unindex(existing);
+        }
+    }
+
+    /**
+     * Ids with the same key as {@code query}: names matching as a whole
+     * first, then names with a matching word, shorter names first.
+     */
+    List<UUID> search(String query, int limit, Predicate<UUID> filter) {
+        String key = SearchText.key(query);
+        IntPostingList docs = key.isEmpty() ? null : postings.get(key);
+        if (docs == null || limit < 1) {
+            return List.of();
+        }
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < docs.size(); i++) {
+            if (filter.test(ids.get(docs.get(i)))) {
+                matches.add(docs.get(i));
+            }
+        }
+        matches.sort(Comparator.<Integer>comparingInt(doc -> keys.get(doc)[0].equals(key) ? 0 : 1)
+                .thenComparingInt(doc -> keys.get(doc)[0].length())
+                .thenComparingInt(doc -> doc));
+        return matches.stream().limit(limit).map(ids::get).toList();
+    }
+
+    private void unindex(int doc) {
+        String[] docKeys = keys.get(doc);
+        if (docKeys == null) {
+            return;
+        }
+        for (String key : docKeys) {
+            IntPostingList list = postings.get(key);
+            if (list != null) {
+                list.remove(doc);
+                if (list.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+        keys.set(doc, null);
+    }
+
+    /** Key of the whole name, then of each word, without repeats or empty keys. */
+    private static String[] keysOf(String name) {
+        String whole = SearchText.key(name);
+        if (whole.isEmpty()) {
+            return new String[0];
+        }
+        Set<String> nameKeys = new LinkedHashSet<>();
+        nameKeys.add(whole);
+        for (String word : name.split("[^\\p{L}\\p{N}]+")) {
+            String key = SearchText.key(word);
+            if (!key.isEmpty()) {
+                nameKeys.add(key);
+            }
+        }
+        return nameKeys.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,88 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.model.Subunit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Hands catalog writes to every in-memory search index once the surrounding
+ * transaction commits, so a rolled-back write never becomes searchable.
+ * Outside a transaction the change is applied immediately.
+ */
+@Component
+public class SearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexer.class);
+
+    private final List<CatalogChangeListener> listeners;
+
+    public SearchIndexer(List<CatalogChangeListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    public void artistSavedOnCommit(Artist artist) {
+        afterCommit(listener -> listener.artistSaved(artist));
+    }
+
+    public void artistDeletedOnCommit(UUID artistId) {
+        afterCommit(listener -> listener.artistDeleted(artistId));
+    }
+
+    public void memberSavedOnCommit(Member member) {
+        afterCommit(listener -> listener.memberSaved(member));
+    }
+
+    public void memberDeletedOnCommit(UUID memberId) {
+        afterCommit(listener -> listener.memberDeleted(memberId));
+    }
+
+    public void soloSavedOnCommit(Solo solo) {
+        afterCommit(listener -> listener.soloSaved(solo));
+    }
+
+    public void soloDeletedOnCommit(UUID soloId) {
+        afterCommit(listener -> listener.soloDeleted(soloId));
+    }
+
+    public void subunitSavedOnCommit(Subunit subunit) {
+        afterCommit(listener -> listener.subunitSaved(subunit));
+    }
+
+    public void subunitDeletedOnCommit(UUID subunitId) {
+        afterCommit(listener -> listener.subunitDeleted(subunitId));
+    }
+
+    private void afterCommit(Consumer<CatalogChangeListener> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notifyListeners(change);
+                }
+            });
+        } else {
+            notifyListeners(change);
+        }
+    }
+
+    // The write has already committed; a failing index must not fail the request or starve the others
+    private void notifyListeners(Consumer<CatalogChangeListener> change) {
+        for (CatalogChangeListener listener : listeners) {
+            try {
+                change.accept(listener);
+            } catch (RuntimeException e) {
+                log.warn("Search index {} failed to apply a catalog change", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
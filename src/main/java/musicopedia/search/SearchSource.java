@@ -0,0 +1,9 @@
+package musicopedia.search;
+
+/** Backends the unified search fans out to. */
+public enum SearchSource {
+    ARTISTS,
+    MEMBERS,
+    SOLOISTS,
+    SUBUNITS
+}
@@ -0,0 +1,63 @@
+package musicopedia.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization shared by the in-memory name indexes and the database
+ * fallback, so both agree on what matches.
+ */
+public final class SearchText {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NOT_LETTER_OR_DIGIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern FINAL_Y = Pattern.compile("(?<=[^aeiou])y$|ie$");
+
+    // Spellings that romanizations of the same Korean or Japanese sound disagree on
+    private static final String[][] SOUND_FOLDS = {
+            {"eo", "o"}, {"eu", "u"}, {"oo", "u"}, {"ou", "o"}, {"ee", "i"}, {"ae", "e"},
+            {"ch", "j"}, {"sh", "s"}, {"k", "g"}, {"t", "d"}, {"p", "b"}, {"l", "r"}};
+
+    private SearchText() {
+    }
+
+    /** Lower-cases with the root locale, as LOWER() does in the LIKE queries; null stays null. */
+    public static String normalize(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Script-independent match key: NFKC, case-folded, Hangul and kana
+     * romanized, diacritics and everything but letters and digits dropped,
+     * then spellings that romanize the same sound differently folded
+     * together and repeated letters collapsed. "Jennie", "jenny", "jeni" and
+     * "제니" all give "jeni". Null or a name without letters gives "".
+     */
+    public static String key(String text) {
+        if (text == null) {
+            return "";
+        }
+        String romanized = Romanizer.romanize(Normalizer.normalize(text, Normalizer.Form.NFKC));
+        String stripped = MARKS.matcher(Normalizer.normalize(romanized, Normalizer.Form.NFD)).replaceAll("");
+        // Upper- then lower-casing folds the cases lower-casing alone misses, such as ß and ss
+        String folded = NOT_LETTER_OR_DIGIT.matcher(stripped.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT))
+                .replaceAll("");
+        String key = FINAL_Y.matcher(folded).replaceAll("i");
+        for (String[] fold : SOUND_FOLDS) {
+            key = key.replace(fold[0], fold[1]);
+        }
+        return collapseRepeats(key);
+    }
+
+    private static String collapseRepeats(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (out.isEmpty() || out.charAt(out.length() - 1) != c) {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
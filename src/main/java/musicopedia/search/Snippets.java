@@ -0,0 +1,107 @@
+package musicopedia.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Cuts the passage of a description that best shows why it matched: the
+ * window of at most {@code maxLength} characters holding the most distinct
+ * query terms, with each match wrapped in {@code <em>}. The description
+ * itself is HTML-escaped, so only the tags added here are markup.
+ */
+final class Snippets {
+
+    static final int DEFAULT_LENGTH = 160;
+    private static final String ELLIPSIS = "…";
+    // How much text to keep ahead of the first match in the window
+    private static final int LEAD = 30;
+
+    private Snippets() {
+    }
+
+    static String highlight(String text, Set<String> terms, int maxLength) {
+        List<int[]> matches = new ArrayList<>();
+        for (TextTokenizer.Token token : TextTokenizer.tokenize(text)) {
+            if (terms.contains(token.term())) {
+                int[] last = matches.isEmpty() ? null : matches.get(matches.size() - 1);
+                // Overlapping CJK bigrams become one highlighted span
+                if (last != null && token.start() <= last[1]) {
+                    last[1] = Math.max(last[1], token.end());
+                } else {
+                    matches.add(new int[] {token.start(), token.end()});
+                }
+            }
+        }
+        int[] window = window(text, matches, maxLength);
+
+        StringBuilder snippet = new StringBuilder();
+        if (window[0] > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        int at = window[0];
+        for (int[] match : matches) {
+            if (match[0] < window[0] || match[1] > window[1]) {
+                continue;
+            }
+            snippet.append(HtmlUtils.htmlEscape(text.substring(at, match[0])))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(text.substring(match[0], match[1])))
+                    .append("</em>");
+            at = match[1];
+        }
+        snippet.append(HtmlUtils.htmlEscape(text.substring(at, window[1])));
+        if (window[1] < text.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString().strip();
+    }
+
+    // [start, end) of the window with the most distinct matched terms, starting a little before its first match
+    private static int[] window(String text, List<int[]> matches, int maxLength) {
+        if (text.length() <= maxLength) {
+            return new int[] {0, text.length()};
+        }
+        int bestStart = 0;
+        int bestDistinct = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            int limit = matches.get(i)[0] + maxLength - LEAD;
+            Set<String> distinct = new HashSet<>();
+            for (int j = i; j < matches.size() && matches.get(j)[1] <= limit; j++) {
+                distinct.add(text.substring(matches.get(j)[0], matches.get(j)[1]).toLowerCase(Locale.ROOT));
+            }
+            if (distinct.size() > bestDistinct) {
+                bestDistinct = distinct.size();
+                bestStart = matches.get(i)[0];
+            }
+        }
+        int start = Math.max(0, bestStart - LEAD);
+        int end = Math.min(text.length(), start + maxLength);
+        start = Math.max(0, end - maxLength);
+        return new int[] {wordBoundary(text, start, true), wordBoundary(text, end, false)};
+    }
+
+    // Moves a cut off the middle of a word, or of a surrogate pair, towards the window's inside
+    private static int wordBoundary(String text, int at, boolean forward) {
+        if (at <= 0 || at >= text.length()) {
+            return at;
+        }
+        int moved = at;
+        int steps = 0;
+        while (moved > 0 && moved < text.length() && !Character.isWhitespace(text.charAt(moved - 1)) && steps < 15) {
+            moved += forward ? 1 : -1;
+            steps++;
+        }
+        if (steps == 15 || moved <= 0 || moved >= text.length()) {
+            moved = at;
+        }
+        if (Character.isLowSurrogate(text.charAt(moved))) {
+            moved += forward ? 1 : -1;
+        }
+        return moved;
+    }
+}
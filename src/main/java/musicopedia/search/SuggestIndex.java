@@ -0,0 +1,211 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.SuggestionDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Subunit;
+import musicopedia.repository.projection.NameRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Type-ahead suggestions over artist names, member stage and real names and
+ * subunit names, served from an immutable {@link PrefixSuggester}.
+ *
+ * The names and weights are loaded as described in {@link ReplayingIndex}
+ * and reloaded on a fixed delay. Committed writes update the loaded names in
+ * place and mark them changed; a background task then builds a new suggester from them
+ * and swaps it in, so a query never waits on a build and always sees one
+ * complete index. A name written after the last reload keeps its previous
+ * weight, or none if it is new, until the next one.
+ *
+ * Suggestions sharing a prefix are ordered by {@link CatalogWeights}.
+ */
+@Component
+public class SuggestIndex extends NameSourcedIndex<SuggestIndex.Sources> {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestIndex.class);
+
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private volatile PrefixSuggester current;
+
+    public SuggestIndex(NameStream names, PlatformTransactionManager transactionManager) {
+        super("autocomplete names", names, transactionManager);
+    }
+
+    @Override
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /** Entities with a name or word starting with {@code prefix}, heaviest first; empty until the first build. */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        PrefixSuggester suggester = current;
+        return suggester == null ? List.of() : suggester.suggest(prefix, limit);
+    }
+
+    @Override
+    public void artistSaved(Artist artist) {
+        UUID id = artist.getArtistId();
+        String name = artist.getArtistName();
+        change(loaded -> loaded.put(SuggestionType.ARTIST, id, name, null));
+    }
+
+    @Override
+    public void artistDeleted(UUID artistId) {
+        change(loaded -> loaded.remove(SuggestionType.ARTIST, artistId));
+    }
+
+    @Override
+    public void memberSaved(Member member) {
+        UUID id = member.getMemberId();
+        String name = member.getMemberName();
+        String realName = member.getRealName();
+        change(loaded -> loaded.put(SuggestionType.MEMBER, id, name, realName));
+    }
+
+    @Override
+    public void memberDeleted(UUID memberId) {
+        change(loaded -> loaded.remove(SuggestionType.MEMBER, memberId));
+    }
+
+    @Override
+    public void subunitSaved(Subunit subunit) {
+        UUID id = subunit.getSubunitId();
+        String name = subunit.getSubunitName();
+        change(loaded -> loaded.put(SuggestionType.SUBUNIT, id, name, null));
+    }
+
+    @Override
+    public void subunitDeleted(UUID subunitId) {
+        change(loaded -> loaded.remove(SuggestionType.SUBUNIT, subunitId));
+    }
+
+    @Scheduled(initialDelayString = "${app.suggest.reload-interval:PT6H}",
+            fixedDelayString = "${app.suggest.reload-interval:PT6H}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /** Rebuilds the suggester if a write has changed the names since the last build. */
+    @Scheduled(fixedDelayString = "${app.suggest.refresh-delay:PT1S}")
+    public synchronized void refresh() {
+        if (changed.getAndSet(false)) {
+            publish();
+        }
+    }
+
+    /**
+     * Reloads every name and weight and publishes a suggester built from
+     * them. On failure the previous names and suggester stay in use.
+     */
+    public void reload() {
+        rebuild();
+    }
+
+    @Override
+    protected Sources empty() {
+        return new Sources();
+    }
+
+    @Override
+    protected NameStream.Sink sinkFor(Sources next) {
+        return new NameStream.Sink() {
+            @Override
+            public boolean weighted() {
+                return true;
+            }
+
+            @Override
+            public void artist(NameRow row, int weight) {
+                next.put(SuggestionType.ARTIST, row.getId(), row.getName(), null, weight);
+            }
+
+            @Override
+            public void member(NameRow row, int weight) {
+                next.put(SuggestionType.MEMBER, row.getId(), row.getName(), row.getRealName(), weight);
+            }
+
+            @Override
+            public void subunit(NameRow row, int weight) {
+                next.put(SuggestionType.SUBUNIT, row.getId(), row.getName(), null, weight);
+            }
+        };
+    }
+
+    @Override
+    protected String summary(Sources built) {
+        return built.size() + " names";
+    }
+
+    @Override
+    protected synchronized void published(Sources built) {
+        changed.set(false);
+        publish();
+    }
+
+    private void publish() {
+        List<Suggestable> snapshot = read(sources -> sources == null ? null : sources.all());
+        if (snapshot == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        PrefixSuggester next = PrefixSuggester.build(snapshot);
+        current = next;
+        log.debug("Autocomplete index built over {} names in {} ms", next.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void change(Consumer<Sources> change) {
+        apply(change);
+        changed.set(true);
+    }
+
+    static final class Sources {
+
+        private final Map<SuggestionType, Map<UUID, Suggestable>> byType = new EnumMap<>(SuggestionType.class);
+
+        Sources() {
+            for (SuggestionType type : SuggestionType.values()) {
+                byType.put(type, new HashMap<>());
+            }
+        }
+
+        void put(SuggestionType type, UUID id, String name, String altName, int weight) {
+            byType.get(type).put(id, new Suggestable(type, id, name, altName, weight));
+        }
+
+        // A write keeps the weight loaded for the entity; it is recomputed on the next reload
+        void put(SuggestionType type, UUID id, String name, String altName) {
+            Suggestable previous = byType.get(type).get(id);
+            put(type, id, name, altName, previous == null ? 0 : previous.weight());
+        }
+
+        void remove(SuggestionType type, UUID id) {
+            byType.get(type).remove(id);
+        }
+
+        int size() {
+            return byType.values().stream().mapToInt(Map::size).sum();
+        }
+
+        List<Suggestable> all() {
+            List<Suggestable> all = new ArrayList<>();
+            byType.values().forEach(entries -> all.addAll(entries.values()));
+            return all;
+        }
+    }
+}
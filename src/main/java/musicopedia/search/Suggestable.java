@@ -0,0 +1,11 @@
+package musicopedia.search;
+
+import java.util.UUID;
+
+/**
+ * One entity offered by autocomplete: its display name, an optional second
+ * name it can also be found by, and the weight that orders it against other
+ * entities sharing a prefix.
+ */
+record Suggestable(SuggestionType type, UUID id, String name, String altName, int weight) {
+}
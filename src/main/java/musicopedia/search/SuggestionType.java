@@ -0,0 +1,8 @@
+package musicopedia.search;
+
+/** Kind of entity an autocomplete suggestion points at. */
+public enum SuggestionType {
+    ARTIST,
+    MEMBER,
+    SUBUNIT
+}
@@ -0,0 +1,114 @@
+package musicopedia.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits free text into search terms for {@link DescriptionIndex}. Latin and
+ * other space-separated scripts give one term per run of letters and digits,
+ * lower-cased and stripped of diacritics. Han, kana and Hangul runs give
+ * overlapping character bigrams, since Chinese and Japanese do not separate
+ * words and Korean particles attach to the word before them: "방탄소년단은"
+ * still contains every bigram of "방탄소년단". A CJK run of one character
+ * is a term of its own.
+ *
+ * Every term keeps the character range it came from, for highlighting.
+ */
+final class TextTokenizer {
+
+    // Katakana prolonged sound mark, which Unicode puts in no script
+    private static final int PROLONGED_SOUND_MARK = 'ー';
+    // Hangul Jamo, the first block of any of the four scripts
+    private static final int FIRST_CJK = 0x1100;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+
+    private TextTokenizer() {
+    }
+
+    static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int at = 0;
+        while (at < text.length()) {
+            int codePoint = text.codePointAt(at);
+            if (isCjk(codePoint)) {
+                at = cjkRun(text, at, tokens);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                at = word(text, at, tokens);
+            } else {
+                at += Character.charCount(codePoint);
+            }
+        }
+        return tokens;
+    }
+
+    private static int word(String text, int start, List<Token> tokens) {
+        int at = start;
+        while (at < text.length()) {
+            int codePoint = text.codePointAt(at);
+            boolean inWord = Character.isLetterOrDigit(codePoint) || Character.getType(codePoint) == Character.NON_SPACING_MARK;
+            if (!inWord || isCjk(codePoint)) {
+                break;
+            }
+            at += Character.charCount(codePoint);
+        }
+        String word = text.substring(start, at);
+        String term = isAscii(word)
+                ? word.toLowerCase(Locale.ROOT)
+                : MARKS.matcher(Normalizer.normalize(word, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+        tokens.add(new Token(term, start, at));
+        return at;
+    }
+
+    private static int cjkRun(String text, int start, List<Token> tokens) {
+        List<Integer> starts = new ArrayList<>();
+        int at = start;
+        while (at < text.length() && isCjk(text.codePointAt(at))) {
+            starts.add(at);
+            at += Character.charCount(text.codePointAt(at));
+        }
+        starts.add(at);
+        if (starts.size() == 2) {
+            tokens.add(new Token(text.substring(start, at), start, at));
+            return at;
+        }
+        for (int i = 0; i + 2 < starts.size(); i++) {
+            int from = starts.get(i);
+            int to = starts.get(i + 2);
+            tokens.add(new Token(text.substring(from, to), from, to));
+        }
+        return at;
+    }
+
+    private static boolean isAscii(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        if (codePoint < FIRST_CJK) {
+            return false;
+        }
+        if (codePoint == PROLONGED_SOUND_MARK) {
+            return true;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+
+    /** A term and the range of the source text, {@code start} inclusive and {@code end} exclusive, it came from. */
+    record Token(String term, int start, int end) {
+    }
+}
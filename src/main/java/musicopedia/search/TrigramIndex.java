@@ -0,0 +1,167 @@
+package musicopedia.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Substring index over one name field. Every normalized name is broken into
+ * its overlapping three-character windows, and each trigram maps to the
+ * sorted ordinals of the names containing it. A query of three or more
+ * characters intersects the lists of its own trigrams, starting from the
+ * shortest, and then checks the surviving names for the whole query, since
+ * sharing every trigram does not guarantee the trigrams are adjacent.
+ * Shorter queries have no trigram to look up and scan the names instead.
+ *
+ * Not thread-safe; NameIndex guards it with a read-write lock.
+ */
+final class TrigramIndex {
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    // Normalized name per ordinal, null once the document is removed
+    private final List<String> texts = new ArrayList<>();
+    private final Map<Long, IntPostingList> postings = new HashMap<>();
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /** Adds or replaces the name indexed under {@code id}; a null name removes it. */
+    void put(UUID id, String name) {
+        String text = SearchText.normalize(name);
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            String previous = texts.get(existing);
+            if (previous != null && previous.equals(text)) {
+                return;
+            }
+            unindex(existing);
+        }
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int doc;
+        if (existing != null) {
+            doc = existing;
+        } else {
+            doc = ids.size();
+            ordinals.put(id, doc);
+            ids.add(id);
+            texts.add(null);
+        }
+        texts.set(doc, text);
+        size++;
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            postings.computeIfAbsent(trigram(text, i), key -> new IntPostingList()).add(doc);
+        }
+    }
+
+    void remove(UUID id) {
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            unindex(existing);
+        }
+    }
+
+    /**
+     * Ids whose name contains {@code query} (case-insensitively), best
+     * matches first, at most {@code limit} of them.
+     */
+    List<UUID> search(String query, int limit, Predicate<UUID> filter) {
+        String normalized = SearchText.normalize(query);
+        if (normalized == null || normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        // Max-heap on rank: the root is the worst of the best `limit` matches so far
+        Comparator<Integer> byRank = (left, right) -> NameRanking.compare(texts.get(left), texts.get(right), normalized);
+        PriorityQueue<Integer> best = new PriorityQueue<>(byRank.reversed());
+        if (normalized.length() < 3) {
+            for (int doc = 0; doc < texts.size(); doc++) {
+                offer(best, doc, normalized, limit, byRank, filter);
+            }
+        } else {
+            List<IntPostingList> lists = postingsOf(normalized);
+            if (!lists.isEmpty()) {
+                IntPostingList shortest = lists.get(0);
+                for (int i = 0; i < shortest.size(); i++) {
+                    int doc = shortest.get(i);
+                    if (containedInRest(lists, doc)) {
+                        offer(best, doc, normalized, limit, byRank, filter);
+                    }
+                }
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(best);
+        ranked.sort(byRank);
+        return ranked.stream().map(ids::get).toList();
+    }
+
+    /** Posting lists of every trigram in the query, shortest first; empty if any trigram is unknown. */
+    private List<IntPostingList> postingsOf(String query) {
+        List<IntPostingList> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            IntPostingList list = postings.get(trigram(query, i));
+            if (list == null) {
+                return List.of();
+            }
+            if (!lists.contains(list)) {
+                lists.add(list);
+            }
+        }
+        lists.sort(Comparator.comparingInt(IntPostingList::size));
+        return lists;
+    }
+
+    private static boolean containedInRest(List<IntPostingList> lists, int doc) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(doc)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void offer(PriorityQueue<Integer> best, int doc, String query, int limit,
+                       Comparator<Integer> byRank, Predicate<UUID> filter) {
+        String text = texts.get(doc);
+        if (text == null || !text.contains(query) || !filter.test(ids.get(doc))) {
+            return;
+        }
+        if (best.size() < limit) {
+            best.add(doc);
+        } else if (byRank.compare(doc, best.peek()) < 0) {
+            best.poll();
+            best.add(doc);
+        }
+    }
+
+    private void unindex(int doc) {
+        String text = texts.get(doc);
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            long key = trigram(text, i);
+            IntPostingList list = postings.get(key);
+            if (list != null) {
+                list.remove(doc);
+                if (list.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+        texts.set(doc, null);
+        size--;
+    }
+
+    private static long trigram(String text, int at) {
+        return ((long) text.charAt(at) << 32) | ((long) text.charAt(at + 1) << 16) | text.charAt(at + 2);
+    }
+}
@@ -0,0 +1,20 @@
+package musicopedia.service;
+
+import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.response.ArtistBatchResultDTO;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bulk artist creation. Invalid or duplicate items are reported per item
+ * rather than failing the whole request.
+ */
+public interface ArtistIngestionService {
+
+    /**
+     * Validate every request, drop spotifyId duplicates, then insert the rest
+     * in independently committed chunks
+     */
+    CompletableFuture<ArtistBatchResultDTO> ingestAsync(List<ArtistRequestDTO> requests);
+}
@@ -3,9 +3,17 @@ package musicopedia.service;
 import musicopedia.model.Artist;
 import musicopedia.model.enums.ArtistType;
 import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.request.ArtistSearchRequestDTO;
+import musicopedia.dto.response.ArtistFacetSearchDTO;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.search.ArtistFacet;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -16,6 +24,28 @@ public interface ArtistService {
      */
     CompletableFuture<List<Artist>> findAllAsync();
     
+    /**
+     * Asynchronously find one page of artists ordered by name, starting after the given cursor
+     */
+    CompletableFuture<CursorPage<Artist>> findPageAsync(KeysetCursor after, int limit);
+    
+    /**
+     * Asynchronously find all artists, reading only the summary columns
+     */
+    CompletableFuture<List<ArtistSummary>> findAllSummariesAsync();
+    
+    /**
+     * Asynchronously search artists by name, reading only the summary columns;
+     * best matches first, at most {@code limit}
+     */
+    CompletableFuture<List<ArtistSummary>> findSummariesByNameContainingAsync(String name, int limit);
+    
+    /**
+     * Asynchronously search artists by name allowing a few typos, reading only
+     * the summary columns; closest matches first, at most {@code limit}
+     */
+    CompletableFuture<List<ArtistSummary>> findSummariesByNameFuzzyAsync(String name, int limit);
+    
     /**
      * Asynchronously find artist by ID
      */
@@ -27,15 +57,44 @@ public interface ArtistService {
     CompletableFuture<Optional<Artist>> findBySpotifyIdAsync(String spotifyId);
     
     /**
-     * Asynchronously search artists by name
+     * Asynchronously search artists by name; best matches first, at most {@code limit}
+     */
+    CompletableFuture<List<Artist>> findByNameContainingAsync(String name, int limit);
+    
+    /**
+     * Asynchronously search artists by name allowing a few typos; closest matches first, at most {@code limit}
      */
-    CompletableFuture<List<Artist>> findByNameContainingAsync(String name);
+    CompletableFuture<List<Artist>> findByNameFuzzyAsync(String name, int limit);
     
     /**
      * Asynchronously find artists by type
      */
     CompletableFuture<List<Artist>> findByTypeAsync(ArtistType type);
     
+    /**
+     * Asynchronously search artists matching every filter set on the request,
+     * sorted and limited in the same query
+     */
+    CompletableFuture<List<Artist>> searchAsync(ArtistSearchRequestDTO criteria);
+    
+    /**
+     * Asynchronously browse artists by facet values, first {@code limit} by name,
+     * with the count for every facet value; empty until the facet index is built
+     */
+    CompletableFuture<Optional<ArtistFacetSearchDTO>> browseByFacetsAsync(Map<ArtistFacet, Set<String>> filters, int limit);
+    
+    /**
+     * Asynchronously find summaries of the artists tagged with exactly {@code genre},
+     * first {@code limit} by name
+     */
+    CompletableFuture<List<ArtistSummary>> findSummariesByGenreAsync(String genre, int limit);
+    
+    /**
+     * Asynchronously count the artists carrying each genre tag, most first;
+     * empty until the genre index is built
+     */
+    CompletableFuture<Optional<Map<String, Integer>>> countByGenreAsync();
+    
     /**
      * Asynchronously save an artist
      */
@@ -58,11 +117,6 @@ public interface ArtistService {
      */
     CompletableFuture<Boolean> existsByIdAsync(UUID artistId);
     
-    /**
-     * Process multiple artists in batch asynchronously
-     */
-    CompletableFuture<List<Artist>> processBatchAsync(List<ArtistRequestDTO> dtos);
-    
     /**
      * Perform heavy processing operations asynchronously
      * (e.g., data enrichment, external API calls)
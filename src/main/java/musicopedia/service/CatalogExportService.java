@@ -0,0 +1,22 @@
+package musicopedia.service;
+
+import musicopedia.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams whole tables to an output stream without materialising them.
+ * Unlike the other services these calls are synchronous: they run on the
+ * thread that owns the response stream and return once the last row is written.
+ */
+public interface CatalogExportService {
+
+    void exportArtists(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportMembers(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportGroupMemberships(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportSubunitMemberships(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,19 @@
+package musicopedia.service;
+
+import musicopedia.model.Artist;
+
+import java.util.Collection;
+
+/**
+ * Keeps the artist-to-genre-tag join table in step with the artists' free-form
+ * genre strings. Runs in the caller's transaction, so tags commit or roll back
+ * with the artist write that changed them.
+ */
+public interface GenreTagService {
+
+    /** Replaces the tags of {@code artist} with those parsed from its genre. */
+    void tagArtist(Artist artist);
+
+    /** Replaces the tags of every artist with those parsed from its genre, in a handful of statements. */
+    void tagArtists(Collection<Artist> artists);
+}
@@ -4,6 +4,8 @@ import musicopedia.model.Artist;
 import musicopedia.model.Member;
 import musicopedia.model.enums.MembershipStatus;
 import musicopedia.model.membership.GroupMembership;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -16,10 +18,14 @@ public interface GroupMembershipService {
     
     CompletableFuture<List<GroupMembership>> findByGroupId(UUID groupId);
     
+    CompletableFuture<CursorPage<GroupMembership>> findPageByGroupId(UUID groupId, KeysetCursor after, int limit);
+    
     CompletableFuture<List<GroupMembership>> findByMember(Member member);
     
     CompletableFuture<List<GroupMembership>> findByMemberId(UUID memberId);
     
+    CompletableFuture<CursorPage<GroupMembership>> findPageByMemberId(UUID memberId, KeysetCursor after, int limit);
+    
     CompletableFuture<List<GroupMembership>> findByGroupIdAndStatus(UUID groupId, MembershipStatus status);
     
     CompletableFuture<List<GroupMembership>> findFormerMembersByGroupId(UUID groupId);
@@ -3,6 +3,8 @@ package musicopedia.service;
 import musicopedia.model.Artist;
 import musicopedia.model.Groups;
 import musicopedia.model.enums.ArtistGender;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -14,6 +16,8 @@ public interface GroupService {
     
     CompletableFuture<List<Groups>> findAll();
     
+    CompletableFuture<CursorPage<Groups>> findPage(KeysetCursor after, int limit);
+    
     CompletableFuture<Optional<Groups>> findById(UUID groupId);
     
     CompletableFuture<List<Groups>> findByFormationDateBetween(LocalDate startDate, LocalDate endDate);
@@ -1,6 +1,9 @@
 package musicopedia.service;
 
 import musicopedia.model.Member;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
+import musicopedia.repository.projection.MemberSummary;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,11 +15,13 @@ public interface MemberService {
     
     CompletableFuture<List<Member>> findAll();
     
+    CompletableFuture<CursorPage<Member>> findPage(KeysetCursor after, int limit);
+    
     CompletableFuture<Optional<Member>> findById(UUID memberId);
     
-    CompletableFuture<List<Member>> findByNameContaining(String name);
+    CompletableFuture<List<Member>> findByNameContaining(String name, int limit);
     
-    CompletableFuture<List<Member>> findByRealNameContaining(String realName);
+    CompletableFuture<List<Member>> findByRealNameContaining(String realName, int limit);
     
     CompletableFuture<List<Member>> findByBirthDateBetween(LocalDate startDate, LocalDate endDate);
     
@@ -31,4 +36,22 @@ public interface MemberService {
     CompletableFuture<List<Member>> findByNationality(String nationality);
 
     CompletableFuture<List<Member>> findWithSoloIdentities();
+
+    CompletableFuture<List<MemberSummary>> findAllSummaries();
+
+    CompletableFuture<CursorPage<MemberSummary>> findSummaryPage(KeysetCursor after, int limit);
+
+    CompletableFuture<List<MemberSummary>> findSummariesByNameContaining(String name, int limit);
+
+    CompletableFuture<List<MemberSummary>> findSummariesByRealNameContaining(String realName, int limit);
+
+    CompletableFuture<List<MemberSummary>> findSummariesByNameFuzzy(String name, int limit);
+
+    CompletableFuture<List<MemberSummary>> findSummariesByRealNameFuzzy(String realName, int limit);
+
+    CompletableFuture<List<MemberSummary>> findSummariesByBirthDateBetween(LocalDate startDate, LocalDate endDate);
+
+    CompletableFuture<List<MemberSummary>> findSummariesByNationality(String nationality);
+
+    CompletableFuture<List<MemberSummary>> findSummariesWithSoloIdentities();
 }
@@ -0,0 +1,15 @@
+package musicopedia.service;
+
+import musicopedia.dto.response.SearchResultsDTO;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface SearchService {
+
+    /**
+     * Searches artist names, member stage and real names, soloist real names
+     * and subunit names in parallel and merges the best {@code limit} by
+     * score; backends that miss the deadline or fail are listed as missing
+     */
+    CompletableFuture<SearchResultsDTO> searchAsync(String query, int limit);
+}
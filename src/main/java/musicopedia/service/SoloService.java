@@ -3,6 +3,8 @@ package musicopedia.service;
 import musicopedia.model.Artist;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistGender;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -14,6 +16,8 @@ public interface SoloService {
     
     CompletableFuture<List<Solo>> findAll();
     
+    CompletableFuture<CursorPage<Solo>> findPage(KeysetCursor after, int limit);
+    
     CompletableFuture<Optional<Solo>> findById(UUID soloId);
     
     CompletableFuture<List<Solo>> findByBirthDateBetween(LocalDate startDate, LocalDate endDate);
@@ -32,7 +36,7 @@ public interface SoloService {
     
     CompletableFuture<Boolean> existsById(UUID soloId);
 
-    CompletableFuture<List<Solo>> findByRealNameContaining(String realName);
+    CompletableFuture<List<Solo>> findByRealNameContaining(String realName, int limit);
 
     CompletableFuture<List<Solo>> findByDebutDate(LocalDate debutDate);
 
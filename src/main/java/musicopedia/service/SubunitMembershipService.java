@@ -4,10 +4,14 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import musicopedia.model.membership.SubunitMembership;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 
 public interface SubunitMembershipService {
     CompletableFuture<List<SubunitMembership>> findBySubunitId(UUID subunitId);
     CompletableFuture<List<SubunitMembership>> findByMemberId(UUID memberId);
+    CompletableFuture<CursorPage<SubunitMembership>> findPageBySubunitId(UUID subunitId, KeysetCursor after, int limit);
+    CompletableFuture<CursorPage<SubunitMembership>> findPageByMemberId(UUID memberId, KeysetCursor after, int limit);
     CompletableFuture<Void> deleteBySubunitId(UUID subunitId);
     CompletableFuture<Void> deleteByMemberId(UUID memberId);
     CompletableFuture<Boolean> existsBySubunitIdAndMemberId(UUID subunitId, UUID memberId);
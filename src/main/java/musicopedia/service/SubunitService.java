@@ -2,6 +2,9 @@ package musicopedia.service;
 
 import musicopedia.dto.request.SubunitRequestDTO;
 import musicopedia.dto.response.SubunitResponseDTO;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
+import musicopedia.repository.projection.NameRow;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,7 +12,9 @@ import java.util.concurrent.CompletableFuture;
 
 public interface SubunitService {
     CompletableFuture<List<SubunitResponseDTO>> findAll();
+    CompletableFuture<CursorPage<SubunitResponseDTO>> findPage(KeysetCursor after, int limit);
     CompletableFuture<Optional<SubunitResponseDTO>> findById(UUID subunitId);
+    CompletableFuture<List<NameRow>> findNamesByNameContaining(String name, int limit);
     CompletableFuture<SubunitResponseDTO> create(SubunitRequestDTO dto);
     CompletableFuture<SubunitResponseDTO> update(UUID subunitId, SubunitRequestDTO dto);
     CompletableFuture<Void> delete(UUID subunitId);
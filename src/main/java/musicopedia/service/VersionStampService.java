@@ -0,0 +1,25 @@
+package musicopedia.service;
+
+import musicopedia.repository.projection.VersionStamp;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Version stamps over exactly the rows each GET endpoint renders, used to
+ * answer conditional requests before anything is loaded or mapped. A
+ * single-resource stamp is EMPTY when the resource does not exist.
+ */
+public interface VersionStampService {
+    CompletableFuture<VersionStamp> forArtists();
+    CompletableFuture<VersionStamp> forArtist(UUID artistId);
+    CompletableFuture<VersionStamp> forArtistBySpotifyId(String spotifyId);
+    CompletableFuture<VersionStamp> forGroups();
+    CompletableFuture<VersionStamp> forGroup(UUID groupId);
+    CompletableFuture<VersionStamp> forSoloists();
+    CompletableFuture<VersionStamp> forSoloist(UUID soloId);
+    CompletableFuture<VersionStamp> forMembers();
+    CompletableFuture<VersionStamp> forMember(UUID memberId);
+    CompletableFuture<VersionStamp> forSubunits();
+    CompletableFuture<VersionStamp> forSubunit(UUID subunitId);
+}
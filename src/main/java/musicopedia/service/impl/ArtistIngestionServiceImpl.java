@@ -0,0 +1,171 @@
+package musicopedia.service.impl;
+
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.SpotifyIdFilter;
+import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.response.ArtistBatchItemResultDTO;
+import musicopedia.dto.response.ArtistBatchItemResultDTO.Status;
+import musicopedia.dto.response.ArtistBatchResultDTO;
+import musicopedia.factory.ArtistFactoryManager;
+import musicopedia.model.Artist;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.search.SearchIndexer;
+import musicopedia.service.ArtistIngestionService;
+import musicopedia.service.GenreTagService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Inserts large artist batches without a round trip per row.
+ *
+ * Every item is validated through ArtistFactoryManager before anything is
+ * written, and spotifyIds are checked against the table with IN queries
+ * rather than one lookup per item; ids the SpotifyIdFilter rules out are
+ * left out of those queries. Accepted artists are then split into
+ * chunks that each commit in their own transaction on the ingestion
+ * executor, whose pool size bounds how many connections the load holds.
+ * Within a chunk Hibernate groups the INSERTs into JDBC batches (see
+ * hibernate.jdbc.batch_size and hibernate.order_inserts).
+ */
+@Service
+public class ArtistIngestionServiceImpl implements ArtistIngestionService {
+
+    // Stays well under PostgreSQL's 32767 bind parameter limit
+    static final int SPOTIFY_ID_LOOKUP_SIZE = 10_000;
+
+    private final ArtistRepository artistRepository;
+    private final ArtistFactoryManager artistFactoryManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogVersion catalogVersion;
+    private final SpotifyIdFilter spotifyIdFilter;
+    private final GenreTagService genreTagService;
+    private final SearchIndexer searchIndexer;
+    private final Executor ingestionExecutor;
+    private final int chunkSize;
+
+    public ArtistIngestionServiceImpl(ArtistRepository artistRepository,
+                                      ArtistFactoryManager artistFactoryManager,
+                                      PlatformTransactionManager transactionManager,
+                                      CatalogVersion catalogVersion,
+                                      SpotifyIdFilter spotifyIdFilter,
+                                      GenreTagService genreTagService,
+                                      SearchIndexer searchIndexer,
+                                      @Qualifier("artistIngestionExecutor") Executor ingestionExecutor,
+                                      @Value("${app.ingestion.chunk-size:500}") int chunkSize) {
+        this.artistRepository = artistRepository;
+        this.artistFactoryManager = artistFactoryManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catalogVersion = catalogVersion;
+        this.spotifyIdFilter = spotifyIdFilter;
+        this.genreTagService = genreTagService;
+        this.searchIndexer = searchIndexer;
+        this.ingestionExecutor = ingestionExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Async("artistProcessingExecutor")
+    public CompletableFuture<ArtistBatchResultDTO> ingestAsync(List<ArtistRequestDTO> requests) {
+        ArtistBatchItemResultDTO[] results = new ArtistBatchItemResultDTO[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Artist> accepted = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ArtistRequestDTO dto = requests.get(i);
+            try {
+                artistFactoryManager.validateArtistData(dto);
+                accepted.add(artistFactoryManager.createArtist(dto));
+                acceptedIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = ArtistBatchItemResultDTO.of(i, Status.INVALID, dto.getSpotifyId(), e.getMessage());
+            }
+        }
+
+        Set<String> existing = findExistingSpotifyIds(accepted);
+        Set<String> seen = new HashSet<>();
+        List<Artist> toInsert = new ArrayList<>();
+        List<Integer> insertIndexes = new ArrayList<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            Artist artist = accepted.get(i);
+            int index = acceptedIndexes.get(i);
+            String spotifyId = artist.getSpotifyId();
+            if (spotifyId != null && existing.contains(spotifyId)) {
+                results[index] = ArtistBatchItemResultDTO.of(index, Status.DUPLICATE, spotifyId,
+                        "Artist with this spotifyId already exists");
+            } else if (spotifyId != null && !seen.add(spotifyId)) {
+                results[index] = ArtistBatchItemResultDTO.of(index, Status.DUPLICATE, spotifyId,
+                        "spotifyId appears earlier in this batch");
+            } else {
+                toInsert.add(artist);
+                insertIndexes.add(index);
+            }
+        }
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < toInsert.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, toInsert.size());
+            List<Artist> chunk = toInsert.subList(from, to);
+            List<Integer> chunkIndexes = insertIndexes.subList(from, to);
+            chunks.add(CompletableFuture.runAsync(() -> insertChunk(chunk, chunkIndexes, results), ingestionExecutor));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(v -> ArtistBatchResultDTO.of(Arrays.asList(results)));
+    }
+
+    private Set<String> findExistingSpotifyIds(List<Artist> artists) {
+        List<String> spotifyIds = artists.stream()
+                .map(Artist::getSpotifyId)
+                .filter(spotifyId -> spotifyId != null)
+                .distinct()
+                .filter(spotifyIdFilter::mightContain)
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < spotifyIds.size(); from += SPOTIFY_ID_LOOKUP_SIZE) {
+            List<String> slice = spotifyIds.subList(from, Math.min(from + SPOTIFY_ID_LOOKUP_SIZE, spotifyIds.size()));
+            existing.addAll(artistRepository.findExistingSpotifyIds(slice));
+        }
+        return existing;
+    }
+
+    /**
+     * Commits one chunk. A failure rolls back only this chunk; its items are
+     * reported as FAILED and the other chunks are unaffected. Each chunk writes
+     * a disjoint set of result slots, so no further synchronisation is needed.
+     */
+    private void insertChunk(List<Artist> chunk, List<Integer> indexes, ArtistBatchItemResultDTO[] results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(artist -> spotifyIdFilter.add(artist.getSpotifyId()));
+                artistRepository.saveAll(chunk);
+                genreTagService.tagArtists(chunk);
+                chunk.forEach(searchIndexer::artistSavedOnCommit);
+            });
+            catalogVersion.bump();
+            for (int i = 0; i < chunk.size(); i++) {
+                Artist artist = chunk.get(i);
+                int index = indexes.get(i);
+                ArtistBatchItemResultDTO result = ArtistBatchItemResultDTO.of(index, Status.CREATED, artist.getSpotifyId(), null);
+                result.setArtistId(artist.getArtistId());
+                results[index] = result;
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = indexes.get(i);
+                results[index] = ArtistBatchItemResultDTO.of(index, Status.FAILED, chunk.get(i).getSpotifyId(), e.getMessage());
+            }
+        }
+    }
+}
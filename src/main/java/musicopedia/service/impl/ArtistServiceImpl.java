@@ -1,61 +1,210 @@
 package musicopedia.service.impl;
 
+import musicopedia.cache.ArtistCache;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.SpotifyIdFilter;
+import musicopedia.coalescing.Coalesced;
 import musicopedia.model.Artist;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.search.ArtistFacet;
+import musicopedia.search.FacetIndex;
+import musicopedia.search.FacetResult;
+import musicopedia.search.FuzzyIndex;
+import musicopedia.search.GenreIndex;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.NameRanking;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.ArtistService;
+import musicopedia.service.GenreTagService;
 import musicopedia.factory.ArtistFactoryManager;
+import musicopedia.config.datasource.PrimaryReads;
 import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.request.ArtistSearchRequestDTO;
+import musicopedia.dto.response.ArtistFacetSearchDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import static musicopedia.repository.specification.ArtistSpecifications.formedBetween;
+import static musicopedia.repository.specification.ArtistSpecifications.hasGenreTag;
+import static musicopedia.repository.specification.ArtistSpecifications.hasOriginCountry;
+import static musicopedia.repository.specification.ArtistSpecifications.hasPrimaryLanguage;
+import static musicopedia.repository.specification.ArtistSpecifications.hasType;
+import static musicopedia.repository.specification.ArtistSpecifications.nameContains;
+
 @Service
 @Transactional
 public class ArtistServiceImpl implements ArtistService {
 
+    private static final Logger log = LoggerFactory.getLogger(ArtistServiceImpl.class);
+
     private final ArtistRepository artistRepository;
     private final ArtistFactoryManager artistFactoryManager;
+    private final ArtistCache artistCache;
+    private final CatalogVersion catalogVersion;
+    private final SpotifyIdFilter spotifyIdFilter;
+    private final NameIndex nameIndex;
+    private final FuzzyIndex fuzzyIndex;
+    private final FacetIndex facetIndex;
+    private final GenreIndex genreIndex;
+    private final GenreTagService genreTagService;
+    private final SearchIndexer searchIndexer;
 
-    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistFactoryManager artistFactoryManager) {
+    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistFactoryManager artistFactoryManager,
+                             ArtistCache artistCache, CatalogVersion catalogVersion, SpotifyIdFilter spotifyIdFilter,
+                             NameIndex nameIndex, FuzzyIndex fuzzyIndex, FacetIndex facetIndex,
+                             GenreIndex genreIndex, GenreTagService genreTagService, SearchIndexer searchIndexer) {
         this.artistRepository = artistRepository;
         this.artistFactoryManager = artistFactoryManager;
+        this.artistCache = artistCache;
+        this.catalogVersion = catalogVersion;
+        this.spotifyIdFilter = spotifyIdFilter;
+        this.nameIndex = nameIndex;
+        this.fuzzyIndex = fuzzyIndex;
+        this.facetIndex = facetIndex;
+        this.genreIndex = genreIndex;
+        this.genreTagService = genreTagService;
+        this.searchIndexer = searchIndexer;
     }
 
     @Override
     @Async("artistProcessingExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Artist>> findAllAsync() {
-        List<Artist> artists = artistRepository.findAll();
+        // Fills the response cache, so it must not read a replica behind the last write
+        List<Artist> artists = PrimaryReads.call(artistRepository::findAll);
         return CompletableFuture.completedFuture(artists);
     }
 
     @Override
     @Async("artistProcessingExecutor")
     @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<Artist>> findPageAsync(KeysetCursor after, int limit) {
+        Slice<Artist> slice = after == null
+                ? artistRepository.findAllByOrderByArtistNameAscArtistIdAsc(CursorPage.request(limit))
+                : artistRepository.findPageAfter(after.getKey(), after.getId(), CursorPage.request(limit));
+        CursorPage<Artist> page = CursorPage.of(slice, limit,
+                artist -> KeysetCursor.of(artist.getArtistName(), artist.getArtistId()));
+        return CompletableFuture.completedFuture(page);
+    }
+
+    @Override
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<ArtistSummary>> findAllSummariesAsync() {
+        List<ArtistSummary> summaries = artistRepository.findAllSummaries();
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<ArtistSummary>> findSummariesByNameContainingAsync(String name, int limit) {
+        List<ArtistSummary> summaries;
+        if (nameIndex.isReady()) {
+            List<UUID> ids = nameIndex.search(NameField.ARTIST_NAME, name, limit);
+            summaries = ids.isEmpty()
+                    ? List.of()
+                    : NameRanking.inOrderOf(ids, artistRepository.findSummariesByIds(ids), ArtistSummary::getArtistId);
+        } else {
+            summaries = NameRanking.top(artistRepository.findSummariesByArtistNameContaining(name),
+                    name, ArtistSummary::getArtistName, limit);
+        }
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    // Until the fuzzy index is built, names typed correctly are still found by substring search
+    @Override
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<ArtistSummary>> findSummariesByNameFuzzyAsync(String name, int limit) {
+        if (!fuzzyIndex.isReady()) {
+            return findSummariesByNameContainingAsync(name, limit);
+        }
+        List<UUID> ids = fuzzyIndex.search(NameField.ARTIST_NAME, name, limit);
+        List<ArtistSummary> summaries = ids.isEmpty()
+                ? List.of()
+                : NameRanking.inOrderOf(ids, artistRepository.findSummariesByIds(ids), ArtistSummary::getArtistId);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    // SUPPORTS: a cache hit should not open a transaction or borrow a connection;
+    // on a miss the repository call runs in its own read-only transaction
+    @Override
+    @Coalesced
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public CompletableFuture<Optional<Artist>> findByIdAsync(UUID artistId) {
-        Optional<Artist> artist = artistRepository.findById(artistId);
+        Optional<Artist> artist = artistCache.findById(artistId, artistRepository::findById);
         return CompletableFuture.completedFuture(artist);
     }
 
     @Override
+    @Coalesced
     @Async("artistProcessingExecutor")
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public CompletableFuture<Optional<Artist>> findBySpotifyIdAsync(String spotifyId) {
-        Optional<Artist> artist = artistRepository.findBySpotifyId(spotifyId);
+        if (!spotifyIdFilter.mightContain(spotifyId)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        Optional<Artist> artist = artistCache.findBySpotifyId(spotifyId, () -> artistRepository.findBySpotifyId(spotifyId));
+        if (artist.isEmpty()) {
+            spotifyIdFilter.recordFalsePositive();
+        }
         return CompletableFuture.completedFuture(artist);
     }
 
     @Override
     @Async("artistProcessingExecutor")
     @Transactional(readOnly = true)
-    public CompletableFuture<List<Artist>> findByNameContainingAsync(String name) {
-        List<Artist> artists = artistRepository.findByArtistNameContainingIgnoreCase(name);
+    public CompletableFuture<List<Artist>> findByNameContainingAsync(String name, int limit) {
+        List<Artist> artists;
+        if (nameIndex.isReady()) {
+            List<UUID> ids = nameIndex.search(NameField.ARTIST_NAME, name, limit);
+            artists = ids.isEmpty()
+                    ? List.of()
+                    : NameRanking.inOrderOf(ids, artistRepository.findAllById(ids), Artist::getArtistId);
+        } else {
+            artists = NameRanking.top(artistRepository.findByArtistNameContainingIgnoreCase(name),
+                    name, Artist::getArtistName, limit);
+        }
+        return CompletableFuture.completedFuture(artists);
+    }
+
+    @Override
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<Artist>> findByNameFuzzyAsync(String name, int limit) {
+        if (!fuzzyIndex.isReady()) {
+            return findByNameContainingAsync(name, limit);
+        }
+        List<UUID> ids = fuzzyIndex.search(NameField.ARTIST_NAME, name, limit);
+        List<Artist> artists = ids.isEmpty()
+                ? List.of()
+                : NameRanking.inOrderOf(ids, artistRepository.findAllById(ids), Artist::getArtistId);
         return CompletableFuture.completedFuture(artists);
     }
 
@@ -67,16 +216,94 @@ public class ArtistServiceImpl implements ArtistService {
         return CompletableFuture.completedFuture(artists);
     }
 
+    @Override
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<Artist>> searchAsync(ArtistSearchRequestDTO criteria) {
+        List<Specification<Artist>> filters = new ArrayList<>();
+        if (criteria.getType() != null) {
+            filters.add(hasType(criteria.getType()));
+        }
+        if (hasText(criteria.getName())) {
+            filters.add(nameContains(criteria.getName()));
+        }
+        if (hasText(criteria.getGenre())) {
+            filters.add(hasGenreTag(criteria.getGenre()));
+        }
+        if (hasText(criteria.getCountry())) {
+            filters.add(hasOriginCountry(criteria.getCountry()));
+        }
+        if (hasText(criteria.getLanguage())) {
+            filters.add(hasPrimaryLanguage(criteria.getLanguage()));
+        }
+        if (criteria.getFormedFrom() != null || criteria.getFormedTo() != null) {
+            filters.add(formedBetween(criteria.getFormedFrom(), criteria.getFormedTo()));
+        }
+
+        Sort sort = Sort.by(criteria.getDirection(), criteria.getSort().getProperty())
+                .and(Sort.by(criteria.getDirection(), "artistId"));
+        int limit = CursorPage.clampLimit(criteria.getLimit());
+        List<Artist> artists = artistRepository.findBy(Specification.allOf(filters),
+                query -> query.sortBy(sort).limit(limit).all());
+        return CompletableFuture.completedFuture(artists);
+    }
+
+    @Override
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<Optional<ArtistFacetSearchDTO>> browseByFacetsAsync(Map<ArtistFacet, Set<String>> filters,
+                                                                                int limit) {
+        FacetResult result = facetIndex.search(filters, limit);
+        if (result == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        List<UUID> ids = result.artistIds();
+        List<ArtistSummary> summaries = ids.isEmpty()
+                ? List.of()
+                : NameRanking.inOrderOf(ids, artistRepository.findSummariesByIds(ids), ArtistSummary::getArtistId);
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        result.counts().forEach((facet, counts) -> facets.put(facet.getParam(), counts));
+        return CompletableFuture.completedFuture(Optional.of(ArtistFacetSearchDTO.of(result.total(), summaries, facets)));
+    }
+
+    @Override
+    @Async("artistProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<ArtistSummary>> findSummariesByGenreAsync(String genre, int limit) {
+        List<UUID> ids = genreIndex.artistIds(genre, limit);
+        List<ArtistSummary> summaries;
+        if (ids == null) {
+            summaries = artistRepository.findSummariesByGenreTag(genre, PageRequest.of(0, limit));
+        } else if (ids.isEmpty()) {
+            summaries = List.of();
+        } else {
+            summaries = NameRanking.inOrderOf(ids, artistRepository.findSummariesByIds(ids), ArtistSummary::getArtistId);
+        }
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("artistProcessingExecutor")
+    public CompletableFuture<Optional<Map<String, Integer>>> countByGenreAsync() {
+        return CompletableFuture.completedFuture(Optional.ofNullable(genreIndex.counts()));
+    }
+
     @Override
     @Async("artistProcessingExecutor")
     public CompletableFuture<Artist> saveAsync(Artist artist) {
+        catalogVersion.bump();
+        spotifyIdFilter.add(artist.getSpotifyId());
         Artist savedArtist = artistRepository.save(artist);
+        genreTagService.tagArtist(savedArtist);
+        artistCache.invalidateOnCommit(savedArtist.getArtistId(), savedArtist.getSpotifyId());
+        searchIndexer.artistSavedOnCommit(savedArtist);
         return CompletableFuture.completedFuture(savedArtist);
     }
 
     @Override
     @Async("artistProcessingExecutor")
     public CompletableFuture<Artist> createArtistAsync(ArtistRequestDTO dto) {
+        catalogVersion.bump();
         // Validate BEFORE creation using factory pattern
         artistFactoryManager.validateArtistData(dto);
         
@@ -84,14 +311,21 @@ public class ArtistServiceImpl implements ArtistService {
         Artist artist = artistFactoryManager.createArtist(dto);
         
         // Save and return
+        spotifyIdFilter.add(artist.getSpotifyId());
         Artist savedArtist = artistRepository.save(artist);
+        genreTagService.tagArtist(savedArtist);
+        artistCache.invalidateOnCommit(savedArtist.getArtistId(), savedArtist.getSpotifyId());
+        searchIndexer.artistSavedOnCommit(savedArtist);
         return CompletableFuture.completedFuture(savedArtist);
     }
 
     @Override
     @Async("artistProcessingExecutor")
     public CompletableFuture<Void> deleteByIdAsync(UUID artistId) {
+        catalogVersion.bump();
         artistRepository.deleteById(artistId);
+        artistCache.invalidateOnCommit(artistId, null);
+        searchIndexer.artistDeletedOnCommit(artistId);
         return CompletableFuture.completedFuture(null);
     }
 
@@ -103,19 +337,6 @@ public class ArtistServiceImpl implements ArtistService {
         return CompletableFuture.completedFuture(exists);
     }
 
-    @Override
-    @Async("artistProcessingExecutor")
-    public CompletableFuture<List<Artist>> processBatchAsync(List<ArtistRequestDTO> dtos) {
-        List<CompletableFuture<Artist>> futures = dtos.stream()
-                .map(this::createArtistAsync)
-                .toList();
-        
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> futures.stream()
-                        .map(CompletableFuture::join)
-                        .toList());
-    }
-
     @Override
     @Async("artistProcessingExecutor")
     @Transactional(readOnly = true)
@@ -131,4 +352,22 @@ public class ArtistServiceImpl implements ArtistService {
         // For now, just return the artist as-is
         return CompletableFuture.completedFuture(artist);
     }
+
+    /** Fills the lower-cased language of artists written before it was kept, so language queries find them. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillLanguageKeysOnStartup() {
+        try {
+            int filled = artistRepository.backfillPrimaryLanguageKeys();
+            if (filled > 0) {
+                log.info("Backfilled the language key of {} artists", filled);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Backfilling language keys failed; those artists stay out of language queries until saved again", e);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
 }
@@ -0,0 +1,154 @@
+package musicopedia.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import musicopedia.export.ArtistExportRow;
+import musicopedia.export.ExportColumn;
+import musicopedia.export.ExportFormat;
+import musicopedia.export.ExportRowWriter;
+import musicopedia.model.Groups;
+import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.model.membership.GroupMembership;
+import musicopedia.model.membership.SubunitMembership;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.service.CatalogExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class CatalogExportServiceImpl implements CatalogExportService {
+
+    static final List<ExportColumn<ArtistExportRow>> ARTIST_COLUMNS = List.of(
+            ExportColumn.of("artistId", row -> row.getArtist().getArtistId()),
+            ExportColumn.of("artistName", row -> row.getArtist().getArtistName()),
+            ExportColumn.of("type", row -> row.getArtist().getType()),
+            ExportColumn.of("spotifyId", row -> row.getArtist().getSpotifyId()),
+            ExportColumn.of("genre", row -> row.getArtist().getGenre()),
+            ExportColumn.of("primaryLanguage", row -> row.getArtist().getPrimaryLanguage()),
+            ExportColumn.of("originCountry", row -> row.getArtist().getOriginCountry()),
+            ExportColumn.of("description", row -> row.getArtist().getDescription()),
+            ExportColumn.of("image", row -> row.getArtist().getImage()),
+            ExportColumn.of("realName", solo(Solo::getRealName)),
+            ExportColumn.of("birthDate", solo(Solo::getBirthDate)),
+            ExportColumn.of("deathDate", solo(Solo::getDeathDate)),
+            ExportColumn.of("debutDate", solo(Solo::getDebutDate)),
+            ExportColumn.of("gender", solo(Solo::getGender)),
+            ExportColumn.of("groupAffiliationStatus", solo(Solo::getGroupAffiliationStatus)),
+            ExportColumn.of("memberId", solo(s -> s.getMember() != null ? s.getMember().getMemberId() : null)),
+            ExportColumn.of("formationDate", group(Groups::getFormationDate)),
+            ExportColumn.of("disbandDate", group(Groups::getDisbandDate)),
+            ExportColumn.of("groupGender", group(Groups::getGroupGender)),
+            ExportColumn.of("activityStatus", group(Groups::getActivityStatus))
+    );
+
+    static final List<ExportColumn<Member>> MEMBER_COLUMNS = List.of(
+            ExportColumn.of("memberId", Member::getMemberId),
+            ExportColumn.of("memberName", Member::getMemberName),
+            ExportColumn.of("realName", Member::getRealName),
+            ExportColumn.of("birthDate", Member::getBirthDate),
+            ExportColumn.of("deathDate", Member::getDeathDate),
+            ExportColumn.of("nationality", Member::getNationality),
+            ExportColumn.of("description", Member::getDescription),
+            ExportColumn.of("image", Member::getImage)
+    );
+
+    static final List<ExportColumn<GroupMembership>> GROUP_MEMBERSHIP_COLUMNS = List.of(
+            ExportColumn.of("groupId", m -> m.getId().getGroupId()),
+            ExportColumn.of("memberId", m -> m.getId().getMemberId()),
+            ExportColumn.of("status", GroupMembership::getStatus),
+            ExportColumn.of("joinDate", GroupMembership::getJoinDate),
+            ExportColumn.of("leaveDate", GroupMembership::getLeaveDate)
+    );
+
+    static final List<ExportColumn<SubunitMembership>> SUBUNIT_MEMBERSHIP_COLUMNS = List.of(
+            ExportColumn.of("subunitId", m -> m.getId().getSubunitId()),
+            ExportColumn.of("memberId", m -> m.getId().getMemberId()),
+            ExportColumn.of("joinedDate", SubunitMembership::getJoinedDate),
+            ExportColumn.of("leftDate", SubunitMembership::getLeftDate)
+    );
+
+    private final ArtistRepository artistRepository;
+    private final MemberRepository memberRepository;
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final SubunitMembershipRepository subunitMembershipRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int clearInterval;
+
+    public CatalogExportServiceImpl(ArtistRepository artistRepository,
+                                    MemberRepository memberRepository,
+                                    GroupMembershipRepository groupMembershipRepository,
+                                    SubunitMembershipRepository subunitMembershipRepository,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.export.clear-interval:500}") int clearInterval) {
+        this.artistRepository = artistRepository;
+        this.memberRepository = memberRepository;
+        this.groupMembershipRepository = groupMembershipRepository;
+        this.subunitMembershipRepository = subunitMembershipRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clearInterval = Math.max(1, clearInterval);
+    }
+
+    @Override
+    public void exportArtists(ExportFormat format, OutputStream out) throws IOException {
+        export(artistRepository.streamAllWithDetails(), ARTIST_COLUMNS, format, out);
+    }
+
+    @Override
+    public void exportMembers(ExportFormat format, OutputStream out) throws IOException {
+        export(memberRepository.streamAll(), MEMBER_COLUMNS, format, out);
+    }
+
+    @Override
+    public void exportGroupMemberships(ExportFormat format, OutputStream out) throws IOException {
+        export(groupMembershipRepository.streamAll(), GROUP_MEMBERSHIP_COLUMNS, format, out);
+    }
+
+    @Override
+    public void exportSubunitMemberships(ExportFormat format, OutputStream out) throws IOException {
+        export(subunitMembershipRepository.streamAll(), SUBUNIT_MEMBERSHIP_COLUMNS, format, out);
+    }
+
+    /**
+     * Writes every row of the stream, clearing the persistence context and
+     * flushing the output every {@code clearInterval} rows so neither the
+     * session nor the response buffer grows with the table.
+     */
+    private <T> void export(Stream<T> rows, List<ExportColumn<T>> columns,
+                            ExportFormat format, OutputStream out) throws IOException {
+        try (rows; ExportRowWriter<T> writer = ExportRowWriter.create(format, columns, objectMapper.getFactory(), out)) {
+            Iterator<T> iterator = rows.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++written % clearInterval == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+    }
+
+    private static Function<ArtistExportRow, Object> solo(Function<Solo, Object> getter) {
+        return row -> row.getSolo() != null ? getter.apply(row.getSolo()) : null;
+    }
+
+    private static Function<ArtistExportRow, Object> group(Function<Groups, Object> getter) {
+        return row -> row.getGroup() != null ? getter.apply(row.getGroup()) : null;
+    }
+}
@@ -0,0 +1,164 @@
+package musicopedia.service.impl;
+
+import musicopedia.model.Artist;
+import musicopedia.model.tag.ArtistGenreTag;
+import musicopedia.model.tag.ArtistGenreTagId;
+import musicopedia.model.tag.GenreTag;
+import musicopedia.repository.ArtistGenreTagRepository;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GenreTagRepository;
+import musicopedia.repository.projection.GenreRow;
+import musicopedia.service.GenreTagService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Parses genre strings into {@link GenreTag} names, adds names the
+ * dictionary has not seen and rewrites only the join rows that changed.
+ *
+ * New tags are inserted in the caller's transaction with ON CONFLICT DO
+ * NOTHING and re-read, so two writers adding the same genre at once neither
+ * fail nor need a second connection. They are inserted in name order, so
+ * writers adding several of the same genres wait on each other in the same
+ * order rather than deadlocking.
+ */
+@Service
+@Transactional
+public class GenreTagServiceImpl implements GenreTagService {
+
+    private static final Logger log = LoggerFactory.getLogger(GenreTagServiceImpl.class);
+
+    static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final GenreTagRepository genreTagRepository;
+    private final ArtistGenreTagRepository artistGenreTagRepository;
+    private final ArtistRepository artistRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public GenreTagServiceImpl(GenreTagRepository genreTagRepository,
+                               ArtistGenreTagRepository artistGenreTagRepository,
+                               ArtistRepository artistRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.genreTagRepository = genreTagRepository;
+        this.artistGenreTagRepository = artistGenreTagRepository;
+        this.artistRepository = artistRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void tagArtist(Artist artist) {
+        tagArtists(List.of(artist));
+    }
+
+    @Override
+    public void tagArtists(Collection<Artist> artists) {
+        Map<UUID, List<String>> tagNames = new LinkedHashMap<>();
+        artists.forEach(artist -> tagNames.put(artist.getArtistId(), GenreTag.namesOf(artist.getGenre())));
+        replaceTags(tagNames);
+    }
+
+    /**
+     * Tags the artists written before genre tags existed. Runs ahead of the
+     * other startup listeners so the genre index is built from a complete
+     * join table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillOnStartup() {
+        try {
+            int tagged = backfill();
+            if (tagged > 0) {
+                log.info("Backfilled genre tags for {} artists", tagged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Backfilling genre tags failed; untagged artists stay out of genre queries until saved again", e);
+        }
+    }
+
+    // Walks the untagged artists by id, one committed chunk at a time
+    int backfill() {
+        Pageable chunk = PageRequest.of(0, BACKFILL_CHUNK_SIZE);
+        int tagged = 0;
+        UUID after = null;
+        while (true) {
+            UUID from = after;
+            List<GenreRow> rows = transactionTemplate.execute(status -> {
+                List<GenreRow> untagged = from == null
+                        ? artistGenreTagRepository.findFirstUntagged(chunk)
+                        : artistGenreTagRepository.findUntaggedAfter(from, chunk);
+                Map<UUID, List<String>> tagNames = new LinkedHashMap<>();
+                untagged.forEach(row -> tagNames.put(row.getArtistId(), GenreTag.namesOf(row.getGenre())));
+                replaceTags(tagNames);
+                return untagged;
+            });
+            if (rows == null || rows.isEmpty()) {
+                return tagged;
+            }
+            tagged += rows.size();
+            after = rows.get(rows.size() - 1).getArtistId();
+        }
+    }
+
+    private void replaceTags(Map<UUID, List<String>> tagNames) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        tagNames.values().forEach(names::addAll);
+        Map<String, GenreTag> tags = resolve(names);
+
+        // Whatever is still in here afterwards has left the artist's genre
+        Set<ArtistGenreTagId> stale = new HashSet<>(artistGenreTagRepository.findIdsByArtistIds(tagNames.keySet()));
+        List<ArtistGenreTag> added = new ArrayList<>();
+        tagNames.forEach((artistId, artistTagNames) -> {
+            for (String name : artistTagNames) {
+                GenreTag tag = tags.get(name);
+                if (tag != null && !stale.remove(new ArtistGenreTagId(artistId, tag.getTagId()))) {
+                    added.add(new ArtistGenreTag(artistRepository.getReferenceById(artistId), tag));
+                }
+            }
+        });
+        if (!stale.isEmpty()) {
+            artistGenreTagRepository.deleteAllByIdInBatch(stale);
+        }
+        if (!added.isEmpty()) {
+            artistGenreTagRepository.saveAll(added);
+        }
+    }
+
+    private Map<String, GenreTag> resolve(Set<String> names) {
+        Map<String, GenreTag> tags = new HashMap<>();
+        if (names.isEmpty()) {
+            return tags;
+        }
+        genreTagRepository.findByNameIn(names).forEach(tag -> tags.put(tag.getName(), tag));
+        List<String> missing = names.stream().filter(name -> !tags.containsKey(name)).sorted().toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(genreTagRepository::insertIfAbsent);
+            genreTagRepository.findByNameIn(missing).forEach(tag -> tags.put(tag.getName(), tag));
+        }
+        return tags;
+    }
+}
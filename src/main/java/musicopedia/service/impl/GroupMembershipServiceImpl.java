@@ -1,11 +1,15 @@
 package musicopedia.service.impl;
 
+import musicopedia.coalescing.Coalesced;
 import musicopedia.model.Artist;
 import musicopedia.model.Member;
 import musicopedia.model.enums.MembershipStatus;
 import musicopedia.model.membership.GroupMembership;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.GroupMembershipRepository;
 import musicopedia.service.GroupMembershipService;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +38,7 @@ public class GroupMembershipServiceImpl implements GroupMembershipService {
     }
 
     @Override
+    @Coalesced
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<GroupMembership>> findByGroupId(UUID groupId) {
@@ -41,6 +46,18 @@ public class GroupMembershipServiceImpl implements GroupMembershipService {
         return CompletableFuture.completedFuture(memberships);
     }
 
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<GroupMembership>> findPageByGroupId(UUID groupId, KeysetCursor after, int limit) {
+        Slice<GroupMembership> slice = after == null
+                ? groupMembershipRepository.findFirstPageByGroupId(groupId, CursorPage.request(limit))
+                : groupMembershipRepository.findPageByGroupIdAfter(groupId, after.getId(), CursorPage.request(limit));
+        CursorPage<GroupMembership> page = CursorPage.of(slice, limit,
+                membership -> KeysetCursor.of(membership.getId().getMemberId()));
+        return CompletableFuture.completedFuture(page);
+    }
+
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
@@ -50,6 +67,7 @@ public class GroupMembershipServiceImpl implements GroupMembershipService {
     }
 
     @Override
+    @Coalesced
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<GroupMembership>> findByMemberId(UUID memberId) {
@@ -57,6 +75,18 @@ public class GroupMembershipServiceImpl implements GroupMembershipService {
         return CompletableFuture.completedFuture(memberships);
     }
 
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<GroupMembership>> findPageByMemberId(UUID memberId, KeysetCursor after, int limit) {
+        Slice<GroupMembership> slice = after == null
+                ? groupMembershipRepository.findFirstPageByMemberId(memberId, CursorPage.request(limit))
+                : groupMembershipRepository.findPageByMemberIdAfter(memberId, after.getId(), CursorPage.request(limit));
+        CursorPage<GroupMembership> page = CursorPage.of(slice, limit,
+                membership -> KeysetCursor.of(membership.getId().getGroupId()));
+        return CompletableFuture.completedFuture(page);
+    }
+
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
@@ -90,6 +120,7 @@ public class GroupMembershipServiceImpl implements GroupMembershipService {
     }
 
     @Override
+    @Coalesced
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<Long> countByGroupId(UUID groupId) {
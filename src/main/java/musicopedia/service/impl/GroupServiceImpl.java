@@ -1,13 +1,21 @@
 package musicopedia.service.impl;
 
+import musicopedia.cache.ArtistCache;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.SpotifyIdFilter;
+import musicopedia.config.datasource.PrimaryReads;
 import musicopedia.model.Artist;
 import musicopedia.model.Groups;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.GroupRepository;
+import musicopedia.search.SearchIndexer;
+import musicopedia.service.GenreTagService;
 import musicopedia.service.GroupService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,16 +31,24 @@ import java.util.concurrent.CompletableFuture;
 public class GroupServiceImpl implements GroupService {
 
     private final GroupRepository groupRepository;
-    private GroupService self;
-
-    public GroupServiceImpl(GroupRepository groupRepository) {
+    private final ArtistCache artistCache;
+    private final CatalogVersion catalogVersion;
+    private final SpotifyIdFilter spotifyIdFilter;
+    private final GenreTagService genreTagService;
+    private final SearchIndexer searchIndexer;
+
+    // Group writes go straight to artist rows, so they must also evict what ArtistService cached,
+    // register their spotifyIds with the filter in front of artist lookups, retag their genres
+    // and reach the search indexes
+    public GroupServiceImpl(GroupRepository groupRepository, ArtistCache artistCache, CatalogVersion catalogVersion,
+                            SpotifyIdFilter spotifyIdFilter, GenreTagService genreTagService,
+                            SearchIndexer searchIndexer) {
         this.groupRepository = groupRepository;
-    }
-
-    @Autowired
-    @Lazy
-    public void setSelf(GroupService self) {
-        this.self = self;
+        this.artistCache = artistCache;
+        this.catalogVersion = catalogVersion;
+        this.spotifyIdFilter = spotifyIdFilter;
+        this.genreTagService = genreTagService;
+        this.searchIndexer = searchIndexer;
     }
 
     @Override
@@ -46,6 +62,19 @@ public class GroupServiceImpl implements GroupService {
         return CompletableFuture.completedFuture(groups);
     }
 
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<Groups>> findPage(KeysetCursor after, int limit) {
+        Slice<Artist> slice = after == null
+                ? groupRepository.findFirstGroupPage(ArtistType.GROUP, CursorPage.request(limit))
+                : groupRepository.findGroupPageAfter(ArtistType.GROUP, after.getKey(), after.getId(), CursorPage.request(limit));
+        CursorPage<Groups> page = CursorPage.of(slice, limit,
+                        artist -> KeysetCursor.of(artist.getArtistName(), artist.getArtistId()))
+                .map(this::convertToGroup);
+        return CompletableFuture.completedFuture(page);
+    }
+
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
@@ -60,52 +89,44 @@ public class GroupServiceImpl implements GroupService {
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Groups>> findByFormationDateBetween(LocalDate startDate, LocalDate endDate) {
-        return self.findAll()
-                .thenApply(allGroups -> allGroups.stream()
-                        .filter(group -> {
-                            LocalDate formationDate = group.getFormationDate();
-                            return formationDate != null && 
-                                   !formationDate.isBefore(startDate) && 
-                                   !formationDate.isAfter(endDate);
-                        })
-                        .toList());
+        List<Groups> groups = groupRepository.findGroupsByFormationDateBetween(ArtistType.GROUP, startDate, endDate);
+        return CompletableFuture.completedFuture(groups);
     }
 
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Groups>> findActiveGroups() {
-        return self.findAll()
-                .thenApply(allGroups -> allGroups.stream()
-                        .filter(group -> group.getDisbandDate() == null)
-                        .toList());
+        // Fills the response cache, so it must not read a replica behind the last write
+        List<Groups> groups = PrimaryReads.call(() -> groupRepository.findActiveGroups(ArtistType.GROUP));
+        return CompletableFuture.completedFuture(groups);
     }
 
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Groups>> findDisbandedGroups() {
-        return self.findAll()
-                .thenApply(allGroups -> allGroups.stream()
-                        .filter(group -> group.getDisbandDate() != null)
-                        .toList());
+        List<Groups> groups = groupRepository.findDisbandedGroups(ArtistType.GROUP);
+        return CompletableFuture.completedFuture(groups);
     }
 
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Groups>> findByGroupGender(ArtistGender gender) {
-        return self.findAll()
-                .thenApply(allGroups -> allGroups.stream()
-                        .filter(group -> group.getGroupGender() == gender)
-                        .toList());
+        List<Groups> groups = groupRepository.findGroupsByGender(ArtistType.GROUP, gender);
+        return CompletableFuture.completedFuture(groups);
     }
 
     @Override
     @Async("taskExecutor")
     public CompletableFuture<Groups> save(Groups group, Artist artist) {
+        catalogVersion.bump();
         artist.setType(ArtistType.GROUP);
+        spotifyIdFilter.add(artist.getSpotifyId());
         Artist savedArtist = groupRepository.save(artist);
+        genreTagService.tagArtist(savedArtist);
+        searchIndexer.artistSavedOnCommit(savedArtist);
         group.setArtistId(savedArtist.getArtistId());
         group.setArtist(savedArtist);
         return CompletableFuture.completedFuture(group);
@@ -114,20 +135,46 @@ public class GroupServiceImpl implements GroupService {
     @Override
     @Async("taskExecutor")
     public CompletableFuture<Groups> update(Groups group) {
-        if (groupRepository.existsById(group.getArtistId())) {
-            Artist artist = group.getArtist();
-            if (artist != null) {
-                groupRepository.save(artist);
+        catalogVersion.bump();
+        Optional<Artist> stored = groupRepository.findById(group.getArtistId());
+        if (stored.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (group.getArtist() != null) {
+            // Applied onto the stored row, so a body without the version still saves; one naming a stale version is refused
+            Artist artist = stored.get();
+            if (group.getArtist().isVersionSent() && group.getArtist().getVersion() != artist.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(Artist.class, artist.getArtistId());
             }
-            return CompletableFuture.completedFuture(group);
+            copyArtist(group.getArtist(), artist);
+            spotifyIdFilter.add(artist.getSpotifyId());
+            groupRepository.save(artist);
+            genreTagService.tagArtist(artist);
+            artistCache.invalidateOnCommit(artist.getArtistId(), artist.getSpotifyId());
+            searchIndexer.artistSavedOnCommit(artist);
+            group.setArtist(artist);
         }
-        return CompletableFuture.completedFuture(null);
+        return CompletableFuture.completedFuture(group);
+    }
+
+    private static void copyArtist(Artist from, Artist to) {
+        to.setSpotifyId(from.getSpotifyId());
+        to.setArtistName(from.getArtistName());
+        to.setDescription(from.getDescription());
+        to.setImage(from.getImage());
+        to.setType(from.getType());
+        to.setPrimaryLanguage(from.getPrimaryLanguage());
+        to.setGenre(from.getGenre());
+        to.setOriginCountry(from.getOriginCountry());
     }
 
     @Override
     @Async("taskExecutor")
     public CompletableFuture<Void> deleteById(UUID groupId) {
+        catalogVersion.bump();
         groupRepository.deleteById(groupId);
+        artistCache.invalidateOnCommit(groupId, null);
+        searchIndexer.artistDeletedOnCommit(groupId);
         return CompletableFuture.completedFuture(null);
     }
 
@@ -1,8 +1,21 @@
 package musicopedia.service.impl;
 
+import musicopedia.cache.CatalogVersion;
+import musicopedia.config.datasource.PrimaryReads;
 import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.MemberRepository;
+import musicopedia.repository.projection.MemberSummary;
+import musicopedia.search.FuzzyIndex;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.NameRanking;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.MemberService;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,15 +25,25 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Service
 @Transactional
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
+    private final CatalogVersion catalogVersion;
+    private final NameIndex nameIndex;
+    private final FuzzyIndex fuzzyIndex;
+    private final SearchIndexer searchIndexer;
 
-    public MemberServiceImpl(MemberRepository memberRepository) {
+    public MemberServiceImpl(MemberRepository memberRepository, CatalogVersion catalogVersion,
+                             NameIndex nameIndex, FuzzyIndex fuzzyIndex, SearchIndexer searchIndexer) {
         this.memberRepository = memberRepository;
+        this.catalogVersion = catalogVersion;
+        this.nameIndex = nameIndex;
+        this.fuzzyIndex = fuzzyIndex;
+        this.searchIndexer = searchIndexer;
     }
 
     @Override
@@ -31,6 +54,19 @@ public class MemberServiceImpl implements MemberService {
         return CompletableFuture.completedFuture(members);
     }
 
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<Member>> findPage(KeysetCursor after, int limit) {
+        Slice<Member> slice = after == null
+                ? memberRepository.findAllByOrderByMemberNameAscMemberIdAsc(CursorPage.request(limit))
+                : memberRepository.findPageAfter(after.getKey(), after.getId(), CursorPage.request(limit));
+        initializeSoloArtists(slice.getContent());
+        CursorPage<Member> page = CursorPage.of(slice, limit,
+                member -> KeysetCursor.of(member.getMemberName(), member.getMemberId()));
+        return CompletableFuture.completedFuture(page);
+    }
+
     @Override
     @Async("memberProcessingExecutor")
     @Transactional(readOnly = true)
@@ -42,16 +78,18 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Async("memberProcessingExecutor")
     @Transactional(readOnly = true)
-    public CompletableFuture<List<Member>> findByNameContaining(String name) {
-        List<Member> members = memberRepository.findByMemberNameContainingIgnoreCase(name);
+    public CompletableFuture<List<Member>> findByNameContaining(String name, int limit) {
+        List<Member> members = searchMembers(NameField.MEMBER_NAME, name, limit,
+                memberRepository::findByMemberNameContainingIgnoreCase, Member::getMemberName);
         return CompletableFuture.completedFuture(members);
     }
 
     @Override
     @Async("memberProcessingExecutor")
     @Transactional(readOnly = true)
-    public CompletableFuture<List<Member>> findByRealNameContaining(String realName) {
-        List<Member> members = memberRepository.findByRealNameContainingIgnoreCase(realName);
+    public CompletableFuture<List<Member>> findByRealNameContaining(String realName, int limit) {
+        List<Member> members = searchMembers(NameField.MEMBER_REAL_NAME, realName, limit,
+                memberRepository::findByRealNameContainingIgnoreCase, Member::getRealName);
         return CompletableFuture.completedFuture(members);
     }
 
@@ -73,15 +111,19 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Async("memberProcessingExecutor")
     public CompletableFuture<Member> save(Member member) {
+        catalogVersion.bump();
         Member savedMember = memberRepository.save(member);
+        searchIndexer.memberSavedOnCommit(savedMember);
         return CompletableFuture.completedFuture(savedMember);
     }
 
     @Override
     @Async("memberProcessingExecutor")
     public CompletableFuture<Member> update(Member member) {
+        catalogVersion.bump();
         if (memberRepository.existsById(member.getMemberId())) {
             Member updatedMember = memberRepository.save(member);
+            searchIndexer.memberSavedOnCommit(updatedMember);
             return CompletableFuture.completedFuture(updatedMember);
         }
         return CompletableFuture.completedFuture(null);
@@ -90,7 +132,9 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Async("memberProcessingExecutor")
     public CompletableFuture<Void> deleteById(UUID memberId) {
+        catalogVersion.bump();
         memberRepository.deleteById(memberId);
+        searchIndexer.memberDeletedOnCommit(memberId);
         return CompletableFuture.completedFuture(null);
     }
 
@@ -119,4 +163,136 @@ public class MemberServiceImpl implements MemberService {
                 .toList();
         return CompletableFuture.completedFuture(members);
     }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findAllSummaries() {
+        // Fills the response cache, so it must not read a replica behind the last write
+        List<MemberSummary> summaries = PrimaryReads.call(memberRepository::findAllSummaries);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<MemberSummary>> findSummaryPage(KeysetCursor after, int limit) {
+        Slice<MemberSummary> slice = after == null
+                ? memberRepository.findFirstSummaryPage(CursorPage.request(limit))
+                : memberRepository.findSummaryPageAfter(after.getKey(), after.getId(), CursorPage.request(limit));
+        CursorPage<MemberSummary> page = CursorPage.of(slice, limit,
+                summary -> KeysetCursor.of(summary.getMemberName(), summary.getMemberId()));
+        return CompletableFuture.completedFuture(page);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findSummariesByNameContaining(String name, int limit) {
+        List<MemberSummary> summaries = searchSummaries(NameField.MEMBER_NAME, name, limit,
+                memberRepository::findSummariesByMemberNameContaining, MemberSummary::getMemberName);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findSummariesByRealNameContaining(String realName, int limit) {
+        List<MemberSummary> summaries = searchSummaries(NameField.MEMBER_REAL_NAME, realName, limit,
+                memberRepository::findSummariesByRealNameContaining, MemberSummary::getRealName);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findSummariesByNameFuzzy(String name, int limit) {
+        List<MemberSummary> summaries = fuzzySummaries(NameField.MEMBER_NAME, name, limit,
+                memberRepository::findSummariesByMemberNameContaining, MemberSummary::getMemberName);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findSummariesByRealNameFuzzy(String realName, int limit) {
+        List<MemberSummary> summaries = fuzzySummaries(NameField.MEMBER_REAL_NAME, realName, limit,
+                memberRepository::findSummariesByRealNameContaining, MemberSummary::getRealName);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findSummariesByBirthDateBetween(LocalDate startDate, LocalDate endDate) {
+        List<MemberSummary> summaries = memberRepository.findSummariesByBirthDateBetween(startDate, endDate);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findSummariesByNationality(String nationality) {
+        List<MemberSummary> summaries = memberRepository.findSummariesByNationality(nationality);
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<MemberSummary>> findSummariesWithSoloIdentities() {
+        List<MemberSummary> summaries = memberRepository.findSummariesWithSoloIdentities();
+        return CompletableFuture.completedFuture(summaries);
+    }
+
+    /**
+     * Loads what MemberMapper reads before the transaction ends. Paged queries
+     * cannot fetch-join the collection, so this relies on batch fetching:
+     * one statement for the page's solo identities and one for their artists.
+     */
+    private void initializeSoloArtists(List<Member> members) {
+        for (Member member : members) {
+            Hibernate.initialize(member.getSoloIdentities());
+            for (Solo solo : member.getSoloIdentities()) {
+                Hibernate.initialize(solo.getArtist());
+            }
+        }
+    }
+
+    /** Ranked name search from the in-memory index, or from the LIKE query until the index is built. */
+    private List<Member> searchMembers(NameField field, String query, int limit,
+                                       Function<String, List<Member>> like, Function<Member, String> name) {
+        if (nameIndex.isReady()) {
+            List<UUID> ids = nameIndex.search(field, query, limit);
+            return ids.isEmpty()
+                    ? List.of()
+                    : NameRanking.inOrderOf(ids, memberRepository.findByMemberIdIn(ids), Member::getMemberId);
+        }
+        return NameRanking.top(like.apply(query), query, name, limit);
+    }
+
+    private List<MemberSummary> searchSummaries(NameField field, String query, int limit,
+                                                Function<String, List<MemberSummary>> like,
+                                                Function<MemberSummary, String> name) {
+        if (nameIndex.isReady()) {
+            List<UUID> ids = nameIndex.search(field, query, limit);
+            return ids.isEmpty()
+                    ? List.of()
+                    : NameRanking.inOrderOf(ids, memberRepository.findSummariesByIds(ids), MemberSummary::getMemberId);
+        }
+        return NameRanking.top(like.apply(query), query, name, limit);
+    }
+
+    /** Typo-tolerant search; until the fuzzy index is built, names typed correctly are still found by substring search. */
+    private List<MemberSummary> fuzzySummaries(NameField field, String query, int limit,
+                                               Function<String, List<MemberSummary>> like,
+                                               Function<MemberSummary, String> name) {
+        if (!fuzzyIndex.isReady()) {
+            return searchSummaries(field, query, limit, like, name);
+        }
+        List<UUID> ids = fuzzyIndex.search(field, query, limit);
+        return ids.isEmpty()
+                ? List.of()
+                : NameRanking.inOrderOf(ids, memberRepository.findSummariesByIds(ids), MemberSummary::getMemberId);
+    }
 }
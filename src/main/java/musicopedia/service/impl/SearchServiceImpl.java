@@ -0,0 +1,137 @@
+package musicopedia.service.impl;
+
+import musicopedia.dto.response.SearchHitDTO;
+import musicopedia.dto.response.SearchResultsDTO;
+import musicopedia.repository.projection.MemberSummary;
+import musicopedia.search.NameRanking;
+import musicopedia.search.SearchSource;
+import musicopedia.search.SuggestionType;
+import musicopedia.service.ArtistService;
+import musicopedia.service.MemberService;
+import musicopedia.service.SearchService;
+import musicopedia.service.SoloService;
+import musicopedia.service.SubunitService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Scatter-gather over the name searches: every backend is started at once on
+ * its own executor and given what is left of one deadline. Hits are scored
+ * with {@link NameRanking#score} on the name they matched, so results from
+ * different backends are comparable, and an artist found both by name and
+ * by its soloist's real name appears once, at its better score.
+ */
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchServiceImpl.class);
+
+    private final ArtistService artistService;
+    private final MemberService memberService;
+    private final SoloService soloService;
+    private final SubunitService subunitService;
+    private final Duration deadline;
+
+    public SearchServiceImpl(ArtistService artistService, MemberService memberService, SoloService soloService,
+                             SubunitService subunitService, @Value("${app.search.deadline:PT0.3S}") Duration deadline) {
+        this.artistService = artistService;
+        this.memberService = memberService;
+        this.soloService = soloService;
+        this.subunitService = subunitService;
+        this.deadline = deadline;
+    }
+
+    // No transaction here: each backend runs in its own on its own executor
+    @Override
+    public CompletableFuture<SearchResultsDTO> searchAsync(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return CompletableFuture.completedFuture(SearchResultsDTO.of(List.of(), List.of()));
+        }
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        Map<SearchSource, CompletableFuture<Optional<List<SearchHitDTO>>>> pending = new EnumMap<>(SearchSource.class);
+
+        pending.put(SearchSource.ARTISTS, withinDeadline(SearchSource.ARTISTS, deadlineNanos,
+                artistService.findSummariesByNameContainingAsync(query, limit)
+                        .thenApply(artists -> hits(artists, query, artist -> SearchHitDTO.of(SuggestionType.ARTIST,
+                                artist.getArtistId(), artist.getArtistName(), artist.getArtistName(), 0)))));
+        pending.put(SearchSource.MEMBERS, withinDeadline(SearchSource.MEMBERS, deadlineNanos,
+                memberService.findSummariesByNameContaining(query, limit)
+                        .thenCombine(memberService.findSummariesByRealNameContaining(query, limit),
+                                (byName, byRealName) -> Stream.concat(
+                                        hits(byName, query, member -> memberHit(member, member.getMemberName())).stream(),
+                                        hits(byRealName, query, member -> memberHit(member, member.getRealName())).stream())
+                                        .toList())));
+        pending.put(SearchSource.SOLOISTS, withinDeadline(SearchSource.SOLOISTS, deadlineNanos,
+                soloService.findByRealNameContaining(query, limit)
+                        .thenApply(solos -> hits(solos, query, solo -> SearchHitDTO.of(SuggestionType.ARTIST,
+                                solo.getArtistId(), solo.getArtist().getArtistName(), solo.getRealName(), 0)))));
+        pending.put(SearchSource.SUBUNITS, withinDeadline(SearchSource.SUBUNITS, deadlineNanos,
+                subunitService.findNamesByNameContaining(query, limit)
+                        .thenApply(subunits -> hits(subunits, query, subunit -> SearchHitDTO.of(SuggestionType.SUBUNIT,
+                                subunit.getId(), subunit.getName(), subunit.getName(), 0)))));
+
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> merge(pending, limit));
+    }
+
+    private static SearchResultsDTO merge(Map<SearchSource, CompletableFuture<Optional<List<SearchHitDTO>>>> pending,
+                                          int limit) {
+        Map<HitKey, SearchHitDTO> best = new HashMap<>();
+        List<SearchSource> missing = new ArrayList<>();
+        pending.forEach((source, future) -> future.join().ifPresentOrElse(
+                hits -> hits.forEach(hit -> best.merge(new HitKey(hit.getType(), hit.getId()), hit,
+                        (left, right) -> right.getScore() > left.getScore() ? right : left)),
+                () -> missing.add(source)));
+        List<SearchHitDTO> results = best.values().stream()
+                .sorted(Comparator.comparingDouble(SearchHitDTO::getScore).reversed()
+                        .thenComparing(SearchHitDTO::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .toList();
+        return SearchResultsDTO.of(results, missing);
+    }
+
+    private static <T> List<SearchHitDTO> hits(List<T> rows, String query, Function<T, SearchHitDTO> toHit) {
+        return rows.stream()
+                .map(row -> {
+                    SearchHitDTO hit = toHit.apply(row);
+                    hit.setScore(NameRanking.score(hit.getMatchedName(), query));
+                    return hit;
+                })
+                .toList();
+    }
+
+    private static SearchHitDTO memberHit(MemberSummary member, String matchedName) {
+        return SearchHitDTO.of(SuggestionType.MEMBER, member.getMemberId(), member.getMemberName(), matchedName, 0);
+    }
+
+    // Empty if the backend fails or has not answered by the deadline
+    private static <T> CompletableFuture<Optional<T>> withinDeadline(SearchSource source, long deadlineNanos,
+                                                                     CompletableFuture<T> backend) {
+        long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+        return backend.thenApply(Optional::of)
+                .exceptionally(e -> {
+                    log.warn("Search backend {} failed; answering without it", source, e);
+                    return Optional.empty();
+                })
+                .completeOnTimeout(Optional.empty(), remaining, TimeUnit.NANOSECONDS);
+    }
+
+    private record HitKey(SuggestionType type, UUID id) {
+    }
+}
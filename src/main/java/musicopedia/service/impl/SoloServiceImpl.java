@@ -1,10 +1,20 @@
 package musicopedia.service.impl;
 
+import musicopedia.cache.CatalogVersion;
+import musicopedia.config.datasource.PrimaryReads;
 import musicopedia.model.Artist;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistGender;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.SoloRepository;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.NameRanking;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.SoloService;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,24 +25,50 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import static musicopedia.repository.specification.SoloSpecifications.birthDateBetween;
+import static musicopedia.repository.specification.SoloSpecifications.fetchArtist;
+import static musicopedia.repository.specification.SoloSpecifications.hasGender;
+import static musicopedia.repository.specification.SoloSpecifications.isAlive;
+import static musicopedia.repository.specification.SoloSpecifications.isDeceased;
+
 @Service
 @Transactional
 public class SoloServiceImpl implements SoloService {
 
     private final SoloRepository soloRepository;
+    private final CatalogVersion catalogVersion;
+    private final NameIndex nameIndex;
+    private final SearchIndexer searchIndexer;
 
-    public SoloServiceImpl(SoloRepository soloRepository) {
+    public SoloServiceImpl(SoloRepository soloRepository, CatalogVersion catalogVersion,
+                           NameIndex nameIndex, SearchIndexer searchIndexer) {
         this.soloRepository = soloRepository;
+        this.catalogVersion = catalogVersion;
+        this.nameIndex = nameIndex;
+        this.searchIndexer = searchIndexer;
     }
 
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Solo>> findAll() {
-        List<Solo> solos = soloRepository.findAll();
+        // Fills the response cache, so it must not read a replica behind the last write
+        List<Solo> solos = PrimaryReads.call(soloRepository::findAll);
         return CompletableFuture.completedFuture(solos);
     }
 
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<CursorPage<Solo>> findPage(KeysetCursor after, int limit) {
+        Slice<Solo> slice = after == null
+                ? soloRepository.findFirstPage(CursorPage.request(limit))
+                : soloRepository.findPageAfter(after.getKey(), after.getId(), CursorPage.request(limit));
+        CursorPage<Solo> page = CursorPage.of(slice, limit,
+                solo -> KeysetCursor.of(solo.getArtist().getArtistName(), solo.getArtistId()));
+        return CompletableFuture.completedFuture(page);
+    }
+
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
@@ -45,78 +81,81 @@ public class SoloServiceImpl implements SoloService {
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Solo>> findByBirthDateBetween(LocalDate startDate, LocalDate endDate) {
-        List<Solo> allSolos = soloRepository.findAll();
-        List<Solo> filtered = allSolos.stream()
-                .filter(solo -> {
-                    LocalDate birthDate = solo.getBirthDate();
-                    return birthDate != null && 
-                           !birthDate.isBefore(startDate) && 
-                           !birthDate.isAfter(endDate);
-                })
-                .toList();
-        return CompletableFuture.completedFuture(filtered);
+        List<Solo> solos = soloRepository.findAll(
+                fetchArtist().and(birthDateBetween(startDate, endDate)));
+        return CompletableFuture.completedFuture(solos);
     }
 
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Solo>> findByGender(ArtistGender gender) {
-        List<Solo> allSolos = soloRepository.findAll();
-        List<Solo> filtered = allSolos.stream()
-                .filter(solo -> solo.getGender() == gender)
-                .toList();
-        return CompletableFuture.completedFuture(filtered);
+        List<Solo> solos = soloRepository.findAll(fetchArtist().and(hasGender(gender)));
+        return CompletableFuture.completedFuture(solos);
     }
 
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Solo>> findActiveSoloArtists() {
-        List<Solo> allSolos = soloRepository.findAll();
-        List<Solo> filtered = allSolos.stream()
-                .filter(solo -> solo.getDeathDate() == null)
-                .toList();
-        return CompletableFuture.completedFuture(filtered);
+        List<Solo> solos = soloRepository.findAll(fetchArtist().and(isAlive()));
+        return CompletableFuture.completedFuture(solos);
     }
 
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
     public CompletableFuture<List<Solo>> findDeceasedSoloArtists() {
-        List<Solo> allSolos = soloRepository.findAll();
-        List<Solo> filtered = allSolos.stream()
-                .filter(solo -> solo.getDeathDate() != null)
-                .toList();
-        return CompletableFuture.completedFuture(filtered);
+        List<Solo> solos = soloRepository.findAll(fetchArtist().and(isDeceased()));
+        return CompletableFuture.completedFuture(solos);
     }
 
     @Override
     @Async("taskExecutor")
     public CompletableFuture<Solo> save(Solo solo, Artist artist) {
+        catalogVersion.bump();
         // Save the artist entity elsewhere if needed (not in soloRepository)
         solo.setArtist(artist);
         Solo savedSolo = soloRepository.save(solo);
+        searchIndexer.soloSavedOnCommit(savedSolo);
         return CompletableFuture.completedFuture(savedSolo);
     }
 
     @Override
     @Async("taskExecutor")
     public CompletableFuture<Solo> update(Solo solo) {
-        if (soloRepository.existsById(solo.getArtistId())) {
-            if (solo.getArtist() == null) {
-                // Do not save, but return the input solo (not null)
-                return CompletableFuture.completedFuture(solo);
-            }
-            Solo updatedSolo = soloRepository.save(solo);
-            return CompletableFuture.completedFuture(updatedSolo);
+        catalogVersion.bump();
+        Optional<Solo> stored = soloRepository.findById(solo.getArtistId());
+        if (stored.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
-        return CompletableFuture.completedFuture(null);
+        if (solo.getArtist() == null) {
+            // Do not save, but return the input solo (not null)
+            return CompletableFuture.completedFuture(solo);
+        }
+        // Applied onto the stored row, so a body without the version still saves; one naming a stale version is refused
+        Solo updatedSolo = stored.get();
+        if (solo.isVersionSent() && solo.getVersion() != updatedSolo.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Solo.class, updatedSolo.getArtistId());
+        }
+        updatedSolo.setBirthDate(solo.getBirthDate());
+        updatedSolo.setDeathDate(solo.getDeathDate());
+        updatedSolo.setDebutDate(solo.getDebutDate());
+        updatedSolo.setGender(solo.getGender());
+        updatedSolo.setGroupAffiliationStatus(solo.getGroupAffiliationStatus());
+        updatedSolo.setRealName(solo.getRealName());
+        updatedSolo.setMember(solo.getMember());
+        updatedSolo = soloRepository.save(updatedSolo);
+        searchIndexer.soloSavedOnCommit(updatedSolo);
+        return CompletableFuture.completedFuture(updatedSolo);
     }
 
     @Override
     @Async("taskExecutor")
     public CompletableFuture<Void> deleteById(UUID soloId) {
+        catalogVersion.bump();
         soloRepository.deleteById(soloId);
+        searchIndexer.soloDeletedOnCommit(soloId);
         return CompletableFuture.completedFuture(null);
     }
 
@@ -131,11 +170,17 @@ public class SoloServiceImpl implements SoloService {
     @Override
     @Async("taskExecutor")
     @Transactional(readOnly = true)
-    public CompletableFuture<List<Solo>> findByRealNameContaining(String realName) {
-        // Use artistName as the real name field
-        List<Solo> solos = soloRepository.findAll().stream()
-                .filter(solo -> solo.getArtist() != null && solo.getArtist().getArtistName() != null && solo.getArtist().getArtistName().contains(realName))
-                .toList();
+    public CompletableFuture<List<Solo>> findByRealNameContaining(String realName, int limit) {
+        List<Solo> solos;
+        if (nameIndex.isReady()) {
+            List<UUID> ids = nameIndex.search(NameField.SOLO_REAL_NAME, realName, limit);
+            solos = ids.isEmpty()
+                    ? List.of()
+                    : NameRanking.inOrderOf(ids, soloRepository.findWithArtistByIds(ids), Solo::getArtistId);
+        } else {
+            solos = NameRanking.top(soloRepository.findBySoloRealNameContaining(realName),
+                    realName, Solo::getRealName, limit);
+        }
         return CompletableFuture.completedFuture(solos);
     }
 
@@ -1,8 +1,11 @@
 package musicopedia.service.impl;
 
 import musicopedia.model.membership.SubunitMembership;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.SubunitMembershipRepository;
 import musicopedia.service.SubunitMembershipService;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,26 @@ public class SubunitMembershipServiceImpl implements SubunitMembershipService {
         return CompletableFuture.completedFuture(repository.findByMember_MemberId(memberId));
     }
 
+    @Override
+    @Async
+    public CompletableFuture<CursorPage<SubunitMembership>> findPageBySubunitId(UUID subunitId, KeysetCursor after, int limit) {
+        Slice<SubunitMembership> slice = after == null
+            ? repository.findFirstPageBySubunitId(subunitId, CursorPage.request(limit))
+            : repository.findPageBySubunitIdAfter(subunitId, after.getId(), CursorPage.request(limit));
+        return CompletableFuture.completedFuture(
+            CursorPage.of(slice, limit, membership -> KeysetCursor.of(membership.getId().getMemberId())));
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<CursorPage<SubunitMembership>> findPageByMemberId(UUID memberId, KeysetCursor after, int limit) {
+        Slice<SubunitMembership> slice = after == null
+            ? repository.findFirstPageByMemberId(memberId, CursorPage.request(limit))
+            : repository.findPageByMemberIdAfter(memberId, after.getId(), CursorPage.request(limit));
+        return CompletableFuture.completedFuture(
+            CursorPage.of(slice, limit, membership -> KeysetCursor.of(membership.getId().getSubunitId())));
+    }
+
     @Override
     @Async
     public CompletableFuture<Void> deleteBySubunitId(UUID subunitId) {
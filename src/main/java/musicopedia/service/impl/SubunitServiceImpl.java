@@ -4,9 +4,17 @@ import musicopedia.dto.request.SubunitRequestDTO;
 import musicopedia.dto.response.SubunitResponseDTO;
 import musicopedia.mapper.SubunitMapper;
 import musicopedia.model.Subunit;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.NameRow;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.NameRanking;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.SubunitService;
 import musicopedia.exception.SubunitServiceException;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +30,15 @@ import java.util.concurrent.ExecutionException;
 public class SubunitServiceImpl implements SubunitService {
     private final SubunitRepository subunitRepository;
     private final SubunitMapper subunitMapper;
+    private final NameIndex nameIndex;
+    private final SearchIndexer searchIndexer;
 
-    public SubunitServiceImpl(SubunitRepository subunitRepository, SubunitMapper subunitMapper) {
+    public SubunitServiceImpl(SubunitRepository subunitRepository, SubunitMapper subunitMapper,
+                              NameIndex nameIndex, SearchIndexer searchIndexer) {
         this.subunitRepository = subunitRepository;
         this.subunitMapper = subunitMapper;
+        this.nameIndex = nameIndex;
+        this.searchIndexer = searchIndexer;
     }
 
     @Override
@@ -47,6 +60,27 @@ public class SubunitServiceImpl implements SubunitService {
         return CompletableFuture.completedFuture(dtos);
     }
 
+    @Override
+    @Async
+    public CompletableFuture<CursorPage<SubunitResponseDTO>> findPage(KeysetCursor after, int limit) {
+        Slice<Subunit> slice = after == null
+            ? subunitRepository.findAllByOrderBySubunitNameAscSubunitIdAsc(CursorPage.request(limit))
+            : subunitRepository.findPageAfter(after.getKey(), after.getId(), CursorPage.request(limit));
+        CursorPage<SubunitResponseDTO> page = CursorPage.of(slice, limit,
+                subunit -> KeysetCursor.of(subunit.getSubunitName(), subunit.getSubunitId()))
+            .map(subunit -> {
+                try {
+                    return subunitMapper.toResponseDTO(subunit).get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SubunitServiceException("Interrupted while mapping Subunit", e);
+                } catch (ExecutionException e) {
+                    throw new SubunitServiceException("Execution error while mapping Subunit", e);
+                }
+            });
+        return CompletableFuture.completedFuture(page);
+    }
+
     @Override
     @Async
     public CompletableFuture<Optional<SubunitResponseDTO>> findById(UUID subunitId) {
@@ -62,6 +96,22 @@ public class SubunitServiceImpl implements SubunitService {
         }
     }
 
+    @Override
+    @Async
+    @Transactional(readOnly = true)
+    public CompletableFuture<List<NameRow>> findNamesByNameContaining(String name, int limit) {
+        List<NameRow> names;
+        if (nameIndex.isReady()) {
+            List<UUID> ids = nameIndex.search(NameField.SUBUNIT_NAME, name, limit);
+            names = ids.isEmpty()
+                ? List.of()
+                : NameRanking.inOrderOf(ids, subunitRepository.findNamesByIds(ids), NameRow::getId);
+        } else {
+            names = NameRanking.top(subunitRepository.findNamesBySubunitNameContaining(name), name, NameRow::getName, limit);
+        }
+        return CompletableFuture.completedFuture(names);
+    }
+
     @Override
     @Async
     public CompletableFuture<SubunitResponseDTO> create(SubunitRequestDTO dto) {
@@ -71,6 +121,7 @@ public class SubunitServiceImpl implements SubunitService {
         try {
             Subunit subunit = subunitMapper.toEntity(dto, null, null).get();
             Subunit saved = subunitRepository.save(subunit);
+            searchIndexer.subunitSavedOnCommit(saved);
             return subunitMapper.toResponseDTO(saved);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -94,6 +145,7 @@ public class SubunitServiceImpl implements SubunitService {
             Subunit subunit = subunitMapper.toEntity(dto, null, null).get();
             subunit.setSubunitId(subunitId);
             Subunit saved = subunitRepository.save(subunit);
+            searchIndexer.subunitSavedOnCommit(saved);
             return subunitMapper.toResponseDTO(saved);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -107,6 +159,7 @@ public class SubunitServiceImpl implements SubunitService {
     @Async
     public CompletableFuture<Void> delete(UUID subunitId) {
         subunitRepository.deleteById(subunitId);
+        searchIndexer.subunitDeletedOnCommit(subunitId);
         return CompletableFuture.completedFuture(null);
     }
 }
@@ -0,0 +1,169 @@
+package musicopedia.service.impl;
+
+import musicopedia.cache.SpotifyIdFilter;
+import musicopedia.config.datasource.PrimaryReads;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.VersionStamp;
+import musicopedia.service.VersionStampService;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Each stamp covers the tables its endpoint reads: groups from groups and
+ * artist rows, subunits from subunit and artist rows, soloists from solo and
+ * artist rows, members from member, solo and artist rows. List stamps take the whole table (or
+ * artist type) rather than the filtered subset, which only costs an extra
+ * 200 after an unrelated change.
+ *
+ * Stamps are read from the primary, like the cached list bodies they
+ * validate: a replica's stamp could run ahead of or behind a cached body
+ * and label it with the wrong ETag.
+ */
+@Service
+@Transactional
+public class VersionStampServiceImpl implements VersionStampService {
+
+    private final ArtistRepository artistRepository;
+    private final GroupRepository groupRepository;
+    private final SoloRepository soloRepository;
+    private final MemberRepository memberRepository;
+    private final SubunitRepository subunitRepository;
+    private final SpotifyIdFilter spotifyIdFilter;
+
+    public VersionStampServiceImpl(ArtistRepository artistRepository, GroupRepository groupRepository,
+                                   SoloRepository soloRepository, MemberRepository memberRepository,
+                                   SubunitRepository subunitRepository, SpotifyIdFilter spotifyIdFilter) {
+        this.artistRepository = artistRepository;
+        this.groupRepository = groupRepository;
+        this.soloRepository = soloRepository;
+        this.memberRepository = memberRepository;
+        this.subunitRepository = subunitRepository;
+        this.spotifyIdFilter = spotifyIdFilter;
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forArtists() {
+        return fromPrimary(artistRepository::findStamp);
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forArtist(UUID artistId) {
+        return fromPrimary(() -> artistRepository.findStampById(artistId));
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forArtistBySpotifyId(String spotifyId) {
+        // The 404 for an unknown id is decided here, before the body is loaded
+        if (!spotifyIdFilter.mightContain(spotifyId)) {
+            return CompletableFuture.completedFuture(VersionStamp.EMPTY);
+        }
+        return fromPrimary(() -> artistRepository.findStampBySpotifyId(spotifyId));
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forGroups() {
+        return fromPrimary(() -> groupRepository.findGroupsStamp()
+                .and(artistRepository.findStampByType(ArtistType.GROUP)));
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forGroup(UUID groupId) {
+        return fromPrimary(() -> {
+            VersionStamp artist = artistRepository.findStampByIdAndType(groupId, ArtistType.GROUP);
+            if (artist.isEmpty()) {
+                return VersionStamp.EMPTY;
+            }
+            return artist.and(groupRepository.findGroupsStampById(groupId));
+        });
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forSoloists() {
+        return fromPrimary(() -> soloRepository.findStamp()
+                .and(artistRepository.findStampByType(ArtistType.SOLO)));
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forSoloist(UUID soloId) {
+        return fromPrimary(() -> {
+            VersionStamp solo = soloRepository.findStampById(soloId);
+            if (solo.isEmpty()) {
+                return VersionStamp.EMPTY;
+            }
+            return solo.and(artistRepository.findStampById(soloId));
+        });
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forMembers() {
+        return fromPrimary(() -> memberRepository.findStamp()
+                .and(soloRepository.findStamp())
+                .and(artistRepository.findStampByType(ArtistType.SOLO)));
+    }
+
+    @Override
+    @Async("memberProcessingExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forMember(UUID memberId) {
+        return fromPrimary(() -> {
+            VersionStamp member = memberRepository.findStampById(memberId);
+            if (member.isEmpty()) {
+                return VersionStamp.EMPTY;
+            }
+            return member
+                    .and(soloRepository.findStampByMemberId(memberId))
+                    .and(artistRepository.findStampBySoloMemberId(memberId));
+        });
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forSubunits() {
+        return fromPrimary(() -> subunitRepository.findStamp()
+                .and(artistRepository.findStampByType(ArtistType.GROUP)));
+    }
+
+    @Override
+    @Async("taskExecutor")
+    @Transactional(readOnly = true)
+    public CompletableFuture<VersionStamp> forSubunit(UUID subunitId) {
+        return fromPrimary(() -> {
+            VersionStamp subunit = subunitRepository.findStampById(subunitId);
+            if (subunit.isEmpty()) {
+                return VersionStamp.EMPTY;
+            }
+            return subunit.and(artistRepository.findStampBySubunitId(subunitId));
+        });
+    }
+
+    private static CompletableFuture<VersionStamp> fromPrimary(Supplier<VersionStamp> stamp) {
+        return CompletableFuture.completedFuture(PrimaryReads.call(stamp));
+    }
+}
@@ -0,0 +1,136 @@
+package musicopedia.benchmark;
+
+import jakarta.persistence.EntityManager;
+import musicopedia.model.Solo;
+import musicopedia.model.enums.ArtistGender;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static musicopedia.repository.specification.SoloSpecifications.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the legacy "load every solo and filter in Java" path with the
+ * specification-based path on a 500k row H2 dataset.
+ * Run with {@code ./gradlew benchmark}; excluded from the regular test tasks.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class SoloQueryBenchmark {
+
+    private static final int ROWS = 500_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int ITERATIONS = 3;
+    private static final LocalDate BASE_DATE = LocalDate.of(1940, 1, 1);
+
+    @Autowired
+    private SoloRepository soloRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void loadDataset() {
+        ArtistGender[] genders = ArtistGender.values();
+        List<Object[]> artists = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> solos = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            UUID id = UUID.randomUUID();
+            LocalDate birthDate = BASE_DATE.plusDays(i % 25_000L);
+            LocalDate deathDate = i % 50 == 0 ? birthDate.plusYears(60) : null;
+            artists.add(new Object[]{id, "Soloist " + i, "SOLO"});
+            solos.add(new Object[]{
+                    id,
+                    Date.valueOf(birthDate),
+                    deathDate != null ? Date.valueOf(deathDate) : null,
+                    Date.valueOf(birthDate.plusYears(18)),
+                    genders[i % genders.length].name()
+            });
+            if (artists.size() == BATCH_SIZE) {
+                flush(artists, solos);
+            }
+        }
+        flush(artists, solos);
+    }
+
+    private void flush(List<Object[]> artists, List<Object[]> solos) {
+        jdbcTemplate.batchUpdate("INSERT INTO artists (artistId, artistName, type) VALUES (?, ?, ?)", artists);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO solo (artist_id, birthDate, deathDate, debutDate, gender) VALUES (?, ?, ?, ?, ?)", solos);
+        artists.clear();
+        solos.clear();
+    }
+
+    @Test
+    void compareInMemoryFilteringWithSpecifications() {
+        LocalDate start = LocalDate.of(1990, 1, 1);
+        LocalDate end = LocalDate.of(1990, 12, 31);
+
+        compare("birthDateBetween",
+                () -> soloRepository.findAll().stream()
+                        .filter(solo -> solo.getBirthDate() != null
+                                && !solo.getBirthDate().isBefore(start)
+                                && !solo.getBirthDate().isAfter(end))
+                        .toList(),
+                () -> soloRepository.findAll(fetchArtist().and(birthDateBetween(start, end))));
+
+        compare("hasGender",
+                () -> soloRepository.findAll().stream()
+                        .filter(solo -> solo.getGender() == ArtistGender.NON_BINARY)
+                        .toList(),
+                () -> soloRepository.findAll(fetchArtist().and(hasGender(ArtistGender.NON_BINARY))));
+
+        compare("isDeceased",
+                () -> soloRepository.findAll().stream()
+                        .filter(solo -> solo.getDeathDate() != null)
+                        .toList(),
+                () -> soloRepository.findAll(fetchArtist().and(isDeceased())));
+    }
+
+    private void compare(String name, Supplier<List<Solo>> legacy, Supplier<List<Solo>> specification) {
+        long legacyNanos = 0;
+        long specificationNanos = 0;
+        int legacyCount = 0;
+        int specificationCount = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            legacyCount = legacy.get().size();
+            legacyNanos += System.nanoTime() - started;
+            entityManager.clear();
+
+            started = System.nanoTime();
+            specificationCount = specification.get().size();
+            specificationNanos += System.nanoTime() - started;
+            entityManager.clear();
+        }
+        assertEquals(legacyCount, specificationCount);
+        System.out.printf("[%s] rows=%d matches=%d legacy=%d ms specification=%d ms%n",
+                name, ROWS, specificationCount,
+                legacyNanos / ITERATIONS / 1_000_000,
+                specificationNanos / ITERATIONS / 1_000_000);
+    }
+}
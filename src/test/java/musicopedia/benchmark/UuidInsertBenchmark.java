@@ -0,0 +1,91 @@
+package musicopedia.benchmark;
+
+import musicopedia.model.id.UuidV7Generator;
+import musicopedia.repository.config.RepositoryTestConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares insert throughput of random (v4) and time-ordered (v7) primary
+ * keys as the table grows. Each round appends ROUND_ROWS rows to both tables
+ * and prints the rows per second for that round, so the trend shows how the
+ * cost of scattered index inserts grows with table size.
+ * Run with {@code ./gradlew benchmark}; excluded from the regular test tasks.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class UuidInsertBenchmark {
+
+    private static final int ROUNDS = 10;
+    private static final int ROUND_ROWS = 100_000;
+    private static final int BATCH_SIZE = 5_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() {
+        // Same shape as the artists table: uuid key plus a secondary index on the name
+        for (String table : List.of("bench_v4", "bench_v7")) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL)");
+            jdbcTemplate.execute("CREATE INDEX " + table + "_name ON " + table + " (name)");
+        }
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            // Alternate which table goes first so neither always runs on a warmer cache
+            long v4Nanos;
+            long v7Nanos;
+            if (round % 2 == 0) {
+                v4Nanos = insert("bench_v4", UUID::randomUUID, round);
+                v7Nanos = insert("bench_v7", UuidV7Generator::next, round);
+            } else {
+                v7Nanos = insert("bench_v7", UuidV7Generator::next, round);
+                v4Nanos = insert("bench_v4", UUID::randomUUID, round);
+            }
+            System.out.printf("[uuid-insert] rows=%d v4=%d rows/s v7=%d rows/s%n",
+                    round * ROUND_ROWS, rowsPerSecond(v4Nanos), rowsPerSecond(v7Nanos));
+        }
+
+        assertEquals(ROUNDS * ROUND_ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bench_v4", Integer.class));
+        assertEquals(ROUNDS * ROUND_ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bench_v7", Integer.class));
+    }
+
+    private long insert(String table, Supplier<UUID> ids, int round) {
+        String sql = "INSERT INTO " + table + " (id, name) VALUES (?, ?)";
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long started = System.nanoTime();
+        for (int i = 0; i < ROUND_ROWS; i++) {
+            batch.add(new Object[]{ids.get(), "Artist " + round + "-" + i});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return ROUND_ROWS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
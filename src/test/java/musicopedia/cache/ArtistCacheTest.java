@@ -0,0 +1,112 @@
+package musicopedia.cache;
+
+import musicopedia.builder.ArtistBuilder;
+import musicopedia.dto.response.CacheStatsDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.enums.ArtistType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtistCacheTest {
+
+    private ArtistCache cache;
+    private Artist artist;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ArtistCache(1_000_000, Duration.ofMinutes(10));
+        artist = new ArtistBuilder()
+            .setArtistName("IU")
+            .setType(ArtistType.SOLO)
+            .setSpotifyId("3HqSLMAZ3g3d5poNaI7GOU")
+            .build();
+        artist.setArtistId(UUID.randomUUID());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testHitsAndMissesAreCounted() {
+        cache.findById(artist.getArtistId(), this::load);
+        cache.findById(artist.getArtistId(), this::load);
+        cache.findBySpotifyId(artist.getSpotifyId(), () -> load(artist.getArtistId()));
+
+        CacheStatsDTO stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(2, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void testMissingArtistsAreNotCached() {
+        cache.findById(artist.getArtistId(), id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.findById(artist.getArtistId(), this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testCallersGetIndependentCopies() {
+        Artist first = cache.findById(artist.getArtistId(), this::load).orElseThrow();
+        first.setArtistName("Changed before save");
+
+        Artist second = cache.findById(artist.getArtistId(), this::load).orElseThrow();
+        assertEquals("IU", second.getArtistName());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testInvalidateDropsBothKeys() {
+        cache.findById(artist.getArtistId(), this::load);
+        cache.invalidate(artist.getArtistId(), null);
+
+        cache.findBySpotifyId(artist.getSpotifyId(), () -> load(artist.getArtistId()));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testStaleSpotifyIdMappingIsIgnored() {
+        String oldSpotifyId = artist.getSpotifyId();
+        cache.findBySpotifyId(oldSpotifyId, () -> load(artist.getArtistId()));
+
+        // Re-cached under its new spotifyId; the old mapping still points at the same id
+        artist.setSpotifyId("0000000000000000000000");
+        cache.findBySpotifyId(artist.getSpotifyId(), () -> load(artist.getArtistId()));
+
+        Optional<Artist> result = cache.findBySpotifyId(oldSpotifyId, Optional::empty);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testSizeBoundEvicts() {
+        ArtistCache small = new ArtistCache(ArtistCache.estimateSize(artist) * 10L, Duration.ofMinutes(10));
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            small.findById(id, key -> {
+                Artist copy = ArtistCache.copyOf(artist);
+                copy.setArtistId(key);
+                return Optional.of(copy);
+            });
+        }
+
+        CacheStatsDTO stats = small.stats();
+        assertTrue(stats.getSize() <= 10);
+        assertTrue(stats.getEvictions() > 0);
+    }
+
+    private Optional<Artist> load(UUID id) {
+        loads.incrementAndGet();
+        return Optional.of(artist);
+    }
+}
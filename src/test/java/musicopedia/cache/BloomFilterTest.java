@@ -0,0 +1,48 @@
+package musicopedia.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testAddedKeysAreAlwaysContained() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, 1 << 20);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("artist-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("artist-" + i));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, 1 << 20);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("artist-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    void testSizeIsCappedByMaxBytes() {
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.001, 1024);
+
+        assertEquals(1024, filter.sizeBytes());
+        assertEquals(8192, filter.bitSize());
+        assertTrue(filter.hashFunctions() >= 1);
+    }
+}
@@ -0,0 +1,39 @@
+package musicopedia.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogVersionTest {
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testBumpOutsideTransactionAdvancesOnce() {
+        catalogVersion.bump();
+
+        assertEquals(1, catalogVersion.current());
+    }
+
+    @Test
+    void testBumpInsideTransactionAdvancesAgainOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogVersion.bump();
+        long beforeCommit = catalogVersion.current();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(1, beforeCommit);
+        assertEquals(2, catalogVersion.current());
+    }
+}
@@ -0,0 +1,104 @@
+package musicopedia.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private CatalogVersion catalogVersion;
+    private ResponseCache responseCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        responseCache = new ResponseCache(objectMapper, catalogVersion, 1_000_000, Duration.ofMinutes(10), true, 64);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testHitServesStoredBytesWithoutLoading() {
+        ResponseEntity<byte[]> first = responseCache.serve("artists", null, () -> load(List.of("IU"))).join();
+        ResponseEntity<byte[]> second = responseCache.serve("artists", null, () -> load(List.of("IU"))).join();
+
+        assertEquals(1, loads.get());
+        assertEquals("[\"IU\"]", new String(second.getBody(), StandardCharsets.UTF_8));
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, second.getHeaders().getContentType());
+        assertEquals(1, responseCache.stats().getHits());
+    }
+
+    @Test
+    void testKeysAreSeparate() {
+        responseCache.serve("artists", null, () -> load(List.of("IU"))).join();
+        ResponseEntity<byte[]> members = responseCache.serve("members", null, () -> load(List.of("Jisoo"))).join();
+
+        assertEquals(2, loads.get());
+        assertEquals("[\"Jisoo\"]", new String(members.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCatalogWriteMakesEntryUnreachable() {
+        responseCache.serve("artists", null, () -> load(List.of("IU"))).join();
+        catalogVersion.bump();
+        ResponseEntity<byte[]> reloaded = responseCache.serve("artists", null, () -> load(List.of("IU", "Taeyeon"))).join();
+
+        assertEquals(2, loads.get());
+        assertEquals("[\"IU\",\"Taeyeon\"]", new String(reloaded.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testLargeBodiesAreSentGzippedToClientsThatAcceptIt() throws IOException {
+        List<String> names = Collections.nCopies(50, "Girls' Generation");
+        ResponseEntity<byte[]> gzipped = responseCache.serve("groups", "gzip, deflate", () -> load(names)).join();
+        ResponseEntity<byte[]> plain = responseCache.serve("groups", null, () -> load(names)).join();
+
+        assertEquals(1, loads.get());
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzipped.getHeaders().getFirst(HttpHeaders.VARY));
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testSmallBodiesAreNeverGzipped() {
+        ResponseEntity<byte[]> response = responseCache.serve("artists", "gzip", () -> load(List.of("IU"))).join();
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        CompletableFuture<ResponseEntity<byte[]>> failed = responseCache.serve("artists", null,
+                () -> CompletableFuture.failedFuture(new IllegalStateException("down")));
+        assertThrows(Exception.class, failed::join);
+
+        responseCache.serve("artists", null, () -> load(List.of("IU"))).join();
+        assertEquals(1, loads.get());
+    }
+
+    private CompletableFuture<List<String>> load(List<String> body) {
+        loads.incrementAndGet();
+        return CompletableFuture.completedFuture(body);
+    }
+}
@@ -0,0 +1,110 @@
+package musicopedia.cache;
+
+import musicopedia.repository.ArtistRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpotifyIdFilterTest {
+
+    private ArtistRepository artistRepository;
+    private SpotifyIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        artistRepository = mock(ArtistRepository.class);
+        filter = new SpotifyIdFilter(artistRepository, mock(PlatformTransactionManager.class), 0.01, 1_000, 1 << 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testEverythingPassesBeforeFirstBuild() {
+        assertTrue(filter.mightContain("anything"));
+        assertFalse(filter.stats().isReady());
+    }
+
+    @Test
+    void testRebuildLoadsStoredIds() {
+        when(artistRepository.countBySpotifyIdIsNotNull()).thenReturn(2L);
+        when(artistRepository.streamSpotifyIds()).thenReturn(Stream.of("iu", "taeyeon"));
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("iu"));
+        assertTrue(filter.mightContain("taeyeon"));
+        assertFalse(filter.mightContain("missing"));
+        assertTrue(filter.stats().isReady());
+        assertEquals(2, filter.stats().getInsertions());
+        assertEquals(1, filter.stats().getNegatives());
+    }
+
+    @Test
+    void testRebuildDropsDeletedIds() {
+        when(artistRepository.streamSpotifyIds())
+                .thenReturn(Stream.of("iu", "deleted"))
+                .thenReturn(Stream.of("iu"));
+
+        filter.rebuild();
+        assertTrue(filter.mightContain("deleted"));
+        filter.rebuild();
+
+        assertFalse(filter.mightContain("deleted"));
+    }
+
+    @Test
+    void testRebuildKeepsIdsOfUncommittedWrites() {
+        when(artistRepository.streamSpotifyIds()).thenReturn(Stream.empty(), Stream.empty(), Stream.empty());
+        filter.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+
+        filter.add("inserting");
+        filter.rebuild();
+        assertTrue(filter.mightContain("inserting"));
+
+        // Rolled back: the next rebuild no longer carries it
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        filter.rebuild();
+        assertFalse(filter.mightContain("inserting"));
+    }
+
+    @Test
+    void testFailedRebuildKeepsPreviousFilter() {
+        when(artistRepository.streamSpotifyIds())
+                .thenReturn(Stream.of("iu"))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        filter.rebuild();
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("iu"));
+        assertFalse(filter.mightContain("missing"));
+    }
+
+    @Test
+    void testObservedFalsePositiveRate() {
+        when(artistRepository.streamSpotifyIds()).thenReturn(Stream.empty());
+        filter.rebuild();
+
+        filter.mightContain("a");
+        filter.mightContain("b");
+        filter.mightContain("c");
+        filter.recordFalsePositive();
+
+        assertEquals(0.25, filter.stats().getObservedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,120 @@
+package musicopedia.coalescing;
+
+import musicopedia.config.CoalescingConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingPostProcessorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(CoalescingConfig.class, AsyncLookupConfig.class);
+
+    @Test
+    void testJoinedCallsNeverReachTheExecutor() {
+        contextRunner.run(context -> {
+            Lookup lookup = context.getBean(Lookup.class);
+            CountingExecutor executor = context.getBean(CountingExecutor.class);
+
+            CompletableFuture<String> first = lookup.find("iu");
+            CompletableFuture<String> second = lookup.find("iu");
+            CompletableFuture<String> other = lookup.find("taeyeon");
+            lookup.release();
+
+            assertEquals("IU", first.join());
+            assertEquals("IU", second.join());
+            assertEquals("TAEYEON", other.join());
+            assertEquals(2, executor.submitted.get());
+            assertEquals(2, lookup.invocations());
+        });
+    }
+
+    @Test
+    void testUnannotatedMethodsAreNotCoalesced() {
+        contextRunner.run(context -> {
+            Lookup lookup = context.getBean(Lookup.class);
+            lookup.release();
+
+            lookup.findUncoalesced("iu").join();
+            lookup.findUncoalesced("iu").join();
+
+            assertEquals(2, lookup.invocations());
+            assertTrue(context.getBean(SingleFlight.class).stats().isEmpty());
+        });
+    }
+
+    @Configuration
+    @EnableAsync
+    static class AsyncLookupConfig {
+
+        @Bean
+        CountingExecutor lookupExecutor() {
+            return new CountingExecutor();
+        }
+
+        @Bean
+        Lookup lookup() {
+            return new Lookup();
+        }
+    }
+
+    static class CountingExecutor implements Executor {
+
+        final AtomicInteger submitted = new AtomicInteger();
+        private final Executor delegate = Executors.newCachedThreadPool();
+
+        @Override
+        public void execute(Runnable command) {
+            submitted.incrementAndGet();
+            delegate.execute(command);
+        }
+    }
+
+    static class Lookup {
+
+        // Reached through methods because the bean handed out is a proxy without these fields
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        public void release() {
+            latch.countDown();
+        }
+
+        public int invocations() {
+            return invocations.get();
+        }
+
+        @Coalesced
+        @Async("lookupExecutor")
+        public CompletableFuture<String> find(String key) {
+            return CompletableFuture.completedFuture(await(key));
+        }
+
+        @Async("lookupExecutor")
+        public CompletableFuture<String> findUncoalesced(String key) {
+            return CompletableFuture.completedFuture(await(key));
+        }
+
+        private String await(String key) {
+            invocations.incrementAndGet();
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return key.toUpperCase();
+        }
+    }
+}
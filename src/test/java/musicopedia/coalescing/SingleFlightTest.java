@@ -0,0 +1,104 @@
+package musicopedia.coalescing;
+
+import musicopedia.dto.response.CoalescingStatsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final AtomicInteger started = new AtomicInteger();
+
+    @Test
+    void testConcurrentCallsShareOneInvocation() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.execute("find", "iu", () -> start(pending));
+        CompletableFuture<String> second = singleFlight.execute("find", "iu", () -> start(pending));
+        CompletableFuture<String> other = singleFlight.execute("find", "taeyeon", () -> start(new CompletableFuture<>()));
+
+        assertEquals(2, started.get());
+        assertEquals(2, singleFlight.inFlight());
+
+        pending.complete("IU");
+        assertEquals("IU", first.join());
+        assertEquals("IU", second.join());
+        assertFalse(other.isDone());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testKeyIsReleasedOnceTheCallCompletes() {
+        singleFlight.execute("find", "iu", () -> start(CompletableFuture.completedFuture("IU"))).join();
+        singleFlight.execute("find", "iu", () -> start(CompletableFuture.completedFuture("IU"))).join();
+
+        assertEquals(2, started.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void testFailureReachesEveryJoinedCaller() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("find", "iu", () -> start(pending));
+        CompletableFuture<String> second = singleFlight.execute("find", "iu", () -> start(pending));
+
+        pending.completeExceptionally(new IllegalStateException("down"));
+
+        for (CompletableFuture<String> future : List.of(first, second)) {
+            CompletionException e = assertThrows(CompletionException.class, future::join);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void testSynchronousFailureReleasesKey() {
+        assertThrows(IllegalArgumentException.class,
+                () -> singleFlight.execute("find", "iu", () -> {
+                    throw new IllegalArgumentException("bad id");
+                }));
+
+        assertEquals(0, singleFlight.inFlight());
+        assertEquals("IU", singleFlight.execute("find", "iu", () -> start(CompletableFuture.completedFuture("IU"))).join());
+    }
+
+    @Test
+    void testCancellingOneCallerDoesNotAffectOthers() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("find", "iu", () -> start(pending));
+        CompletableFuture<String> second = singleFlight.execute("find", "iu", () -> start(pending));
+
+        first.cancel(true);
+        pending.complete("IU");
+
+        assertEquals("IU", second.join());
+    }
+
+    @Test
+    void testStatsCountCollapsedCalls() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        for (int i = 0; i < 4; i++) {
+            singleFlight.execute("find", "iu", () -> start(pending));
+        }
+        pending.complete("IU");
+        singleFlight.execute("count", "iu", () -> start(CompletableFuture.completedFuture("1")));
+
+        List<CoalescingStatsDTO> stats = singleFlight.stats();
+        assertEquals(List.of("count", "find"), stats.stream().map(CoalescingStatsDTO::getMethod).toList());
+        assertEquals(0, stats.get(0).getCollapsed());
+        assertEquals(4, stats.get(1).getCalls());
+        assertEquals(3, stats.get(1).getCollapsed());
+        assertEquals(0.75, stats.get(1).getCollapseRate());
+    }
+
+    private CompletableFuture<String> start(CompletableFuture<String> result) {
+        started.incrementAndGet();
+        return result;
+    }
+}
@@ -34,6 +34,14 @@ class AsyncConfigTest {
         assertTrue(executor instanceof ThreadPoolTaskExecutor);
     }
 
+    @Test
+    void testArtistIngestionExecutorBean() {
+        AsyncConfig config = new AsyncConfig();
+        Executor executor = config.artistIngestionExecutor(4);
+        assertTrue(executor instanceof ThreadPoolTaskExecutor);
+        assertEquals(4, ((ThreadPoolTaskExecutor) executor).getMaxPoolSize());
+    }
+
     @Test
     void testGetAsyncExecutor() {
         AsyncConfig config = new AsyncConfig();
@@ -0,0 +1,177 @@
+package musicopedia.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import musicopedia.cache.SecondLevelCacheStatistics;
+import musicopedia.dto.response.CacheRegionStatsDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.CacheRegions;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GenreTagRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import({RepositoryTestConfig.class, SecondLevelCacheConfig.class, SecondLevelCacheStatistics.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+// Entries reach the cache on commit, so each repository call must commit on its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private GenreTagRepository genreTagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    @Autowired
+    private SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        artistRepository.deleteAll();
+        genreTagRepository.deleteAll();
+    }
+
+    @Test
+    void testRegionsAreCreatedUpFront() {
+        for (String region : SecondLevelCacheConfig.BOUNDED_REGIONS) {
+            assertNotNull(hibernateCacheManager.getCache(region), region);
+        }
+        assertNotNull(hibernateCacheManager.getCache(CacheRegions.UPDATE_TIMESTAMPS));
+    }
+
+    @Test
+    void testFindByIdIsServedFromCacheAfterCommit() {
+        Artist saved = artistRepository.save(artist("IU"));
+        statistics.clear();
+
+        Artist found = artistRepository.findById(saved.getArtistId()).orElseThrow();
+
+        assertEquals("IU", found.getArtistName());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        CacheRegionStatsDTO artistRegion = secondLevelCacheStatistics.regions().stream()
+                .filter(region -> region.getRegion().equals(CacheRegions.ARTIST))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, artistRegion.getHits());
+    }
+
+    @Test
+    void testDerivedQueryResultsAreCachedUntilTheTableChanges() {
+        artistRepository.save(artist("IU"));
+        statistics.clear();
+
+        artistRepository.findByType(ArtistType.SOLO);
+        List<Artist> cached = artistRepository.findByType(ArtistType.SOLO);
+
+        assertEquals(1, cached.size());
+        assertEquals(1, statistics.getQueryCachePutCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        artistRepository.save(artist("Taeyeon"));
+
+        assertEquals(2, artistRepository.findByType(ArtistType.SOLO).size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testNewGenreTagLeavesTheArtistRegionCached() {
+        Artist saved = artistRepository.save(artist("IU"));
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> genreTagRepository.insertIfAbsent("k-pop"));
+        statistics.clear();
+
+        artistRepository.findById(saved.getArtistId()).orElseThrow();
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testRegionSizesBindFromProperties() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(PropertiesOnly.class)
+                .withPropertyValues(
+                        "app.cache.l2.default-max-entries=7",
+                        "app.cache.l2.regions.artist=100",
+                        "app.cache.l2.regions[member.soloIdentities]=200")
+                .run(context -> {
+                    SecondLevelCacheProperties properties = context.getBean(SecondLevelCacheProperties.class);
+                    assertEquals(100, properties.maxEntries(CacheRegions.ARTIST));
+                    assertEquals(200, properties.maxEntries(CacheRegions.MEMBER_SOLO_IDENTITIES));
+                    assertEquals(7, properties.maxEntries(CacheRegions.SUBUNIT));
+                });
+    }
+
+    @Test
+    void testQueryCacheIsOffWhenReadsAreRouted() {
+        Map<String, Object> routed = new HashMap<>();
+        Map<String, Object> unrouted = new HashMap<>();
+
+        new SecondLevelCacheConfig().secondLevelCacheCustomizer(hibernateCacheManager, true).customize(routed);
+        new SecondLevelCacheConfig().secondLevelCacheCustomizer(hibernateCacheManager, false).customize(unrouted);
+
+        assertEquals(false, routed.get(AvailableSettings.USE_QUERY_CACHE));
+        assertFalse(unrouted.containsKey(AvailableSettings.USE_QUERY_CACHE));
+        assertSame(hibernateCacheManager, routed.get(ConfigSettings.CACHE_MANAGER));
+    }
+
+    @EnableConfigurationProperties(SecondLevelCacheProperties.class)
+    static class PropertiesOnly {
+    }
+
+    private static Artist artist(String name) {
+        Artist artist = new Artist();
+        artist.setArtistName(name);
+        artist.setType(ArtistType.SOLO);
+        return artist;
+    }
+}
@@ -0,0 +1,45 @@
+package musicopedia.config.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientContextFilterTest {
+
+    @Test
+    void testHeaderWinsOverPrincipalAndSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ClientContextFilter.CLIENT_ID_HEADER, "app-1");
+        request.setUserPrincipal(() -> "admin");
+        request.getSession(true);
+
+        assertEquals("client:app-1", ClientContextFilter.clientKey(request));
+    }
+
+    @Test
+    void testPrincipalThenSessionKeyTheClient() {
+        MockHttpServletRequest signedIn = new MockHttpServletRequest();
+        signedIn.setUserPrincipal(() -> "admin");
+        MockHttpServletRequest withSession = new MockHttpServletRequest();
+        String sessionId = withSession.getSession(true).getId();
+
+        assertEquals("user:admin", ClientContextFilter.clientKey(signedIn));
+        assertEquals("session:" + sessionId, ClientContextFilter.clientKey(withSession));
+    }
+
+    @Test
+    void testAnonymousRequestsAreNotKeyedByRemoteAddress() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        String[] seen = new String[1];
+
+        new ClientContextFilter().doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen[0] = ClientContext.current());
+
+        assertNull(seen[0]);
+        assertNull(request.getSession(false));
+        assertNull(ClientContext.current());
+    }
+}
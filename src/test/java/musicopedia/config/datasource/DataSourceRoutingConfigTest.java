@@ -0,0 +1,45 @@
+package musicopedia.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.hikari.maximum-pool-size=3");
+
+    @Test
+    void testRoutingIsOffByDefault() {
+        contextRunner.run(context -> {
+            assertFalse(context.containsBean("routingDataSource"));
+            assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class));
+        });
+    }
+
+    @Test
+    void testRoutingWrapsPrimaryAndReplicaPools() {
+        contextRunner
+                .withPropertyValues(
+                        "app.datasource.routing.enabled=true",
+                        "app.datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+                        "app.datasource.routing.replicas[0].maximum-pool-size=2")
+                .run(context -> {
+                    assertInstanceOf(LazyConnectionDataSourceProxy.class, context.getBean(DataSource.class));
+                    HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+                    assertEquals(3, primary.getMaximumPoolSize());
+                    assertNotNull(context.getBean(ReadWriteRoutingDataSource.class));
+                });
+    }
+}
@@ -0,0 +1,137 @@
+package musicopedia.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes against three embedded H2 databases, each holding a row that names it.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedDatabase primary = database("primary");
+        List<javax.sql.DataSource> replicas = List.of(database("replica-a"), database("replica-b"));
+        PrimaryStickiness stickiness = new PrimaryStickiness(Duration.ofSeconds(5), now::get);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas, stickiness);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ClientContext.clear();
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    @Test
+    void testReadOnlyTransactionsAlternateBetweenReplicas() {
+        assertEquals("replica-a", readNode());
+        assertEquals("replica-b", readNode());
+        assertEquals("replica-a", readNode());
+    }
+
+    @Test
+    void testWriteTransactionsGoToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> node()));
+    }
+
+    @Test
+    void testQueriesOutsideTransactionsGoToPrimary() {
+        assertEquals("primary", node());
+    }
+
+    @Test
+    void testClientReadsFromPrimaryWithinWindowAfterWrite() {
+        ClientContext.set("client-1");
+        readWrite.executeWithoutResult(status -> node());
+
+        now.addAndGet(4_000);
+        assertEquals("primary", readNode());
+
+        now.addAndGet(2_000);
+        assertTrue(readNode().startsWith("replica"));
+    }
+
+    @Test
+    void testOtherClientsAreNotPinnedByAWrite() {
+        ClientContext.set("client-1");
+        readWrite.executeWithoutResult(status -> node());
+
+        ClientContext.set("client-2");
+        assertTrue(readNode().startsWith("replica"));
+
+        ClientContext.clear();
+        assertTrue(readNode().startsWith("replica"));
+    }
+
+    @Test
+    void testPinnedReadsGoToPrimaryWithoutMakingClientSticky() {
+        ClientContext.set("client-1");
+
+        assertEquals("primary", readOnly.execute(status -> PrimaryReads.call(this::node)));
+        assertTrue(readNode().startsWith("replica"));
+    }
+
+    @Test
+    void testTaskDecoratorCarriesClientOntoWorkerThread() throws InterruptedException {
+        ClientContext.set("client-1");
+        readWrite.executeWithoutResult(status -> node());
+
+        String[] seen = new String[1];
+        Thread worker = new Thread(new ClientContextTaskDecorator().decorate(() -> seen[0] = readNode()));
+        worker.start();
+        worker.join();
+
+        assertEquals("primary", seen[0]);
+    }
+
+    private String readNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + UUID.randomUUID())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(32))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        databases.add(database);
+        return database;
+    }
+}
@@ -2,26 +2,49 @@ package musicopedia.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.ResponseCache;
 import musicopedia.model.Artist;
 import musicopedia.model.enums.ArtistType;
 import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.request.ArtistSearchRequestDTO;
+import musicopedia.dto.response.ArtistBatchItemResultDTO;
+import musicopedia.dto.response.ArtistBatchResultDTO;
+import musicopedia.dto.response.ArtistFacetSearchDTO;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.repository.projection.VersionStamp;
+import musicopedia.search.ArtistFacet;
+import musicopedia.service.ArtistIngestionService;
 import musicopedia.service.ArtistService;
+import musicopedia.service.VersionStampService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,6 +57,14 @@ public class ArtistControllerTest {
     @Mock
     private ArtistService artistService;
 
+    @Mock
+    private ArtistIngestionService artistIngestionService;
+
+    @Mock
+    private VersionStampService versionStampService;
+
+    private static final VersionStamp STAMP = new VersionStamp(1L, 3L, Instant.parse("2025-01-01T00:00:00.123456Z"));
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
     private UUID testId;
@@ -41,7 +72,9 @@ public class ArtistControllerTest {
 
     @BeforeEach
     void setup() {
-        ArtistController artistController = new ArtistController(artistService);
+        ArtistController artistController = new ArtistController(artistService, artistIngestionService,
+            new ResponseCache(Jackson2ObjectMapperBuilder.json().build(), new CatalogVersion(),
+            1_000_000, Duration.ofMinutes(10), true, 1024), versionStampService);
         mockMvc = MockMvcBuilders.standaloneSetup(artistController).build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -60,6 +93,7 @@ public class ArtistControllerTest {
     @Test
     void testGetAllArtists() throws Exception {
         List<Artist> artists = Arrays.asList(testArtist);
+        when(versionStampService.forArtists()).thenReturn(CompletableFuture.completedFuture(STAMP));
         when(artistService.findAllAsync()).thenReturn(CompletableFuture.completedFuture(artists));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/artists"))
@@ -69,13 +103,52 @@ public class ArtistControllerTest {
         mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].artistId").value(testId.toString()));
+                .andExpect(jsonPath("$[0].artistId").value(testId.toString()))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ConditionalRequests.etag(STAMP) + "\""))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+
+        verify(artistService, times(1)).findAllAsync();
+    }
+
+    @Test
+    void testGetAllArtistsNotModified() throws Exception {
+        when(versionStampService.forArtists()).thenReturn(CompletableFuture.completedFuture(STAMP));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + ConditionalRequests.etag(STAMP) + "\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ConditionalRequests.etag(STAMP) + "\""));
+
+        verify(artistService, never()).findAllAsync();
+    }
+
+    @Test
+    void testGetAllArtistsIsServedFromResponseCache() throws Exception {
+        when(versionStampService.forArtists()).thenReturn(CompletableFuture.completedFuture(STAMP));
+        when(artistService.findAllAsync()).thenReturn(CompletableFuture.completedFuture(List.of(testArtist)));
+
+        for (int i = 0; i < 2; i++) {
+            MvcResult mvcResult = mockMvc.perform(get("/api/artists"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string("Vary", "Accept-Encoding"))
+                    .andExpect(jsonPath("$[0].artistName").value("IU"));
+        }
 
         verify(artistService, times(1)).findAllAsync();
     }
 
     @Test
     void testGetArtistById() throws Exception {
+        when(versionStampService.forArtist(testId)).thenReturn(CompletableFuture.completedFuture(STAMP));
         when(artistService.findByIdAsync(testId)).thenReturn(CompletableFuture.completedFuture(Optional.of(testArtist)));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/artists/{id}", testId))
@@ -85,14 +158,63 @@ public class ArtistControllerTest {
         mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.artistId").value(testId.toString()))
-                .andExpect(jsonPath("$.artistName").value("IU"));
+                .andExpect(jsonPath("$.artistName").value("IU"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ConditionalRequests.etag(STAMP) + "\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, STAMP.getLastModified().toEpochMilli() / 1000 * 1000))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
 
         verify(artistService, times(1)).findByIdAsync(testId);
     }
 
+    @Test
+    void testGetArtistByIdNotModified() throws Exception {
+        when(versionStampService.forArtist(testId)).thenReturn(CompletableFuture.completedFuture(STAMP));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/{id}", testId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"other\", \"" + ConditionalRequests.etag(STAMP) + "\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+
+        verify(artistService, never()).findByIdAsync(any());
+    }
+
+    @Test
+    void testGetArtistByIdNotModifiedSince() throws Exception {
+        when(versionStampService.forArtist(testId)).thenReturn(CompletableFuture.completedFuture(STAMP));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/{id}", testId)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 Jan 2025 00:00:00 GMT"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified());
+
+        verify(artistService, never()).findByIdAsync(any());
+    }
+
+    @Test
+    void testGetArtistByIdStaleTagLoadsBody() throws Exception {
+        when(versionStampService.forArtist(testId)).thenReturn(CompletableFuture.completedFuture(STAMP));
+        when(artistService.findByIdAsync(testId)).thenReturn(CompletableFuture.completedFuture(Optional.of(testArtist)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/{id}", testId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-2-0\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artistName").value("IU"));
+    }
+
     @Test
     void testGetArtistByIdNotFound() throws Exception {
-        when(artistService.findByIdAsync(testId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(versionStampService.forArtist(testId)).thenReturn(CompletableFuture.completedFuture(VersionStamp.EMPTY));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/artists/{id}", testId))
                 .andExpect(request().asyncStarted())
@@ -101,13 +223,13 @@ public class ArtistControllerTest {
         mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isNotFound());
 
-        verify(artistService, times(1)).findByIdAsync(testId);
+        verify(artistService, never()).findByIdAsync(any());
     }
 
     @Test
     void testSearchArtistsByName() throws Exception {
         List<Artist> artists = Arrays.asList(testArtist);
-        when(artistService.findByNameContainingAsync("IU")).thenReturn(CompletableFuture.completedFuture(artists));
+        when(artistService.findByNameContainingAsync("IU", 20)).thenReturn(CompletableFuture.completedFuture(artists));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/artists/search")
                         .param("name", "IU"))
@@ -119,11 +241,45 @@ public class ArtistControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].artistName").value("IU"));
 
-        verify(artistService, times(1)).findByNameContainingAsync("IU");
+        verify(artistService, times(1)).findByNameContainingAsync("IU", 20);
+    }
+
+    @Test
+    void testSearchArtistsByNameCapsLimit() throws Exception {
+        when(artistService.findByNameContainingAsync("IU", 100)).thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/search")
+                        .param("name", "IU")
+                        .param("limit", "500"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        verify(artistService, times(1)).findByNameContainingAsync("IU", 100);
+    }
+
+    @Test
+    void testSearchArtistsByNameFuzzy() throws Exception {
+        when(artistService.findByNameFuzzyAsync("Blakpink", 20)).thenReturn(CompletableFuture.completedFuture(List.of(testArtist)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/search")
+                        .param("name", "Blakpink")
+                        .param("fuzzy", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].artistName").value(testArtist.getArtistName()));
+
+        verify(artistService, never()).findByNameContainingAsync(any(), anyInt());
     }
 
     @Test
     void testGetArtistBySpotifyId() throws Exception {
+        when(versionStampService.forArtistBySpotifyId("spotify123")).thenReturn(CompletableFuture.completedFuture(STAMP));
         when(artistService.findBySpotifyIdAsync("spotify123")).thenReturn(CompletableFuture.completedFuture(Optional.of(testArtist)));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/artists/spotify/{spotifyId}", "spotify123"))
@@ -140,7 +296,7 @@ public class ArtistControllerTest {
 
     @Test
     void testGetArtistBySpotifyIdNotFound() throws Exception {
-        when(artistService.findBySpotifyIdAsync("spotify123")).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(versionStampService.forArtistBySpotifyId("spotify123")).thenReturn(CompletableFuture.completedFuture(VersionStamp.EMPTY));
 
         MvcResult mvcResult = mockMvc.perform(get("/api/artists/spotify/{spotifyId}", "spotify123"))
                 .andExpect(request().asyncStarted())
@@ -149,7 +305,7 @@ public class ArtistControllerTest {
         mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isNotFound());
 
-        verify(artistService, times(1)).findBySpotifyIdAsync("spotify123");
+        verify(artistService, never()).findBySpotifyIdAsync(any());
     }
 
     @Test
@@ -289,19 +445,13 @@ public class ArtistControllerTest {
         dto2.setPrimaryLanguage("Korean");
         dto2.setOriginCountry("KR");
 
-        Artist artist1 = new ArtistBuilder()
-            .setArtistName("IU")
-            .setType(ArtistType.SOLO)
-            .build();
-        artist1.setArtistId(UUID.randomUUID());
-        Artist artist2 = new ArtistBuilder()
-            .setArtistName("BTS")
-            .setType(ArtistType.GROUP)
-            .build();
-        artist2.setArtistId(UUID.randomUUID());
+        ArtistBatchItemResultDTO item1 = ArtistBatchItemResultDTO.of(0, ArtistBatchItemResultDTO.Status.CREATED, null, null);
+        item1.setArtistId(UUID.randomUUID());
+        ArtistBatchItemResultDTO item2 = ArtistBatchItemResultDTO.of(1, ArtistBatchItemResultDTO.Status.CREATED, null, null);
+        item2.setArtistId(UUID.randomUUID());
 
-        when(artistService.processBatchAsync(anyList()))
-            .thenReturn(CompletableFuture.completedFuture(Arrays.asList(artist1, artist2)));
+        when(artistIngestionService.ingestAsync(anyList()))
+            .thenReturn(CompletableFuture.completedFuture(ArtistBatchResultDTO.of(List.of(item1, item2))));
 
         String jsonContent = objectMapper.writeValueAsString(Arrays.asList(dto1, dto2));
 
@@ -313,21 +463,22 @@ public class ArtistControllerTest {
 
         mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isCreated())
-            .andExpect(jsonPath("$").isArray())
-            .andExpect(jsonPath("$[0].artistName").value("IU"))
-            .andExpect(jsonPath("$[1].artistName").value("BTS"));
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[1].artistId").value(item2.getArtistId().toString()));
 
-        verify(artistService, times(1)).processBatchAsync(anyList());
+        verify(artistIngestionService, times(1)).ingestAsync(anyList());
     }
 
     @Test
-    void testCreateArtistsBatch_ValidationError() throws Exception {
+    void testCreateArtistsBatch_PartialFailure() throws Exception {
         ArtistRequestDTO dto = new ArtistRequestDTO();
         dto.setArtistName(""); // Invalid
 
-        CompletableFuture<List<Artist>> failedFuture = new CompletableFuture<>();
-        failedFuture.completeExceptionally(new IllegalArgumentException("Validation failed"));
-        when(artistService.processBatchAsync(anyList())).thenReturn(failedFuture);
+        ArtistBatchItemResultDTO item = ArtistBatchItemResultDTO.of(0, ArtistBatchItemResultDTO.Status.INVALID, null,
+                "Artist type cannot be null");
+        when(artistIngestionService.ingestAsync(anyList()))
+            .thenReturn(CompletableFuture.completedFuture(ArtistBatchResultDTO.of(List.of(item))));
 
         String jsonContent = objectMapper.writeValueAsString(Arrays.asList(dto));
 
@@ -337,9 +488,230 @@ public class ArtistControllerTest {
             .andExpect(request().asyncStarted())
             .andReturn();
 
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.results[0].message").value("Artist type cannot be null"));
+
+        verify(artistIngestionService, times(1)).ingestAsync(anyList());
+    }
+
+    @Test
+    void testCreateArtistsBatch_EmptyBody() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(post("/api/artists/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
         mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isBadRequest());
 
-        verify(artistService, times(1)).processBatchAsync(anyList());
+        verifyNoInteractions(artistIngestionService);
+    }
+
+    @Test
+    void testGetArtistPage() throws Exception {
+        KeysetCursor cursor = KeysetCursor.of("A", UUID.randomUUID());
+        CursorPage<Artist> page = new CursorPage<>(List.of(testArtist), "next-token", 10);
+        when(artistService.findPageAsync(cursor, 10)).thenReturn(CompletableFuture.completedFuture(page));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/page")
+                        .param("cursor", cursor.encode())
+                        .param("limit", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].artistId").value(testId.toString()))
+                .andExpect(jsonPath("$.next").value("next-token"))
+                .andExpect(jsonPath("$.limit").value(10));
+
+        verify(artistService, times(1)).findPageAsync(cursor, 10);
+    }
+
+    @Test
+    void testGetArtistPageUsesDefaultLimit() throws Exception {
+        CursorPage<Artist> page = new CursorPage<>(List.of(), null, CursorPage.DEFAULT_LIMIT);
+        when(artistService.findPageAsync(null, CursorPage.DEFAULT_LIMIT)).thenReturn(CompletableFuture.completedFuture(page));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/page"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    void testGetArtistPageRejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/artists/page").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+
+        verify(artistService, never()).findPageAsync(any(), anyInt());
+    }
+
+    @Test
+    void testFilterArtistsBindsCriteria() throws Exception {
+        when(artistService.searchAsync(any(ArtistSearchRequestDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(testArtist)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/filter")
+                        .param("type", "GROUP")
+                        .param("country", "KR")
+                        .param("genre", "pop")
+                        .param("formedFrom", "2015-01-01")
+                        .param("formedTo", "2020-12-31")
+                        .param("sort", "COUNTRY")
+                        .param("direction", "DESC")
+                        .param("limit", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].artistId").value(testId.toString()));
+
+        ArgumentCaptor<ArtistSearchRequestDTO> captor = ArgumentCaptor.forClass(ArtistSearchRequestDTO.class);
+        verify(artistService).searchAsync(captor.capture());
+        ArtistSearchRequestDTO criteria = captor.getValue();
+        assertEquals(ArtistType.GROUP, criteria.getType());
+        assertEquals("KR", criteria.getCountry());
+        assertEquals(LocalDate.of(2015, 1, 1), criteria.getFormedFrom());
+        assertEquals(ArtistSearchRequestDTO.SortField.COUNTRY, criteria.getSort());
+        assertEquals(5, criteria.getLimit());
+    }
+
+    @Test
+    void testFilterArtistsRejectsInvertedFormationRange() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/filter")
+                        .param("formedFrom", "2020-01-01")
+                        .param("formedTo", "2015-01-01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+
+        verify(artistService, never()).searchAsync(any());
+    }
+
+    @Test
+    void testGetArtistSummaries() throws Exception {
+        ArtistSummary summary = new ArtistSummary(testId, "IU", ArtistType.SOLO, null, null, "KR");
+        when(artistService.findAllSummariesAsync()).thenReturn(CompletableFuture.completedFuture(List.of(summary)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/summaries"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].artistId").value(testId.toString()))
+                .andExpect(jsonPath("$[0].artistName").value("IU"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(artistService, never()).findAllAsync();
+    }
+
+    @Test
+    void testSearchArtistSummariesByName() throws Exception {
+        ArtistSummary summary = new ArtistSummary(testId, "IU", ArtistType.SOLO, null, null, "KR");
+        when(artistService.findSummariesByNameContainingAsync("IU", 20)).thenReturn(CompletableFuture.completedFuture(List.of(summary)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/summaries/search")
+                        .param("name", "IU"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].originCountry").value("KR"));
+
+        verify(artistService, times(1)).findSummariesByNameContainingAsync("IU", 20);
+    }
+
+    @Test
+    void testBrowseByFacetsCollectsRepeatedAndCommaSeparatedValues() throws Exception {
+        ArtistSummary summary = new ArtistSummary(testId, "IU", ArtistType.SOLO, null, "K-Pop", "KR");
+        ArtistFacetSearchDTO dto = ArtistFacetSearchDTO.of(1, List.of(summary),
+                Map.of("genre", Map.of("k-pop", 1, "ballad", 1)));
+        Map<ArtistFacet, Set<String>> filters = Map.of(
+                ArtistFacet.GENRE, Set.of("k-pop", "ballad"),
+                ArtistFacet.ORIGIN_COUNTRY, Set.of("KR"));
+        when(artistService.browseByFacetsAsync(filters, 5)).thenReturn(CompletableFuture.completedFuture(Optional.of(dto)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/facets")
+                        .param("genre", "k-pop,ballad")
+                        .param("originCountry", "KR")
+                        .param("limit", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.artists[0].artistName").value("IU"))
+                .andExpect(jsonPath("$.facets.genre.ballad").value(1));
+    }
+
+    @Test
+    void testBrowseByFacetsIsUnavailableUntilIndexBuilt() throws Exception {
+        when(artistService.browseByFacetsAsync(Map.of(), 20)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/facets"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void testCountByGenre() throws Exception {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("k-pop", 2);
+        counts.put("ballad", 1);
+        when(artistService.countByGenreAsync()).thenReturn(CompletableFuture.completedFuture(Optional.of(counts)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/genres"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['k-pop']").value(2))
+                .andExpect(jsonPath("$.ballad").value(1));
+    }
+
+    @Test
+    void testCountByGenreIsUnavailableUntilIndexBuilt() throws Exception {
+        when(artistService.countByGenreAsync()).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/genres"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void testGetArtistsByGenre() throws Exception {
+        ArtistSummary summary = new ArtistSummary(testId, "IU", ArtistType.SOLO, null, "K-Pop, Ballad", "KR");
+        when(artistService.findSummariesByGenreAsync("k-pop", 5))
+                .thenReturn(CompletableFuture.completedFuture(List.of(summary)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/artists/genre/k-pop").param("limit", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].artistName").value("IU"));
+
+        verify(artistService, times(1)).findSummariesByGenreAsync("k-pop", 5);
     }
 }
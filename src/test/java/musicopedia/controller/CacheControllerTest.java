@@ -0,0 +1,143 @@
+package musicopedia.controller;
+
+import musicopedia.cache.ArtistCache;
+import musicopedia.cache.ResponseCache;
+import musicopedia.cache.SecondLevelCacheStatistics;
+import musicopedia.cache.SpotifyIdFilter;
+import musicopedia.coalescing.SingleFlight;
+import musicopedia.dto.response.CacheRegionStatsDTO;
+import musicopedia.dto.response.CacheStatsDTO;
+import musicopedia.dto.response.CoalescingStatsDTO;
+import musicopedia.dto.response.SpotifyIdFilterStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheControllerTest {
+
+    @Mock
+    private ArtistCache artistCache;
+
+    @Mock
+    private SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    @Mock
+    private SingleFlight singleFlight;
+
+    @Mock
+    private ResponseCache responseCache;
+
+    @Mock
+    private SpotifyIdFilter spotifyIdFilter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new CacheController(artistCache, secondLevelCacheStatistics, singleFlight, responseCache, spotifyIdFilter)).build();
+    }
+
+    @Test
+    void testGetArtistCacheStats() throws Exception {
+        when(artistCache.stats()).thenReturn(CacheStatsDTO.of(3, 1, 0, 2));
+
+        mockMvc.perform(get("/api/admin/cache/artists"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(3))
+                .andExpect(jsonPath("$.misses").value(1))
+                .andExpect(jsonPath("$.hitRate").value(0.75));
+    }
+
+    @Test
+    void testClearArtistCache() throws Exception {
+        mockMvc.perform(delete("/api/admin/cache/artists"))
+                .andExpect(status().isNoContent());
+
+        verify(artistCache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void testGetRegionStats() throws Exception {
+        when(secondLevelCacheStatistics.regions())
+                .thenReturn(List.of(CacheRegionStatsDTO.of("artist", 9, 1, 1, 1)));
+
+        mockMvc.perform(get("/api/admin/cache/regions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].region").value("artist"))
+                .andExpect(jsonPath("$[0].hits").value(9))
+                .andExpect(jsonPath("$[0].hitRate").value(0.9));
+    }
+
+    @Test
+    void testClearRegions() throws Exception {
+        mockMvc.perform(delete("/api/admin/cache/regions"))
+                .andExpect(status().isNoContent());
+
+        verify(secondLevelCacheStatistics, times(1)).evictAll();
+    }
+
+    @Test
+    void testGetResponseCacheStats() throws Exception {
+        when(responseCache.stats()).thenReturn(CacheStatsDTO.of(1, 1, 0, 1));
+
+        mockMvc.perform(get("/api/admin/cache/responses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitRate").value(0.5));
+    }
+
+    @Test
+    void testClearResponseCache() throws Exception {
+        mockMvc.perform(delete("/api/admin/cache/responses"))
+                .andExpect(status().isNoContent());
+
+        verify(responseCache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void testGetCoalescingStats() throws Exception {
+        when(singleFlight.stats())
+                .thenReturn(List.of(CoalescingStatsDTO.of("ArtistServiceImpl.findByIdAsync", 10, 8)));
+
+        mockMvc.perform(get("/api/admin/cache/coalescing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].method").value("ArtistServiceImpl.findByIdAsync"))
+                .andExpect(jsonPath("$[0].collapsed").value(8))
+                .andExpect(jsonPath("$[0].collapseRate").value(0.8));
+    }
+
+    @Test
+    void testGetSpotifyIdFilterStats() throws Exception {
+        SpotifyIdFilterStatsDTO stats = new SpotifyIdFilterStatsDTO();
+        stats.setReady(true);
+        stats.setSizeBytes(1024);
+        stats.setNegatives(7);
+        when(spotifyIdFilter.stats()).thenReturn(stats);
+
+        mockMvc.perform(get("/api/admin/cache/spotify-filter"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.sizeBytes").value(1024))
+                .andExpect(jsonPath("$.negatives").value(7));
+    }
+
+    @Test
+    void testRebuildSpotifyIdFilter() throws Exception {
+        when(spotifyIdFilter.stats()).thenReturn(new SpotifyIdFilterStatsDTO());
+
+        mockMvc.perform(post("/api/admin/cache/spotify-filter/rebuild"))
+                .andExpect(status().isOk());
+
+        verify(spotifyIdFilter, times(1)).rebuild();
+    }
+}
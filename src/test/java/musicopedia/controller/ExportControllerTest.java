@@ -0,0 +1,89 @@
+package musicopedia.controller;
+
+import musicopedia.export.ExportFormat;
+import musicopedia.service.CatalogExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ExportControllerTest {
+
+    @Mock
+    private CatalogExportService catalogExportService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ExportController(catalogExportService)).build();
+    }
+
+    @Test
+    void testExportArtistsDefaultsToNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"artistName\":\"IU\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(catalogExportService).exportArtists(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/admin/export/artists"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"artists.ndjson\""))
+                .andExpect(content().string("{\"artistName\":\"IU\"}\n"));
+    }
+
+    @Test
+    void testExportMembersAsCsv() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/admin/export/members").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"members.csv\""));
+
+        verify(catalogExportService).exportMembers(eq(ExportFormat.CSV), any(OutputStream.class));
+    }
+
+    @Test
+    void testExportMemberships() throws Exception {
+        MvcResult groupResult = mockMvc.perform(get("/api/admin/export/group-memberships"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(groupResult)).andExpect(status().isOk());
+
+        MvcResult subunitResult = mockMvc.perform(get("/api/admin/export/subunit-memberships"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(subunitResult)).andExpect(status().isOk());
+
+        verify(catalogExportService).exportGroupMemberships(eq(ExportFormat.NDJSON), any(OutputStream.class));
+        verify(catalogExportService).exportSubunitMemberships(eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @Test
+    void testUnknownFormatIsRejected() throws Exception {
+        mockMvc.perform(get("/api/admin/export/artists").param("format", "XML"))
+                .andExpect(status().isBadRequest());
+    }
+}
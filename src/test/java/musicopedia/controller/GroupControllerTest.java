@@ -2,25 +2,35 @@ package musicopedia.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.ResponseCache;
 import musicopedia.builder.ArtistBuilder;
 import musicopedia.builder.GroupsBuilder;
 import musicopedia.model.Artist;
 import musicopedia.model.Groups;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.VersionStamp;
 import musicopedia.service.GroupService;
+import musicopedia.service.VersionStampService;
 import musicopedia.service.config.ServiceTestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,6 +48,11 @@ public class GroupControllerTest {
     @Mock
     private GroupService groupService;
 
+    @Mock
+    private VersionStampService versionStampService;
+
+    private static final VersionStamp STAMP = new VersionStamp(1L, 0L, Instant.parse("2025-01-01T00:00:00Z"));
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
     private UUID testId;
@@ -47,7 +62,9 @@ public class GroupControllerTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        GroupController groupController = new GroupController(groupService);
+        GroupController groupController = new GroupController(groupService,
+            new ResponseCache(Jackson2ObjectMapperBuilder.json().build(), new CatalogVersion(),
+            1_000_000, Duration.ofMinutes(10), true, 1024), versionStampService);
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -67,6 +84,9 @@ public class GroupControllerTest {
             .setFormationDate(LocalDate.of(2016, 8, 8))
             .setGroupGender(ArtistGender.FEMALE)
             .buildGroups();
+
+        when(versionStampService.forGroups()).thenReturn(CompletableFuture.completedFuture(STAMP));
+        when(versionStampService.forGroup(any())).thenReturn(CompletableFuture.completedFuture(STAMP));
     }
 
     @Test
@@ -102,7 +122,7 @@ public class GroupControllerTest {
 
     @Test
     void testGetGroupByIdNotFound() throws Exception {
-        when(groupService.findById(testId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(versionStampService.forGroup(testId)).thenReturn(CompletableFuture.completedFuture(VersionStamp.EMPTY));
 
         var result = mockMvc.perform(get("/api/groups/{id}", testId))
                 .andExpect(request().asyncStarted());
@@ -110,7 +130,19 @@ public class GroupControllerTest {
         mockMvc.perform(asyncDispatch(result.andReturn()))
                 .andExpect(status().isNotFound());
 
-        verify(groupService, times(1)).findById(testId);
+        verify(groupService, never()).findById(any());
+    }
+
+    @Test
+    void testGetGroupByIdNotModified() throws Exception {
+        var result = mockMvc.perform(get("/api/groups/{id}", testId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + ConditionalRequests.etag(STAMP) + "\""))
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(asyncDispatch(result.andReturn()))
+                .andExpect(status().isNotModified());
+
+        verify(groupService, never()).findById(any());
     }
 
     @Test
@@ -149,6 +181,28 @@ public class GroupControllerTest {
         verify(groupService, times(1)).findActiveGroups();
     }
 
+    @Test
+    void testGetActiveGroupsTagsGzippedRepresentationSeparately() throws Exception {
+        String etag = ConditionalRequests.etag(STAMP);
+        when(groupService.findActiveGroups()).thenReturn(CompletableFuture.completedFuture(
+                Collections.nCopies(100, testGroup)));
+
+        var result = mockMvc.perform(get("/api/groups/active").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(asyncDispatch(result.andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + etag + "-gzip\""));
+
+        var revalidated = mockMvc.perform(get("/api/groups/active")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + etag + "-gzip\""))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(asyncDispatch(revalidated.andReturn()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + etag + "-gzip\""));
+    }
+
     @Test
     void testGetDisbandedGroups() throws Exception {
         List<Groups> groups = Arrays.asList(testGroup);
@@ -272,6 +326,20 @@ public class GroupControllerTest {
         verify(groupService, times(1)).update(any(Groups.class));
     }
 
+    @Test
+    void testUpdateGroupWithStaleVersion() throws Exception {
+        when(groupService.update(any(Groups.class))).thenReturn(
+                CompletableFuture.failedFuture(new ObjectOptimisticLockingFailureException(Artist.class, testId)));
+
+        var result = mockMvc.perform(put("/api/groups/{id}", testId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testGroup)))
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(asyncDispatch(result.andReturn()))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void testDeleteGroup() throws Exception {
         when(groupService.deleteById(testId)).thenReturn(CompletableFuture.completedFuture(null));
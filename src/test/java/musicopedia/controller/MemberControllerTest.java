@@ -2,23 +2,32 @@ package musicopedia.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.ResponseCache;
 import musicopedia.builder.MemberBuilder;
 import musicopedia.dto.request.MemberRequestDTO;
 import musicopedia.dto.response.MemberResponseDTO;
 
 import musicopedia.mapper.MemberMapper;
 import musicopedia.model.Member;
+import musicopedia.repository.projection.MemberSummary;
+import musicopedia.repository.projection.VersionStamp;
 import musicopedia.service.MemberService;
+import musicopedia.service.VersionStampService;
 import musicopedia.service.config.ServiceTestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -42,17 +51,25 @@ public class MemberControllerTest {
     @Mock
     private MemberMapper memberMapper;
 
+    @Mock
+    private VersionStampService versionStampService;
+
+    private static final VersionStamp STAMP = new VersionStamp(3L, 4L, Instant.parse("2025-01-01T00:00:00Z"));
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
     private UUID testId;
     private Member testMember;
     private MemberResponseDTO testMemberResponseDTO;
     private MemberResponseDTO testMemberSummaryDTO;
+    private MemberSummary testSummary;
 
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        MemberController memberController = new MemberController(memberService, memberMapper);
+        MemberController memberController = new MemberController(memberService, memberMapper,
+            new ResponseCache(Jackson2ObjectMapperBuilder.json().build(), new CatalogVersion(),
+            1_000_000, Duration.ofMinutes(10), true, 1024), versionStampService);
         mockMvc = MockMvcBuilders.standaloneSetup(memberController).build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -78,15 +95,20 @@ public class MemberControllerTest {
         testMemberSummaryDTO.setMemberName("Felix");
         testMemberSummaryDTO.setRealName("Felix Yongbok Lee");
         testMemberSummaryDTO.setHasOfficialSoloDebut(false);
+
+        testSummary = new MemberSummary(testId, "Felix", "Felix Yongbok Lee", null, null);
+
+        when(versionStampService.forMembers()).thenReturn(CompletableFuture.completedFuture(STAMP));
+        when(versionStampService.forMember(any())).thenReturn(CompletableFuture.completedFuture(STAMP));
     }
 
     @Test
     void testGetAllMembers() throws Exception {
-        List<Member> members = Arrays.asList(testMember);
+        List<MemberSummary> summaries = Arrays.asList(testSummary);
         List<MemberResponseDTO> memberSummaryDTOs = Arrays.asList(testMemberSummaryDTO);
         
-        when(memberService.findAll()).thenReturn(CompletableFuture.completedFuture(members));
-        when(memberMapper.toSummaryDTOList(members)).thenReturn(memberSummaryDTOs);
+        when(memberService.findAllSummaries()).thenReturn(CompletableFuture.completedFuture(summaries));
+        when(memberMapper.fromSummaries(summaries)).thenReturn(memberSummaryDTOs);
 
         var result = mockMvc.perform(get("/api/members"))
                 .andExpect(request().asyncStarted());
@@ -98,8 +120,8 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$[0].memberName").value("Felix"))
                 .andExpect(jsonPath("$[0].realName").value("Felix Yongbok Lee"));
 
-        verify(memberService, times(1)).findAll();
-        verify(memberMapper, times(1)).toSummaryDTOList(members);
+        verify(memberService, times(1)).findAllSummaries();
+        verify(memberMapper, times(1)).fromSummaries(summaries);
     }
 
     @Test
@@ -122,7 +144,7 @@ public class MemberControllerTest {
 
     @Test
     void testGetMemberByIdNotFound() throws Exception {
-        when(memberService.findById(testId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(versionStampService.forMember(testId)).thenReturn(CompletableFuture.completedFuture(VersionStamp.EMPTY));
 
         var result = mockMvc.perform(get("/api/members/{id}", testId))
                 .andExpect(request().asyncStarted());
@@ -130,16 +152,29 @@ public class MemberControllerTest {
         mockMvc.perform(asyncDispatch(result.andReturn()))
                 .andExpect(status().isNotFound());
 
-        verify(memberService, times(1)).findById(testId);
+        verify(memberService, never()).findById(any());
+    }
+
+    @Test
+    void testGetMemberByIdNotModified() throws Exception {
+        var result = mockMvc.perform(get("/api/members/{id}", testId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + ConditionalRequests.etag(STAMP) + "\""))
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(asyncDispatch(result.andReturn()))
+                .andExpect(status().isNotModified());
+
+        verify(memberService, never()).findById(any());
+        verify(memberMapper, never()).toResponseDTO(any());
     }
 
     @Test
     void testSearchMembersByName() throws Exception {
-        List<Member> members = Arrays.asList(testMember);
+        List<MemberSummary> summaries = Arrays.asList(testSummary);
         List<MemberResponseDTO> memberSummaryDTOs = Arrays.asList(testMemberSummaryDTO);
         
-        when(memberService.findByNameContaining("Felix")).thenReturn(CompletableFuture.completedFuture(members));
-        when(memberMapper.toSummaryDTOList(members)).thenReturn(memberSummaryDTOs);
+        when(memberService.findSummariesByNameContaining("Felix", 20)).thenReturn(CompletableFuture.completedFuture(summaries));
+        when(memberMapper.fromSummaries(summaries)).thenReturn(memberSummaryDTOs);
 
         var result = mockMvc.perform(get("/api/members/search")
                         .param("name", "Felix"))
@@ -151,17 +186,17 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$[0].memberName").value("Felix"))
                 .andExpect(jsonPath("$[0].realName").value("Felix Yongbok Lee"));
 
-        verify(memberService, times(1)).findByNameContaining("Felix");
-        verify(memberMapper, times(1)).toSummaryDTOList(members);
+        verify(memberService, times(1)).findSummariesByNameContaining("Felix", 20);
+        verify(memberMapper, times(1)).fromSummaries(summaries);
     }
 
     @Test
     void testSearchMembersByRealName() throws Exception {
-        List<Member> members = Arrays.asList(testMember);
+        List<MemberSummary> summaries = Arrays.asList(testSummary);
         List<MemberResponseDTO> memberSummaryDTOs = Arrays.asList(testMemberSummaryDTO);
         
-        when(memberService.findByRealNameContaining("Felix Yongbok Lee")).thenReturn(CompletableFuture.completedFuture(members));
-        when(memberMapper.toSummaryDTOList(members)).thenReturn(memberSummaryDTOs);
+        when(memberService.findSummariesByRealNameContaining("Felix Yongbok Lee", 20)).thenReturn(CompletableFuture.completedFuture(summaries));
+        when(memberMapper.fromSummaries(summaries)).thenReturn(memberSummaryDTOs);
 
         var result = mockMvc.perform(get("/api/members/search/realname")
                         .param("realName", "Felix Yongbok Lee"))
@@ -173,19 +208,39 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$[0].memberName").value("Felix"))
                 .andExpect(jsonPath("$[0].realName").value("Felix Yongbok Lee"));
 
-        verify(memberService, times(1)).findByRealNameContaining("Felix Yongbok Lee");
-        verify(memberMapper, times(1)).toSummaryDTOList(members);
+        verify(memberService, times(1)).findSummariesByRealNameContaining("Felix Yongbok Lee", 20);
+        verify(memberMapper, times(1)).fromSummaries(summaries);
+    }
+
+    @Test
+    void testSearchMembersByNameFuzzy() throws Exception {
+        List<MemberSummary> summaries = Arrays.asList(testSummary);
+        List<MemberResponseDTO> memberSummaryDTOs = Arrays.asList(testMemberSummaryDTO);
+
+        when(memberService.findSummariesByNameFuzzy("Flex", 20)).thenReturn(CompletableFuture.completedFuture(summaries));
+        when(memberMapper.fromSummaries(summaries)).thenReturn(memberSummaryDTOs);
+
+        var result = mockMvc.perform(get("/api/members/search")
+                        .param("name", "Flex")
+                        .param("fuzzy", "true"))
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(asyncDispatch(result.andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].memberName").value("Felix"));
+
+        verify(memberService, never()).findSummariesByNameContaining(any(), anyInt());
     }
 
     @Test
     void testGetMembersByBirthDateRange() throws Exception {
-        List<Member> members = Arrays.asList(testMember);
+        List<MemberSummary> summaries = Arrays.asList(testSummary);
         List<MemberResponseDTO> memberSummaryDTOs = Arrays.asList(testMemberSummaryDTO);
         LocalDate startDate = LocalDate.of(1990, 1, 1);
         LocalDate endDate = LocalDate.of(1996, 12, 31);
         
-        when(memberService.findByBirthDateBetween(startDate, endDate)).thenReturn(CompletableFuture.completedFuture(members));
-        when(memberMapper.toSummaryDTOList(members)).thenReturn(memberSummaryDTOs);
+        when(memberService.findSummariesByBirthDateBetween(startDate, endDate)).thenReturn(CompletableFuture.completedFuture(summaries));
+        when(memberMapper.fromSummaries(summaries)).thenReturn(memberSummaryDTOs);
 
         var result = mockMvc.perform(get("/api/members/birthdate")
                         .param("start", "1990-01-01")
@@ -197,8 +252,8 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].memberId").value(testId.toString()));
 
-        verify(memberService, times(1)).findByBirthDateBetween(startDate, endDate);
-        verify(memberMapper, times(1)).toSummaryDTOList(members);
+        verify(memberService, times(1)).findSummariesByBirthDateBetween(startDate, endDate);
+        verify(memberMapper, times(1)).fromSummaries(summaries);
     }
 
     @Test
@@ -344,10 +399,10 @@ public class MemberControllerTest {
 
     @Test
     void testSearchMembersByNationality() throws Exception {
-        List<Member> members = Arrays.asList(testMember);
+        List<MemberSummary> summaries = Arrays.asList(testSummary);
         List<MemberResponseDTO> memberSummaryDTOs = Arrays.asList(testMemberSummaryDTO);
-        when(memberService.findByNationality("KR")).thenReturn(CompletableFuture.completedFuture(members));
-        when(memberMapper.toSummaryDTOList(members)).thenReturn(memberSummaryDTOs);
+        when(memberService.findSummariesByNationality("KR")).thenReturn(CompletableFuture.completedFuture(summaries));
+        when(memberMapper.fromSummaries(summaries)).thenReturn(memberSummaryDTOs);
 
         var result = mockMvc.perform(get("/api/members/search/nationality")
                         .param("nationality", "KR"))
@@ -358,17 +413,17 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].memberName").value("Felix"));
 
-        verify(memberService, times(1)).findByNationality("KR");
-        verify(memberMapper, times(1)).toSummaryDTOList(members);
+        verify(memberService, times(1)).findSummariesByNationality("KR");
+        verify(memberMapper, times(1)).fromSummaries(summaries);
     }
 
     @Test
     void testGetMembersWithSoloCareer() throws Exception {
-        List<Member> members = Arrays.asList(testMember);
+        List<MemberSummary> summaries = Arrays.asList(testSummary);
         List<MemberResponseDTO> memberSummaryDTOs = Arrays.asList(testMemberSummaryDTO);
         
-        when(memberService.findWithSoloIdentities()).thenReturn(CompletableFuture.completedFuture(members));
-        when(memberMapper.toSummaryDTOList(members)).thenReturn(memberSummaryDTOs);
+        when(memberService.findSummariesWithSoloIdentities()).thenReturn(CompletableFuture.completedFuture(summaries));
+        when(memberMapper.fromSummaries(summaries)).thenReturn(memberSummaryDTOs);
 
         var result = mockMvc.perform(get("/api/members/with-solo-career"))
                 .andExpect(request().asyncStarted());
@@ -378,7 +433,7 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].memberId").value(testId.toString()));
 
-        verify(memberService, times(1)).findWithSoloIdentities();
-        verify(memberMapper, times(1)).toSummaryDTOList(members);
+        verify(memberService, times(1)).findSummariesWithSoloIdentities();
+        verify(memberMapper, times(1)).fromSummaries(summaries);
     }
 }
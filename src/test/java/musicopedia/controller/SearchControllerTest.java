@@ -0,0 +1,90 @@
+package musicopedia.controller;
+
+import musicopedia.dto.response.DescriptionHitDTO;
+import musicopedia.dto.response.SearchHitDTO;
+import musicopedia.dto.response.SearchResultsDTO;
+import musicopedia.search.DescriptionIndex;
+import musicopedia.search.SearchSource;
+import musicopedia.search.SuggestionType;
+import musicopedia.service.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchControllerTest {
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private DescriptionIndex descriptionIndex;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SearchController(searchService, descriptionIndex)).build();
+    }
+
+    @Test
+    void testSearchMergesBackends() throws Exception {
+        UUID id = UUID.randomUUID();
+        SearchResultsDTO results = SearchResultsDTO.of(
+                List.of(SearchHitDTO.of(SuggestionType.ARTIST, id, "IU", "Lee Ji-eun", 0.5)),
+                List.of(SearchSource.SUBUNITS));
+        when(searchService.searchAsync("ji-eun", 20)).thenReturn(CompletableFuture.completedFuture(results));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/search").param("q", "ji-eun"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id").value(id.toString()))
+                .andExpect(jsonPath("$.results[0].matchedName").value("Lee Ji-eun"))
+                .andExpect(jsonPath("$.partial").value(true))
+                .andExpect(jsonPath("$.missing[0]").value("SUBUNITS"));
+    }
+
+    @Test
+    void testSearchDescriptions() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(descriptionIndex.search("girl group", Set.of(), 20)).thenReturn(List.of(
+                DescriptionHitDTO.of(SuggestionType.ARTIST, id, "TWICE", 3.2, "nine-member <em>girl</em> <em>group</em>")));
+
+        mockMvc.perform(get("/api/search/descriptions").param("q", "girl group"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("ARTIST"))
+                .andExpect(jsonPath("$[0].id").value(id.toString()))
+                .andExpect(jsonPath("$[0].snippet").value("nine-member <em>girl</em> <em>group</em>"));
+    }
+
+    @Test
+    void testSearchDescriptionsByType() throws Exception {
+        when(descriptionIndex.search("rapper", Set.of(SuggestionType.MEMBER, SuggestionType.SUBUNIT), 5))
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/api/search/descriptions")
+                        .param("q", "rapper")
+                        .param("type", "MEMBER", "SUBUNIT")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
@@ -2,23 +2,32 @@ package musicopedia.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.ResponseCache;
 import musicopedia.builder.ArtistBuilder;
 import musicopedia.builder.SoloBuilder;
 import musicopedia.model.Artist;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.VersionStamp;
 import musicopedia.service.SoloService;
+import musicopedia.service.VersionStampService;
 import musicopedia.service.config.ServiceTestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -39,6 +48,11 @@ public class SoloControllerTest {
     @Mock
     private SoloService soloService;
 
+    @Mock
+    private VersionStampService versionStampService;
+
+    private static final VersionStamp STAMP = new VersionStamp(2L, 1L, Instant.parse("2025-01-01T00:00:00Z"));
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
     private UUID testId;
@@ -48,12 +62,15 @@ public class SoloControllerTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        SoloController soloController = new SoloController(soloService);
+        SoloController soloController = new SoloController(soloService,
+            new ResponseCache(Jackson2ObjectMapperBuilder.json().build(), new CatalogVersion(),
+            1_000_000, Duration.ofMinutes(10), true, 1024), versionStampService);
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         mockMvc = MockMvcBuilders.standaloneSetup(soloController)
-            .setMessageConverters(new org.springframework.http.converter.json.MappingJackson2HttpMessageConverter(objectMapper))
+            .setMessageConverters(new org.springframework.http.converter.ByteArrayHttpMessageConverter(),
+                new org.springframework.http.converter.json.MappingJackson2HttpMessageConverter(objectMapper))
             .build();
 
         testId = UUID.randomUUID();
@@ -73,6 +90,9 @@ public class SoloControllerTest {
             .setGender(ArtistGender.FEMALE)
             .setRealName("Taylor Alison Swift")
             .buildSolo();
+
+        when(versionStampService.forSoloists()).thenReturn(CompletableFuture.completedFuture(STAMP));
+        when(versionStampService.forSoloist(any())).thenReturn(CompletableFuture.completedFuture(STAMP));
     }
 
     @Test
@@ -94,6 +114,19 @@ public class SoloControllerTest {
         verify(soloService, times(1)).findAll();
     }
 
+    @Test
+    void testGetAllSoloistsNotModified() throws Exception {
+        var mvcResult = mockMvc.perform(get("/api/soloists")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + ConditionalRequests.etag(STAMP) + "\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified());
+
+        verify(soloService, never()).findAll();
+    }
+
     @Test
     void testGetSoloistById() throws Exception {
         when(soloService.findById(testId)).thenReturn(CompletableFuture.completedFuture(Optional.of(testSolo)));
@@ -113,7 +146,7 @@ public class SoloControllerTest {
 
     @Test
     void testGetSoloistByIdNotFound() throws Exception {
-        when(soloService.findById(testId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(versionStampService.forSoloist(testId)).thenReturn(CompletableFuture.completedFuture(VersionStamp.EMPTY));
 
         var mvcResult = mockMvc.perform(get("/api/soloists/{id}", testId))
                 .andExpect(request().asyncStarted())
@@ -122,7 +155,7 @@ public class SoloControllerTest {
         mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isNotFound());
 
-        verify(soloService, times(1)).findById(testId);
+        verify(soloService, never()).findById(any());
     }
 
     @Test
@@ -256,6 +289,21 @@ public class SoloControllerTest {
         verify(soloService, times(1)).update(any(Solo.class));
     }
 
+    @Test
+    void testUpdateSoloistWithStaleVersion() throws Exception {
+        when(soloService.update(any(Solo.class))).thenReturn(
+                CompletableFuture.failedFuture(new ObjectOptimisticLockingFailureException(Solo.class, testId)));
+
+        var mvcResult = mockMvc.perform(put("/api/soloists/{id}", testId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testSolo)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void testUpdateSoloistWithMismatchedId() throws Exception {
         UUID differentId = UUID.randomUUID();
@@ -310,7 +358,7 @@ public class SoloControllerTest {
     @Test
     void testSearchSoloistsByRealName() throws Exception {
         List<Solo> soloists = Arrays.asList(testSolo);
-        when(soloService.findByRealNameContaining("Taylor Alison Swift")).thenReturn(CompletableFuture.completedFuture(soloists));
+        when(soloService.findByRealNameContaining("Taylor Alison Swift", 20)).thenReturn(CompletableFuture.completedFuture(soloists));
 
         var mvcResult = mockMvc.perform(get("/api/soloists/search/realname")
                         .param("realName", "Taylor Alison Swift"))
@@ -324,7 +372,7 @@ public class SoloControllerTest {
                 .andExpect(jsonPath("$[0].realName").value("Taylor Alison Swift"))
                 .andExpect(jsonPath("$[0].artist.artistName").value("Taylor Swift"));
 
-        verify(soloService, times(1)).findByRealNameContaining("Taylor Alison Swift");
+        verify(soloService, times(1)).findByRealNameContaining("Taylor Alison Swift", 20);
     }
 
     @Test
@@ -2,14 +2,19 @@ package musicopedia.controller;
 
 import musicopedia.dto.request.SubunitRequestDTO;
 import musicopedia.dto.response.SubunitResponseDTO;
+import musicopedia.repository.projection.VersionStamp;
 import musicopedia.service.SubunitService;
+import musicopedia.service.VersionStampService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +26,8 @@ import static org.mockito.Mockito.*;
 class SubunitControllerTest {
     @Mock
     private SubunitService subunitService;
+    @Mock
+    private VersionStampService versionStampService;
     @InjectMocks
     private SubunitController controller;
 
@@ -34,13 +41,16 @@ class SubunitControllerTest {
         subunitId = UUID.randomUUID();
         requestDTO = new SubunitRequestDTO();
         responseDTO = new SubunitResponseDTO();
+        VersionStamp stamp = new VersionStamp(1L, 0L, Instant.parse("2025-01-01T00:00:00Z"));
+        when(versionStampService.forSubunits()).thenReturn(CompletableFuture.completedFuture(stamp));
+        when(versionStampService.forSubunit(any())).thenReturn(CompletableFuture.completedFuture(stamp));
     }
 
     @Test
     void testGetAllSubunits() throws Exception {
         List<SubunitResponseDTO> list = List.of(responseDTO);
         when(subunitService.findAll()).thenReturn(CompletableFuture.completedFuture(list));
-        CompletableFuture<ResponseEntity<List<SubunitResponseDTO>>> future = controller.getAllSubunits();
+        CompletableFuture<ResponseEntity<List<SubunitResponseDTO>>> future = controller.getAllSubunits(new HttpHeaders());
         ResponseEntity<List<SubunitResponseDTO>> response = future.get();
         assertEquals(list, response.getBody());
         assertEquals(ResponseEntity.ok().build().getStatusCode(), response.getStatusCode());
@@ -50,7 +60,7 @@ class SubunitControllerTest {
     @Test
     void testGetSubunitById_found() throws Exception {
         when(subunitService.findById(subunitId)).thenReturn(CompletableFuture.completedFuture(Optional.of(responseDTO)));
-        CompletableFuture<ResponseEntity<SubunitResponseDTO>> future = controller.getSubunitById(subunitId);
+        CompletableFuture<ResponseEntity<SubunitResponseDTO>> future = controller.getSubunitById(subunitId, new HttpHeaders());
         ResponseEntity<SubunitResponseDTO> response = future.get();
         assertEquals(responseDTO, response.getBody());
         assertEquals(ResponseEntity.ok().build().getStatusCode(), response.getStatusCode());
@@ -60,13 +70,31 @@ class SubunitControllerTest {
     @Test
     void testGetSubunitById_notFound() throws Exception {
         when(subunitService.findById(subunitId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
-        CompletableFuture<ResponseEntity<SubunitResponseDTO>> future = controller.getSubunitById(subunitId);
+        CompletableFuture<ResponseEntity<SubunitResponseDTO>> future = controller.getSubunitById(subunitId, new HttpHeaders());
         ResponseEntity<SubunitResponseDTO> response = future.get();
         assertNull(response.getBody());
         assertEquals(ResponseEntity.notFound().build().getStatusCode(), response.getStatusCode());
         verify(subunitService).findById(subunitId);
     }
 
+    @Test
+    void testGetSubunitById_missingStampSkipsLoading() throws Exception {
+        when(versionStampService.forSubunit(subunitId)).thenReturn(CompletableFuture.completedFuture(VersionStamp.EMPTY));
+        ResponseEntity<SubunitResponseDTO> response = controller.getSubunitById(subunitId, new HttpHeaders()).get();
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(subunitService, never()).findById(any());
+    }
+
+    @Test
+    void testGetSubunitById_notModifiedSince() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(Instant.parse("2025-01-02T00:00:00Z").toEpochMilli());
+        ResponseEntity<SubunitResponseDTO> response = controller.getSubunitById(subunitId, headers).get();
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNotNull(response.getHeaders().getETag());
+        verify(subunitService, never()).findById(any());
+    }
+
     @Test
     void testCreateSubunit() throws Exception {
         when(subunitService.create(requestDTO)).thenReturn(CompletableFuture.completedFuture(responseDTO));
@@ -0,0 +1,72 @@
+package musicopedia.controller;
+
+import musicopedia.dto.response.SuggestionDTO;
+import musicopedia.search.ChosungIndex;
+import musicopedia.search.SuggestIndex;
+import musicopedia.search.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestControllerTest {
+
+    @Mock
+    private SuggestIndex suggestIndex;
+
+    @Mock
+    private ChosungIndex chosungIndex;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SuggestController(suggestIndex, chosungIndex)).build();
+    }
+
+    @Test
+    void testSuggest() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(suggestIndex.suggest("jen", 20))
+                .thenReturn(List.of(SuggestionDTO.of(SuggestionType.MEMBER, id, "Jennie", "Jennie Kim")));
+
+        mockMvc.perform(get("/api/suggest").param("q", "jen"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("MEMBER"))
+                .andExpect(jsonPath("$[0].id").value(id.toString()))
+                .andExpect(jsonPath("$[0].name").value("Jennie"))
+                .andExpect(jsonPath("$[0].matchedName").value("Jennie Kim"));
+    }
+
+    @Test
+    void testInitialConsonantsGoToChosungIndex() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(chosungIndex.search("ㅂㅌ", 20))
+                .thenReturn(List.of(SuggestionDTO.of(SuggestionType.ARTIST, id, "방탄소년단", "방탄소년단")));
+
+        mockMvc.perform(get("/api/suggest").param("q", "ㅂㅌ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id.toString()));
+        verifyNoInteractions(suggestIndex);
+    }
+
+    @Test
+    void testSuggestCapsLimit() throws Exception {
+        when(suggestIndex.suggest("b", 100)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/suggest").param("q", "b").param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
@@ -0,0 +1,53 @@
+package musicopedia.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRowWriterTest {
+
+    private static final List<ExportColumn<String[]>> COLUMNS = List.of(
+            ExportColumn.of("name", row -> row[0]),
+            ExportColumn.of("note", row -> row[1])
+    );
+
+    @Test
+    void testWritesHeaderAndRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (CsvRowWriter<String[]> writer = new CsvRowWriter<>(COLUMNS, out)) {
+            writer.write(new String[]{"IU", "solo"});
+            writer.write(new String[]{"BTS", null});
+        }
+
+        assertEquals("name,note\r\nIU,solo\r\nBTS,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testQuotesFieldsWithSpecialCharacters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (CsvRowWriter<String[]> writer = new CsvRowWriter<>(COLUMNS, out)) {
+            writer.write(new String[]{"Tyler, the Creator", "says \"hi\"\nnext line"});
+        }
+
+        assertEquals("name,note\r\n\"Tyler, the Creator\",\"says \"\"hi\"\"\nnext line\"\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWritesUtf8() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (CsvRowWriter<String[]> writer = new CsvRowWriter<>(COLUMNS, out)) {
+            writer.write(new String[]{"아이유", "솔로"});
+        }
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("아이유,솔로\r\n"));
+    }
+}
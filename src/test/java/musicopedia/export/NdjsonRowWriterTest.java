@@ -0,0 +1,57 @@
+package musicopedia.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import musicopedia.model.enums.ArtistType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonRowWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testWritesOneObjectPerLine() throws IOException {
+        List<ExportColumn<Object[]>> columns = List.of(
+                ExportColumn.of("name", row -> row[0]),
+                ExportColumn.of("type", row -> row[1]),
+                ExportColumn.of("date", row -> row[2])
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (NdjsonRowWriter<Object[]> writer = new NdjsonRowWriter<>(columns, objectMapper.getFactory(), out)) {
+            writer.write(new Object[]{"IU", ArtistType.SOLO, LocalDate.of(1993, 5, 16)});
+            writer.write(new Object[]{"BTS", ArtistType.GROUP, null});
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("IU", first.get("name").asText());
+        assertEquals("SOLO", first.get("type").asText());
+        assertEquals("1993-05-16", first.get("date").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertTrue(second.get("date").isNull());
+    }
+
+    @Test
+    void testCloseLeavesStreamOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("Underlying stream must not be closed");
+            }
+        };
+
+        new NdjsonRowWriter<>(List.<ExportColumn<String>>of(), objectMapper.getFactory(), out).close();
+    }
+}
@@ -0,0 +1,189 @@
+package musicopedia.mapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.dto.response.MemberResponseDTO;
+import musicopedia.dto.response.SubunitResponseDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.Groups;
+import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.model.Subunit;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.pagination.CursorPage;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import musicopedia.search.FuzzyIndex;
+import musicopedia.search.NameIndex;
+import musicopedia.search.SearchIndexer;
+import musicopedia.service.impl.MemberServiceImpl;
+import musicopedia.service.impl.SubunitServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifies that list reads followed by DTO mapping issue a fixed number of
+ * statements regardless of how many rows are returned.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class MapperFetchPlanIntegrationTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SubunitRepository subunitRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MemberServiceImpl memberService;
+    private SubunitServiceImpl subunitService;
+    private MemberMapper memberMapper;
+    private Statistics statistics;
+    private int seeded;
+
+    @BeforeEach
+    void setup() {
+        memberService = new MemberServiceImpl(memberRepository, new CatalogVersion(),
+                mock(NameIndex.class), mock(FuzzyIndex.class), new SearchIndexer(List.of()));
+        subunitService = new SubunitServiceImpl(subunitRepository, new SubunitMapper(null), mock(NameIndex.class),
+                new SearchIndexer(List.of()));
+        memberMapper = new MemberMapper(null, null);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Artist createArtist(String name, ArtistType type) {
+        Artist artist = new Artist();
+        artist.setArtistName(name);
+        artist.setType(type);
+        return entityManager.persist(artist);
+    }
+
+    private Groups createGroup(String name) {
+        Artist artist = createArtist(name, ArtistType.GROUP);
+        Groups group = new Groups();
+        group.setArtistId(artist.getArtistId());
+        group.setArtist(artist);
+        return entityManager.persist(group);
+    }
+
+    private void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = seeded++;
+            Member member = new Member();
+            member.setMemberName("Member " + n);
+            entityManager.persist(member);
+
+            Solo solo = new Solo(createArtist("Solo " + n, ArtistType.SOLO), member);
+            entityManager.persist(solo);
+
+            Subunit subunit = new Subunit();
+            subunit.setSubunitName("Subunit " + n);
+            subunit.setMainGroup(createGroup("Group " + n));
+            subunit.setGroupSubunit(createGroup("Group Subunit " + n));
+            entityManager.persist(subunit);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(Supplier<List<?>> request, int expectedRows) {
+        entityManager.clear();
+        statistics.clear();
+        List<?> result = request.get();
+        assertEquals(expectedRows, result.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<MemberResponseDTO> listMembers() {
+        return memberMapper.toSummaryDTOList(memberService.findAll().join());
+    }
+
+    private List<MemberResponseDTO> pageMembers() {
+        CursorPage<Member> page = memberService.findPage(null, CursorPage.MAX_LIMIT).join();
+        return memberMapper.toResponseDTOList(page.getItems());
+    }
+
+    private List<SubunitResponseDTO> listSubunits() {
+        return subunitService.findAll().join();
+    }
+
+    private List<SubunitResponseDTO> pageSubunits() {
+        return subunitService.findPage(null, CursorPage.MAX_LIMIT).join().getItems();
+    }
+
+    @Test
+    public void testMemberListUsesSingleStatement() {
+        seed(3);
+        assertEquals(1, countStatements(this::listMembers, 3));
+
+        seed(27);
+        assertEquals(1, countStatements(this::listMembers, 30));
+    }
+
+    @Test
+    public void testMemberPageStatementCountDoesNotGrowWithRows() {
+        seed(3);
+        long small = countStatements(this::pageMembers, 3);
+
+        seed(27);
+        long large = countStatements(this::pageMembers, 30);
+
+        assertEquals(small, large);
+        assertTrue(large <= 3, "page, solo identities and artists should each take one statement");
+    }
+
+    @Test
+    public void testSubunitListUsesSingleStatement() {
+        seed(3);
+        assertEquals(1, countStatements(this::listSubunits, 3));
+
+        seed(27);
+        assertEquals(1, countStatements(this::listSubunits, 30));
+    }
+
+    @Test
+    public void testSubunitPageUsesSingleStatement() {
+        seed(3);
+        assertEquals(1, countStatements(this::pageSubunits, 3));
+
+        seed(27);
+        assertEquals(1, countStatements(this::pageSubunits, 30));
+    }
+
+    @Test
+    public void testMappedFieldsAreLoaded() {
+        seed(1);
+        entityManager.clear();
+
+        MemberResponseDTO member = listMembers().get(0);
+        assertEquals("Solo 0", member.getSoloArtistName());
+        assertTrue(member.getHasOfficialSoloDebut());
+
+        SubunitResponseDTO subunit = listSubunits().get(0);
+        assertEquals("Group 0", subunit.getMainGroupName());
+        assertEquals("Group Subunit 0", subunit.getGroupSubunitName());
+    }
+}
@@ -10,6 +10,7 @@ import musicopedia.model.Artist;
 import musicopedia.model.Member;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.MemberSummary;
 import musicopedia.service.ArtistService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -638,4 +639,30 @@ class MemberMapperTest {
         assertNull(result.getSoloArtistName());
         assertFalse(result.getHasOfficialSoloDebut());
     }
+
+    @Test
+    void toSummaryDTO_FromProjection_ShouldMapSoloArtistName() {
+        MemberSummary summary = new MemberSummary(testMember.getMemberId(), "Felix", "Felix Yongbok Lee", "felix-image.jpg", "Felix");
+
+        MemberResponseDTO result = memberMapper.toSummaryDTO(summary);
+
+        assertEquals(testMember.getMemberId(), result.getMemberId());
+        assertEquals("Felix", result.getMemberName());
+        assertEquals("Felix Yongbok Lee", result.getRealName());
+        assertEquals("felix-image.jpg", result.getImage());
+        assertTrue(result.getHasOfficialSoloDebut());
+        assertEquals("Felix", result.getSoloArtistName());
+        assertNull(result.getDescription());
+    }
+
+    @Test
+    void fromSummaries_WithoutSoloArtist_ShouldReportNoDebut() {
+        MemberSummary summary = new MemberSummary(testMember.getMemberId(), "Felix", null, null, null);
+
+        List<MemberResponseDTO> result = memberMapper.fromSummaries(List.of(summary));
+
+        assertEquals(1, result.size());
+        assertFalse(result.get(0).getHasOfficialSoloDebut());
+        assertNull(result.get(0).getSoloArtistName());
+    }
 }
@@ -0,0 +1,60 @@
+package musicopedia.model.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void testVersionAndVariant() {
+        UUID uuid = UuidV7Generator.next();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void testTimestampIsCurrentMillisecond() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = UuidV7Generator.timestampOf(uuid);
+        assertTrue(timestamp >= before, "timestamp should not precede generation");
+        // The in-millisecond counter may carry a few ms ahead under heavy load
+        assertTrue(timestamp <= after + 5, "timestamp should track the clock");
+    }
+
+    @Test
+    void testIdsFromOneJvmAreStrictlyIncreasing() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7Generator.next());
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            // Compare as unsigned bytes, the way PostgreSQL orders uuid values
+            assertTrue(ids.get(i).toString().compareTo(ids.get(i - 1).toString()) > 0,
+                    "id " + i + " should sort after its predecessor");
+        }
+    }
+
+    @Test
+    void testConcurrentGenerationHasNoDuplicates() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(UuidV7Generator.next()));
+        assertEquals(200_000, ids.size());
+    }
+
+    @Test
+    void testTimestampOfRejectsOtherVersions() {
+        UUID random = UUID.randomUUID();
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampOf(random));
+    }
+}
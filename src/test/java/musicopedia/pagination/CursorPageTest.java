@@ -0,0 +1,61 @@
+package musicopedia.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void testNextCursorPointsAtLastItemWhenMoreRowsExist() {
+        UUID lastId = UUID.randomUUID();
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.ofSize(2), true);
+
+        CursorPage<String> page = CursorPage.of(slice, 2, item -> KeysetCursor.of(item, lastId));
+
+        assertEquals(List.of("a", "b"), page.getItems());
+        assertEquals(2, page.getLimit());
+        KeysetCursor next = KeysetCursor.valueOf(page.getNext());
+        assertEquals("b", next.getKey());
+        assertEquals(lastId, next.getId());
+    }
+
+    @Test
+    void testNoNextCursorOnLastPage() {
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a"), PageRequest.ofSize(2), false);
+
+        CursorPage<String> page = CursorPage.of(slice, 2, item -> KeysetCursor.of(item, UUID.randomUUID()));
+
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void testMapKeepsCursor() {
+        CursorPage<String> page = new CursorPage<>(List.of("a", "bb"), "token", 2);
+
+        CursorPage<Integer> mapped = page.map(String::length);
+
+        assertEquals(List.of(1, 2), mapped.getItems());
+        assertEquals("token", mapped.getNext());
+        assertEquals(2, mapped.getLimit());
+    }
+
+    @Test
+    void testClampLimit() {
+        assertEquals(CursorPage.DEFAULT_LIMIT, CursorPage.clampLimit(null));
+        assertEquals(CursorPage.DEFAULT_LIMIT, CursorPage.clampLimit(0));
+        assertEquals(5, CursorPage.clampLimit(5));
+        assertEquals(CursorPage.MAX_LIMIT, CursorPage.clampLimit(10_000));
+    }
+
+    @Test
+    void testRequestStartsAtFirstPage() {
+        assertEquals(0, CursorPage.request(10).getPageNumber());
+        assertEquals(10, CursorPage.request(10).getPageSize());
+    }
+}
@@ -0,0 +1,56 @@
+package musicopedia.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeAndDecodeRoundTrip() {
+        UUID id = UUID.randomUUID();
+        KeysetCursor cursor = KeysetCursor.of("방탄소년단 & BTS", id);
+
+        KeysetCursor decoded = KeysetCursor.valueOf(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals("방탄소년단 & BTS", decoded.getKey());
+        assertEquals(id, decoded.getId());
+    }
+
+    @Test
+    void testEncodeIsUrlSafe() {
+        String token = KeysetCursor.of("a/b+c?d=e", UUID.randomUUID()).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testIdOnlyCursor() {
+        UUID id = UUID.randomUUID();
+
+        KeysetCursor decoded = KeysetCursor.valueOf(KeysetCursor.of(id).encode());
+
+        assertEquals("", decoded.getKey());
+        assertEquals(id, decoded.getId());
+    }
+
+    @Test
+    void testNullKeyIsTreatedAsEmpty() {
+        assertEquals("", KeysetCursor.of(null, UUID.randomUUID()).getKey());
+    }
+
+    @Test
+    void testNullIdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.of("key", null));
+    }
+
+    @Test
+    void testMalformedTokensAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.valueOf(""));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.valueOf("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.valueOf("c2hvcnQ"));
+    }
+}
@@ -2,16 +2,25 @@ package musicopedia.repository;
 
 import musicopedia.model.Artist;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.pagination.CursorPage;
 import musicopedia.repository.config.RepositoryTestConfig;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.repository.projection.VersionStamp;
+import musicopedia.service.impl.GenreTagServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +33,18 @@ public class ArtistRepositoryTest {
     @Autowired
     private ArtistRepository artistRepository;
 
+    @Autowired
+    private GenreTagRepository genreTagRepository;
+
+    @Autowired
+    private ArtistGenreTagRepository artistGenreTagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void testSaveAndFindArtist() {
         Artist artist = new Artist();
@@ -84,22 +105,46 @@ public class ArtistRepositoryTest {
     }
 
     @Test
-    public void testFindByGenreContainingIgnoreCase() {
+    public void testFindByGenreTag() {
         Artist artist1 = new Artist();
         artist1.setArtistName("Artist1");
         artist1.setType(ArtistType.SOLO);
-        artist1.setGenre("K-pop");
+        artist1.setGenre("K-pop, Ballad");
         artistRepository.save(artist1);
 
         Artist artist2 = new Artist();
         artist2.setArtistName("Artist2");
         artist2.setType(ArtistType.SOLO);
-        artist2.setGenre("Rock");
+        artist2.setGenre("K-pop Rock");
         artistRepository.save(artist2);
+        tag(artist1, artist2);
 
-        List<Artist> kpopArtists = artistRepository.findByGenreContainingIgnoreCase("k-pop");
+        List<Artist> kpopArtists = artistRepository.findByGenreTag("k-pop");
         assertEquals(1, kpopArtists.size());
         assertEquals("Artist1", kpopArtists.get(0).getArtistName());
+        assertEquals(List.of("Artist1"), artistRepository.findByGenreTag(" BALLAD ").stream()
+                .map(Artist::getArtistName).toList());
+        assertTrue(artistRepository.findByGenreTag("rock").isEmpty());
+    }
+
+    @Test
+    public void testFindSummariesByGenreTagIsOrderedByName() {
+        Artist artist1 = new Artist();
+        artist1.setArtistName("Taeyeon");
+        artist1.setType(ArtistType.SOLO);
+        artist1.setGenre("K-pop");
+        artistRepository.save(artist1);
+
+        Artist artist2 = new Artist();
+        artist2.setArtistName("IU");
+        artist2.setType(ArtistType.SOLO);
+        artist2.setGenre("Ballad; K-pop");
+        artistRepository.save(artist2);
+        tag(artist1, artist2);
+
+        List<ArtistSummary> summaries = artistRepository.findSummariesByGenreTag("K-pop", PageRequest.of(0, 10));
+        assertEquals(List.of("IU", "Taeyeon"), summaries.stream().map(ArtistSummary::getArtistName).toList());
+        assertEquals(1, artistRepository.findSummariesByGenreTag("K-pop", PageRequest.of(0, 1)).size());
     }
 
     @Test
@@ -140,6 +185,25 @@ public class ArtistRepositoryTest {
         assertEquals("Artist1", koreanArtists.get(0).getArtistName());
     }
 
+    @Test
+    public void testBackfillFillsLanguageKeysOfOlderRows() {
+        Artist artist = new Artist();
+        artist.setArtistName("Artist1");
+        artist.setType(ArtistType.SOLO);
+        artist.setPrimaryLanguage("Korean");
+        artistRepository.saveAndFlush(artist);
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE artists SET primary_language_key = NULL")
+                .executeUpdate();
+        entityManager.clear();
+
+        assertTrue(artistRepository.findByPrimaryLanguageIgnoreCase("korean").isEmpty());
+        assertEquals(1, artistRepository.backfillPrimaryLanguageKeys());
+        assertEquals(List.of(artist.getArtistId()), artistRepository.findByPrimaryLanguageIgnoreCase("KOREAN")
+                .stream().map(Artist::getArtistId).toList());
+        assertEquals(0, artistRepository.backfillPrimaryLanguageKeys());
+    }
+
     @Test
     public void testCountByType() {
         Artist artist1 = new Artist();
@@ -178,4 +242,136 @@ public class ArtistRepositoryTest {
         assertTrue(foundArtist.isPresent());
         assertEquals("Spotify Artist", foundArtist.get().getArtistName());
     }
+
+    @Test
+    public void testKeysetPagination() {
+        for (String name : List.of("Zico", "IU", "Aespa", "BTS", "Chungha")) {
+            Artist artist = new Artist();
+            artist.setArtistName(name);
+            artist.setType(ArtistType.SOLO);
+            artistRepository.save(artist);
+        }
+
+        Slice<Artist> first = artistRepository.findAllByOrderByArtistNameAscArtistIdAsc(CursorPage.request(2));
+        assertEquals(List.of("Aespa", "BTS"), first.getContent().stream().map(Artist::getArtistName).toList());
+        assertTrue(first.hasNext());
+
+        Artist last = first.getContent().get(1);
+        Slice<Artist> second = artistRepository.findPageAfter(last.getArtistName(), last.getArtistId(), CursorPage.request(2));
+        assertEquals(List.of("Chungha", "IU"), second.getContent().stream().map(Artist::getArtistName).toList());
+        assertTrue(second.hasNext());
+
+        last = second.getContent().get(1);
+        Slice<Artist> third = artistRepository.findPageAfter(last.getArtistName(), last.getArtistId(), CursorPage.request(2));
+        assertEquals(List.of("Zico"), third.getContent().stream().map(Artist::getArtistName).toList());
+        assertFalse(third.hasNext());
+    }
+
+    @Test
+    public void testKeysetPaginationBreaksTiesById() {
+        for (int i = 0; i < 3; i++) {
+            Artist artist = new Artist();
+            artist.setArtistName("Same Name");
+            artist.setType(ArtistType.SOLO);
+            artistRepository.save(artist);
+        }
+
+        Slice<Artist> first = artistRepository.findAllByOrderByArtistNameAscArtistIdAsc(CursorPage.request(2));
+        Artist last = first.getContent().get(1);
+        Slice<Artist> second = artistRepository.findPageAfter(last.getArtistName(), last.getArtistId(), CursorPage.request(2));
+
+        assertEquals(1, second.getContent().size());
+        assertFalse(first.getContent().contains(second.getContent().get(0)));
+    }
+
+    @Test
+    public void testSummaryProjections() {
+        Artist artist = new Artist();
+        artist.setArtistName("Stray Kids");
+        artist.setType(ArtistType.GROUP);
+        artist.setGenre("K-Pop");
+        artist.setOriginCountry("KR");
+        artist.setDescription("Long biography");
+        artistRepository.save(artist);
+
+        List<ArtistSummary> all = artistRepository.findAllSummaries();
+        assertEquals(1, all.size());
+        ArtistSummary summary = all.get(0);
+        assertEquals(artist.getArtistId(), summary.getArtistId());
+        assertEquals("Stray Kids", summary.getArtistName());
+        assertEquals(ArtistType.GROUP, summary.getType());
+        assertEquals("K-Pop", summary.getGenre());
+        assertEquals("KR", summary.getOriginCountry());
+
+        assertEquals(List.of(summary), artistRepository.findSummariesByArtistNameContaining("stray"));
+        assertTrue(artistRepository.findSummariesByArtistNameContaining("twice").isEmpty());
+    }
+
+    @Test
+    public void testGeneratedIdsAreTimeOrderedV7() {
+        Artist first = new Artist();
+        first.setArtistName("First");
+        first.setType(ArtistType.SOLO);
+        Artist second = new Artist();
+        second.setArtistName("Second");
+        second.setType(ArtistType.SOLO);
+
+        artistRepository.save(first);
+        artistRepository.save(second);
+
+        assertEquals(7, first.getArtistId().version());
+        assertTrue(second.getArtistId().toString().compareTo(first.getArtistId().toString()) > 0);
+    }
+
+    @Test
+    public void testVersionAndUpdatedAtAdvanceOnUpdate() {
+        Artist artist = new Artist();
+        artist.setArtistName("IU");
+        artist.setType(ArtistType.SOLO);
+        artist.setGenre("Pop");
+        artist = artistRepository.saveAndFlush(artist);
+        assertEquals(0, artist.getVersion());
+        assertNotNull(artist.getUpdatedAt());
+
+        VersionStamp created = artistRepository.findStampById(artist.getArtistId());
+        assertEquals(1, created.getRows());
+        assertEquals(0, created.getVersionSum());
+
+        artist.setGenre("Ballad");
+        artist = artistRepository.saveAndFlush(artist);
+        assertEquals(1, artist.getVersion());
+
+        VersionStamp updated = artistRepository.findStampById(artist.getArtistId());
+        assertEquals(1, updated.getVersionSum());
+        assertNotEquals(created, updated);
+    }
+
+    @Test
+    public void testStampsCoverOnlyTheirRows() {
+        Artist solo = new Artist();
+        solo.setArtistName("IU");
+        solo.setType(ArtistType.SOLO);
+        solo.setSpotifyId("iu");
+        artistRepository.save(solo);
+
+        Artist group = new Artist();
+        group.setArtistName("TWICE");
+        group.setType(ArtistType.GROUP);
+        group = artistRepository.save(group);
+
+        assertEquals(2, artistRepository.findStamp().getRows());
+        assertEquals(1, artistRepository.findStampByType(ArtistType.GROUP).getRows());
+        assertEquals(1, artistRepository.findStampBySpotifyId("iu").getRows());
+        assertEquals(1, artistRepository.findStampByIdAndType(group.getArtistId(), ArtistType.GROUP).getRows());
+        assertTrue(artistRepository.findStampByIdAndType(group.getArtistId(), ArtistType.SOLO).isEmpty());
+
+        VersionStamp missing = artistRepository.findStampById(UUID.randomUUID());
+        assertTrue(missing.isEmpty());
+        assertNull(missing.getLastModified());
+    }
+
+    private void tag(Artist... artists) {
+        new GenreTagServiceImpl(genreTagRepository, artistGenreTagRepository, artistRepository, transactionManager)
+                .tagArtists(List.of(artists));
+    }
 }
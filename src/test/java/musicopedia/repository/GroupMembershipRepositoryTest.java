@@ -6,6 +6,7 @@ import musicopedia.model.enums.ArtistType;
 import musicopedia.model.enums.MembershipStatus;
 import musicopedia.model.membership.GroupMembership;
 import musicopedia.model.membership.GroupMembershipId;
+import musicopedia.pagination.CursorPage;
 import musicopedia.repository.config.RepositoryTestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -173,4 +175,28 @@ public class GroupMembershipRepositoryTest {
         List<GroupMembership> memberships = groupMembershipRepository.findGroupsForMember(member1.getMemberId());
         assertEquals(2, memberships.size());
     }
+
+    @Test
+    void testKeysetPaginationByGroupId() {
+        Slice<GroupMembership> first = groupMembershipRepository.findFirstPageByGroupId(group1.getArtistId(), CursorPage.request(1));
+        assertEquals(1, first.getContent().size());
+        assertTrue(first.hasNext());
+
+        Slice<GroupMembership> second = groupMembershipRepository.findPageByGroupIdAfter(
+                group1.getArtistId(), first.getContent().get(0).getId().getMemberId(), CursorPage.request(1));
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.hasNext());
+        assertNotEquals(first.getContent().get(0).getId(), second.getContent().get(0).getId());
+    }
+
+    @Test
+    void testKeysetPaginationByMemberId() {
+        Slice<GroupMembership> first = groupMembershipRepository.findFirstPageByMemberId(member1.getMemberId(), CursorPage.request(1));
+        assertTrue(first.hasNext());
+
+        Slice<GroupMembership> second = groupMembershipRepository.findPageByMemberIdAfter(
+                member1.getMemberId(), first.getContent().get(0).getId().getGroupId(), CursorPage.request(1));
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.hasNext());
+    }
 }
@@ -5,13 +5,18 @@ import musicopedia.model.Groups;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.ArtistType;
 import musicopedia.repository.config.RepositoryTestConfig;
+import musicopedia.repository.projection.VersionStamp;
+import musicopedia.service.GenreTagService;
+import musicopedia.service.impl.GenreTagServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -30,6 +35,20 @@ public class GroupRepositoryTest {
     @Autowired
     private ArtistRepository artistRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GenreTagRepository genreTagRepository;
+
+    @Autowired
+    private ArtistGenreTagRepository artistGenreTagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private GenreTagService genreTagService;
+
     private Artist createGroup(String name, String genre, String country) {
         Artist group = new Artist();
         group.setArtistName(name);
@@ -37,33 +56,40 @@ public class GroupRepositoryTest {
         group.setGenre(genre);
         group.setOriginCountry(country);
         group.setPrimaryLanguage("Korean");
-        return artistRepository.save(group);
+        Artist saved = artistRepository.save(group);
+        genreTagService.tagArtist(saved);
+        return saved;
     }
 
-    private void createGroupEntity(Artist artist, String formationDate) {
+    private void createGroupEntity(Artist artist, String formationDate, String disbandDate, ArtistGender gender) {
         Groups groups = new Groups();
         groups.setArtistId(artist.getArtistId());
         groups.setArtist(artist);
         groups.setFormationDate(LocalDate.parse(formationDate));
-        groups.setGroupGender(ArtistGender.MIXED);
+        groups.setDisbandDate(disbandDate != null ? LocalDate.parse(disbandDate) : null);
+        groups.setGroupGender(gender);
+        entityManager.persist(groups);
+        entityManager.flush();
     }
 
     @BeforeEach
     void setup() {
+        genreTagService = new GenreTagServiceImpl(genreTagRepository, artistGenreTagRepository, artistRepository,
+                transactionManager);
         Artist group1 = createGroup("BTS", "K-pop", "KR");
         Artist group2 = createGroup("Blackpink", "K-pop, Dance", "KR");
         Artist group3 = createGroup("OneRepublic", "Pop Rock", "US");
 
-        createGroupEntity(group1, "2013-06-13");
-        createGroupEntity(group2, "2016-08-08");
-        createGroupEntity(group3, "2002-01-01");
+        createGroupEntity(group1, "2013-06-13", null, ArtistGender.MALE);
+        createGroupEntity(group2, "2016-08-08", null, ArtistGender.FEMALE);
+        createGroupEntity(group3, "2002-01-01", "2020-01-01", ArtistGender.MALE);
 
         Artist soloArtist = new Artist();
         soloArtist.setArtistName("IU");
         soloArtist.setType(ArtistType.SOLO);
         soloArtist.setGenre("K-pop");
         soloArtist.setOriginCountry("KR");
-        artistRepository.save(soloArtist);
+        genreTagService.tagArtist(artistRepository.save(soloArtist));
     }
 
     @Test
@@ -77,7 +103,10 @@ public class GroupRepositoryTest {
         List<Artist> kpopGroups = groupRepository.findGroupsByGenre(ArtistType.GROUP, "K-pop");
         assertEquals(2, kpopGroups.size());
         
-        List<Artist> rockGroups = groupRepository.findGroupsByGenre(ArtistType.GROUP, "Rock");
+        // Tags match whole genres, so "Rock" is not part of "Pop Rock"
+        assertTrue(groupRepository.findGroupsByGenre(ArtistType.GROUP, "Rock").isEmpty());
+
+        List<Artist> rockGroups = groupRepository.findGroupsByGenre(ArtistType.GROUP, "pop rock");
         assertEquals(1, rockGroups.size());
         assertEquals("OneRepublic", rockGroups.get(0).getArtistName());
     }
@@ -108,4 +137,54 @@ public class GroupRepositoryTest {
         long koreanGroups = groupRepository.countGroupsByLanguage(ArtistType.GROUP, "Korean");
         assertEquals(3, koreanGroups);
     }
+
+    @Test
+    public void testFindGroupsByFormationDateBetween() {
+        List<Groups> groups = groupRepository.findGroupsByFormationDateBetween(
+                ArtistType.GROUP, LocalDate.of(2010, 1, 1), LocalDate.of(2015, 12, 31));
+        assertEquals(1, groups.size());
+        assertEquals("BTS", groups.get(0).getArtist().getArtistName());
+        assertEquals(LocalDate.of(2013, 6, 13), groups.get(0).getFormationDate());
+    }
+
+    @Test
+    public void testFindActiveGroups() {
+        List<Groups> activeGroups = groupRepository.findActiveGroups(ArtistType.GROUP);
+        assertEquals(2, activeGroups.size());
+        assertTrue(activeGroups.stream().allMatch(group -> group.getDisbandDate() == null));
+    }
+
+    @Test
+    public void testFindDisbandedGroups() {
+        List<Groups> disbandedGroups = groupRepository.findDisbandedGroups(ArtistType.GROUP);
+        assertEquals(1, disbandedGroups.size());
+        assertEquals("OneRepublic", disbandedGroups.get(0).getArtist().getArtistName());
+        assertEquals(LocalDate.of(2020, 1, 1), disbandedGroups.get(0).getDisbandDate());
+    }
+
+    @Test
+    public void testFindGroupsByGender() {
+        List<Groups> maleGroups = groupRepository.findGroupsByGender(ArtistType.GROUP, ArtistGender.MALE);
+        assertEquals(2, maleGroups.size());
+
+        List<Groups> femaleGroups = groupRepository.findGroupsByGender(ArtistType.GROUP, ArtistGender.FEMALE);
+        assertEquals(1, femaleGroups.size());
+        assertEquals("Blackpink", femaleGroups.get(0).getArtist().getArtistName());
+    }
+
+    @Test
+    public void testGroupsStampMovesWithGroupsRows() {
+        VersionStamp before = groupRepository.findGroupsStamp();
+        assertEquals(3, before.getRows());
+
+        Groups bts = groupRepository.findActiveGroups(ArtistType.GROUP).stream()
+                .filter(group -> group.getArtist().getArtistName().equals("BTS"))
+                .findFirst()
+                .orElseThrow();
+        bts.setDisbandDate(LocalDate.of(2025, 1, 1));
+        entityManager.flush();
+
+        assertNotEquals(before, groupRepository.findGroupsStamp());
+        assertEquals(1, groupRepository.findGroupsStampById(bts.getArtistId()).getVersionSum());
+    }
 }
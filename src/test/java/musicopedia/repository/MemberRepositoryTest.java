@@ -4,13 +4,16 @@ import musicopedia.model.Artist;
 import musicopedia.model.Member;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.pagination.CursorPage;
 import musicopedia.repository.config.RepositoryTestConfig;
+import musicopedia.repository.projection.MemberSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -125,4 +128,52 @@ public class MemberRepositoryTest {
         List<Member> members = memberRepository.findByBirthDateBefore(date);
         assertEquals(0, members.size());
     }
+
+    @Test
+    public void testFindAllSummariesCarriesSoloArtistName() {
+        List<MemberSummary> summaries = memberRepository.findAllSummaries();
+        assertEquals(3, summaries.size());
+        MemberSummary hyunjin = summaries.stream()
+                .filter(summary -> summary.getMemberName().equals("Hyunjin"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Hwang Hyun-jin", hyunjin.getRealName());
+        assertEquals("IU", hyunjin.getSoloArtistName());
+        MemberSummary felix = summaries.stream()
+                .filter(summary -> summary.getMemberName().equals("Felix"))
+                .findFirst()
+                .orElseThrow();
+        assertNull(felix.getSoloArtistName());
+    }
+
+    @Test
+    public void testSummarySearches() {
+        assertEquals(List.of("HAN"), memberRepository.findSummariesByMemberNameContaining("han").stream()
+                .map(MemberSummary::getMemberName).toList());
+        assertEquals(List.of("Felix"), memberRepository.findSummariesByRealNameContaining("LEE").stream()
+                .map(MemberSummary::getMemberName).toList());
+        assertEquals(2, memberRepository.findSummariesByBirthDateBetween(
+                LocalDate.of(2000, 9, 1), LocalDate.of(2000, 9, 30)).size());
+        assertEquals(List.of("Hyunjin"), memberRepository.findSummariesWithSoloIdentities().stream()
+                .map(MemberSummary::getMemberName).toList());
+    }
+
+    @Test
+    public void testSummaryKeysetPagination() {
+        Slice<MemberSummary> first = memberRepository.findFirstSummaryPage(CursorPage.request(2));
+        assertEquals(List.of("Felix", "HAN"), first.getContent().stream().map(MemberSummary::getMemberName).toList());
+        assertTrue(first.hasNext());
+
+        MemberSummary last = first.getContent().get(1);
+        Slice<MemberSummary> second = memberRepository.findSummaryPageAfter(
+                last.getMemberName(), last.getMemberId(), CursorPage.request(2));
+        assertEquals(List.of("Hyunjin"), second.getContent().stream().map(MemberSummary::getMemberName).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    public void testGeneratedIdIsV7() {
+        Member member = memberRepository.findByMemberName("Felix").orElseThrow();
+        assertEquals(7, member.getMemberId().version());
+    }
 }
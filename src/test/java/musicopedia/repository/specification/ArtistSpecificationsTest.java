@@ -0,0 +1,155 @@
+package musicopedia.repository.specification;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Groups;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistGenreTagRepository;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GenreTagRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import musicopedia.service.impl.GenreTagServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static musicopedia.repository.specification.ArtistSpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class ArtistSpecificationsTest {
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GenreTagRepository genreTagRepository;
+
+    @Autowired
+    private ArtistGenreTagRepository artistGenreTagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Artist createArtist(String name, ArtistType type, String genre, String country, String language) {
+        Artist artist = new Artist();
+        artist.setArtistName(name);
+        artist.setType(type);
+        artist.setGenre(genre);
+        artist.setOriginCountry(country);
+        artist.setPrimaryLanguage(language);
+        Artist saved = artistRepository.save(artist);
+        new GenreTagServiceImpl(genreTagRepository, artistGenreTagRepository, artistRepository, transactionManager)
+                .tagArtist(saved);
+        return saved;
+    }
+
+    private void createGroup(String name, String genre, String country, LocalDate formationDate) {
+        Artist artist = createArtist(name, ArtistType.GROUP, genre, country, "Korean");
+        Groups group = new Groups();
+        group.setArtistId(artist.getArtistId());
+        group.setArtist(artist);
+        group.setFormationDate(formationDate);
+        entityManager.persist(group);
+    }
+
+    @BeforeEach
+    void setup() {
+        createGroup("BTS", "K-Pop", "KR", LocalDate.of(2013, 6, 13));
+        createGroup("Blackpink", "K-Pop", "KR", LocalDate.of(2016, 8, 8));
+        createGroup("Stray Kids", "K-Pop", "KR", LocalDate.of(2017, 8, 1));
+        createGroup("Day6", "Rock", "KR", LocalDate.of(2015, 9, 7));
+        createGroup("Coldplay", "Pop Rock", "GB", LocalDate.of(1996, 1, 1));
+        createArtist("IU", ArtistType.SOLO, "K-Pop", "KR", "Korean");
+        createArtist("Taylor Swift", ArtistType.SOLO, "Pop", "US", "English");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testCombinedFiltersRunAsOneQuery() {
+        List<Artist> result = artistRepository.findAll(
+                hasType(ArtistType.GROUP)
+                        .and(hasOriginCountry("KR"))
+                        .and(hasGenreTag("k-pop"))
+                        .and(formedBetween(LocalDate.of(2015, 1, 1), LocalDate.of(2020, 12, 31))),
+                Sort.by("artistName"));
+
+        assertEquals(List.of("Blackpink", "Stray Kids"), result.stream().map(Artist::getArtistName).toList());
+    }
+
+    @Test
+    public void testGenreTagMatchesWholeGenresOnly() {
+        List<Artist> rock = artistRepository.findAll(hasGenreTag(" ROCK "));
+        List<Artist> popRock = artistRepository.findAll(hasGenreTag("pop rock"));
+
+        assertEquals(List.of("Day6"), rock.stream().map(Artist::getArtistName).toList());
+        assertEquals(List.of("Coldplay"), popRock.stream().map(Artist::getArtistName).toList());
+    }
+
+    @Test
+    public void testNameContainsIgnoresCase() {
+        List<Artist> result = artistRepository.findAll(nameContains("swift"));
+
+        assertEquals(1, result.size());
+        assertEquals("Taylor Swift", result.get(0).getArtistName());
+    }
+
+    @Test
+    public void testNameContainsEscapesWildcards() {
+        createArtist("100%", ArtistType.GROUP, "K-Pop", "KR", "Korean");
+
+        assertEquals(1, artistRepository.findAll(nameContains("%")).size());
+    }
+
+    @Test
+    public void testPrimaryLanguageIgnoresCaseAndCountryMatchesExactly() {
+        List<Artist> result = artistRepository.findAll(hasPrimaryLanguage("english"));
+
+        assertEquals(1, result.size());
+        assertEquals("Taylor Swift", result.get(0).getArtistName());
+        assertEquals(result, artistRepository.findAll(hasPrimaryLanguage("ENGLISH")));
+        assertTrue(artistRepository.findAll(hasOriginCountry("us")).isEmpty());
+    }
+
+    @Test
+    public void testOpenEndedFormationRange() {
+        List<Artist> formedFrom2016 = artistRepository.findAll(formedBetween(LocalDate.of(2016, 1, 1), null));
+        List<Artist> formedUntil2000 = artistRepository.findAll(formedBetween(null, LocalDate.of(2000, 1, 1)));
+
+        assertEquals(2, formedFrom2016.size());
+        assertEquals(1, formedUntil2000.size());
+        assertEquals("Coldplay", formedUntil2000.get(0).getArtistName());
+    }
+
+    @Test
+    public void testFormationRangeExcludesSoloists() {
+        List<Artist> result = artistRepository.findAll(
+                hasGenreTag("k-pop").and(formedBetween(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 1, 1))));
+
+        assertTrue(result.stream().noneMatch(artist -> artist.getType() == ArtistType.SOLO));
+    }
+
+    @Test
+    public void testSortAndLimitAreApplied() {
+        List<Artist> result = artistRepository.findBy(hasOriginCountry("KR"),
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "artistName")).limit(2).all());
+
+        assertEquals(List.of("Stray Kids", "IU"), result.stream().map(Artist::getArtistName).toList());
+    }
+}
@@ -0,0 +1,125 @@
+package musicopedia.repository.specification;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Solo;
+import musicopedia.model.enums.ArtistGender;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static musicopedia.repository.specification.SoloSpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class SoloSpecificationsTest {
+
+    @Autowired
+    private SoloRepository soloRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private void createSolo(String name, LocalDate birthDate, LocalDate deathDate, LocalDate debutDate, ArtistGender gender) {
+        Artist artist = new Artist();
+        artist.setArtistName(name);
+        artist.setType(ArtistType.SOLO);
+        artist = artistRepository.save(artist);
+
+        Solo solo = new Solo();
+        solo.setArtistId(artist.getArtistId());
+        solo.setArtist(artist);
+        solo.setBirthDate(birthDate);
+        solo.setDeathDate(deathDate);
+        solo.setDebutDate(debutDate);
+        solo.setGender(gender);
+        entityManager.persist(solo);
+    }
+
+    @BeforeEach
+    void setup() {
+        createSolo("IU", LocalDate.of(1993, 5, 16), null, LocalDate.of(2008, 9, 18), ArtistGender.FEMALE);
+        createSolo("Taylor Swift", LocalDate.of(1989, 12, 13), null, LocalDate.of(2006, 6, 19), ArtistGender.FEMALE);
+        createSolo("John Lennon", LocalDate.of(1940, 10, 9), LocalDate.of(1980, 12, 8), LocalDate.of(1968, 11, 11), ArtistGender.MALE);
+        createSolo("100%_Real", LocalDate.of(2000, 1, 1), null, null, ArtistGender.UNKNOWN);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testBirthDateBetween() {
+        List<Solo> solos = soloRepository.findAll(birthDateBetween(LocalDate.of(1989, 1, 1), LocalDate.of(1993, 5, 16)));
+        assertEquals(2, solos.size());
+    }
+
+    @Test
+    public void testDebutDateBetween() {
+        List<Solo> solos = soloRepository.findAll(debutDateBetween(LocalDate.of(1960, 1, 1), LocalDate.of(2007, 1, 1)));
+        assertEquals(2, solos.size());
+    }
+
+    @Test
+    public void testHasGender() {
+        assertEquals(2, soloRepository.findAll(hasGender(ArtistGender.FEMALE)).size());
+        assertEquals(1, soloRepository.findAll(hasGender(ArtistGender.MALE)).size());
+        assertEquals(0, soloRepository.findAll(hasGender(ArtistGender.MIXED)).size());
+    }
+
+    @Test
+    public void testIsAliveAndIsDeceased() {
+        assertEquals(3, soloRepository.findAll(isAlive()).size());
+        List<Solo> deceased = soloRepository.findAll(isDeceased());
+        assertEquals(1, deceased.size());
+        assertEquals(LocalDate.of(1980, 12, 8), deceased.get(0).getDeathDate());
+    }
+
+    @Test
+    public void testFetchArtistLoadsArtistWithResults() {
+        List<Solo> solos = soloRepository.findAll(fetchArtist().and(hasGender(ArtistGender.MALE)));
+        assertEquals(1, solos.size());
+        entityManager.clear();
+        assertEquals("John Lennon", solos.get(0).getArtist().getArtistName());
+    }
+
+    @Test
+    public void testFetchArtistIsIgnoredForCountQueries() {
+        assertEquals(2, soloRepository.count(fetchArtist().and(hasGender(ArtistGender.FEMALE))));
+    }
+
+    @Test
+    public void testArtistNameContains() {
+        List<Solo> solos = soloRepository.findAll(artistNameContains("Swift"));
+        assertEquals(1, solos.size());
+        assertEquals("Taylor Swift", solos.get(0).getArtist().getArtistName());
+        assertTrue(soloRepository.findAll(artistNameContains("swift")).isEmpty());
+    }
+
+    @Test
+    public void testArtistNameContainsEscapesWildcards() {
+        assertEquals(1, soloRepository.findAll(artistNameContains("0%_R")).size());
+        assertTrue(soloRepository.findAll(artistNameContains("%")).stream()
+                .allMatch(solo -> solo.getArtist().getArtistName().contains("%")));
+    }
+
+    @Test
+    public void testEscapeLike() {
+        assertEquals("a\\%b\\_c\\\\d", escapeLike("a%b_c\\d"));
+    }
+}
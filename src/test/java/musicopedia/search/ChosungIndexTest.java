@@ -0,0 +1,153 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.SuggestionDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.Subunit;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.NameRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChosungIndexTest {
+
+    private final UUID bts = UUID.randomUUID();
+    private final UUID snsd = UUID.randomUUID();
+    private final UUID jisoo = UUID.randomUUID();
+
+    private NameStream names;
+    private ChosungIndex chosungIndex;
+
+    @BeforeEach
+    void setUp() {
+        ArtistRepository artistRepository = mock(ArtistRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        SubunitRepository subunitRepository = mock(SubunitRepository.class);
+
+        when(artistRepository.streamNames()).thenAnswer(invocation -> Stream.of(
+                new NameRow(bts, "방탄소년단", ArtistType.GROUP),
+                new NameRow(snsd, "소녀시대", ArtistType.GROUP),
+                new NameRow(UUID.randomUUID(), "TWICE", ArtistType.GROUP)));
+        when(memberRepository.streamNames()).thenAnswer(invocation -> Stream.of(new NameRow(jisoo, "Jisoo", "김지수")));
+        when(subunitRepository.streamNames()).thenAnswer(invocation -> Stream.empty());
+
+        names = new NameStream(artistRepository, memberRepository, mock(SoloRepository.class), subunitRepository,
+                mock(GroupMembershipRepository.class), mock(SubunitMembershipRepository.class),
+                mock(PlatformTransactionManager.class));
+        chosungIndex = new ChosungIndex(names, mock(PlatformTransactionManager.class), 512, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testRecognizesInitialConsonantQueries() {
+        assertTrue(ChosungIndex.isInitialsQuery("ㅂㅌ"));
+        assertTrue(ChosungIndex.isInitialsQuery("방ㅌ"));
+        assertFalse(ChosungIndex.isInitialsQuery("방탄"));
+        assertFalse(ChosungIndex.isInitialsQuery("bㅌ"));
+        assertFalse(ChosungIndex.isInitialsQuery(null));
+    }
+
+    @Test
+    void testNothingFoundBeforeLoad() {
+        assertFalse(chosungIndex.isReady());
+        assertTrue(chosungIndex.search("ㅂㅌ", 10).isEmpty());
+    }
+
+    @Test
+    void testFindsPrefixesBeforeSubstrings() {
+        chosungIndex.reload();
+
+        assertTrue(chosungIndex.isReady());
+        assertEquals(List.of(bts), ids(chosungIndex.search("ㅂㅌㅅ", 10)));
+        assertEquals(List.of(snsd, bts), ids(chosungIndex.search("ㅅㄴ", 10)));
+        SuggestionDTO member = chosungIndex.search("ㅈㅅ", 10).get(0);
+        assertEquals(jisoo, member.getId());
+        assertEquals(SuggestionType.MEMBER, member.getType());
+        assertEquals("김지수", member.getMatchedName());
+    }
+
+    @Test
+    void testMixesSyllablesAndInitials() {
+        chosungIndex.reload();
+
+        assertEquals(List.of(bts), ids(chosungIndex.search("방ㅌ", 10)));
+        // 탄 is typed as 타 before its final consonant
+        assertEquals(List.of(bts), ids(chosungIndex.search("ㅂ타", 10)));
+        assertTrue(chosungIndex.search("밤ㅌ", 10).isEmpty());
+    }
+
+    @Test
+    void testWritesAreVisibleBeforeAndAfterCompaction() {
+        chosungIndex.reload();
+
+        Artist renamed = new Artist();
+        renamed.setArtistId(bts);
+        renamed.setArtistName("BTS");
+        chosungIndex.artistSaved(renamed);
+        Subunit subunit = new Subunit();
+        subunit.setSubunitId(UUID.randomUUID());
+        subunit.setSubunitName("태티서");
+        chosungIndex.subunitSaved(subunit);
+        chosungIndex.artistDeleted(snsd);
+
+        assertTrue(chosungIndex.search("ㅂㅌ", 10).isEmpty());
+        assertTrue(chosungIndex.search("ㅅㄴ", 10).isEmpty());
+        assertEquals(List.of(subunit.getSubunitId()), ids(chosungIndex.search("ㅌㅌㅅ", 10)));
+
+        chosungIndex.compact();
+
+        assertTrue(chosungIndex.search("ㅂㅌ", 10).isEmpty());
+        assertEquals(List.of(subunit.getSubunitId()), ids(chosungIndex.search("ㅌㅌㅅ", 10)));
+    }
+
+    @Test
+    void testCompactsOnlyOnceEnoughWritesArePending() {
+        chosungIndex = new ChosungIndex(names, mock(PlatformTransactionManager.class), 2, Duration.ofHours(1));
+        chosungIndex.reload();
+
+        Subunit subunit = new Subunit();
+        subunit.setSubunitId(UUID.randomUUID());
+        subunit.setSubunitName("태티서");
+        chosungIndex.subunitSaved(subunit);
+        chosungIndex.scheduledCompact();
+
+        assertEquals(1, chosungIndex.pendingWrites());
+        assertEquals(List.of(subunit.getSubunitId()), ids(chosungIndex.search("ㅌㅌㅅ", 10)));
+
+        chosungIndex.artistDeleted(snsd);
+        chosungIndex.scheduledCompact();
+
+        assertEquals(0, chosungIndex.pendingWrites());
+        assertEquals(List.of(subunit.getSubunitId()), ids(chosungIndex.search("ㅌㅌㅅ", 10)));
+        assertTrue(chosungIndex.search("ㅅㄴ", 10).isEmpty());
+    }
+
+    @Test
+    void testCompactsFewWritesOnceTheArrayIsOldEnough() {
+        chosungIndex = new ChosungIndex(names, mock(PlatformTransactionManager.class), 512, Duration.ZERO);
+        chosungIndex.reload();
+
+        chosungIndex.artistDeleted(snsd);
+        chosungIndex.scheduledCompact();
+
+        assertEquals(0, chosungIndex.pendingWrites());
+        assertTrue(chosungIndex.search("ㅅㄴ", 10).isEmpty());
+    }
+
+    private static List<UUID> ids(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getId).toList();
+    }
+}
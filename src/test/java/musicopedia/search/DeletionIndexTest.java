@@ -0,0 +1,84 @@
+package musicopedia.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeletionIndexTest {
+
+    private final DeletionIndex index = new DeletionIndex();
+
+    @Test
+    void testFindsNamesWithinTwoEdits() {
+        UUID blackpink = put("BLACKPINK", 0);
+        UUID seventeen = put("Seventeen", 0);
+        put("Twice", 0);
+
+        assertEquals(List.of(blackpink), index.search("Blakpink", 10));
+        assertEquals(List.of(seventeen), index.search("sevnteen", 10));
+        assertTrue(index.search("blkpnk", 10).isEmpty());
+    }
+
+    @Test
+    void testCountsTranspositionsAsOneEdit() {
+        UUID twice = put("Twice", 0);
+
+        assertEquals(List.of(twice), index.search("twcie", 10));
+        assertEquals(1, DeletionIndex.distance("jenine", "jennie", 2));
+    }
+
+    @Test
+    void testMatchesSingleWords() {
+        UUID taylor = put("Taylor Swift", 0);
+
+        assertEquals(List.of(taylor), index.search("swfit", 10));
+        assertEquals(List.of(taylor), index.search("taylr swift", 10));
+    }
+
+    @Test
+    void testShortQueriesMustMatchExactly() {
+        UUID iu = put("IU", 0);
+        put("IVE", 0);
+
+        assertEquals(List.of(iu), index.search("iu", 10));
+        assertTrue(index.search("ui", 10).isEmpty());
+        assertEquals(0, DeletionIndex.allowedDistance(2));
+        assertEquals(1, DeletionIndex.allowedDistance(5));
+        assertEquals(2, DeletionIndex.allowedDistance(6));
+    }
+
+    @Test
+    void testRanksByDistanceThenWeight() {
+        UUID jennie = put("Jennie", 0);
+        UUID jeannie = put("Jeannie", 9);
+        UUID jenny = put("Jenny", 5);
+
+        assertEquals(List.of(jennie, jeannie, jenny), index.search("jennie", 10));
+        assertEquals(List.of(jennie, jeannie), index.search("jennie", 2));
+    }
+
+    @Test
+    void testUpdatesAndRemovals() {
+        UUID id = UUID.randomUUID();
+        index.put(id, "Blackpink", 3);
+        index.put(id, "Babymonster", 3);
+
+        assertTrue(index.search("blakpink", 10).isEmpty());
+        assertEquals(List.of(id), index.search("babymonstr", 10));
+        assertEquals(3, index.weightOf(id));
+
+        index.remove(id);
+
+        assertTrue(index.search("babymonster", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    private UUID put(String name, int weight) {
+        UUID id = UUID.randomUUID();
+        index.put(id, name, weight);
+        return id;
+    }
+}
@@ -0,0 +1,105 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.DescriptionHitDTO;
+import musicopedia.model.Member;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.DescriptionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DescriptionIndexTest {
+
+    private final UUID twice = UUID.randomUUID();
+    private final UUID bts = UUID.randomUUID();
+    private final UUID yoasobi = UUID.randomUUID();
+    private final UUID jihyo = UUID.randomUUID();
+    private final UUID vocalLine = UUID.randomUUID();
+
+    private DescriptionIndex descriptionIndex;
+
+    @BeforeEach
+    void setUp() {
+        ArtistRepository artistRepository = mock(ArtistRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        SubunitRepository subunitRepository = mock(SubunitRepository.class);
+
+        when(artistRepository.streamDescriptions()).thenAnswer(invocation -> Stream.of(
+                new DescriptionRow(twice, "TWICE", "TWICE is a South Korean girl group formed by JYP Entertainment."),
+                new DescriptionRow(bts, "BTS", "방탄소년단은 대한민국의 보이 그룹이다. A South Korean boy band."),
+                new DescriptionRow(yoasobi, "YOASOBI", "YOASOBIは日本の音楽ユニット。")));
+        when(memberRepository.streamDescriptions()).thenAnswer(invocation -> Stream.of(
+                new DescriptionRow(jihyo, "Jihyo", "Leader and main vocalist of the girl group TWICE.")));
+        when(subunitRepository.streamDescriptions()).thenAnswer(invocation -> Stream.of(
+                new DescriptionRow(vocalLine, "Vocal Line", "   ")));
+
+        descriptionIndex = new DescriptionIndex(artistRepository, memberRepository, subunitRepository,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testNothingFoundBeforeBuild() {
+        assertFalse(descriptionIndex.isReady());
+        assertTrue(descriptionIndex.search("girl group", Set.of(), 10).isEmpty());
+    }
+
+    @Test
+    void testRanksByBm25AcrossTypes() {
+        descriptionIndex.rebuild();
+
+        List<DescriptionHitDTO> hits = descriptionIndex.search("girl group formed by jyp", Set.of(), 10);
+
+        assertEquals(List.of(twice, jihyo), ids(hits));
+        assertTrue(hits.get(0).getScore() >= hits.get(1).getScore());
+        assertEquals(SuggestionType.MEMBER, hits.get(1).getType());
+        assertTrue(hits.get(0).getSnippet().contains("<em>girl</em> <em>group</em>"));
+    }
+
+    @Test
+    void testFiltersByTypeAndLimits() {
+        descriptionIndex.rebuild();
+
+        assertEquals(List.of(jihyo), ids(descriptionIndex.search("girl group", Set.of(SuggestionType.MEMBER), 10)));
+        assertEquals(1, descriptionIndex.search("south korean", Set.of(), 1).size());
+        assertTrue(descriptionIndex.search("vocal", Set.of(SuggestionType.SUBUNIT), 10).isEmpty());
+    }
+
+    @Test
+    void testFindsCjkTextWithoutWordBreaks() {
+        descriptionIndex.rebuild();
+
+        List<DescriptionHitDTO> korean = descriptionIndex.search("방탄소년단", Set.of(), 10);
+        assertEquals(List.of(bts), ids(korean));
+        assertTrue(korean.get(0).getSnippet().startsWith("<em>방탄소년단</em>은"));
+        assertEquals(List.of(yoasobi), ids(descriptionIndex.search("音楽ユニット", Set.of(), 10)));
+    }
+
+    @Test
+    void testCommittedWritesApplyAtOnce() {
+        descriptionIndex.rebuild();
+
+        Member member = new Member();
+        member.setMemberId(jihyo);
+        member.setMemberName("Jihyo");
+        member.setDescription("Solo debut with the single Killin' Me Good.");
+        descriptionIndex.memberSaved(member);
+        descriptionIndex.artistDeleted(twice);
+
+        assertTrue(descriptionIndex.search("girl group", Set.of(), 10).isEmpty());
+        assertEquals(List.of(jihyo), ids(descriptionIndex.search("killin", Set.of(), 10)));
+    }
+
+    private static List<UUID> ids(List<DescriptionHitDTO> hits) {
+        return hits.stream().map(DescriptionHitDTO::getId).toList();
+    }
+}
@@ -0,0 +1,149 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Solo;
+import musicopedia.model.enums.ArtistGender;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.model.enums.GroupActivityStatus;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.projection.FacetRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FacetIndexTest {
+
+    private final UUID blackpink = UUID.randomUUID();
+    private final UUID twice = UUID.randomUUID();
+    private final UUID iu = UUID.randomUUID();
+    private final UUID yoasobi = UUID.randomUUID();
+
+    private FacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        ArtistRepository artistRepository = mock(ArtistRepository.class);
+        when(artistRepository.streamFacets()).thenAnswer(invocation -> Stream.of(
+                new FacetRow(blackpink, "BLACKPINK", ArtistType.GROUP, "KR", "Korean", "K-Pop, EDM",
+                        ArtistGender.FEMALE, GroupActivityStatus.ACTIVE, LocalDate.of(2016, 8, 8), null, null),
+                new FacetRow(twice, "TWICE", ArtistType.GROUP, "KR", "Korean", "K-Pop",
+                        ArtistGender.FEMALE, GroupActivityStatus.ACTIVE, LocalDate.of(2015, 10, 20), null, null),
+                new FacetRow(iu, "IU", ArtistType.SOLO, "KR", "Korean", "Ballad/K-Pop",
+                        null, null, null, ArtistGender.FEMALE, LocalDate.of(2008, 9, 18)),
+                new FacetRow(yoasobi, "YOASOBI", ArtistType.GROUP, "JP", "Japanese", "J-Pop",
+                        ArtistGender.MIXED, GroupActivityStatus.ACTIVE, LocalDate.of(2019, 10, 1), null, null)));
+        facetIndex = new FacetIndex(artistRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testNothingFoundBeforeBuild() {
+        assertFalse(facetIndex.isReady());
+        assertNull(facetIndex.search(Map.of(), 10));
+    }
+
+    @Test
+    void testCountsEveryFacetWithoutFilters() {
+        facetIndex.rebuild();
+
+        FacetResult result = facetIndex.search(Map.of(), 10);
+
+        assertEquals(4, result.total());
+        assertEquals(List.of(blackpink, iu, twice, yoasobi), result.artistIds());
+        assertEquals(Map.of("k-pop", 3, "edm", 1, "ballad", 1, "j-pop", 1), result.counts().get(ArtistFacet.GENRE));
+        assertEquals(List.of("k-pop", "ballad", "edm", "j-pop"),
+                List.copyOf(result.counts().get(ArtistFacet.GENRE).keySet()));
+        assertEquals(Map.of("2010s", 3, "2000s", 1), result.counts().get(ArtistFacet.FORMATION_DECADE));
+        assertEquals(Map.of("FEMALE", 3, "MIXED", 1), result.counts().get(ArtistFacet.GENDER));
+    }
+
+    @Test
+    void testValuesOfOneFacetAreOredAndFacetsAnded() {
+        facetIndex.rebuild();
+
+        FacetResult result = facetIndex.search(Map.of(
+                ArtistFacet.GENRE, Set.of("Ballad", "J-Pop"),
+                ArtistFacet.ORIGIN_COUNTRY, Set.of("kr")), 10);
+
+        assertEquals(1, result.total());
+        assertEquals(List.of(iu), result.artistIds());
+        // A facet's own selection does not narrow its counts
+        assertEquals(Map.of("k-pop", 3, "edm", 1, "ballad", 1), result.counts().get(ArtistFacet.GENRE));
+        assertEquals(Map.of("KR", 1, "JP", 1), result.counts().get(ArtistFacet.ORIGIN_COUNTRY));
+        assertEquals(Map.of("SOLO", 1), result.counts().get(ArtistFacet.TYPE));
+    }
+
+    @Test
+    void testUnknownValuesMatchNothingAndBlankOnesAreIgnored() {
+        facetIndex.rebuild();
+
+        assertEquals(0, facetIndex.search(Map.of(ArtistFacet.GENRE, Set.of("trot")), 10).total());
+        assertEquals(4, facetIndex.search(Map.of(ArtistFacet.FORMATION_DECADE, Set.of(" ")), 10).total());
+        assertEquals(3, facetIndex.search(Map.of(ArtistFacet.FORMATION_DECADE, Set.of("2015")), 10).total());
+    }
+
+    @Test
+    void testLimitKeepsFirstByName() {
+        facetIndex.rebuild();
+
+        FacetResult result = facetIndex.search(Map.of(ArtistFacet.GENRE, Set.of("k-pop")), 2);
+
+        assertEquals(3, result.total());
+        assertEquals(List.of(blackpink, iu), result.artistIds());
+    }
+
+    @Test
+    void testCommittedWritesApplyAtOnce() {
+        facetIndex.rebuild();
+
+        Artist artist = new Artist();
+        artist.setArtistId(iu);
+        artist.setArtistName("IU");
+        artist.setType(ArtistType.SOLO);
+        artist.setOriginCountry("KR");
+        artist.setPrimaryLanguage("Korean");
+        artist.setGenre("Folk");
+        facetIndex.artistSaved(artist);
+        Solo solo = new Solo();
+        solo.setArtistId(iu);
+        solo.setGender(ArtistGender.FEMALE);
+        solo.setDebutDate(LocalDate.of(2020, 1, 1));
+        facetIndex.soloSaved(solo);
+        facetIndex.artistDeleted(yoasobi);
+
+        FacetResult result = facetIndex.search(Map.of(), 10);
+        assertEquals(3, result.total());
+        assertEquals(Map.of("k-pop", 2, "edm", 1, "folk", 1), result.counts().get(ArtistFacet.GENRE));
+        assertEquals(Map.of("2010s", 2, "2020s", 1), result.counts().get(ArtistFacet.FORMATION_DECADE));
+        assertEquals(List.of(iu), facetIndex.search(Map.of(ArtistFacet.GENRE, Set.of("folk")), 10).artistIds());
+    }
+
+    @Test
+    void testDeletedOrdinalsAreReused() {
+        facetIndex.rebuild();
+        facetIndex.artistDeleted(twice);
+        facetIndex.soloDeleted(twice);
+
+        UUID newcomer = UUID.randomUUID();
+        Artist artist = new Artist();
+        artist.setArtistId(newcomer);
+        artist.setArtistName("ILLIT");
+        artist.setType(ArtistType.GROUP);
+        artist.setGenre("K-Pop");
+        facetIndex.artistSaved(artist);
+
+        FacetResult result = facetIndex.search(Map.of(ArtistFacet.GENRE, Set.of("k-pop")), 10);
+        assertEquals(List.of(blackpink, newcomer, iu), result.artistIds());
+        assertEquals(Map.of("GROUP", 2, "SOLO", 1), result.counts().get(ArtistFacet.TYPE));
+        assertEquals(Map.of("2010s", 1, "2000s", 1), result.counts().get(ArtistFacet.FORMATION_DECADE));
+    }
+}
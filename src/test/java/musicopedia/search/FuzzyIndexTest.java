@@ -0,0 +1,91 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.IdCount;
+import musicopedia.repository.projection.NameRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FuzzyIndexTest {
+
+    private final UUID blackpink = UUID.randomUUID();
+    private final UUID blackPearl = UUID.randomUUID();
+    private final UUID jennie = UUID.randomUUID();
+
+    private FuzzyIndex fuzzyIndex;
+
+    @BeforeEach
+    void setUp() {
+        ArtistRepository artistRepository = mock(ArtistRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        GroupMembershipRepository groupMembershipRepository = mock(GroupMembershipRepository.class);
+
+        when(artistRepository.streamNames()).thenAnswer(invocation -> Stream.of(
+                new NameRow(blackPearl, "Black Pear", ArtistType.GROUP),
+                new NameRow(blackpink, "Black Pink", ArtistType.GROUP)));
+        when(groupMembershipRepository.streamMemberCountsByGroup())
+                .thenAnswer(invocation -> Stream.of(new IdCount(blackpink, 4L)));
+        when(memberRepository.streamNames()).thenAnswer(invocation -> Stream.of(new NameRow(jennie, "Jennie", "Kim Jennie")));
+        when(groupMembershipRepository.streamGroupCountsByMember()).thenAnswer(invocation -> Stream.empty());
+
+        SubunitRepository subunitRepository = mock(SubunitRepository.class);
+        when(subunitRepository.streamNames()).thenAnswer(invocation -> Stream.empty());
+        SubunitMembershipRepository subunitMembershipRepository = mock(SubunitMembershipRepository.class);
+        when(subunitMembershipRepository.streamMemberCountsBySubunit()).thenAnswer(invocation -> Stream.empty());
+
+        NameStream names = new NameStream(artistRepository, memberRepository, mock(SoloRepository.class),
+                subunitRepository, groupMembershipRepository, subunitMembershipRepository,
+                mock(PlatformTransactionManager.class));
+        fuzzyIndex = new FuzzyIndex(names, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testNothingFoundBeforeBuild() {
+        assertFalse(fuzzyIndex.isReady());
+        assertTrue(fuzzyIndex.search(NameField.ARTIST_NAME, "black pink", 10).isEmpty());
+    }
+
+    @Test
+    void testEqualDistancesRankByWeight() {
+        fuzzyIndex.rebuild();
+
+        assertTrue(fuzzyIndex.isReady());
+        assertEquals(List.of(blackpink, blackPearl), fuzzyIndex.search(NameField.ARTIST_NAME, "black pexk", 10));
+        assertEquals(List.of(jennie), fuzzyIndex.search(NameField.MEMBER_NAME, "jenine", 10));
+        assertEquals(List.of(jennie), fuzzyIndex.search(NameField.MEMBER_REAL_NAME, "kim jenny", 10));
+        assertTrue(fuzzyIndex.search(NameField.SOLO_REAL_NAME, "jennie", 10).isEmpty());
+    }
+
+    @Test
+    void testWritesKeepTheirWeight() {
+        fuzzyIndex.rebuild();
+
+        Artist renamed = new Artist();
+        renamed.setArtistId(blackpink);
+        renamed.setArtistName("Black Peak");
+        fuzzyIndex.artistSaved(renamed);
+        Member member = new Member();
+        member.setMemberId(jennie);
+        member.setMemberName("Jennie");
+        fuzzyIndex.memberSaved(member);
+
+        assertEquals(List.of(blackpink, blackPearl), fuzzyIndex.search(NameField.ARTIST_NAME, "black pea", 10));
+        assertTrue(fuzzyIndex.search(NameField.MEMBER_REAL_NAME, "kim jennie", 10).isEmpty());
+    }
+}
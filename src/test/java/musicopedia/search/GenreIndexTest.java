@@ -0,0 +1,118 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.tag.GenreTag;
+import musicopedia.repository.ArtistGenreTagRepository;
+import musicopedia.repository.GenreTagRepository;
+import musicopedia.repository.projection.GenreTagRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GenreIndexTest {
+
+    private static final int KPOP = 1;
+    private static final int BALLAD = 2;
+    private static final int KPOP_BALLAD = 3;
+
+    private final UUID twice = UUID.randomUUID();
+    private final UUID iu = UUID.randomUUID();
+    private final UUID blackpink = UUID.randomUUID();
+
+    private GenreTagRepository genreTagRepository;
+    private GenreIndex genreIndex;
+
+    @BeforeEach
+    void setUp() {
+        genreTagRepository = mock(GenreTagRepository.class);
+        when(genreTagRepository.findAll()).thenReturn(List.of(
+                tag(KPOP, "k-pop"), tag(BALLAD, "ballad"), tag(KPOP_BALLAD, "k-pop ballad")));
+        ArtistGenreTagRepository artistGenreTagRepository = mock(ArtistGenreTagRepository.class);
+        when(artistGenreTagRepository.streamTags()).thenAnswer(invocation -> Stream.of(
+                new GenreTagRow(twice, "TWICE", KPOP),
+                new GenreTagRow(iu, "IU", KPOP),
+                new GenreTagRow(iu, "IU", BALLAD),
+                new GenreTagRow(blackpink, "BLACKPINK", KPOP_BALLAD)));
+        genreIndex = new GenreIndex(genreTagRepository, artistGenreTagRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testNothingFoundBeforeBuild() {
+        assertFalse(genreIndex.isReady());
+        assertNull(genreIndex.artistIds("k-pop", 10));
+        assertNull(genreIndex.counts());
+    }
+
+    @Test
+    void testTagsMatchExactlyInAnyCase() {
+        genreIndex.rebuild();
+
+        assertEquals(List.of(iu, twice), genreIndex.artistIds(" K-Pop ", 10));
+        assertEquals(List.of(blackpink), genreIndex.artistIds("k-pop ballad", 10));
+        assertEquals(List.of(), genreIndex.artistIds("pop", 10));
+    }
+
+    @Test
+    void testLimitKeepsTheFirstByName() {
+        genreIndex.rebuild();
+
+        assertEquals(List.of(iu), genreIndex.artistIds("k-pop", 1));
+    }
+
+    @Test
+    void testCountsAreMostFirstThenByName() {
+        genreIndex.rebuild();
+
+        Map<String, Integer> counts = genreIndex.counts();
+
+        assertEquals(Map.of("k-pop", 2, "ballad", 1, "k-pop ballad", 1), counts);
+        assertEquals(List.of("k-pop", "ballad", "k-pop ballad"), List.copyOf(counts.keySet()));
+    }
+
+    @Test
+    void testSavesRetagAndDeletesUntag() {
+        genreIndex.rebuild();
+
+        genreIndex.artistSaved(artist(iu, "IU", "Ballad"));
+        genreIndex.artistDeleted(twice);
+
+        assertEquals(List.of(), genreIndex.artistIds("k-pop", 10));
+        assertEquals(Map.of("ballad", 1, "k-pop ballad", 1), genreIndex.counts());
+    }
+
+    @Test
+    void testTagsAddedAfterBuildAreLookedUp() {
+        genreIndex.rebuild();
+        UUID yoasobi = UUID.randomUUID();
+        when(genreTagRepository.findByNameIn(any())).thenReturn(List.of(tag(4, "j-pop")));
+
+        genreIndex.artistSaved(artist(yoasobi, "YOASOBI", "J-Pop, K-Pop"));
+
+        assertEquals(List.of(yoasobi), genreIndex.artistIds("j-pop", 10));
+        assertEquals(List.of(iu, twice, yoasobi), genreIndex.artistIds("k-pop", 10));
+        verify(genreTagRepository).findByNameIn(List.of("j-pop"));
+    }
+
+    private static GenreTag tag(int tagId, String name) {
+        GenreTag tag = new GenreTag(name);
+        tag.setTagId(tagId);
+        return tag;
+    }
+
+    private static Artist artist(UUID id, String name, String genre) {
+        Artist artist = new Artist();
+        artist.setArtistId(id);
+        artist.setArtistName(name);
+        artist.setGenre(genre);
+        return artist;
+    }
+}
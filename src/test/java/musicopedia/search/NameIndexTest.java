@@ -0,0 +1,164 @@
+package musicopedia.search;
+
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.model.Subunit;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class NameIndexTest {
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SoloRepository soloRepository;
+
+    @Autowired
+    private SubunitRepository subunitRepository;
+
+    @Autowired
+    private GroupMembershipRepository groupMembershipRepository;
+
+    @Autowired
+    private SubunitMembershipRepository subunitMembershipRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private NameIndex nameIndex;
+    private Artist iu;
+    private Artist ive;
+    private Member jennie;
+
+    @BeforeEach
+    void setUp() {
+        iu = createArtist("IU", ArtistType.SOLO);
+        ive = createArtist("IVE", ArtistType.GROUP);
+        createArtist("Ivy", ArtistType.SOLO);
+
+        Solo solo = new Solo();
+        solo.setArtistId(iu.getArtistId());
+        solo.setArtist(iu);
+        solo.setRealName("Lee Ji-eun");
+        entityManager.persist(solo);
+
+        jennie = new Member();
+        jennie.setMemberName("Jennie");
+        jennie.setRealName("Jennie Kim");
+        entityManager.persist(jennie);
+        entityManager.flush();
+
+        NameStream names = new NameStream(artistRepository, memberRepository, soloRepository, subunitRepository,
+                groupMembershipRepository, subunitMembershipRepository, transactionManager);
+        nameIndex = new NameIndex(names, transactionManager);
+    }
+
+    @Test
+    void testNotReadyBeforeBuild() {
+        assertFalse(nameIndex.isReady());
+        assertTrue(nameIndex.search(NameField.ARTIST_NAME, "iu", 20).isEmpty());
+    }
+
+    @Test
+    void testBuildIndexesEveryNameField() {
+        nameIndex.rebuild();
+
+        assertTrue(nameIndex.isReady());
+        assertEquals(List.of(iu.getArtistId()), nameIndex.search(NameField.ARTIST_NAME, "iu", 20));
+        assertEquals(List.of(jennie.getMemberId()), nameIndex.search(NameField.MEMBER_NAME, "enni", 20));
+        assertEquals(List.of(jennie.getMemberId()), nameIndex.search(NameField.MEMBER_REAL_NAME, "kim", 20));
+        assertEquals(List.of(iu.getArtistId()), nameIndex.search(NameField.SOLO_REAL_NAME, "ji-eun", 20));
+    }
+
+    @Test
+    void testSearchArtistsFiltersByType() {
+        nameIndex.rebuild();
+
+        assertEquals(List.of(ive.getArtistId()), nameIndex.searchArtists("iv", ArtistType.GROUP, 20));
+        assertEquals(1, nameIndex.searchArtists("iv", ArtistType.SOLO, 20).size());
+    }
+
+    @Test
+    void testChangesAfterBuildAreApplied() {
+        nameIndex.rebuild();
+
+        ive.setArtistName("IVE Starship");
+        nameIndex.artistSaved(ive);
+        nameIndex.artistDeleted(iu.getArtistId());
+        jennie.setRealName(null);
+        nameIndex.memberSaved(jennie);
+
+        assertEquals(List.of(ive.getArtistId()), nameIndex.search(NameField.ARTIST_NAME, "starship", 20));
+        assertTrue(nameIndex.search(NameField.ARTIST_NAME, "iu", 20).isEmpty());
+        assertTrue(nameIndex.search(NameField.SOLO_REAL_NAME, "lee", 20).isEmpty());
+        assertTrue(nameIndex.search(NameField.MEMBER_REAL_NAME, "kim", 20).isEmpty());
+        assertEquals(List.of(jennie.getMemberId()), nameIndex.search(NameField.MEMBER_NAME, "jennie", 20));
+    }
+
+    @Test
+    void testFindsNamesWrittenInAnotherScript() {
+        nameIndex.rebuild();
+
+        Member momo = new Member();
+        momo.setMemberId(UUID.randomUUID());
+        momo.setMemberName("モモ");
+        nameIndex.memberSaved(momo);
+
+        assertEquals(List.of(jennie.getMemberId()), nameIndex.search(NameField.MEMBER_NAME, "제니", 20));
+        assertEquals(List.of(jennie.getMemberId()), nameIndex.search(NameField.MEMBER_REAL_NAME, "jenny", 20));
+        assertEquals(List.of(momo.getMemberId()), nameIndex.search(NameField.MEMBER_NAME, "Momo", 20));
+    }
+
+    @Test
+    void testSubunitWritesAreApplied() {
+        nameIndex.rebuild();
+
+        Subunit subunit = new Subunit();
+        subunit.setSubunitId(UUID.randomUUID());
+        subunit.setSubunitName("Jisoo & Jennie");
+        nameIndex.subunitSaved(subunit);
+
+        assertEquals(List.of(subunit.getSubunitId()), nameIndex.search(NameField.SUBUNIT_NAME, "jennie", 20));
+        nameIndex.subunitDeleted(subunit.getSubunitId());
+        assertTrue(nameIndex.search(NameField.SUBUNIT_NAME, "jennie", 20).isEmpty());
+    }
+
+    private Artist createArtist(String name, ArtistType type) {
+        Artist artist = new Artist();
+        artist.setArtistName(name);
+        artist.setType(type);
+        return artistRepository.save(artist);
+    }
+}
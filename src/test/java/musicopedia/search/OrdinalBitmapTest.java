@@ -0,0 +1,106 @@
+package musicopedia.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrdinalBitmapTest {
+
+    @Test
+    void testAddRemoveAndContains() {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        bitmap.add(3);
+        bitmap.add(70_000);
+        bitmap.add(3);
+
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertEquals(2, bitmap.cardinality());
+
+        bitmap.remove(3);
+        bitmap.remove(70_000);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    void testVisitsValuesInOrder() {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        for (int value : new int[] {131_072, 5, 65_536, 1}) {
+            bitmap.add(value);
+        }
+        List<Integer> visited = new ArrayList<>();
+        bitmap.forEach(visited::add);
+
+        assertEquals(List.of(1, 5, 65_536, 131_072), visited);
+    }
+
+    // Dense enough that some containers switch to bitmaps and back
+    @Test
+    void testMatchesBitSetAcrossSparseAndDenseContainers() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            BitSet leftBits = new BitSet();
+            BitSet rightBits = new BitSet();
+            OrdinalBitmap left = new OrdinalBitmap();
+            OrdinalBitmap right = new OrdinalBitmap();
+            int range = 200_000;
+            int count = random.nextInt(20_000);
+            for (int i = 0; i < count; i++) {
+                int value = random.nextInt(range);
+                left.add(value);
+                leftBits.set(value);
+                if (random.nextBoolean()) {
+                    int other = random.nextInt(range / 4);
+                    right.add(other);
+                    rightBits.set(other);
+                }
+            }
+            for (int i = 0; i < count / 3; i++) {
+                int value = random.nextInt(range);
+                left.remove(value);
+                leftBits.clear(value);
+            }
+
+            BitSet and = (BitSet) leftBits.clone();
+            and.and(rightBits);
+            BitSet or = (BitSet) leftBits.clone();
+            or.or(rightBits);
+
+            assertEquals(leftBits.cardinality(), left.cardinality());
+            assertEquals(and.cardinality(), left.andCardinality(right));
+            assertEquals(and, toBitSet(OrdinalBitmap.and(left, right)));
+            assertEquals(or, toBitSet(OrdinalBitmap.or(left, right)));
+            assertEquals(leftBits, toBitSet(left));
+        }
+    }
+
+    @Test
+    void testSetOperationsLeaveArgumentsUnchanged() {
+        OrdinalBitmap left = new OrdinalBitmap();
+        OrdinalBitmap right = new OrdinalBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            left.add(i);
+            right.add(i * 2);
+        }
+
+        OrdinalBitmap.or(left, right).add(1_000_000);
+        OrdinalBitmap.and(left, right).remove(0);
+
+        assertEquals(10_000, left.cardinality());
+        assertEquals(10_000, right.cardinality());
+        assertTrue(left.contains(0));
+        assertFalse(left.contains(1_000_000));
+    }
+
+    private static BitSet toBitSet(OrdinalBitmap bitmap) {
+        BitSet bits = new BitSet();
+        bitmap.forEach(bits::set);
+        return bits;
+    }
+}
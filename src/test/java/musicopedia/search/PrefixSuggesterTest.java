@@ -0,0 +1,107 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.SuggestionDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixSuggesterTest {
+
+    private final List<Suggestable> source = new ArrayList<>();
+
+    @Test
+    void testHeaviestPrefixMatchesFirst() {
+        UUID blackpink = add(SuggestionType.ARTIST, "BLACKPINK", null, 4);
+        UUID blackSwan = add(SuggestionType.ARTIST, "Black Swan", null, 2);
+        UUID bts = add(SuggestionType.ARTIST, "BTS", null, 7);
+        add(SuggestionType.ARTIST, "Twice", null, 9);
+
+        assertEquals(List.of(bts, blackpink, blackSwan), ids(build().suggest("B", 10)));
+        assertEquals(List.of(blackpink, blackSwan), ids(build().suggest("black", 10)));
+        assertTrue(build().suggest("blackz", 10).isEmpty());
+    }
+
+    @Test
+    void testMatchesTheStartOfLaterWords() {
+        UUID taylor = add(SuggestionType.ARTIST, "Taylor Swift", null, 0);
+        UUID swiftly = add(SuggestionType.ARTIST, "Swiftly", null, 0);
+
+        assertEquals(List.of(taylor, swiftly), ids(build().suggest("swift", 10)));
+        assertTrue(build().suggest("ift", 10).isEmpty());
+    }
+
+    @Test
+    void testLimitsAndDeduplicatesEntities() {
+        UUID jennie = add(SuggestionType.MEMBER, "Jennie", "Jennie Kim", 1);
+        UUID jisoo = add(SuggestionType.MEMBER, "Jisoo", "Kim Ji-soo", 1);
+        add(SuggestionType.MEMBER, "Jin", "Kim Seok-jin", 0);
+
+        List<SuggestionDTO> suggestions = build().suggest("j", 2);
+
+        assertEquals(List.of(jennie, jisoo), ids(suggestions));
+        assertEquals(3, build().suggest("kim", 10).size());
+    }
+
+    @Test
+    void testReportsTheNameThatMatched() {
+        UUID jennie = add(SuggestionType.MEMBER, "Jennie", "Kim Jennie", 0);
+
+        SuggestionDTO suggestion = build().suggest("kim", 1).get(0);
+
+        assertEquals(SuggestionType.MEMBER, suggestion.getType());
+        assertEquals(jennie, suggestion.getId());
+        assertEquals("Jennie", suggestion.getName());
+        assertEquals("Kim Jennie", suggestion.getMatchedName());
+    }
+
+    @Test
+    void testEqualWeightsPreferTheShorterName() {
+        UUID ive = add(SuggestionType.ARTIST, "IVE", null, 0);
+        UUID iu = add(SuggestionType.ARTIST, "IU", null, 0);
+        UUID iveSubunit = add(SuggestionType.SUBUNIT, "IVE Starship", null, 0);
+
+        assertEquals(List.of(iu, ive, iveSubunit), ids(build().suggest("i", 10)));
+    }
+
+    @Test
+    void testEmptyQueriesAndIndexes() {
+        add(SuggestionType.ARTIST, "IU", null, 0);
+
+        assertTrue(build().suggest("", 10).isEmpty());
+        assertTrue(build().suggest(null, 10).isEmpty());
+        assertTrue(build().suggest("iu", 0).isEmpty());
+        assertTrue(PrefixSuggester.EMPTY.suggest("iu", 10).isEmpty());
+    }
+
+    @Test
+    void testTopKOverManyNames() {
+        for (int i = 0; i < 10_000; i++) {
+            add(SuggestionType.MEMBER, "name " + i, null, i % 100);
+        }
+        UUID heaviest = add(SuggestionType.MEMBER, "name heaviest", null, 1_000);
+
+        List<SuggestionDTO> suggestions = build().suggest("name", 5);
+
+        assertEquals(5, suggestions.size());
+        assertEquals(heaviest, suggestions.get(0).getId());
+        assertTrue(suggestions.subList(1, 5).stream().allMatch(s -> s.getName().matches("name \\d*99")));
+    }
+
+    private UUID add(SuggestionType type, String name, String altName, int weight) {
+        UUID id = UUID.randomUUID();
+        source.add(new Suggestable(type, id, name, altName, weight));
+        return id;
+    }
+
+    private PrefixSuggester build() {
+        return PrefixSuggester.build(source);
+    }
+
+    private static List<UUID> ids(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getId).toList();
+    }
+}
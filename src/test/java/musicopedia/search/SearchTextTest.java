@@ -0,0 +1,41 @@
+package musicopedia.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchTextTest {
+
+    @Test
+    void testKeyMatchesAcrossScriptsAndSpellings() {
+        assertEquals("jeni", SearchText.key("jennie"));
+        assertEquals("jeni", SearchText.key("제니"));
+        assertEquals("jeni", SearchText.key("jeni"));
+        assertEquals("jeni", SearchText.key("Jenny"));
+        assertEquals(SearchText.key("Taeyeon"), SearchText.key("태연"));
+        assertEquals(SearchText.key("Kim"), SearchText.key("김"));
+        assertEquals(SearchText.key("Jisoo"), SearchText.key("지수"));
+    }
+
+    @Test
+    void testKeyRomanizesKana() {
+        assertEquals(SearchText.key("Sana"), SearchText.key("サナ"));
+        assertEquals(SearchText.key("Sana"), SearchText.key("さな"));
+        assertEquals(SearchText.key("Momo"), SearchText.key("ﾓﾓ"));
+        assertEquals(SearchText.key("Kyary"), SearchText.key("きゃりー"));
+    }
+
+    @Test
+    void testKeyFoldsWidthCaseAndDiacritics() {
+        assertEquals(SearchText.key("Jennie"), SearchText.key("ＪＥＮＮＩＥ"));
+        assertEquals(SearchText.key("Rose"), SearchText.key("Rosé"));
+        assertEquals(SearchText.key("STRASSE"), SearchText.key("Straße"));
+        assertEquals(SearchText.key("Ji-eun"), SearchText.key("jieun"));
+    }
+
+    @Test
+    void testKeyOfNothingIsEmpty() {
+        assertEquals("", SearchText.key(null));
+        assertEquals("", SearchText.key(" - "));
+    }
+}
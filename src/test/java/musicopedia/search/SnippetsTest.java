@@ -0,0 +1,38 @@
+package musicopedia.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnippetsTest {
+
+    @Test
+    void testHighlightsMatchesAndEscapesText() {
+        String snippet = Snippets.highlight("Known for <Gee> and Girls' Generation hits", Set.of("gee", "girls"), 160);
+
+        assertEquals("Known for &lt;<em>Gee</em>&gt; and <em>Girls</em>&#39; Generation hits", snippet);
+    }
+
+    @Test
+    void testMergesOverlappingBigrams() {
+        String snippet = Snippets.highlight("그룹 방탄소년단은 2013년 데뷔", Bm25Index.termsOf("방탄소년단"), 160);
+
+        assertEquals("그룹 <em>방탄소년단</em>은 2013년 데뷔", snippet);
+    }
+
+    @Test
+    void testCutsWindowAroundMostDistinctMatches() {
+        String filler = "lorem ipsum dolor sit amet ".repeat(20);
+        String text = filler + "the seoul based trio released an album " + filler;
+
+        String snippet = Snippets.highlight(text, Set.of("seoul", "album"), 100);
+
+        assertTrue(snippet.startsWith("…"));
+        assertTrue(snippet.endsWith("…"));
+        assertTrue(snippet.contains("<em>seoul</em>"));
+        assertTrue(snippet.contains("<em>album</em>"));
+        assertTrue(snippet.replace("<em>", "").replace("</em>", "").length() <= 102);
+    }
+}
@@ -0,0 +1,153 @@
+package musicopedia.search;
+
+import musicopedia.dto.response.SuggestionDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.Member;
+import musicopedia.model.Subunit;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SoloRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.IdCount;
+import musicopedia.repository.projection.NameRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SuggestIndexTest {
+
+    private final UUID bts = UUID.randomUUID();
+    private final UUID btob = UUID.randomUUID();
+    private final UUID jin = UUID.randomUUID();
+
+    private ArtistRepository artistRepository;
+    private GroupMembershipRepository groupMembershipRepository;
+    private NameStream names;
+    private SuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        artistRepository = mock(ArtistRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        SubunitRepository subunitRepository = mock(SubunitRepository.class);
+        groupMembershipRepository = mock(GroupMembershipRepository.class);
+        SubunitMembershipRepository subunitMembershipRepository = mock(SubunitMembershipRepository.class);
+
+        when(artistRepository.streamNames()).thenAnswer(invocation -> Stream.of(
+                new NameRow(bts, "BTS", ArtistType.GROUP), new NameRow(btob, "BTOB", ArtistType.GROUP)));
+        when(groupMembershipRepository.streamMemberCountsByGroup()).thenAnswer(invocation -> Stream.of(
+                new IdCount(bts, 7L), new IdCount(btob, 6L)));
+        when(memberRepository.streamNames()).thenAnswer(invocation -> Stream.of(new NameRow(jin, "Jin", "Kim Seok-jin")));
+        when(groupMembershipRepository.streamGroupCountsByMember()).thenAnswer(invocation -> Stream.empty());
+        when(subunitRepository.streamNames()).thenAnswer(invocation -> Stream.empty());
+        when(subunitMembershipRepository.streamMemberCountsBySubunit()).thenAnswer(invocation -> Stream.empty());
+
+        SoloRepository soloRepository = mock(SoloRepository.class);
+        when(soloRepository.streamRealNames()).thenAnswer(invocation -> Stream.empty());
+
+        names = new NameStream(artistRepository, memberRepository, soloRepository, subunitRepository,
+                groupMembershipRepository, subunitMembershipRepository, mock(PlatformTransactionManager.class));
+        suggestIndex = new SuggestIndex(names, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testNothingSuggestedBeforeFirstBuild() {
+        assertFalse(suggestIndex.isReady());
+        assertTrue(suggestIndex.suggest("bt", 10).isEmpty());
+    }
+
+    @Test
+    void testReloadLoadsNamesWithWeights() {
+        suggestIndex.reload();
+
+        assertTrue(suggestIndex.isReady());
+        assertEquals(List.of(bts, btob), ids(suggestIndex.suggest("bt", 10)));
+        SuggestionDTO member = suggestIndex.suggest("seok", 10).get(0);
+        assertEquals(jin, member.getId());
+        assertEquals(SuggestionType.MEMBER, member.getType());
+        assertEquals("Kim Seok-jin", member.getMatchedName());
+    }
+
+    @Test
+    void testWritesAppearAfterRefreshWithTheirWeight() {
+        suggestIndex.reload();
+
+        Artist renamed = new Artist();
+        renamed.setArtistId(btob);
+        renamed.setArtistName("BTOB 4U");
+        suggestIndex.artistSaved(renamed);
+        Subunit subunit = new Subunit();
+        subunit.setSubunitId(UUID.randomUUID());
+        subunit.setSubunitName("BTS Rap Line");
+        suggestIndex.subunitSaved(subunit);
+        suggestIndex.artistDeleted(bts);
+
+        assertEquals(List.of(bts, btob), ids(suggestIndex.suggest("bt", 10)));
+        suggestIndex.refresh();
+
+        assertEquals(List.of(btob, subunit.getSubunitId()), ids(suggestIndex.suggest("bt", 10)));
+        assertEquals("BTOB 4U", suggestIndex.suggest("4u", 10).get(0).getName());
+    }
+
+    @Test
+    void testRefreshWithoutWritesKeepsTheSuggester() {
+        suggestIndex.reload();
+        List<SuggestionDTO> before = suggestIndex.suggest("bt", 10);
+
+        suggestIndex.refresh();
+
+        assertEquals(before, suggestIndex.suggest("bt", 10));
+    }
+
+    @Test
+    void testWritesDuringReloadSurviveIt() {
+        Member member = new Member();
+        member.setMemberId(UUID.randomUUID());
+        member.setMemberName("Jungkook");
+        when(artistRepository.streamNames()).thenAnswer(invocation -> {
+            // Commits while the names are streaming, after the members were read
+            suggestIndex.memberSaved(member);
+            return Stream.of(new NameRow(bts, "BTS", ArtistType.GROUP));
+        });
+
+        suggestIndex.reload();
+
+        assertEquals(List.of(member.getMemberId()), ids(suggestIndex.suggest("jung", 10)));
+    }
+
+    @Test
+    void testFailedReloadKeepsThePreviousNames() {
+        suggestIndex.reload();
+        when(groupMembershipRepository.streamMemberCountsByGroup()).thenThrow(new IllegalStateException("down"));
+
+        suggestIndex.reload();
+
+        assertEquals(List.of(bts, btob), ids(suggestIndex.suggest("bt", 10)));
+    }
+
+    @Test
+    void testStartupBuildsEveryNameIndexFromOnePass() {
+        NameIndex nameIndex = new NameIndex(names, mock(PlatformTransactionManager.class));
+
+        names.rebuild(List.of(suggestIndex, nameIndex));
+
+        assertEquals(List.of(bts, btob), ids(suggestIndex.suggest("bt", 10)));
+        assertEquals(List.of(jin), nameIndex.search(NameField.MEMBER_REAL_NAME, "seok", 10));
+        verify(artistRepository, times(1)).streamNames();
+        verify(groupMembershipRepository, times(1)).streamMemberCountsByGroup();
+    }
+
+    private static List<UUID> ids(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getId).toList();
+    }
+}
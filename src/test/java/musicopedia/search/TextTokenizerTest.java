@@ -0,0 +1,40 @@
+package musicopedia.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextTokenizerTest {
+
+    @Test
+    void testSplitsLatinWordsAndFoldsCaseAndAccents() {
+        assertEquals(List.of("beyonce", "s", "r", "b", "debut"), terms("Beyoncé's R&B debut!"));
+    }
+
+    @Test
+    void testSplitsCjkRunsIntoBigrams() {
+        assertEquals(List.of("방탄", "탄소", "소년", "년단", "단은"), terms("방탄소년단은"));
+        assertEquals(List.of("日本", "本の", "のバ", "バン", "ンド"), terms("日本のバンド"));
+        assertEquals(List.of("kpop", "그룹", "첫"), terms("KPOP 그룹 첫"));
+    }
+
+    @Test
+    void testKeepsSourceRanges() {
+        List<TextTokenizer.Token> tokens = TextTokenizer.tokenize("Hi 소녀시대");
+
+        assertEquals(new TextTokenizer.Token("hi", 0, 2), tokens.get(0));
+        assertEquals(new TextTokenizer.Token("소녀", 3, 5), tokens.get(1));
+        assertEquals(new TextTokenizer.Token("시대", 5, 7), tokens.get(3));
+    }
+
+    @Test
+    void testKeepsProlongedSoundMarkInsideKatakana() {
+        assertEquals(List.of("スー", "ーパ", "パー"), terms("スーパー"));
+    }
+
+    private static List<String> terms(String text) {
+        return TextTokenizer.tokenize(text).stream().map(TextTokenizer.Token::term).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package musicopedia.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    void testFindsSubstringsCaseInsensitively() {
+        UUID blackpink = put("BLACKPINK");
+        UUID pink = put("Pink Floyd");
+        put("Twice");
+
+        assertEquals(List.of(pink, blackpink), index.search("PINK", 10, id -> true));
+        assertEquals(List.of(blackpink), index.search("ackp", 10, id -> true));
+    }
+
+    @Test
+    void testVerifiesCandidatesSharingAllTrigrams() {
+        // Contains "abc" and "bcd" but not "abcd"
+        put("abc-bcd");
+
+        assertTrue(index.search("abcd", 10, id -> true).isEmpty());
+    }
+
+    @Test
+    void testShortQueriesScanNames() {
+        UUID iu = put("IU");
+        UUID ive = put("IVE");
+
+        assertEquals(List.of(iu), index.search("iu", 10, id -> true));
+        assertEquals(List.of(iu, ive), index.search("i", 10, id -> true));
+    }
+
+    @Test
+    void testRanksExactThenPrefixThenWordStartThenInfix() {
+        UUID infix = put("Supergirls");
+        UUID wordStart = put("Wonder Girls");
+        UUID prefix = put("Girls' Generation");
+        UUID exact = put("Girl");
+
+        assertEquals(List.of(exact, prefix, wordStart, infix), index.search("girl", 10, id -> true));
+    }
+
+    @Test
+    void testLimitKeepsBestMatches() {
+        put("Seventeen Special");
+        UUID exact = put("Seventeen");
+        put("The Seventeen Band");
+
+        assertEquals(List.of(exact), index.search("seventeen", 1, id -> true));
+    }
+
+    @Test
+    void testUpdatesAndRemovals() {
+        UUID id = put("Old Name");
+        index.put(id, "New Name");
+
+        assertTrue(index.search("old", 10, x -> true).isEmpty());
+        assertEquals(List.of(id), index.search("new", 10, x -> true));
+
+        index.remove(id);
+        assertTrue(index.search("name", 10, x -> true).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testFilterIsApplied() {
+        UUID kept = put("Red Velvet");
+        UUID dropped = put("Velvet Underground");
+
+        assertEquals(List.of(kept), index.search("velvet", 10, id -> !id.equals(dropped)));
+    }
+
+    private UUID put(String name) {
+        UUID id = UUID.randomUUID();
+        index.put(id, name);
+        return id;
+    }
+}
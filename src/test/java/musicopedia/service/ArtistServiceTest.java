@@ -1,21 +1,46 @@
 package musicopedia.service;
 
+import musicopedia.cache.ArtistCache;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.SpotifyIdFilter;
 import musicopedia.model.Artist;
 import musicopedia.model.enums.ArtistType;
+import musicopedia.pagination.CursorPage;
+import musicopedia.pagination.KeysetCursor;
 import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.search.ArtistFacet;
+import musicopedia.search.FacetIndex;
+import musicopedia.search.FacetResult;
+import musicopedia.search.FuzzyIndex;
+import musicopedia.search.GenreIndex;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.impl.ArtistServiceImpl;
 import musicopedia.factory.ArtistFactoryManager;
 import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.request.ArtistSearchRequestDTO;
+import musicopedia.dto.response.ArtistFacetSearchDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,7 +54,24 @@ public class ArtistServiceTest {
     @Mock
     private ArtistFactoryManager artistFactoryManager;
 
+    @Mock
+    private NameIndex nameIndex;
+
+    @Mock
+    private FuzzyIndex fuzzyIndex;
+
+    @Mock
+    private FacetIndex facetIndex;
+
+    @Mock
+    private GenreIndex genreIndex;
+
+    @Mock
+    private GenreTagService genreTagService;
+
     private ArtistService artistService;
+    private CatalogVersion catalogVersion;
+    private SpotifyIdFilter spotifyIdFilter;
 
     private UUID testId;
     private Artist testArtist;
@@ -37,7 +79,12 @@ public class ArtistServiceTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        artistService = new ArtistServiceImpl(artistRepository, artistFactoryManager);
+        catalogVersion = new CatalogVersion();
+        spotifyIdFilter = new SpotifyIdFilter(artistRepository, mock(PlatformTransactionManager.class),
+            0.01, 1_000, 1 << 20);
+        artistService = new ArtistServiceImpl(artistRepository, artistFactoryManager,
+            new ArtistCache(1_000_000, Duration.ofMinutes(10)), catalogVersion, spotifyIdFilter,
+            nameIndex, fuzzyIndex, facetIndex, genreIndex, genreTagService, new SearchIndexer(List.of(nameIndex)));
 
         testId = UUID.randomUUID();
         testArtist = new ArtistBuilder()
@@ -97,7 +144,7 @@ public class ArtistServiceTest {
         List<Artist> artistList = Arrays.asList(testArtist);
         when(artistRepository.findByArtistNameContainingIgnoreCase("Test")).thenReturn(artistList);
 
-        CompletableFuture<List<Artist>> resultFuture = artistService.findByNameContainingAsync("Test");
+        CompletableFuture<List<Artist>> resultFuture = artistService.findByNameContainingAsync("Test", 20);
         List<Artist> result = resultFuture.join();
 
         assertEquals(1, result.size());
@@ -179,57 +226,6 @@ public class ArtistServiceTest {
 
 
 
-    @Test
-    void testProcessBatchAsync() {
-        // Create two DTOs
-        ArtistRequestDTO dto1 = new ArtistRequestDTO();
-        dto1.setArtistName("Artist 1");
-        dto1.setType(ArtistType.SOLO);
-        
-        ArtistRequestDTO dto2 = new ArtistRequestDTO();
-        dto2.setArtistName("Artist 2");
-        dto2.setType(ArtistType.GROUP);
-        
-        List<ArtistRequestDTO> dtos = Arrays.asList(dto1, dto2);
-        
-        // Create expected artists
-        Artist artist1 = new ArtistBuilder()
-            .setArtistName("Artist 1")
-            .setType(ArtistType.SOLO)
-            .build();
-        artist1.setArtistId(UUID.randomUUID());
-        Artist artist2 = new ArtistBuilder()
-            .setArtistName("Artist 2")
-            .setType(ArtistType.GROUP)
-            .build();
-        artist2.setArtistId(UUID.randomUUID());
-        
-        // Mock behavior
-        when(artistFactoryManager.createArtist(dto1)).thenReturn(artist1);
-        when(artistFactoryManager.createArtist(dto2)).thenReturn(artist2);
-        when(artistRepository.save(artist1)).thenReturn(artist1);
-        when(artistRepository.save(artist2)).thenReturn(artist2);
-        
-        // Call the method
-        CompletableFuture<List<Artist>> future = artistService.processBatchAsync(dtos);
-        List<Artist> result = future.join();
-        
-        // Verify
-        assertEquals(2, result.size());
-        assertEquals("Artist 1", result.get(0).getArtistName());
-        assertEquals("Artist 2", result.get(1).getArtistName());
-        assertEquals(ArtistType.SOLO, result.get(0).getType());
-        assertEquals(ArtistType.GROUP, result.get(1).getType());
-        
-        // Verify interactions
-        verify(artistFactoryManager, times(1)).validateArtistData(dto1);
-        verify(artistFactoryManager, times(1)).validateArtistData(dto2);
-        verify(artistFactoryManager, times(1)).createArtist(dto1);
-        verify(artistFactoryManager, times(1)).createArtist(dto2);
-        verify(artistRepository, times(1)).save(artist1);
-        verify(artistRepository, times(1)).save(artist2);
-    }
-    
     @Test
     void testEnrichArtistDataAsync_Success() {
         // Mock behavior
@@ -265,4 +261,238 @@ public class ArtistServiceTest {
         assertEquals("Artist not found", exception.getCause().getMessage());
         verify(artistRepository, times(1)).findById(unknownId);
     }
+
+    @Test
+    void testFindPageFirstPage() {
+        when(artistRepository.findAllByOrderByArtistNameAscArtistIdAsc(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(testArtist), PageRequest.ofSize(1), true));
+
+        CursorPage<Artist> page = artistService.findPageAsync(null, 1).join();
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(KeysetCursor.of("Test Artist", testId), KeysetCursor.valueOf(page.getNext()));
+        verify(artistRepository, never()).findPageAfter(any(), any(), any());
+    }
+
+    @Test
+    void testFindPageAfterCursor() {
+        KeysetCursor after = KeysetCursor.of("A", UUID.randomUUID());
+        when(artistRepository.findPageAfter(eq("A"), eq(after.getId()), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(testArtist), PageRequest.ofSize(2), false));
+
+        CursorPage<Artist> page = artistService.findPageAsync(after, 2).join();
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNext());
+        verify(artistRepository, never()).findAllByOrderByArtistNameAscArtistIdAsc(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchAsync() {
+        ArtistSearchRequestDTO criteria = new ArtistSearchRequestDTO();
+        criteria.setType(ArtistType.SOLO);
+        criteria.setCountry("KR");
+        criteria.setGenre("pop");
+        when(artistRepository.findBy(any(Specification.class), any())).thenReturn(List.of(testArtist));
+
+        List<Artist> result = artistService.searchAsync(criteria).join();
+
+        assertEquals(List.of(testArtist), result);
+        verify(artistRepository, times(1)).findBy(any(Specification.class), any());
+        verify(artistRepository, never()).findAll();
+    }
+
+    @Test
+    void testFindByIdIsServedFromCacheAfterFirstLoad() {
+        when(artistRepository.findById(testId)).thenReturn(Optional.of(testArtist));
+
+        artistService.findByIdAsync(testId).join();
+        Optional<Artist> second = artistService.findByIdAsync(testId).join();
+
+        assertEquals("Test Artist", second.orElseThrow().getArtistName());
+        verify(artistRepository, times(1)).findById(testId);
+    }
+
+    @Test
+    void testFindBySpotifyIdSharesCacheWithFindById() {
+        when(artistRepository.findBySpotifyId("spotifyid123")).thenReturn(Optional.of(testArtist));
+
+        artistService.findBySpotifyIdAsync("spotifyid123").join();
+        Optional<Artist> byId = artistService.findByIdAsync(testId).join();
+        Optional<Artist> bySpotifyId = artistService.findBySpotifyIdAsync("spotifyid123").join();
+
+        assertTrue(byId.isPresent());
+        assertTrue(bySpotifyId.isPresent());
+        verify(artistRepository, times(1)).findBySpotifyId("spotifyid123");
+        verify(artistRepository, never()).findById(any());
+    }
+
+    @Test
+    void testWritesInvalidateCachedArtist() {
+        when(artistRepository.findById(testId)).thenReturn(Optional.of(testArtist));
+        when(artistRepository.save(any(Artist.class))).thenReturn(testArtist);
+
+        artistService.findByIdAsync(testId).join();
+        artistService.saveAsync(testArtist).join();
+        artistService.findByIdAsync(testId).join();
+        artistService.deleteByIdAsync(testId).join();
+        artistService.findByIdAsync(testId).join();
+
+        verify(artistRepository, times(3)).findById(testId);
+    }
+
+    @Test
+    void testWritesAdvanceCatalogVersion() {
+        when(artistRepository.save(any(Artist.class))).thenReturn(testArtist);
+        when(artistRepository.findAll()).thenReturn(List.of(testArtist));
+
+        artistService.findAllAsync().join();
+        assertEquals(0, catalogVersion.current());
+
+        artistService.saveAsync(testArtist).join();
+        long afterSave = catalogVersion.current();
+        assertTrue(afterSave > 0);
+
+        artistService.deleteByIdAsync(testId).join();
+        assertTrue(catalogVersion.current() > afterSave);
+    }
+
+    @Test
+    void testFindBySpotifyIdSkipsRepositoryForFilteredOutId() {
+        when(artistRepository.countBySpotifyIdIsNotNull()).thenReturn(1L);
+        when(artistRepository.streamSpotifyIds()).thenReturn(Stream.of("spotifyid123"));
+        spotifyIdFilter.rebuild();
+
+        Optional<Artist> result = artistService.findBySpotifyIdAsync("unknown").join();
+
+        assertTrue(result.isEmpty());
+        verify(artistRepository, never()).findBySpotifyId(any());
+        assertEquals(1, spotifyIdFilter.stats().getNegatives());
+    }
+
+    @Test
+    void testSavedSpotifyIdPassesFilter() {
+        when(artistRepository.countBySpotifyIdIsNotNull()).thenReturn(0L);
+        when(artistRepository.streamSpotifyIds()).thenReturn(Stream.empty());
+        when(artistRepository.save(any(Artist.class))).thenReturn(testArtist);
+        when(artistRepository.findBySpotifyId("spotifyid123")).thenReturn(Optional.of(testArtist));
+        spotifyIdFilter.rebuild();
+
+        artistService.saveAsync(testArtist).join();
+        Optional<Artist> result = artistService.findBySpotifyIdAsync("spotifyid123").join();
+
+        assertTrue(result.isPresent());
+        verify(artistRepository, times(1)).findBySpotifyId("spotifyid123");
+    }
+
+    @Test
+    void testFindSummariesByNameContainingUsesNameIndexOnceBuilt() {
+        ArtistSummary summary = new ArtistSummary(testId, "Test Artist", ArtistType.SOLO, null, "Pop", null);
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.search(NameField.ARTIST_NAME, "test", 5)).thenReturn(List.of(testId));
+        when(artistRepository.findSummariesByIds(List.of(testId))).thenReturn(List.of(summary));
+
+        List<ArtistSummary> result = artistService.findSummariesByNameContainingAsync("test", 5).join();
+
+        assertEquals(List.of(summary), result);
+        verify(artistRepository, never()).findSummariesByArtistNameContaining(any());
+    }
+
+    @Test
+    void testFindSummariesByNameFuzzyUsesFuzzyIndexOnceBuilt() {
+        ArtistSummary summary = new ArtistSummary(testId, "BLACKPINK", ArtistType.GROUP, null, "K-Pop", null);
+        when(fuzzyIndex.isReady()).thenReturn(true);
+        when(fuzzyIndex.search(NameField.ARTIST_NAME, "blakpink", 5)).thenReturn(List.of(testId));
+        when(artistRepository.findSummariesByIds(List.of(testId))).thenReturn(List.of(summary));
+
+        List<ArtistSummary> result = artistService.findSummariesByNameFuzzyAsync("blakpink", 5).join();
+
+        assertEquals(List.of(summary), result);
+    }
+
+    @Test
+    void testFindByNameFuzzyFallsBackToSubstringSearchUntilBuilt() {
+        when(artistRepository.findByArtistNameContainingIgnoreCase("test")).thenReturn(List.of(testArtist));
+
+        List<Artist> result = artistService.findByNameFuzzyAsync("test", 5).join();
+
+        assertEquals(List.of(testArtist), result);
+        verify(fuzzyIndex, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    void testBrowseByFacetsLoadsSummariesInIndexOrder() {
+        Map<ArtistFacet, Set<String>> filters = Map.of(ArtistFacet.GENRE, Set.of("pop"));
+        ArtistSummary summary = new ArtistSummary(testId, "Test Artist", ArtistType.SOLO, null, "Pop", null);
+        when(facetIndex.search(filters, 10)).thenReturn(new FacetResult(1, List.of(testId),
+                Map.of(ArtistFacet.GENRE, Map.of("pop", 1))));
+        when(artistRepository.findSummariesByIds(List.of(testId))).thenReturn(List.of(summary));
+
+        Optional<ArtistFacetSearchDTO> result = artistService.browseByFacetsAsync(filters, 10).join();
+
+        assertTrue(result.isPresent());
+        assertEquals(1, result.get().getTotal());
+        assertEquals(List.of(summary), result.get().getArtists());
+        assertEquals(Map.of("genre", Map.of("pop", 1)), result.get().getFacets());
+    }
+
+    @Test
+    void testBrowseByFacetsIsEmptyUntilIndexBuilt() {
+        Optional<ArtistFacetSearchDTO> result = artistService.browseByFacetsAsync(Map.of(), 10).join();
+
+        assertTrue(result.isEmpty());
+        verify(artistRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    void testFindByGenreLoadsSummariesInIndexOrder() {
+        ArtistSummary summary = new ArtistSummary(testId, "Test Artist", ArtistType.SOLO, null, "Pop", null);
+        when(genreIndex.artistIds("pop", 10)).thenReturn(List.of(testId));
+        when(artistRepository.findSummariesByIds(List.of(testId))).thenReturn(List.of(summary));
+
+        List<ArtistSummary> result = artistService.findSummariesByGenreAsync("pop", 10).join();
+
+        assertEquals(List.of(summary), result);
+        verify(artistRepository, never()).findSummariesByGenreTag(any(), any());
+    }
+
+    @Test
+    void testFindByGenreQueriesTagsUntilIndexBuilt() {
+        ArtistSummary summary = new ArtistSummary(testId, "Test Artist", ArtistType.SOLO, null, "Pop", null);
+        when(artistRepository.findSummariesByGenreTag("pop", PageRequest.of(0, 10))).thenReturn(List.of(summary));
+
+        List<ArtistSummary> result = artistService.findSummariesByGenreAsync("pop", 10).join();
+
+        assertEquals(List.of(summary), result);
+    }
+
+    @Test
+    void testCountByGenreIsEmptyUntilIndexBuilt() {
+        assertTrue(artistService.countByGenreAsync().join().isEmpty());
+
+        when(genreIndex.counts()).thenReturn(Map.of("pop", 3));
+
+        assertEquals(Optional.of(Map.of("pop", 3)), artistService.countByGenreAsync().join());
+    }
+
+    @Test
+    void testSavesAreTagged() {
+        when(artistRepository.save(any(Artist.class))).thenReturn(testArtist);
+
+        artistService.saveAsync(testArtist).join();
+
+        verify(genreTagService).tagArtist(testArtist);
+    }
+
+    @Test
+    void testWritesReachNameIndex() {
+        when(artistRepository.save(any(Artist.class))).thenReturn(testArtist);
+
+        artistService.saveAsync(testArtist).join();
+        artistService.deleteByIdAsync(testId).join();
+
+        verify(nameIndex).artistSaved(testArtist);
+        verify(nameIndex).artistDeleted(testId);
+    }
 }
@@ -1,10 +1,15 @@
 package musicopedia.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import musicopedia.cache.ArtistCache;
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.SpotifyIdFilter;
 import musicopedia.model.Artist;
 import musicopedia.model.Groups;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.ArtistType;
 import musicopedia.repository.GroupRepository;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.config.ServiceTestConfig;
 import musicopedia.service.impl.GroupServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +17,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +37,12 @@ public class GroupServiceTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private SpotifyIdFilter spotifyIdFilter;
+
+    @Mock
+    private GenreTagService genreTagService;
+
     private GroupService groupService;
 
     private UUID testId;
@@ -39,7 +52,9 @@ public class GroupServiceTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        groupService = new GroupServiceImpl(groupRepository);
+        groupService = new GroupServiceImpl(groupRepository,
+                new ArtistCache(1_000_000, Duration.ofMinutes(10)), new CatalogVersion(), spotifyIdFilter,
+                genreTagService, new SearchIndexer(List.of()));
 
         testId = UUID.randomUUID();
         testArtist = new Artist();
@@ -122,197 +137,69 @@ public class GroupServiceTest {
 
     @Test
     void testFindByFormationDateBetween() {
-        // Create test data
-        Artist artist1 = new Artist();
-        artist1.setArtistId(UUID.randomUUID());
-        artist1.setArtistName("Group 1");
-        artist1.setType(ArtistType.GROUP);
-        
-        Artist artist2 = new Artist();
-        artist2.setArtistId(UUID.randomUUID());
-        artist2.setArtistName("Group 2");
-        artist2.setType(ArtistType.GROUP);
-        
-        Artist artist3 = new Artist();
-        artist3.setArtistId(UUID.randomUUID());
-        artist3.setArtistName("Group 3");
-        artist3.setType(ArtistType.GROUP);
-
-        Artist artistWithNullDate = new Artist();
-        artistWithNullDate.setArtistId(UUID.randomUUID());
-        artistWithNullDate.setArtistName("Group Null Date");
-        artistWithNullDate.setType(ArtistType.GROUP);
-
-        when(groupRepository.findByType(ArtistType.GROUP))
-            .thenReturn(Arrays.asList(artist1, artist2, artist3, artistWithNullDate));
-            
-        // Create a spy of GroupServiceImpl to override convertToGroup
-        GroupServiceImpl groupServiceSpy = spy((GroupServiceImpl)groupService);
-        groupServiceSpy.setSelf(groupServiceSpy);  // Set self reference for proxy calls
-        
-        Groups group1 = new Groups();
-        group1.setArtistId(artist1.getArtistId());
-        group1.setArtist(artist1);
-        group1.setFormationDate(LocalDate.of(2012, 1, 1));
-        
-        Groups group2 = new Groups();
-        group2.setArtistId(artist2.getArtistId());
-        group2.setArtist(artist2);
-        group2.setFormationDate(LocalDate.of(2015, 1, 1));
-        
-        Groups group3 = new Groups();
-        group3.setArtistId(artist3.getArtistId());
-        group3.setArtist(artist3);
-        group3.setFormationDate(LocalDate.of(2018, 1, 1));
-
-        Groups groupWithNullDate = new Groups();
-        groupWithNullDate.setArtistId(artistWithNullDate.getArtistId());
-        groupWithNullDate.setArtist(artistWithNullDate);
-        groupWithNullDate.setFormationDate(null);
-        
-        // Mock convertToGroup for each artist
-        doReturn(group1).when(groupServiceSpy).convertToGroup(artist1);
-        doReturn(group2).when(groupServiceSpy).convertToGroup(artist2);
-        doReturn(group3).when(groupServiceSpy).convertToGroup(artist3);
-        doReturn(groupWithNullDate).when(groupServiceSpy).convertToGroup(artistWithNullDate);
-
-        CompletableFuture<List<Groups>> resultFuture = groupServiceSpy.findByFormationDateBetween(
-            LocalDate.of(2014, 1, 1), 
-            LocalDate.of(2016, 12, 31)
-        );
+        LocalDate startDate = LocalDate.of(2014, 1, 1);
+        LocalDate endDate = LocalDate.of(2016, 12, 31);
+        Groups group = createGroupWithArtist("Group 2", LocalDate.of(2015, 1, 1), null, ArtistGender.MIXED);
+
+        when(groupRepository.findGroupsByFormationDateBetween(ArtistType.GROUP, startDate, endDate))
+            .thenReturn(List.of(group));
+
+        CompletableFuture<List<Groups>> resultFuture = groupService.findByFormationDateBetween(startDate, endDate);
         List<Groups> result = resultFuture.join();
 
         assertEquals(1, result.size());
         assertEquals("Group 2", result.get(0).getArtist().getArtistName());
+        assertEquals(LocalDate.of(2015, 1, 1), result.get(0).getFormationDate());
+        verify(groupRepository, times(1)).findGroupsByFormationDateBetween(ArtistType.GROUP, startDate, endDate);
+        verify(groupRepository, never()).findByType(any());
     }
 
     @Test
     void testFindActiveGroups() {
-        // Create test data
-        Artist activeGroup = new Artist();
-        activeGroup.setArtistId(UUID.randomUUID());
-        activeGroup.setArtistName("Active");
-        activeGroup.setType(ArtistType.GROUP);
-        
-        Artist disbandedGroup = new Artist();
-        disbandedGroup.setArtistId(UUID.randomUUID());
-        disbandedGroup.setArtistName("Disbanded");
-        disbandedGroup.setType(ArtistType.GROUP);
-
-        when(groupRepository.findByType(ArtistType.GROUP))
-            .thenReturn(Arrays.asList(activeGroup, disbandedGroup));
-            
-        // Create a spy of GroupServiceImpl to override convertToGroup
-        GroupServiceImpl groupServiceSpy = spy((GroupServiceImpl)groupService);
-        groupServiceSpy.setSelf(groupServiceSpy);  // Set self reference for proxy calls
-        
-        Groups active = new Groups();
-        active.setArtistId(activeGroup.getArtistId());
-        active.setArtist(activeGroup);
-        active.setFormationDate(LocalDate.of(2013, 1, 1));
-        active.setDisbandDate(null);
-        
-        Groups disbanded = new Groups();
-        disbanded.setArtistId(disbandedGroup.getArtistId());
-        disbanded.setArtist(disbandedGroup);
-        disbanded.setFormationDate(LocalDate.of(2010, 1, 1));
-        disbanded.setDisbandDate(LocalDate.of(2020, 1, 1));
-        
-        // Mock convertToGroup for each artist
-        doReturn(active).when(groupServiceSpy).convertToGroup(activeGroup);
-        doReturn(disbanded).when(groupServiceSpy).convertToGroup(disbandedGroup);
+        Groups active = createGroupWithArtist("Active", LocalDate.of(2013, 1, 1), null, ArtistGender.MALE);
 
-        CompletableFuture<List<Groups>> resultFuture = groupServiceSpy.findActiveGroups();
+        when(groupRepository.findActiveGroups(ArtistType.GROUP)).thenReturn(List.of(active));
+
+        CompletableFuture<List<Groups>> resultFuture = groupService.findActiveGroups();
         List<Groups> result = resultFuture.join();
 
         assertEquals(1, result.size());
         assertEquals("Active", result.get(0).getArtist().getArtistName());
+        assertNull(result.get(0).getDisbandDate());
+        verify(groupRepository, times(1)).findActiveGroups(ArtistType.GROUP);
+        verify(groupRepository, never()).findByType(any());
     }
 
     @Test
     void testFindDisbandedGroups() {
-        // Create test data
-        Artist activeGroup = new Artist();
-        activeGroup.setArtistId(UUID.randomUUID());
-        activeGroup.setArtistName("Active");
-        activeGroup.setType(ArtistType.GROUP);
-        
-        Artist disbandedGroup = new Artist();
-        disbandedGroup.setArtistId(UUID.randomUUID());
-        disbandedGroup.setArtistName("Disbanded");
-        disbandedGroup.setType(ArtistType.GROUP);
-
-        when(groupRepository.findByType(ArtistType.GROUP))
-            .thenReturn(Arrays.asList(activeGroup, disbandedGroup));
-            
-        // Create a spy of GroupServiceImpl to override convertToGroup
-        GroupServiceImpl groupServiceSpy = spy((GroupServiceImpl)groupService);
-        groupServiceSpy.setSelf(groupServiceSpy);  // Set self reference for proxy calls
-        
-        Groups active = new Groups();
-        active.setArtistId(activeGroup.getArtistId());
-        active.setArtist(activeGroup);
-        active.setFormationDate(LocalDate.of(2013, 1, 1));
-        active.setDisbandDate(null);
-        
-        Groups disbanded = new Groups();
-        disbanded.setArtistId(disbandedGroup.getArtistId());
-        disbanded.setArtist(disbandedGroup);
-        disbanded.setFormationDate(LocalDate.of(2010, 1, 1));
-        disbanded.setDisbandDate(LocalDate.of(2020, 1, 1));
-        
-        // Mock convertToGroup for each artist
-        doReturn(active).when(groupServiceSpy).convertToGroup(activeGroup);
-        doReturn(disbanded).when(groupServiceSpy).convertToGroup(disbandedGroup);
+        Groups disbanded = createGroupWithArtist("Disbanded", LocalDate.of(2010, 1, 1), LocalDate.of(2020, 1, 1), ArtistGender.FEMALE);
 
-        CompletableFuture<List<Groups>> resultFuture = groupServiceSpy.findDisbandedGroups();
+        when(groupRepository.findDisbandedGroups(ArtistType.GROUP)).thenReturn(List.of(disbanded));
+
+        CompletableFuture<List<Groups>> resultFuture = groupService.findDisbandedGroups();
         List<Groups> result = resultFuture.join();
 
         assertEquals(1, result.size());
         assertEquals("Disbanded", result.get(0).getArtist().getArtistName());
+        assertEquals(LocalDate.of(2020, 1, 1), result.get(0).getDisbandDate());
+        verify(groupRepository, times(1)).findDisbandedGroups(ArtistType.GROUP);
+        verify(groupRepository, never()).findByType(any());
     }
 
     @Test
     void testFindByGroupGender() {
-        // Create test data
-        Artist maleGroupArtist = new Artist();
-        maleGroupArtist.setArtistId(UUID.randomUUID());
-        maleGroupArtist.setArtistName("Male Group");
-        maleGroupArtist.setType(ArtistType.GROUP);
-        
-        Artist femaleGroupArtist = new Artist();
-        femaleGroupArtist.setArtistId(UUID.randomUUID());
-        femaleGroupArtist.setArtistName("Female Group");
-        femaleGroupArtist.setType(ArtistType.GROUP);
-        
-        when(groupRepository.findByType(ArtistType.GROUP))
-            .thenReturn(Arrays.asList(maleGroupArtist, femaleGroupArtist));
-            
-        // Create a spy of GroupServiceImpl to override convertToGroup
-        GroupServiceImpl groupServiceSpy = spy((GroupServiceImpl)groupService);
-        groupServiceSpy.setSelf(groupServiceSpy);  // Set self reference for proxy calls
-        
-        Groups maleGroup = new Groups();
-        maleGroup.setArtistId(maleGroupArtist.getArtistId());
-        maleGroup.setArtist(maleGroupArtist);
-        maleGroup.setFormationDate(LocalDate.of(2013, 1, 1));
-        maleGroup.setGroupGender(ArtistGender.MALE);
-        
-        Groups femaleGroup = new Groups();
-        femaleGroup.setArtistId(femaleGroupArtist.getArtistId());
-        femaleGroup.setArtist(femaleGroupArtist);
-        femaleGroup.setFormationDate(LocalDate.of(2014, 1, 1));
-        femaleGroup.setGroupGender(ArtistGender.FEMALE);
-        
-        // Mock convertToGroup for each artist
-        doReturn(maleGroup).when(groupServiceSpy).convertToGroup(maleGroupArtist);
-        doReturn(femaleGroup).when(groupServiceSpy).convertToGroup(femaleGroupArtist);
+        Groups maleGroup = createGroupWithArtist("Male Group", LocalDate.of(2013, 1, 1), null, ArtistGender.MALE);
+
+        when(groupRepository.findGroupsByGender(ArtistType.GROUP, ArtistGender.MALE)).thenReturn(List.of(maleGroup));
 
-        CompletableFuture<List<Groups>> resultFuture = groupServiceSpy.findByGroupGender(ArtistGender.MALE);
+        CompletableFuture<List<Groups>> resultFuture = groupService.findByGroupGender(ArtistGender.MALE);
         List<Groups> result = resultFuture.join();
 
         assertEquals(1, result.size());
         assertEquals("Male Group", result.get(0).getArtist().getArtistName());
+        assertEquals(ArtistGender.MALE, result.get(0).getGroupGender());
+        verify(groupRepository, times(1)).findGroupsByGender(ArtistType.GROUP, ArtistGender.MALE);
+        verify(groupRepository, never()).findByType(any());
     }
 
     @Test
@@ -326,30 +213,31 @@ public class GroupServiceTest {
         assertEquals("BTS", savedGroup.getArtist().getArtistName());
         assertEquals(ArtistType.GROUP, testArtist.getType());
         verify(groupRepository, times(1)).save(testArtist);
+        verify(genreTagService, times(1)).tagArtist(testArtist);
     }
 
     @Test
     void testUpdate() {
-        when(groupRepository.existsById(testId)).thenReturn(true);
+        when(groupRepository.findById(testId)).thenReturn(Optional.of(testArtist));
         when(groupRepository.save(testArtist)).thenReturn(testArtist);
 
         CompletableFuture<Groups> updatedGroupFuture = groupService.update(testGroup);
         Groups updatedGroup = updatedGroupFuture.join();
 
         assertNotNull(updatedGroup);
-        verify(groupRepository, times(1)).existsById(testId);
+        verify(groupRepository, times(1)).findById(testId);
         verify(groupRepository, times(1)).save(testArtist);
     }
 
     @Test
     void testUpdateNotFound() {
-        when(groupRepository.existsById(testId)).thenReturn(false);
+        when(groupRepository.findById(testId)).thenReturn(Optional.empty());
 
         CompletableFuture<Groups> updatedGroupFuture = groupService.update(testGroup);
         Groups updatedGroup = updatedGroupFuture.join();
 
         assertNull(updatedGroup);
-        verify(groupRepository, times(1)).existsById(testId);
+        verify(groupRepository, times(1)).findById(testId);
         verify(groupRepository, never()).save(any());
     }
 
@@ -359,13 +247,54 @@ public class GroupServiceTest {
         groupWithNullArtist.setArtistId(testId);
         groupWithNullArtist.setArtist(null);
 
-        when(groupRepository.existsById(testId)).thenReturn(true);
+        when(groupRepository.findById(testId)).thenReturn(Optional.of(testArtist));
 
         CompletableFuture<Groups> updatedGroupFuture = groupService.update(groupWithNullArtist);
         Groups updatedGroup = updatedGroupFuture.join();
 
         assertNotNull(updatedGroup);
-        verify(groupRepository, times(1)).existsById(testId);
+        verify(groupRepository, times(1)).findById(testId);
+        verify(groupRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateAppliesBodyOntoStoredRow() {
+        Artist stored = new Artist();
+        stored.setArtistId(testId);
+        stored.setArtistName("Twice");
+        stored.setVersion(3);
+        Artist body = new Artist();
+        body.setArtistId(testId);
+        body.setArtistName("TWICE");
+        body.setType(ArtistType.GROUP);
+        Groups group = new Groups();
+        group.setArtistId(testId);
+        group.setArtist(body);
+        when(groupRepository.findById(testId)).thenReturn(Optional.of(stored));
+
+        Groups updatedGroup = groupService.update(group).join();
+
+        assertSame(stored, updatedGroup.getArtist());
+        assertEquals("TWICE", stored.getArtistName());
+        assertEquals(ArtistType.GROUP, stored.getType());
+        assertEquals(3, stored.getVersion());
+        verify(groupRepository, times(1)).save(stored);
+    }
+
+    @Test
+    void testUpdateWithStaleVersionConflicts() throws Exception {
+        Artist stored = new Artist();
+        stored.setArtistId(testId);
+        stored.setArtistName("Twice");
+        stored.setVersion(3);
+        Artist body = new ObjectMapper().readValue("{\"artistName\":\"TWICE\",\"version\":2}", Artist.class);
+        Groups group = new Groups();
+        group.setArtistId(testId);
+        group.setArtist(body);
+        when(groupRepository.findById(testId)).thenReturn(Optional.of(stored));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> groupService.update(group));
+        assertEquals("Twice", stored.getArtistName());
         verify(groupRepository, never()).save(any());
     }
 
@@ -400,5 +329,18 @@ public class GroupServiceTest {
         verify(groupRepository, times(1)).existsById(testId);
     }
 
-
+    private Groups createGroupWithArtist(String name, LocalDate formationDate, LocalDate disbandDate, ArtistGender gender) {
+        Artist artist = new Artist();
+        artist.setArtistId(UUID.randomUUID());
+        artist.setArtistName(name);
+        artist.setType(ArtistType.GROUP);
+
+        Groups group = new Groups();
+        group.setArtistId(artist.getArtistId());
+        group.setArtist(artist);
+        group.setFormationDate(formationDate);
+        group.setDisbandDate(disbandDate);
+        group.setGroupGender(gender);
+        return group;
+    }
 }
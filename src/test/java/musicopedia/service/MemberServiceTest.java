@@ -1,5 +1,6 @@
 package musicopedia.service;
 
+import musicopedia.cache.CatalogVersion;
 import musicopedia.builder.ArtistBuilder;
 import musicopedia.builder.MemberBuilder;
 import musicopedia.model.Artist;
@@ -7,6 +8,11 @@ import musicopedia.model.Member;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistType;
 import musicopedia.repository.MemberRepository;
+import musicopedia.repository.projection.MemberSummary;
+import musicopedia.search.FuzzyIndex;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.config.ServiceTestConfig;
 import musicopedia.service.impl.MemberServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +38,12 @@ public class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private NameIndex nameIndex;
+
+    @Mock
+    private FuzzyIndex fuzzyIndex;
+
     private MemberService memberService;
 
     private UUID testId;
@@ -41,7 +53,8 @@ public class MemberServiceTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        memberService = new MemberServiceImpl(memberRepository);
+        memberService = new MemberServiceImpl(memberRepository, new CatalogVersion(), nameIndex, fuzzyIndex,
+            new SearchIndexer(List.of()));
 
         testId = UUID.randomUUID();
         testSoloArtist = new ArtistBuilder()
@@ -98,7 +111,7 @@ public class MemberServiceTest {
         Member member2 = createMember("KIMCHAEWON", "Kim Chae-won", LocalDate.of(2000, 8, 1));
         List<Member> members = Arrays.asList(member1, member2);
         when(memberRepository.findByMemberNameContainingIgnoreCase("HAN")).thenReturn(members);
-        CompletableFuture<List<Member>> future = memberService.findByNameContaining("HAN");
+        CompletableFuture<List<Member>> future = memberService.findByNameContaining("HAN", 20);
         List<Member> result = future.join();
         assertEquals(2, result.size());
         assertTrue(result.stream().anyMatch(member -> member.getMemberName().equals("HAN") && member.getRealName().equals("Han Ji-sung")));
@@ -112,7 +125,7 @@ public class MemberServiceTest {
         Member member2 = createMember("Hyunjin", "Hwang Hyun-jin", LocalDate.of(2000, 3, 20));
         List<Member> members = Arrays.asList(member1, member2);
         when(memberRepository.findByRealNameContainingIgnoreCase("Lee")).thenReturn(members);
-        CompletableFuture<List<Member>> future = memberService.findByRealNameContaining("Lee");
+        CompletableFuture<List<Member>> future = memberService.findByRealNameContaining("Lee", 20);
         List<Member> result = future.join();
         assertEquals(2, result.size());
         assertTrue(result.stream().anyMatch(member -> member.getMemberName().equals("Felix") && member.getRealName().equals("Felix Yongbok Lee")));
@@ -120,6 +133,62 @@ public class MemberServiceTest {
         verify(memberRepository, times(1)).findByRealNameContainingIgnoreCase("Lee");
     }
 
+    @Test
+    void testFindByNameContainingRanksAndLimits() {
+        Member infix = createMember("Yuna", "Shin Yu-na", LocalDate.of(2003, 12, 9));
+        Member exact = createMember("Yu", "Kim Yu", LocalDate.of(2001, 1, 1));
+        Member prefix = createMember("Yuqi", "Song Yuqi", LocalDate.of(1999, 9, 23));
+        when(memberRepository.findByMemberNameContainingIgnoreCase("yu")).thenReturn(List.of(infix, prefix, exact));
+
+        List<Member> result = memberService.findByNameContaining("yu", 2).join();
+
+        assertEquals(List.of(exact, prefix), result);
+    }
+
+    @Test
+    void testFindSummariesByNameContainingUsesNameIndexOnceBuilt() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        MemberSummary firstSummary = new MemberSummary(first, "Felix", "Lee Yong-bok", null, null);
+        MemberSummary secondSummary = new MemberSummary(second, "Felixx", null, null, null);
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.search(NameField.MEMBER_NAME, "felix", 10)).thenReturn(List.of(first, second));
+        when(memberRepository.findSummariesByIds(List.of(first, second))).thenReturn(List.of(secondSummary, firstSummary));
+
+        List<MemberSummary> result = memberService.findSummariesByNameContaining("felix", 10).join();
+
+        assertEquals(List.of(firstSummary, secondSummary), result);
+        verify(memberRepository, never()).findSummariesByMemberNameContaining(any());
+    }
+
+    @Test
+    void testFindSummariesByRealNameFuzzyUsesFuzzyIndexOnceBuilt() {
+        MemberSummary summary = new MemberSummary(testId, "Jennie", "Jennie Kim", null, null);
+        when(fuzzyIndex.isReady()).thenReturn(true);
+        when(fuzzyIndex.search(NameField.MEMBER_REAL_NAME, "jenine kim", 10)).thenReturn(List.of(testId));
+        when(memberRepository.findSummariesByIds(List.of(testId))).thenReturn(List.of(summary));
+
+        List<MemberSummary> result = memberService.findSummariesByRealNameFuzzy("jenine kim", 10).join();
+
+        assertEquals(List.of(summary), result);
+        verify(memberRepository, never()).findSummariesByRealNameContaining(any());
+    }
+
+    @Test
+    void testWritesReachSearchIndexes() {
+        SearchIndexer searchIndexer = mock(SearchIndexer.class);
+        MemberService service = new MemberServiceImpl(memberRepository, new CatalogVersion(), nameIndex, fuzzyIndex,
+            searchIndexer);
+        testMember.setMemberId(testId);
+        when(memberRepository.save(testMember)).thenReturn(testMember);
+
+        service.save(testMember).join();
+        service.deleteById(testId).join();
+
+        verify(searchIndexer).memberSavedOnCommit(testMember);
+        verify(searchIndexer).memberDeletedOnCommit(testId);
+    }
+
     @Test
     void testFindByBirthDateBetween() {
         Member member1 = createMember("Member 1", "Real 1", LocalDate.of(1990, 1, 1));
@@ -244,4 +313,27 @@ public class MemberServiceTest {
             .setBirthDate(birthDate)
             .build();
     }
+
+    @Test
+    void testFindAllSummaries() {
+        MemberSummary summary = new MemberSummary(testId, "Lee Ji-eun", "Lee Ji-eun", null, "IU");
+        when(memberRepository.findAllSummaries()).thenReturn(List.of(summary));
+
+        List<MemberSummary> result = memberService.findAllSummaries().join();
+
+        assertEquals(List.of(summary), result);
+        verify(memberRepository, never()).findAll();
+    }
+
+    @Test
+    void testFindSummariesWithSoloIdentities() {
+        MemberSummary summary = new MemberSummary(testId, "Lee Ji-eun", "Lee Ji-eun", null, "IU");
+        when(memberRepository.findSummariesWithSoloIdentities()).thenReturn(List.of(summary));
+
+        List<MemberSummary> result = memberService.findSummariesWithSoloIdentities().join();
+
+        assertEquals(1, result.size());
+        assertEquals("IU", result.get(0).getSoloArtistName());
+        verify(memberRepository, never()).findAll();
+    }
 }
@@ -0,0 +1,140 @@
+package musicopedia.service;
+
+import musicopedia.dto.response.SearchHitDTO;
+import musicopedia.dto.response.SearchResultsDTO;
+import musicopedia.model.Artist;
+import musicopedia.model.Solo;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.repository.projection.ArtistSummary;
+import musicopedia.repository.projection.MemberSummary;
+import musicopedia.repository.projection.NameRow;
+import musicopedia.search.SearchSource;
+import musicopedia.search.SuggestionType;
+import musicopedia.service.impl.SearchServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class SearchServiceTest {
+
+    @Mock
+    private ArtistService artistService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private SoloService soloService;
+
+    @Mock
+    private SubunitService subunitService;
+
+    private SearchService searchService;
+
+    private UUID iuId;
+    private Artist iu;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        searchService = new SearchServiceImpl(artistService, memberService, soloService, subunitService,
+                Duration.ofMillis(200));
+
+        iuId = UUID.randomUUID();
+        iu = new Artist();
+        iu.setArtistId(iuId);
+        iu.setArtistName("IU");
+        iu.setType(ArtistType.SOLO);
+
+        when(artistService.findSummariesByNameContainingAsync(anyString(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(memberService.findSummariesByNameContaining(anyString(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(memberService.findSummariesByRealNameContaining(anyString(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(soloService.findByRealNameContaining(anyString(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(subunitService.findNamesByNameContaining(anyString(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+    }
+
+    @Test
+    void testSearchMergesBackendsByScore() {
+        UUID memberId = UUID.randomUUID();
+        UUID subunitId = UUID.randomUUID();
+        when(memberService.findSummariesByNameContaining("jin", 10)).thenReturn(CompletableFuture.completedFuture(
+                List.of(new MemberSummary(memberId, "Jin", "Kim Seok-jin", null, null))));
+        when(subunitService.findNamesByNameContaining("jin", 10)).thenReturn(CompletableFuture.completedFuture(
+                List.of(new NameRow(subunitId, "Jinjin & Rocky"))));
+
+        SearchResultsDTO results = searchService.searchAsync("jin", 10).join();
+
+        assertFalse(results.isPartial());
+        assertEquals(2, results.getResults().size());
+        assertEquals(memberId, results.getResults().get(0).getId());
+        assertEquals(SuggestionType.MEMBER, results.getResults().get(0).getType());
+        assertEquals(subunitId, results.getResults().get(1).getId());
+        assertTrue(results.getResults().get(0).getScore() > results.getResults().get(1).getScore());
+    }
+
+    @Test
+    void testSoloistAndArtistHitsAreMerged() {
+        Solo solo = new Solo();
+        solo.setArtist(iu);
+        solo.setArtistId(iuId);
+        solo.setRealName("Lee Ji-eun");
+        when(artistService.findSummariesByNameContainingAsync("iu", 10)).thenReturn(CompletableFuture.completedFuture(
+                List.of(new ArtistSummary(iuId, "IU", ArtistType.SOLO, null, null, "KR"))));
+        when(soloService.findByRealNameContaining("iu", 10)).thenReturn(CompletableFuture.completedFuture(List.of(solo)));
+
+        List<SearchHitDTO> results = searchService.searchAsync("iu", 10).join().getResults();
+
+        assertEquals(1, results.size());
+        assertEquals(iuId, results.get(0).getId());
+        assertEquals("IU", results.get(0).getMatchedName());
+    }
+
+    @Test
+    void testSlowBackendIsReportedMissing() {
+        when(subunitService.findNamesByNameContaining("iu", 10)).thenReturn(new CompletableFuture<>());
+        when(artistService.findSummariesByNameContainingAsync("iu", 10)).thenReturn(CompletableFuture.completedFuture(
+                List.of(new ArtistSummary(iuId, "IU", ArtistType.SOLO, null, null, "KR"))));
+
+        SearchResultsDTO results = searchService.searchAsync("iu", 10).join();
+
+        assertTrue(results.isPartial());
+        assertEquals(List.of(SearchSource.SUBUNITS), results.getMissing());
+        assertEquals(1, results.getResults().size());
+    }
+
+    @Test
+    void testFailedBackendIsReportedMissing() {
+        when(memberService.findSummariesByRealNameContaining("iu", 10))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        SearchResultsDTO results = searchService.searchAsync("iu", 10).join();
+
+        assertTrue(results.isPartial());
+        assertEquals(List.of(SearchSource.MEMBERS), results.getMissing());
+    }
+
+    @Test
+    void testBlankQueryReturnsNothing() {
+        SearchResultsDTO results = searchService.searchAsync(" ", 10).join();
+
+        assertTrue(results.getResults().isEmpty());
+        assertFalse(results.isPartial());
+        verifyNoInteractions(artistService, memberService, soloService, subunitService);
+    }
+}
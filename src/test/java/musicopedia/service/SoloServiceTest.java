@@ -1,10 +1,14 @@
 package musicopedia.service;
 
+import musicopedia.cache.CatalogVersion;
 import musicopedia.model.Artist;
 import musicopedia.model.Solo;
 import musicopedia.model.enums.ArtistGender;
 import musicopedia.model.enums.ArtistType;
 import musicopedia.repository.SoloRepository;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.SearchIndexer;
 import musicopedia.service.config.ServiceTestConfig;
 import musicopedia.service.impl.SoloServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -31,6 +37,9 @@ public class SoloServiceTest {
     @Mock
     private SoloRepository soloRepository;
 
+    @Mock
+    private NameIndex nameIndex;
+
     private SoloService soloService;
 
     private UUID testId;
@@ -40,7 +49,7 @@ public class SoloServiceTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
-        soloService = new SoloServiceImpl(soloRepository);
+        soloService = new SoloServiceImpl(soloRepository, new CatalogVersion(), nameIndex, new SearchIndexer(List.of()));
 
         testId = UUID.randomUUID();
         testArtist = new Artist();
@@ -94,13 +103,10 @@ public class SoloServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testFindByBirthDateBetween() {
-        Solo solo1 = createSoloWithArtist("Solo 1", LocalDate.of(1990, 1, 1), ArtistGender.FEMALE);
         Solo solo2 = createSoloWithArtist("Solo 2", LocalDate.of(1995, 5, 10), ArtistGender.MALE);
-        Solo solo3 = createSoloWithArtist("Solo 3", LocalDate.of(2000, 10, 15), ArtistGender.FEMALE);
-        Solo soloWithNullBirthDate = createSoloWithArtist("Solo Null Date", null, ArtistGender.MALE);
-        List<Solo> solos = Arrays.asList(solo1, solo2, solo3, soloWithNullBirthDate);
-        when(soloRepository.findAll()).thenReturn(solos);
+        when(soloRepository.findAll(any(Specification.class))).thenReturn(List.of(solo2));
         CompletableFuture<List<Solo>> future = soloService.findByBirthDateBetween(
             LocalDate.of(1994, 1, 1), 
             LocalDate.of(1996, 12, 31)
@@ -108,46 +114,49 @@ public class SoloServiceTest {
         List<Solo> result = future.join();
         assertEquals(1, result.size());
         assertEquals("Solo 2", result.get(0).getArtist().getArtistName());
+        verify(soloRepository, times(1)).findAll(any(Specification.class));
+        verify(soloRepository, never()).findAll();
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testFindByGender() {
         Solo solo1 = createSoloWithArtist("Female Solo", LocalDate.of(1990, 1, 1), ArtistGender.FEMALE);
-        Solo solo2 = createSoloWithArtist("Male Solo", LocalDate.of(1985, 5, 10), ArtistGender.MALE);
-        List<Solo> solos = Arrays.asList(solo1, solo2);
-        when(soloRepository.findAll()).thenReturn(solos);
+        when(soloRepository.findAll(any(Specification.class))).thenReturn(List.of(solo1));
         CompletableFuture<List<Solo>> future = soloService.findByGender(ArtistGender.FEMALE);
         List<Solo> result = future.join();
         assertEquals(1, result.size());
         assertEquals("Female Solo", result.get(0).getArtist().getArtistName());
+        verify(soloRepository, times(1)).findAll(any(Specification.class));
+        verify(soloRepository, never()).findAll();
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testFindActiveSoloArtists() {
         Solo active = createSoloWithArtist("Active", LocalDate.of(1990, 1, 1), ArtistGender.FEMALE);
         active.setDeathDate(null);
-        Solo deceased = createSoloWithArtist("Deceased", LocalDate.of(1950, 5, 10), ArtistGender.MALE);
-        deceased.setDeathDate(LocalDate.of(2010, 12, 1));
-        List<Solo> solos = Arrays.asList(active, deceased);
-        when(soloRepository.findAll()).thenReturn(solos);
+        when(soloRepository.findAll(any(Specification.class))).thenReturn(List.of(active));
         CompletableFuture<List<Solo>> future = soloService.findActiveSoloArtists();
         List<Solo> result = future.join();
         assertEquals(1, result.size());
         assertEquals("Active", result.get(0).getArtist().getArtistName());
+        verify(soloRepository, times(1)).findAll(any(Specification.class));
+        verify(soloRepository, never()).findAll();
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testFindDeceasedSoloArtists() {
-        Solo active = createSoloWithArtist("Active", LocalDate.of(1990, 1, 1), ArtistGender.FEMALE);
-        active.setDeathDate(null);
         Solo deceased = createSoloWithArtist("Deceased", LocalDate.of(1950, 5, 10), ArtistGender.MALE);
         deceased.setDeathDate(LocalDate.of(2010, 12, 1));
-        List<Solo> solos = Arrays.asList(active, deceased);
-        when(soloRepository.findAll()).thenReturn(solos);
+        when(soloRepository.findAll(any(Specification.class))).thenReturn(List.of(deceased));
         CompletableFuture<List<Solo>> future = soloService.findDeceasedSoloArtists();
         List<Solo> result = future.join();
         assertEquals(1, result.size());
         assertEquals("Deceased", result.get(0).getArtist().getArtistName());
+        verify(soloRepository, times(1)).findAll(any(Specification.class));
+        verify(soloRepository, never()).findAll();
     }
 
     @Test
@@ -163,24 +172,24 @@ public class SoloServiceTest {
 
     @Test
     void testUpdate() {
-        when(soloRepository.existsById(testId)).thenReturn(true);
+        when(soloRepository.findById(testId)).thenReturn(Optional.of(testSolo));
         when(soloRepository.save(testSolo)).thenReturn(testSolo);
         CompletableFuture<Solo> future = soloService.update(testSolo);
         Solo updatedSolo = future.join();
         assertNotNull(updatedSolo);
-        verify(soloRepository, times(1)).existsById(testId);
+        verify(soloRepository, times(1)).findById(testId);
         verify(soloRepository, times(1)).save(testSolo);
     }
 
     @Test
     void testUpdateNotFound() {
-        when(soloRepository.existsById(testId)).thenReturn(false);
+        when(soloRepository.findById(testId)).thenReturn(Optional.empty());
 
         CompletableFuture<Solo> future = soloService.update(testSolo);
         Solo updatedSolo = future.join();
 
         assertNull(updatedSolo);
-        verify(soloRepository, times(1)).existsById(testId);
+        verify(soloRepository, times(1)).findById(testId);
         verify(soloRepository, never()).save(any());
     }
 
@@ -190,15 +199,55 @@ public class SoloServiceTest {
         soloWithNullArtist.setArtistId(testId);
         soloWithNullArtist.setArtist(null);
 
-        when(soloRepository.existsById(testId)).thenReturn(true);
+        when(soloRepository.findById(testId)).thenReturn(Optional.of(testSolo));
 
         Solo updatedSolo = soloService.update(soloWithNullArtist).join();
 
         assertNotNull(updatedSolo);
-        verify(soloRepository, times(1)).existsById(testId);
+        verify(soloRepository, times(1)).findById(testId);
+        verify(soloRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateWithStaleVersionConflicts() {
+        Solo stored = new Solo();
+        stored.setArtistId(testId);
+        stored.setArtist(testArtist);
+        stored.setVersion(2);
+        Solo body = new Solo();
+        body.setArtistId(testId);
+        body.setArtist(testArtist);
+        body.setRealName("Lee Ji-eun");
+        body.setVersion(1);
+        when(soloRepository.findById(testId)).thenReturn(Optional.of(stored));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> soloService.update(body));
+        assertNull(stored.getRealName());
         verify(soloRepository, never()).save(any());
     }
 
+    @Test
+    void testUpdateAppliesBodyOntoStoredSolo() {
+        Solo stored = new Solo();
+        stored.setArtistId(testId);
+        stored.setArtist(testArtist);
+        stored.setVersion(2);
+        Solo body = new Solo();
+        body.setArtistId(testId);
+        body.setArtist(testArtist);
+        body.setRealName("Lee Ji-eun");
+        body.setDebutDate(LocalDate.of(2008, 9, 18));
+        when(soloRepository.findById(testId)).thenReturn(Optional.of(stored));
+        when(soloRepository.save(stored)).thenReturn(stored);
+
+        Solo updatedSolo = soloService.update(body).join();
+
+        assertSame(stored, updatedSolo);
+        assertEquals("Lee Ji-eun", stored.getRealName());
+        assertEquals(LocalDate.of(2008, 9, 18), stored.getDebutDate());
+        assertEquals(2, stored.getVersion());
+    }
+
     @Test
     void testDeleteById() {
         doNothing().when(soloRepository).deleteById(testId);
@@ -231,32 +280,36 @@ public class SoloServiceTest {
     }
 
     @Test
-    void testFindByRealNameContaining_AllBranches() {
-        // artist is null
-        Solo soloWithNullArtist = new Solo();
-        soloWithNullArtist.setArtist(null);
-        // artistName is null
-        Artist artistWithNullName = new Artist();
-        artistWithNullName.setArtistName(null);
-        Solo soloWithNullArtistName = new Solo();
-        soloWithNullArtistName.setArtist(artistWithNullName);
-        // artistName does not contain realName
-        Artist artistNoMatch = new Artist();
-        artistNoMatch.setArtistName("NoMatch");
-        Solo soloNoMatch = new Solo();
-        soloNoMatch.setArtist(artistNoMatch);
-        // artistName contains realName
-        Artist artistMatch = new Artist();
-        artistMatch.setArtistName("Nicki Minaj");
-        Solo soloMatch = new Solo();
-        soloMatch.setArtist(artistMatch);
-        List<Solo> allSolos = Arrays.asList(soloWithNullArtist, soloWithNullArtistName, soloNoMatch, soloMatch);
-        when(soloRepository.findAll()).thenReturn(allSolos);
-        CompletableFuture<List<Solo>> future = soloService.findByRealNameContaining("Minaj");
+    void testFindByRealNameContaining() {
+        Solo infix = createSoloWithRealName("Onika Tanya Maraj");
+        Solo prefix = createSoloWithRealName("Tanya Kim");
+        when(soloRepository.findBySoloRealNameContaining("tanya")).thenReturn(List.of(infix, prefix));
+        CompletableFuture<List<Solo>> future = soloService.findByRealNameContaining("tanya", 20);
         List<Solo> result = future.join();
-        assertEquals(1, result.size());
-        assertEquals("Nicki Minaj", result.get(0).getArtist().getArtistName());
-        verify(soloRepository, times(1)).findAll();
+        assertEquals(List.of(prefix, infix), result);
+        verify(soloRepository, times(1)).findBySoloRealNameContaining("tanya");
+        verify(nameIndex, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    void testFindByRealNameContainingUsesNameIndexOnceBuilt() {
+        Solo solo = createSoloWithRealName("Lee Ji-eun");
+        solo.setArtistId(testId);
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.search(NameField.SOLO_REAL_NAME, "ji-eun", 5)).thenReturn(List.of(testId));
+        when(soloRepository.findWithArtistByIds(List.of(testId))).thenReturn(List.of(solo));
+
+        List<Solo> result = soloService.findByRealNameContaining("ji-eun", 5).join();
+
+        assertEquals(List.of(solo), result);
+        verify(soloRepository, never()).findBySoloRealNameContaining(any());
+    }
+
+    private Solo createSoloWithRealName(String realName) {
+        Solo solo = new Solo();
+        solo.setArtistId(UUID.randomUUID());
+        solo.setRealName(realName);
+        return solo;
     }
 
     @Test
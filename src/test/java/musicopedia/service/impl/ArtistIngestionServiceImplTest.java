@@ -0,0 +1,170 @@
+package musicopedia.service.impl;
+
+import musicopedia.cache.CatalogVersion;
+import musicopedia.cache.SpotifyIdFilter;
+import musicopedia.dto.request.ArtistRequestDTO;
+import musicopedia.dto.response.ArtistBatchItemResultDTO;
+import musicopedia.dto.response.ArtistBatchItemResultDTO.Status;
+import musicopedia.dto.response.ArtistBatchResultDTO;
+import musicopedia.factory.ArtistFactoryManager;
+import musicopedia.factory.GroupArtistFactory;
+import musicopedia.factory.SoloArtistFactory;
+import musicopedia.model.Artist;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.model.tag.GenreTag;
+import musicopedia.repository.ArtistGenreTagRepository;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GenreTagRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import musicopedia.search.SearchIndexer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+// Chunks commit on their own threads, so the test must not wrap them in a rolled-back transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArtistIngestionServiceImplTest {
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private GenreTagRepository genreTagRepository;
+
+    @Autowired
+    private ArtistGenreTagRepository artistGenreTagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+    private ExecutorService executor;
+    private ArtistIngestionServiceImpl ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        ArtistFactoryManager factoryManager = new ArtistFactoryManager(
+                List.of(new SoloArtistFactory(), new GroupArtistFactory()));
+        ingestionService = new ArtistIngestionServiceImpl(artistRepository, factoryManager,
+                transactionManager, catalogVersion,
+                new SpotifyIdFilter(artistRepository, transactionManager, 0.01, 1_000, 1 << 20),
+                new GenreTagServiceImpl(genreTagRepository, artistGenreTagRepository, artistRepository,
+                        transactionManager),
+                new SearchIndexer(List.of()), executor, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        artistGenreTagRepository.deleteAllInBatch();
+        artistRepository.deleteAll();
+        genreTagRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testIngestReportsEachItemInRequestOrder() {
+        Artist existing = new Artist();
+        existing.setArtistName("Existing");
+        existing.setType(ArtistType.SOLO);
+        existing.setSpotifyId("taken");
+        artistRepository.save(existing);
+
+        List<ArtistRequestDTO> requests = List.of(
+                solo("IU", "iu"),
+                solo("", "blank"),
+                solo("Taken", "taken"),
+                solo("Taeyeon", "taeyeon"),
+                solo("Taeyeon Again", "taeyeon"),
+                solo("No Spotify", null));
+
+        ArtistBatchResultDTO result = ingestionService.ingestAsync(requests).join();
+
+        List<Status> statuses = result.getResults().stream().map(ArtistBatchItemResultDTO::getStatus).toList();
+        assertEquals(List.of(Status.CREATED, Status.INVALID, Status.DUPLICATE, Status.CREATED, Status.DUPLICATE, Status.CREATED),
+                statuses);
+        assertEquals(3, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertEquals(0, result.getFailed());
+        for (int i = 0; i < requests.size(); i++) {
+            assertEquals(i, result.getResults().get(i).getIndex());
+        }
+        assertNotNull(result.getResults().get(0).getArtistId());
+        assertEquals("Solo artist name cannot be empty", result.getResults().get(1).getMessage());
+        assertEquals(4, artistRepository.count());
+        assertTrue(catalogVersion.current() > 0);
+    }
+
+    @Test
+    void testFailedChunkDoesNotRollBackOtherChunks() {
+        // A spotifyId longer than the column passes validation but fails on insert
+        List<ArtistRequestDTO> requests = List.of(
+                solo("IU", "iu"),
+                solo("Taeyeon", "taeyeon"),
+                solo("Too Long", "x".repeat(30)),
+                solo("Sunmi", "sunmi"));
+
+        ArtistBatchResultDTO result = ingestionService.ingestAsync(requests).join();
+
+        assertEquals(2, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(Status.FAILED, result.getResults().get(3).getStatus());
+        assertNull(result.getResults().get(3).getArtistId());
+        assertEquals(List.of("iu", "taeyeon"), artistRepository.findAll().stream()
+                .map(Artist::getSpotifyId).sorted().toList());
+    }
+
+    @Test
+    void testIngestTagsGenresOnceAcrossChunks() {
+        ArtistRequestDTO iu = solo("IU", "iu");
+        iu.setGenre("K-pop, Ballad");
+        ArtistRequestDTO taeyeon = solo("Taeyeon", "taeyeon");
+        taeyeon.setGenre("k-pop");
+        ArtistRequestDTO sunmi = solo("Sunmi", "sunmi");
+        sunmi.setGenre(" K-Pop ");
+
+        ingestionService.ingestAsync(List.of(iu, taeyeon, sunmi)).join();
+
+        assertEquals(List.of("ballad", "k-pop"), genreTagRepository.findAll().stream()
+                .map(GenreTag::getName).sorted().toList());
+        assertEquals(4, artistGenreTagRepository.count());
+    }
+
+    @Test
+    void testFindExistingSpotifyIds() {
+        Artist existing = new Artist();
+        existing.setArtistName("IU");
+        existing.setType(ArtistType.SOLO);
+        existing.setSpotifyId("iu");
+        artistRepository.save(existing);
+
+        assertEquals(List.of("iu"), artistRepository.findExistingSpotifyIds(List.of("iu", "missing")));
+    }
+
+    private static ArtistRequestDTO solo(String name, String spotifyId) {
+        ArtistRequestDTO dto = new ArtistRequestDTO();
+        dto.setArtistName(name);
+        dto.setType(ArtistType.SOLO);
+        dto.setPrimaryLanguage("Korean");
+        dto.setSpotifyId(spotifyId);
+        return dto;
+    }
+}
@@ -0,0 +1,182 @@
+package musicopedia.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import musicopedia.export.ExportFormat;
+import musicopedia.model.Artist;
+import musicopedia.model.Groups;
+import musicopedia.model.Member;
+import musicopedia.model.Solo;
+import musicopedia.model.enums.ArtistGender;
+import musicopedia.model.enums.ArtistType;
+import musicopedia.model.enums.MembershipStatus;
+import musicopedia.model.membership.GroupMembership;
+import musicopedia.model.membership.GroupMembershipId;
+import musicopedia.repository.ArtistRepository;
+import musicopedia.repository.GroupMembershipRepository;
+import musicopedia.repository.MemberRepository;
+import musicopedia.repository.SubunitMembershipRepository;
+import musicopedia.repository.config.RepositoryTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryTestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class CatalogExportServiceImplTest {
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupMembershipRepository groupMembershipRepository;
+
+    @Autowired
+    private SubunitMembershipRepository subunitMembershipRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CatalogExportServiceImpl exportService;
+    private Artist group;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        // Clear after every row so the streaming path detaches entities mid-export
+        exportService = new CatalogExportServiceImpl(artistRepository, memberRepository,
+                groupMembershipRepository, subunitMembershipRepository, entityManager, objectMapper, 1);
+
+        group = new Artist();
+        group.setArtistName("BTS");
+        group.setType(ArtistType.GROUP);
+        entityManager.persist(group);
+        Groups groups = new Groups();
+        groups.setArtist(group);
+        groups.setFormationDate(LocalDate.of(2013, 6, 13));
+        groups.setGroupGender(ArtistGender.MALE);
+        entityManager.persist(groups);
+
+        Artist soloArtist = new Artist();
+        soloArtist.setArtistName("IU");
+        soloArtist.setType(ArtistType.SOLO);
+        entityManager.persist(soloArtist);
+        Solo solo = new Solo();
+        solo.setArtist(soloArtist);
+        solo.setRealName("Lee Ji-eun");
+        solo.setBirthDate(LocalDate.of(1993, 5, 16));
+        entityManager.persist(solo);
+
+        member = new Member();
+        member.setMemberName("RM");
+        member.setRealName("Kim Namjoon");
+        entityManager.persist(member);
+
+        GroupMembershipId id = new GroupMembershipId();
+        id.setGroupId(group.getArtistId());
+        id.setMemberId(member.getMemberId());
+        GroupMembership membership = new GroupMembership();
+        membership.setId(id);
+        membership.setGroup(group);
+        membership.setMember(member);
+        membership.setStatus(MembershipStatus.CURRENT);
+        membership.setJoinDate(LocalDate.of(2013, 6, 13));
+        entityManager.persist(membership);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testExportArtistsAsNdjsonIncludesSoloAndGroupDetails() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportArtists(ExportFormat.NDJSON, out);
+
+        List<JsonNode> rows = readLines(out);
+        assertEquals(2, rows.size());
+
+        JsonNode bts = findByField(rows, "artistName", "BTS");
+        assertEquals("GROUP", bts.get("type").asText());
+        assertEquals("2013-06-13", bts.get("formationDate").asText());
+        assertEquals("MALE", bts.get("groupGender").asText());
+        assertTrue(bts.get("realName").isNull());
+
+        JsonNode iu = findByField(rows, "artistName", "IU");
+        assertEquals("Lee Ji-eun", iu.get("realName").asText());
+        assertEquals("1993-05-16", iu.get("birthDate").asText());
+        assertTrue(iu.get("formationDate").isNull());
+    }
+
+    @Test
+    void testExportMembersAsCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportMembers(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("memberId,memberName,realName"));
+        assertTrue(lines[1].startsWith(member.getMemberId() + ",RM,Kim Namjoon"));
+    }
+
+    @Test
+    void testExportGroupMemberships() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportGroupMemberships(ExportFormat.NDJSON, out);
+
+        List<JsonNode> rows = readLines(out);
+        assertEquals(1, rows.size());
+        assertEquals(group.getArtistId().toString(), rows.get(0).get("groupId").asText());
+        assertEquals(member.getMemberId().toString(), rows.get(0).get("memberId").asText());
+        assertEquals("CURRENT", rows.get(0).get("status").asText());
+    }
+
+    @Test
+    void testExportEmptyTableWritesOnlyCsvHeader() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportSubunitMemberships(ExportFormat.CSV, out);
+
+        assertEquals("subunitId,memberId,joinedDate,leftDate\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream out) throws IOException {
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    private JsonNode findByField(List<JsonNode> rows, String field, String value) {
+        return rows.stream()
+                .filter(row -> value.equals(row.get(field).asText()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
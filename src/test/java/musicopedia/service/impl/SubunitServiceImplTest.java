@@ -6,6 +6,11 @@ import musicopedia.exception.SubunitServiceException;
 import musicopedia.mapper.SubunitMapper;
 import musicopedia.model.Subunit;
 import musicopedia.repository.SubunitRepository;
+import musicopedia.repository.projection.NameRow;
+import musicopedia.search.CatalogChangeListener;
+import musicopedia.search.NameField;
+import musicopedia.search.NameIndex;
+import musicopedia.search.SearchIndexer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -24,6 +29,10 @@ class SubunitServiceImplTest {
     private SubunitRepository subunitRepository;
     @Mock
     private SubunitMapper subunitMapper;
+    @Mock
+    private CatalogChangeListener searchIndex;
+    @Mock
+    private NameIndex nameIndex;
     @InjectMocks
     private SubunitServiceImpl subunitService;
 
@@ -35,7 +44,8 @@ class SubunitServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        subunitService = new SubunitServiceImpl(subunitRepository, subunitMapper);
+        subunitService = new SubunitServiceImpl(subunitRepository, subunitMapper, nameIndex,
+            new SearchIndexer(List.of(searchIndex)));
         testId = UUID.randomUUID();
         testSubunit = new Subunit();
         testSubunit.setSubunitId(testId);
@@ -100,6 +110,7 @@ class SubunitServiceImplTest {
         when(subunitMapper.toResponseDTO(testSubunit)).thenReturn(CompletableFuture.completedFuture(testResponseDTO));
         SubunitResponseDTO result = subunitService.create(testRequestDTO).get();
         assertEquals("Test Subunit", result.getSubunitName());
+        verify(searchIndex).subunitSaved(testSubunit);
     }
 
     @Test
@@ -137,6 +148,7 @@ class SubunitServiceImplTest {
         doNothing().when(subunitRepository).deleteById(testId);
         subunitService.delete(testId).get();
         verify(subunitRepository, times(1)).deleteById(testId);
+        verify(searchIndex).subunitDeleted(testId);
     }
 
     @Test
@@ -411,4 +423,22 @@ class SubunitServiceImplTest {
         assertTrue(ex.getMessage().contains("Execution error while mapping Subunit"));
         assertTrue(ex.getCause() instanceof ExecutionException);
     }
+
+    @Test
+    void findNamesByNameContaining_shouldUseNameIndexOnceBuilt() throws Exception {
+        NameRow row = new NameRow(testId, "Test Subunit");
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.search(NameField.SUBUNIT_NAME, "test", 5)).thenReturn(List.of(testId));
+        when(subunitRepository.findNamesByIds(List.of(testId))).thenReturn(List.of(row));
+        assertEquals(List.of(row), subunitService.findNamesByNameContaining("test", 5).get());
+        verify(subunitRepository, never()).findNamesBySubunitNameContaining(any());
+    }
+
+    @Test
+    void findNamesByNameContaining_shouldRankDatabaseMatchesUntilBuilt() throws Exception {
+        NameRow infix = new NameRow(UUID.randomUUID(), "Best Unit");
+        NameRow prefix = new NameRow(testId, "Unit Blue");
+        when(subunitRepository.findNamesBySubunitNameContaining("unit")).thenReturn(List.of(infix, prefix));
+        assertEquals(List.of(prefix), subunitService.findNamesByNameContaining("unit", 1).get());
+    }
 }